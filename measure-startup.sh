@@ -0,0 +1,44 @@
+#!/usr/bin/env bash
+# Compares time-to-ready of the standard, CDS and AOT start modes. Snapshots and warm-up are
+# turned off so that readiness marks the end of startup only.
+# Build first with: mvn -Pfast-startup clean package -DskipTests
+# Usage: ./measure-startup.sh [runs] [port]
+
+RUNS=${1:-5}
+PORT=${2:-18080}
+JAR=target/parking-lot-reservation-1.0.0.jar
+ARCHIVE=target/parking-lot-reservation.jsa
+
+if [ ! -f "$JAR" ] || [ ! -f "$ARCHIVE" ]; then
+    echo "Missing $JAR or $ARCHIVE - run: mvn -Pfast-startup clean package -DskipTests"
+    exit 1
+fi
+
+measure() {
+    local mode=$1
+    shift
+    local total=0
+    for ((i = 1; i <= RUNS; i++)); do
+        local started=$(date +%s%N)
+        java "$@" -jar "$JAR" --server.port="$PORT" --parkinglot.snapshot.enabled=false \
+            --parkinglot.warmup.enabled=false > /dev/null 2>&1 &
+        local pid=$!
+        until curl -sf "http://localhost:$PORT/actuator/health/readiness" > /dev/null; do
+            if ! kill -0 "$pid" 2> /dev/null; then
+                echo "$mode: application exited before becoming ready"
+                return 1
+            fi
+            sleep 0.05
+        done
+        local elapsed=$(( ($(date +%s%N) - started) / 1000000 ))
+        total=$((total + elapsed))
+        kill "$pid"
+        wait "$pid" 2> /dev/null
+    done
+    printf "%-10s %8d ms (average of %d runs)\n" "$mode" $((total / RUNS)) "$RUNS"
+}
+
+measure standard
+measure cds -XX:SharedArchiveFile="$ARCHIVE"
+measure aot -Dspring.aot.enabled=true
+measure aot+cds -XX:SharedArchiveFile="$ARCHIVE" -Dspring.aot.enabled=true
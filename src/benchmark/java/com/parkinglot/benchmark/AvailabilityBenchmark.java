@@ -0,0 +1,80 @@
+package com.parkinglot.benchmark;
+
+import com.parkinglot.config.AvailabilityProperties;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.state.AvailabilityEvaluator;
+import com.parkinglot.state.BookingStateIndex;
+import com.parkinglot.state.SlotCatalog;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Latency of one availability evaluation over a large lot as the fork-join pool grows; a
+// parallelism of 0 is the sequential path. Slots are spread over the floors in id order and
+// carry a day of random two-hour bookings, so each check walks a realistic booking list.
+// Compare runs on machines with different core counts, or pin the JVM with taskset.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailabilityBenchmark {
+    
+    @Param({"0", "1", "2", "4", "8"})
+    private int parallelism;
+    
+    @Param({"48"})
+    private int floors;
+    
+    @Param({"50000"})
+    private int slots;
+    
+    private AvailabilityEvaluator evaluator;
+    private LocalDateTime windowStart;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        SlotCatalog catalog = new SlotCatalog();
+        BookingStateIndex index = new BookingStateIndex();
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime day = LocalDateTime.of(2030, 1, 1, 0, 0);
+        int slotsPerFloor = Math.max(1, slots / floors);
+        for (long slotId = 1; slotId <= slots; slotId++) {
+            long floorId = 1 + (slotId - 1) / slotsPerFloor;
+            VehicleType type = random.nextInt(100) < 35 ? VehicleType.TWO_WHEELER : VehicleType.FOUR_WHEELER;
+            catalog.put(slotId, floorId, type, SlotStatus.AVAILABLE);
+            index.putSlot(slotId, floorId, type, SlotStatus.AVAILABLE);
+            for (int hour = 0; hour < 24; hour += 3) {
+                if (random.nextInt(100) < 60) {
+                    long start = BookingStateIndex.toEpochSecond(day.plusHours(hour));
+                    index.putBooking(slotId, slotId * 100 + hour, start, start + 7200);
+                }
+            }
+        }
+        
+        AvailabilityProperties properties = new AvailabilityProperties();
+        properties.setParallel(parallelism > 0);
+        properties.setParallelism(parallelism);
+        evaluator = new AvailabilityEvaluator(catalog, index, properties);
+        windowStart = day.plusHours(10);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        evaluator.destroy();
+    }
+    
+    @Benchmark
+    public long[] fourWheelers() {
+        return evaluator.freeSlotIds(VehicleType.FOUR_WHEELER, windowStart, windowStart.plusHours(2));
+    }
+    
+    @Benchmark
+    public long[] allTypes() {
+        return evaluator.freeSlotIds(null, windowStart, windowStart.plusHours(2));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.parkinglot.benchmark;
+
+import com.parkinglot.ParkingLotReservationApplication;
+import com.parkinglot.dto.ReservationCreateRequest;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.pipeline.BookingPipeline;
+import com.parkinglot.service.ReservationService;
+import com.parkinglot.state.BookingStateIndex;
+import com.parkinglot.state.SlotState;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Booking throughput of the synchronous path (a transaction per booking, serialized per slot by
+// its version) against the per-floor booking pipeline (in-memory checks and group commits).
+// Every operation books a fresh window, so neither side measures rejected bookings. Seeded
+// floors are few, so all callers contend on the same handful of writers and slot rows.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(16)
+public class BookingPipelineBenchmark {
+    
+    @Param({"synchronous", "pipeline"})
+    private String path;
+    
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private BookingPipeline bookingPipeline;
+    private long[] slotIds;
+    private LocalDateTime firstStart;
+    private final AtomicLong bookings = new AtomicLong();
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplication(ParkingLotReservationApplication.class).run(
+                "--server.port=0", "--parkinglot.grpc.enabled=false",
+                "--parkinglot.snapshot.enabled=false", "--spring.jpa.show-sql=false",
+                "--logging.level.com.parkinglot=WARN",
+                "--parkinglot.pipeline.enabled=" + "pipeline".equals(path));
+        reservationService = context.getBean(ReservationService.class);
+        bookingPipeline = context.getBean(BookingPipeline.class);
+        slotIds = context.getBean(BookingStateIndex.class).getSlots().stream()
+                .filter(slot -> slot.getVehicleType() == VehicleType.FOUR_WHEELER)
+                .mapToLong(SlotState::getSlotId)
+                .sorted()
+                .toArray();
+        firstStart = LocalDateTime.now().plusDays(1).withNano(0);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public ReservationResponse book() {
+        ReservationCreateRequest request = nextRequest();
+        return "pipeline".equals(path)
+                ? bookingPipeline.submit(request).join()
+                : reservationService.createReservation(request);
+    }
+    
+    // Round-robin over the slots; each lap moves every slot's window three hours later
+    private ReservationCreateRequest nextRequest() {
+        long n = bookings.getAndIncrement();
+        LocalDateTime start = firstStart.plusHours(3 * (n / slotIds.length));
+        ReservationCreateRequest request = new ReservationCreateRequest();
+        request.setParkingSlotId(slotIds[(int) (n % slotIds.length)]);
+        request.setVehicleNumber(String.format("KA01AB%04d", n % 10_000));
+        request.setVehicleType(VehicleType.FOUR_WHEELER);
+        request.setStartTime(start);
+        request.setEndTime(start.plusHours(2));
+        return request;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.parkinglot.benchmark;
+
+import com.parkinglot.exception.BusinessRuleViolationException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of rejecting a conflicting booking: the exception is thrown below a stack as deep as a
+// request's (servlet filters, Spring proxies, controller, service) and caught by the handler.
+// "stackTrace" is the exception as it was before, capturing its trace on construction;
+// "stackless" is the current BusinessRuleViolationException.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RejectionBenchmark {
+    
+    @Param({"20", "120"})
+    private int depth;
+    
+    @Param({"stackTrace", "stackless"})
+    private String exception;
+    
+    private long slotId = 42;
+    
+    @Benchmark
+    public String rejectConflict() {
+        try {
+            return book(depth);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+    
+    private String book(int remaining) {
+        if (remaining > 0) {
+            return book(remaining - 1);
+        }
+        String message = "Parking slot " + slotId + " is already reserved for the requested time";
+        throw "stackless".equals(exception)
+                ? new BusinessRuleViolationException(message)
+                : new StackTracedRejection(message);
+    }
+    
+    private static class StackTracedRejection extends RuntimeException {
+        StackTracedRejection(String message) {
+            super(message);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.parkinglot.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.parkinglot.dto.ParkingSlotResponse;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Encode/decode cost of the availability and reservation DTOs, JSON vs CBOR. The payload sizes
+// are measured once, not per operation, by CborConfigTest.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    
+    private static final TypeReference<List<ParkingSlotResponse>> SLOT_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<ReservationResponse>> RESERVATION_LIST = new TypeReference<>() {};
+    
+    @Param({"10", "500"})
+    private int size;
+    
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private List<ParkingSlotResponse> slots;
+    private List<ReservationResponse> reservations;
+    private byte[] slotsJson;
+    private byte[] slotsCbor;
+    private byte[] reservationsJson;
+    private byte[] reservationsCbor;
+    
+    @Setup
+    public void setUp() throws Exception {
+        json = Jackson2ObjectMapperBuilder.json().build();
+        cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+        
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 8, 0);
+        slots = new ArrayList<>(size);
+        reservations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ParkingSlotResponse slot = new ParkingSlotResponse();
+            slot.setId((long) i + 1);
+            slot.setSlotNumber(String.format("A%03d", i + 1));
+            slot.setFloorId((long) i / 100 + 1);
+            slot.setFloorName("Floor " + (i / 100 + 1));
+            slot.setVehicleType(i % 3 == 0 ? VehicleType.TWO_WHEELER : VehicleType.FOUR_WHEELER);
+            slot.setStatus(SlotStatus.AVAILABLE);
+            slot.setCreatedAt(now);
+            slot.setUpdatedAt(now);
+            slots.add(slot);
+            
+            ReservationResponse reservation = new ReservationResponse();
+            reservation.setId((long) i + 1);
+            reservation.setParkingSlotId(slot.getId());
+            reservation.setSlotNumber(slot.getSlotNumber());
+            reservation.setFloorName(slot.getFloorName());
+            reservation.setVehicleNumber(String.format("KA05MH%04d", i));
+            reservation.setVehicleType(slot.getVehicleType());
+            reservation.setStartTime(now.plusHours(i % 24));
+            reservation.setEndTime(now.plusHours(i % 24 + 2));
+            reservation.setTotalCost(BigDecimal.valueOf(slot.getVehicleType().getHourlyRate() * 2));
+            reservation.setDurationHours(2);
+            reservation.setStatus(ReservationStatus.ACTIVE);
+            reservation.setCreatedAt(now);
+            reservation.setUpdatedAt(now);
+            reservations.add(reservation);
+        }
+        
+        slotsJson = json.writeValueAsBytes(slots);
+        slotsCbor = cbor.writeValueAsBytes(slots);
+        reservationsJson = json.writeValueAsBytes(reservations);
+        reservationsCbor = cbor.writeValueAsBytes(reservations);
+    }
+    
+    @Benchmark
+    public byte[] writeSlotsJson() throws Exception {
+        return json.writeValueAsBytes(slots);
+    }
+    
+    @Benchmark
+    public byte[] writeSlotsCbor() throws Exception {
+        return cbor.writeValueAsBytes(slots);
+    }
+    
+    @Benchmark
+    public List<ParkingSlotResponse> readSlotsJson() throws Exception {
+        return json.readValue(slotsJson, SLOT_LIST);
+    }
+    
+    @Benchmark
+    public List<ParkingSlotResponse> readSlotsCbor() throws Exception {
+        return cbor.readValue(slotsCbor, SLOT_LIST);
+    }
+    
+    @Benchmark
+    public byte[] writeReservationsJson() throws Exception {
+        return json.writeValueAsBytes(reservations);
+    }
+    
+    @Benchmark
+    public byte[] writeReservationsCbor() throws Exception {
+        return cbor.writeValueAsBytes(reservations);
+    }
+    
+    @Benchmark
+    public List<ReservationResponse> readReservationsJson() throws Exception {
+        return json.readValue(reservationsJson, RESERVATION_LIST);
+    }
+    
+    @Benchmark
+    public List<ReservationResponse> readReservationsCbor() throws Exception {
+        return cbor.readValue(reservationsCbor, RESERVATION_LIST);
+    }
+}
\ No newline at end of file
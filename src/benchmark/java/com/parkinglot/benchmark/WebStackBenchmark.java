@@ -0,0 +1,76 @@
+package com.parkinglot.benchmark;
+
+import com.parkinglot.ParkingLotReservationApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+// Request throughput of the servlet stack against the WebFlux + R2DBC stack under concurrent
+// clients. Each trial boots the application with the seeded sample data on an ephemeral port.
+// r2dbc-h2 still runs H2 in-process on the calling thread, so this measures the web and
+// connection layers rather than a truly non-blocking driver.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(32)
+public class WebStackBenchmark {
+    
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    
+    @Param({"servlet", "reactive"})
+    private String stack;
+    
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest floorSlots;
+    private HttpRequest availability;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(ParkingLotReservationApplication.class);
+        if ("reactive".equals(stack)) {
+            application.setAdditionalProfiles("reactive");
+        }
+        context = application.run("--server.port=0", "--parkinglot.grpc.enabled=false",
+                "--parkinglot.snapshot.enabled=false", "--spring.jpa.show-sql=false",
+                "--logging.level.com.parkinglot=WARN", "--parkinglot.seed.slots-per-floor=200");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        String body = "{\"startTime\":\"" + start.format(TIME_FORMAT) + "\",\"endTime\":\"" +
+                start.plusHours(2).format(TIME_FORMAT) + "\",\"vehicleType\":\"FOUR_WHEELER\"}";
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        floorSlots = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/slots/floor/1")).GET().build();
+        availability = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/availability?size=50"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public int floorSlots() throws Exception {
+        return client.send(floorSlots, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+    }
+    
+    @Benchmark
+    public int availability() throws Exception {
+        return client.send(availability, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+    }
+}
\ No newline at end of file
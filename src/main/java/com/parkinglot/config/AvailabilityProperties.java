@@ -0,0 +1,19 @@
+package com.parkinglot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "parkinglot.availability")
+public class AvailabilityProperties {
+    
+    // Checks each floor's slots against the booking state on a fork-join pool instead of the caller's thread
+    private boolean parallel = false;
+    
+    // Worker threads; 0 uses one per available processor
+    private int parallelism = 0;
+    
+    // Fewer candidate slots than this are checked on the caller's thread, as are floors grouped
+    // into a task until they reach it
+    private int minSlotsPerTask = 2048;
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.parkinglot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "parkinglot.pipeline")
+public class BookingPipelineProperties {
+    
+    // Routes REST bookings through one writer thread per floor instead of a transaction per request
+    private boolean enabled = false;
+    
+    // Pending bookings per floor, rounded up to a power of two. When a floor's ring is full the
+    // caller books synchronously instead, which slows producers down to the writer's pace.
+    private int ringSize = 1024;
+    
+    // Most bookings inserted by one group commit
+    private int maxBatchSize = 256;
+    
+    // How long an idle writer parks before checking its ring again; producers also wake it
+    private Duration idleWait = Duration.ofMillis(1);
+}
\ No newline at end of file
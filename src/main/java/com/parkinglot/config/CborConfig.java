@@ -0,0 +1,19 @@
+package com.parkinglot.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// Serves and accepts application/cbor next to JSON. The mapper comes from the same builder as
+// the JSON one, so field names, date patterns and enums are identical in both encodings; the
+// wire schema is documented in resources/schema/parkinglot-dto.cddl.
+@Configuration
+public class CborConfig {
+    
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
\ No newline at end of file
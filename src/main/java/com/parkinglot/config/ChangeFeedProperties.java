@@ -0,0 +1,16 @@
+package com.parkinglot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "parkinglot.change-feed")
+public class ChangeFeedProperties {
+    
+    // Most recent changes kept in memory; consumers further behind page through the table
+    private int tailSize = 10000;
+    
+    private int defaultPageSize = 100;
+    
+    private int maxPageSize = 1000;
+}
\ No newline at end of file
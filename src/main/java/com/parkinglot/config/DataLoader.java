@@ -1,77 +1,49 @@
 package com.parkinglot.config;
 
-import com.parkinglot.entity.Floor;
-import com.parkinglot.entity.ParkingSlot;
-import com.parkinglot.model.SlotStatus;
-import com.parkinglot.model.VehicleType;
+import com.parkinglot.entity.Lot;
 import com.parkinglot.repository.FloorRepository;
-import com.parkinglot.repository.ParkingSlotRepository;
+import com.parkinglot.service.LotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import javax.sql.DataSource;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 @Profile("!test")
+@Order(1)
 public class DataLoader implements CommandLineRunner {
     
     private final FloorRepository floorRepository;
-    private final ParkingSlotRepository parkingSlotRepository;
+    private final LotService lotService;
+    private final DataSource dataSource;
+    private final SeedProperties seedProperties;
     
     @Override
     public void run(String... args) throws Exception {
-        if (floorRepository.count() == 0) {
-            loadSampleData();
+        if (!seedProperties.isEnabled()) {
+            return;
+        }
+        Lot lot = lotService.getDefaultLot();
+        if (!floorRepository.existsByLotId(lot.getId())) {
+            loadSampleData(lot);
         }
     }
     
-    private void loadSampleData() {
-        log.info("Loading sample data...");
-        
-        // Create floors
-        Floor groundFloor = new Floor(0, "Ground Floor");
-        Floor firstFloor = new Floor(1, "First Floor");
-        Floor secondFloor = new Floor(2, "Second Floor");
-        
-        floorRepository.save(groundFloor);
-        floorRepository.save(firstFloor);
-        floorRepository.save(secondFloor);
-        
-        // Create parking slots for ground floor
-        createSlotsForFloor(groundFloor, "A", 10, VehicleType.FOUR_WHEELER);
-        createSlotsForFloor(groundFloor, "B", 5, VehicleType.TWO_WHEELER);
-        
-        // Create parking slots for first floor
-        createSlotsForFloor(firstFloor, "A", 15, VehicleType.FOUR_WHEELER);
-        createSlotsForFloor(firstFloor, "B", 8, VehicleType.TWO_WHEELER);
+    private void loadSampleData(Lot lot) throws Exception {
+        log.info("Loading sample data into lot {}: {} floors x {} slots, {} reservations per slot per day over {} past / {} future days",
+                lot.getCode(), seedProperties.getFloors(), seedProperties.getSlotsPerFloor(),
+                seedProperties.getReservationsPerSlotPerDay(), seedProperties.getHistoryDays(),
+                seedProperties.getFutureDays());
         
-        // Create parking slots for second floor
-        createSlotsForFloor(secondFloor, "A", 20, VehicleType.FOUR_WHEELER);
-        createSlotsForFloor(secondFloor, "B", 10, VehicleType.TWO_WHEELER);
-        
-        // Update floor total slots
-        groundFloor.setTotalSlots(15);
-        firstFloor.setTotalSlots(23);
-        secondFloor.setTotalSlots(30);
-        
-        floorRepository.save(groundFloor);
-        floorRepository.save(firstFloor);
-        floorRepository.save(secondFloor);
+        // The default lot lives on the first shard, which is where unrouted connections go
+        new SyntheticDataGenerator(dataSource).generate(seedProperties, lot.getId());
         
         log.info("Sample data loaded successfully");
     }
-    
-    private void createSlotsForFloor(Floor floor, String sectionPrefix, int count, VehicleType vehicleType) {
-        for (int i = 1; i <= count; i++) {
-            String slotNumber = sectionPrefix + String.format("%02d", i);
-            ParkingSlot slot = new ParkingSlot(slotNumber, floor, vehicleType);
-            slot.setStatus(SlotStatus.AVAILABLE);
-            parkingSlotRepository.save(slot);
-        }
-        log.info("Created {} {} slots in section {} for floor {}", 
-                count, vehicleType, sectionPrefix, floor.getFloorName());
-    }
 }
\ No newline at end of file
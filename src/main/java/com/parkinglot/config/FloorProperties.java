@@ -0,0 +1,12 @@
+package com.parkinglot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "parkinglot.floors")
+public class FloorProperties {
+    
+    // Cron expression for reconciling floor slot counts with the slots table; "-" disables the job
+    private String slotCountRepairCron = "-";
+}
\ No newline at end of file
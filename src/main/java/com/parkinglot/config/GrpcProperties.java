@@ -0,0 +1,23 @@
+package com.parkinglot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "parkinglot.grpc")
+public class GrpcProperties {
+    
+    private boolean enabled = true;
+    
+    // 0 binds an ephemeral port, which tests read back from GrpcServer.getPort()
+    private int port = 9090;
+    
+    // Time given to in-flight calls on shutdown before they are cancelled
+    private Duration shutdownTimeout = Duration.ofSeconds(5);
+    
+    // Slot changes a WatchAvailability stream may have waiting for a slow client before it is
+    // closed with RESOURCE_EXHAUSTED; the client re-subscribes for a fresh snapshot
+    private int watchQueueSize = 1024;
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.parkinglot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "parkinglot.journal")
+public class JournalProperties {
+    
+    // When enabled, reservations are acknowledged once appended to the local journal
+    // and persisted to the database asynchronously
+    private boolean enabled = false;
+    
+    private String directory = "data/journal";
+    
+    private int segmentSize = 64 * 1024 * 1024;
+    
+    // Maximum time an appended entry waits for the next group fsync
+    private Duration syncInterval = Duration.ofMillis(2);
+    
+    private Duration persistInterval = Duration.ofMillis(50);
+    
+    private int persistBatchSize = 500;
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.parkinglot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "parkinglot.occupancy")
+public class OccupancyProperties {
+    
+    // Check-ins and check-outs are acknowledged from memory and written in batches on this
+    // interval; changes accepted within the last interval are lost if the process crashes
+    private Duration flushInterval = Duration.ofMillis(100);
+    
+    private int flushBatchSize = 500;
+    
+    // How long before its start time a reservation may check in
+    private Duration earlyCheckIn = Duration.ofMinutes(15);
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.parkinglot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "parkinglot.retry")
+public class RetryProperties {
+    
+    // Total attempts, including the first, before an optimistic lock conflict is reported
+    private int maxAttempts = 4;
+    
+    // Upper bound of the first backoff; each retry doubles it up to maxBackoff and sleeps a
+    // random time below the bound so colliding callers spread out
+    private Duration initialBackoff = Duration.ofMillis(5);
+    
+    private Duration maxBackoff = Duration.ofMillis(100);
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.parkinglot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "parkinglot.revenue")
+public class RevenueProperties {
+    
+    // Cron expression for recomputing daily aggregates from the ledger; "-" disables the job
+    private String rebuildCron = "-";
+    
+    // Ledger id range aggregated by one rebuild task
+    private int rebuildChunkSize = 50_000;
+    
+    private int rebuildParallelism = 4;
+}
\ No newline at end of file
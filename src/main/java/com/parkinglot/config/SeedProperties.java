@@ -0,0 +1,33 @@
+package com.parkinglot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "parkinglot.seed")
+public class SeedProperties {
+    
+    // Seed an empty database on startup
+    private boolean enabled = true;
+    
+    private int floors = 3;
+    
+    private int slotsPerFloor = 20;
+    
+    // Share of each floor's slots reserved for two wheelers (the rest are four wheelers)
+    private double twoWheelerShare = 0.35;
+    
+    // Average reservations per slot per day
+    private double reservationsPerSlotPerDay = 0;
+    
+    // Days of past reservations to generate, ending today
+    private int historyDays = 0;
+    
+    // Days of upcoming reservations to generate, starting tomorrow
+    private int futureDays = 0;
+    
+    // Same seed and parameters always produce the same dataset
+    private long seed = 42;
+    
+    private int batchSize = 5000;
+}
\ No newline at end of file
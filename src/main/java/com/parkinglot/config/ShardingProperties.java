@@ -0,0 +1,29 @@
+package com.parkinglot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "parkinglot.sharding")
+public class ShardingProperties {
+    
+    // Databases added after the one configured under spring.datasource, which is always shard 0.
+    // New lots are placed by the hash of their code; existing lots keep the shard encoded in their ids.
+    private List<Shard> shards = new ArrayList<>();
+    
+    // Lot that floors created without a lot id belong to; it always lives on shard 0
+    private String defaultLot = "MAIN";
+    
+    @Data
+    public static class Shard {
+        
+        private String url;
+        
+        private String username;
+        
+        private String password;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.parkinglot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "parkinglot.snapshot")
+public class SnapshotProperties {
+    
+    // Off by default: the in-memory database starts empty, so there is nothing a snapshot could warm
+    private boolean enabled = false;
+    
+    private String directory = "data/snapshots";
+    
+    private Duration interval = Duration.ofMinutes(5);
+    
+    private int retained = 2;
+    
+    // Changes committed shortly before a snapshot may not have reached the index yet,
+    // so replay starts this far before the snapshot time
+    private Duration replayOverlap = Duration.ofMinutes(1);
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.parkinglot.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPOutputStream;
+
+// Tomcat never compresses a response with a strong ETag, because a strong validator has to
+// differ between content codings. This filter gzips those responses itself and folds the
+// coding into the tag ("<tag>-gzip"), stripping the suffix again from If-None-Match so the
+// controllers keep comparing against their own version tags.
+public class StrongETagCompressionFilter extends OncePerRequestFilter {
+    
+    private static final String GZIP = "gzip";
+    private static final String SUFFIX = "-gzip\"";
+    
+    private final long minResponseSize;
+    
+    public StrongETagCompressionFilter(long minResponseSize) {
+        this.minResponseSize = minResponseSize;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return !"GET".equals(request.getMethod()) || acceptEncoding == null || !acceptEncoding.contains(GZIP);
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(new IdentityTagRequest(request), wrapper);
+        
+        String etag = wrapper.getHeader(HttpHeaders.ETAG);
+        if (etag == null || etag.startsWith("W/")) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        if (wrapper.getStatus() == HttpServletResponse.SC_NOT_MODIFIED) {
+            // Echo the variant the client validated
+            String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+            if (ifNoneMatch != null && ifNoneMatch.contains(SUFFIX)) {
+                wrapper.setHeader(HttpHeaders.ETAG, gzipTag(etag));
+            }
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || wrapper.getContentSize() < minResponseSize) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(wrapper.getContentSize() / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(wrapper.getContentAsByteArray());
+        }
+        wrapper.resetBuffer();
+        response.setHeader(HttpHeaders.ETAG, gzipTag(etag));
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentLength(compressed.size());
+        compressed.writeTo(response.getOutputStream());
+    }
+    
+    private static String gzipTag(String etag) {
+        return etag.substring(0, etag.length() - 1) + SUFFIX;
+    }
+    
+    private static class IdentityTagRequest extends HttpServletRequestWrapper {
+        
+        IdentityTagRequest(HttpServletRequest request) {
+            super(request);
+        }
+        
+        @Override
+        public String getHeader(String name) {
+            String value = super.getHeader(name);
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) && value != null ? stripSuffix(value) : value;
+        }
+        
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (!HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name)) {
+                return super.getHeaders(name);
+            }
+            return Collections.enumeration(Collections.list(super.getHeaders(name)).stream()
+                    .map(IdentityTagRequest::stripSuffix)
+                    .toList());
+        }
+        
+        private static String stripSuffix(String value) {
+            return value.replace(SUFFIX, "\"");
+        }
+    }
+}
\ No newline at end of file
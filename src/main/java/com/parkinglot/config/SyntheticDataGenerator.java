@@ -0,0 +1,254 @@
+package com.parkinglot.config;
+
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Seeds floors of one lot, slots and reservation history through batched JDBC. Free of Spring wiring so
+// benchmarks can point it at any DataSource; the same SeedProperties always yield the same rows.
+@Slf4j
+public class SyntheticDataGenerator {
+    
+    private static final String INSERT_FLOOR =
+        "INSERT INTO floors (lot_id, floor_number, floor_name, total_slots, created_at, updated_at, version) " +
+        "VALUES (?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_SLOT =
+        "INSERT INTO parking_slots (slot_number, floor_id, vehicle_type, status, created_at, updated_at, version) " +
+        "VALUES (?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_RESERVATION =
+        "INSERT INTO reservations (parking_slot_id, vehicle_number, vehicle_type, start_time, end_time, " +
+        "total_cost, status, duration_hours, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    // Keeps every window longer than an hour
+    private static final int MAX_RESERVATIONS_PER_DAY = 12;
+    private static final double CANCELLATION_RATE = 0.05;
+    
+    private final DataSource dataSource;
+    
+    public SyntheticDataGenerator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+    
+    @Value
+    public static class Result {
+        int floors;
+        int slots;
+        long reservations;
+        long elapsedMillis;
+    }
+    
+    public Result generate(SeedProperties settings, long lotId) throws SQLException {
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                int firstFloorNumber = nextFloorNumber(connection, lotId);
+                List<Long> floorIds = insertFloors(connection, settings, lotId, firstFloorNumber, now);
+                connection.commit();
+                
+                List<long[]> slots = insertSlots(connection, settings, floorIds, now);
+                connection.commit();
+                
+                long reservations = insertReservations(connection, settings, slots, now);
+                connection.commit();
+                
+                Result result = new Result(floorIds.size(), slots.size(), reservations,
+                        System.currentTimeMillis() - started);
+                log.info("Generated {} floors, {} slots and {} reservations in {} ms",
+                        result.getFloors(), result.getSlots(), result.getReservations(), result.getElapsedMillis());
+                return result;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+    
+    private int nextFloorNumber(Connection connection, long lotId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT MAX(floor_number) FROM floors WHERE lot_id = ?")) {
+            statement.setLong(1, lotId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getInt(1) + 1 : 1;
+            }
+        }
+    }
+    
+    private List<Long> insertFloors(Connection connection, SeedProperties settings, long lotId,
+                                    int firstFloorNumber, LocalDateTime now) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_FLOOR)) {
+            for (int i = 0; i < settings.getFloors(); i++) {
+                int floorNumber = firstFloorNumber + i;
+                insert.setLong(1, lotId);
+                insert.setInt(2, floorNumber);
+                insert.setString(3, "Floor " + floorNumber);
+                insert.setInt(4, settings.getSlotsPerFloor());
+                insert.setObject(5, now);
+                insert.setObject(6, now);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        
+        List<Long> floorIds = new ArrayList<>();
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id FROM floors WHERE lot_id = ? AND floor_number >= ? AND floor_number < ? ORDER BY floor_number")) {
+            select.setLong(1, lotId);
+            select.setInt(2, firstFloorNumber);
+            select.setInt(3, firstFloorNumber + settings.getFloors());
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    floorIds.add(resultSet.getLong(1));
+                }
+            }
+        }
+        return floorIds;
+    }
+    
+    // Returns {slotId, vehicleTypeOrdinal} pairs in insertion order
+    private List<long[]> insertSlots(Connection connection, SeedProperties settings, List<Long> floorIds,
+                                     LocalDateTime now) throws SQLException {
+        int twoWheelers = (int) Math.round(settings.getSlotsPerFloor() * settings.getTwoWheelerShare());
+        int fourWheelers = settings.getSlotsPerFloor() - twoWheelers;
+        String numberFormat = "%s%0" + Math.max(2, String.valueOf(settings.getSlotsPerFloor()).length()) + "d";
+        
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SLOT)) {
+            int pending = 0;
+            for (Long floorId : floorIds) {
+                for (int i = 0; i < settings.getSlotsPerFloor(); i++) {
+                    boolean fourWheeler = i < fourWheelers;
+                    insert.setString(1, fourWheeler
+                            ? String.format(numberFormat, "A", i + 1)
+                            : String.format(numberFormat, "B", i - fourWheelers + 1));
+                    insert.setLong(2, floorId);
+                    insert.setString(3, (fourWheeler ? VehicleType.FOUR_WHEELER : VehicleType.TWO_WHEELER).name());
+                    insert.setString(4, SlotStatus.AVAILABLE.name());
+                    insert.setObject(5, now);
+                    insert.setObject(6, now);
+                    insert.addBatch();
+                    if (++pending == settings.getBatchSize()) {
+                        insert.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+            insert.executeBatch();
+        }
+        
+        List<long[]> slots = new ArrayList<>(floorIds.size() * settings.getSlotsPerFloor());
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, vehicle_type FROM parking_slots WHERE floor_id = ? ORDER BY id")) {
+            for (Long floorId : floorIds) {
+                select.setLong(1, floorId);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        slots.add(new long[]{resultSet.getLong(1), VehicleType.valueOf(resultSet.getString(2)).ordinal()});
+                    }
+                }
+            }
+        }
+        return slots;
+    }
+    
+    private long insertReservations(Connection connection, SeedProperties settings, List<long[]> slots,
+                                    LocalDateTime now) throws SQLException {
+        if (settings.getReservationsPerSlotPerDay() <= 0) {
+            return 0;
+        }
+        VehicleType[] vehicleTypes = VehicleType.values();
+        LocalDate firstDay = now.toLocalDate().minusDays(settings.getHistoryDays());
+        int days = settings.getHistoryDays() + settings.getFutureDays() + 1;
+        long inserted = 0;
+        
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_RESERVATION)) {
+            int pending = 0;
+            for (int slotIndex = 0; slotIndex < slots.size(); slotIndex++) {
+                long slotId = slots.get(slotIndex)[0];
+                VehicleType vehicleType = vehicleTypes[(int) slots.get(slotIndex)[1]];
+                // Per-slot stream keeps the dataset stable when only history depth or density changes
+                SplittableRandom random = new SplittableRandom(settings.getSeed() ^ (slotIndex * 0x9E3779B97F4A7C15L));
+                
+                for (int day = 0; day < days; day++) {
+                    int count = poisson(random, settings.getReservationsPerSlotPerDay());
+                    if (count == 0) {
+                        continue;
+                    }
+                    int window = MINUTES_PER_DAY / count;
+                    LocalDateTime dayStart = firstDay.plusDays(day).atStartOfDay();
+                    for (int k = 0; k < count; k++) {
+                        int hours = 1 + random.nextInt(Math.min(4, (window - 1) / 60));
+                        // Keep a gap before the next window: the overlap check is inclusive of endpoints
+                        int slack = window - hours * 60 - 1;
+                        LocalDateTime start = dayStart.plusMinutes((long) k * window + random.nextInt(slack / 15 + 1) * 15L);
+                        LocalDateTime end = start.plusHours(hours);
+                        
+                        ReservationStatus status = random.nextDouble() < CANCELLATION_RATE
+                                ? ReservationStatus.CANCELLED
+                                : end.isBefore(now) ? ReservationStatus.COMPLETED : ReservationStatus.ACTIVE;
+                        LocalDateTime createdAt = start.minusHours(1 + random.nextInt(72));
+                        
+                        insert.setLong(1, slotId);
+                        insert.setString(2, vehicleNumber(random));
+                        insert.setString(3, vehicleType.name());
+                        insert.setObject(4, start);
+                        insert.setObject(5, end);
+                        insert.setBigDecimal(6, BigDecimal.valueOf(vehicleType.getHourlyRate() * hours));
+                        insert.setString(7, status.name());
+                        insert.setInt(8, hours);
+                        insert.setObject(9, createdAt);
+                        insert.setObject(10, createdAt.isAfter(now) ? now : createdAt);
+                        insert.addBatch();
+                        inserted++;
+                        if (++pending == settings.getBatchSize()) {
+                            insert.executeBatch();
+                            connection.commit();
+                            pending = 0;
+                        }
+                    }
+                }
+            }
+            insert.executeBatch();
+        }
+        return inserted;
+    }
+    
+    private static int poisson(SplittableRandom random, double mean) {
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit && count < MAX_RESERVATIONS_PER_DAY) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+    
+    private static String vehicleNumber(SplittableRandom random) {
+        char[] plate = new char[10];
+        for (int i = 0; i < plate.length; i++) {
+            boolean letter = i < 2 || i == 4 || i == 5;
+            plate[i] = letter ? (char) ('A' + random.nextInt(26)) : (char) ('0' + random.nextInt(10));
+        }
+        return new String(plate);
+    }
+}
\ No newline at end of file
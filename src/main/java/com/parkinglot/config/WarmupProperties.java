@@ -0,0 +1,20 @@
+package com.parkinglot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "parkinglot.warmup")
+public class WarmupProperties {
+    
+    // Exercises the hot request paths after startup and holds readiness until it is done
+    private boolean enabled = true;
+    
+    // Rounds of availability queries, rolled-back bookings and serialization
+    private int iterations = 500;
+    
+    // Readiness is reported regardless once this much time has passed; warm-up stops as well
+    private Duration timeout = Duration.ofSeconds(60);
+}
\ No newline at end of file
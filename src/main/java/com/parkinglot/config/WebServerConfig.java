@@ -0,0 +1,21 @@
+package com.parkinglot.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebServerConfig {
+    
+    @Bean
+    @ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+    public FilterRegistrationBean<StrongETagCompressionFilter> strongETagCompressionFilter(
+            ServerProperties serverProperties) {
+        long minResponseSize = serverProperties.getCompression().getMinResponseSize().toBytes();
+        return new FilterRegistrationBean<>(new StrongETagCompressionFilter(minResponseSize));
+    }
+}
\ No newline at end of file
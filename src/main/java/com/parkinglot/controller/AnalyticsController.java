@@ -0,0 +1,72 @@
+package com.parkinglot.controller;
+
+import com.parkinglot.dto.RevenueReportResponse;
+import com.parkinglot.dto.UtilizationResponse;
+import com.parkinglot.model.UtilizationGrouping;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.service.RevenueService;
+import com.parkinglot.service.UtilizationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "APIs for parking utilization reporting")
+public class AnalyticsController {
+    
+    private final UtilizationService utilizationService;
+    private final RevenueService revenueService;
+    
+    @Operation(summary = "Get slot utilization for a time range, grouped by floor, slot, vehicle type or hour")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Utilization computed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid time range or grouping")
+    })
+    @GetMapping("/utilization")
+    public ResponseEntity<UtilizationResponse> getUtilization(
+            @Parameter(description = "Range start, rounded down to the hour")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Range end, rounded up to the hour")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Grouping of the result buckets")
+            @RequestParam(defaultValue = "FLOOR") UtilizationGrouping groupBy,
+            @Parameter(description = "Restrict to one floor")
+            @RequestParam(required = false) Long floorId,
+            @Parameter(description = "Restrict to one vehicle type")
+            @RequestParam(required = false) VehicleType vehicleType) {
+        
+        return ResponseEntity.ok(utilizationService.getUtilization(from, to, groupBy, floorId, vehicleType));
+    }
+    
+    @Operation(summary = "Get net revenue per day, floor and vehicle type from the precomputed daily totals")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Revenue report retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range")
+    })
+    @GetMapping("/revenue")
+    public ResponseEntity<RevenueReportResponse> getDailyRevenue(
+            @Parameter(description = "First day of the report (inclusive)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day of the report (inclusive)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Restrict to one floor")
+            @RequestParam(required = false) Long floorId,
+            @Parameter(description = "Restrict to one vehicle type")
+            @RequestParam(required = false) VehicleType vehicleType) {
+        
+        return ResponseEntity.ok(revenueService.getDailyRevenue(from, to, floorId, vehicleType));
+    }
+}
\ No newline at end of file
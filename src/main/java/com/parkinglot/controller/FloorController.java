@@ -3,25 +3,30 @@ package com.parkinglot.controller;
 import com.parkinglot.dto.FloorCreateRequest;
 import com.parkinglot.dto.FloorResponse;
 import com.parkinglot.service.FloorService;
+import com.parkinglot.state.ResourceVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/floors")
 @RequiredArgsConstructor
 @Tag(name = "Floor Management", description = "APIs for managing parking floors")
 public class FloorController {
     
     private final FloorService floorService;
+    private final ResourceVersions resourceVersions;
     
     @Operation(summary = "Create a new parking floor")
     @ApiResponses(value = {
@@ -36,11 +41,18 @@ public class FloorController {
     }
     
     @Operation(summary = "Get all parking floors")
-    @ApiResponse(responseCode = "200", description = "Floors retrieved successfully")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Floors retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Floors unchanged since the given ETag")
+    })
     @GetMapping
-    public ResponseEntity<List<FloorResponse>> getAllFloors() {
+    public ResponseEntity<List<FloorResponse>> getAllFloors(WebRequest webRequest) {
+        String etag = resourceVersions.floorsTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<FloorResponse> floors = floorService.getAllFloors();
-        return ResponseEntity.ok(floors);
+        return ResponseEntity.ok().eTag(etag).body(floors);
     }
     
     @Operation(summary = "Get floor by ID")
@@ -57,11 +69,16 @@ public class FloorController {
     @Operation(summary = "Get floor with all its parking slots")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Floor with slots retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Floor unchanged since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Floor not found")
     })
     @GetMapping("/{id}/slots")
-    public ResponseEntity<FloorResponse> getFloorWithSlots(@PathVariable Long id) {
+    public ResponseEntity<FloorResponse> getFloorWithSlots(@PathVariable Long id, WebRequest webRequest) {
+        String etag = resourceVersions.floorSlotsTag(id);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         FloorResponse floor = floorService.getFloorWithSlots(id);
-        return ResponseEntity.ok(floor);
+        return ResponseEntity.ok().eTag(etag).body(floor);
     }
 }
\ No newline at end of file
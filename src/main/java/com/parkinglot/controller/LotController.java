@@ -0,0 +1,69 @@
+package com.parkinglot.controller;
+
+import com.parkinglot.dto.FloorResponse;
+import com.parkinglot.dto.LotCreateRequest;
+import com.parkinglot.dto.LotResponse;
+import com.parkinglot.service.FloorService;
+import com.parkinglot.service.LotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/lots")
+@RequiredArgsConstructor
+@Tag(name = "Lot Management", description = "APIs for managing parking lots")
+public class LotController {
+    
+    private final LotService lotService;
+    private final FloorService floorService;
+    
+    @Operation(summary = "Create a new parking lot")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Lot created successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input data"),
+        @ApiResponse(responseCode = "409", description = "Lot code already exists")
+    })
+    @PostMapping
+    public ResponseEntity<LotResponse> createLot(@Valid @RequestBody LotCreateRequest request) {
+        LotResponse response = lotService.createLot(request);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+    
+    @Operation(summary = "Get all parking lots")
+    @ApiResponse(responseCode = "200", description = "Lots retrieved successfully")
+    @GetMapping
+    public ResponseEntity<List<LotResponse>> getAllLots() {
+        return ResponseEntity.ok(lotService.getAllLots());
+    }
+    
+    @Operation(summary = "Get lot by ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lot found"),
+        @ApiResponse(responseCode = "404", description = "Lot not found")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<LotResponse> getLotById(@PathVariable Long id) {
+        return ResponseEntity.ok(lotService.getLotById(id));
+    }
+    
+    @Operation(summary = "Get the floors of a lot")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Floors retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Lot not found")
+    })
+    @GetMapping("/{id}/floors")
+    public ResponseEntity<List<FloorResponse>> getFloorsByLot(@PathVariable Long id) {
+        return ResponseEntity.ok(floorService.getFloorsByLot(id));
+    }
+}
\ No newline at end of file
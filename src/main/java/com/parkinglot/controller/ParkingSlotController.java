@@ -3,25 +3,30 @@ package com.parkinglot.controller;
 import com.parkinglot.dto.ParkingSlotCreateRequest;
 import com.parkinglot.dto.ParkingSlotResponse;
 import com.parkinglot.service.ParkingSlotService;
+import com.parkinglot.state.ResourceVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/slots")
 @RequiredArgsConstructor
 @Tag(name = "Parking Slot Management", description = "APIs for managing parking slots")
 public class ParkingSlotController {
     
     private final ParkingSlotService parkingSlotService;
+    private final ResourceVersions resourceVersions;
     
     @Operation(summary = "Create parking slots for a floor")
     @ApiResponses(value = {
@@ -37,11 +42,18 @@ public class ParkingSlotController {
     }
     
     @Operation(summary = "Get all parking slots")
-    @ApiResponse(responseCode = "200", description = "Slots retrieved successfully")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Slots retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Slots unchanged since the given ETag")
+    })
     @GetMapping
-    public ResponseEntity<List<ParkingSlotResponse>> getAllParkingSlots() {
+    public ResponseEntity<List<ParkingSlotResponse>> getAllParkingSlots(WebRequest webRequest) {
+        String etag = resourceVersions.slotsTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<ParkingSlotResponse> slots = parkingSlotService.getAllParkingSlots();
-        return ResponseEntity.ok(slots);
+        return ResponseEntity.ok().eTag(etag).body(slots);
     }
     
     @Operation(summary = "Get parking slot by ID")
@@ -56,10 +68,18 @@ public class ParkingSlotController {
     }
     
     @Operation(summary = "Get parking slots by floor")
-    @ApiResponse(responseCode = "200", description = "Floor slots retrieved successfully")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Floor slots retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Floor slots unchanged since the given ETag")
+    })
     @GetMapping("/floor/{floorId}")
-    public ResponseEntity<List<ParkingSlotResponse>> getParkingSlotsByFloor(@PathVariable Long floorId) {
+    public ResponseEntity<List<ParkingSlotResponse>> getParkingSlotsByFloor(@PathVariable Long floorId,
+                                                                            WebRequest webRequest) {
+        String etag = resourceVersions.floorSlotsTag(floorId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<ParkingSlotResponse> slots = parkingSlotService.getParkingSlotsByFloor(floorId);
-        return ResponseEntity.ok(slots);
+        return ResponseEntity.ok().eTag(etag).body(slots);
     }
 }
\ No newline at end of file
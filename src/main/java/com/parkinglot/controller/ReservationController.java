@@ -1,27 +1,49 @@
 package com.parkinglot.controller;
 
+import com.parkinglot.dto.BulkCancellationRequest;
+import com.parkinglot.dto.BulkCancellationResponse;
+import com.parkinglot.dto.OccupancyResponse;
+import com.parkinglot.dto.ReservationChangePage;
 import com.parkinglot.dto.ReservationCreateRequest;
 import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.dto.ReservationSearchPage;
+import com.parkinglot.dto.ReservationSearchRequest;
+import com.parkinglot.dto.ReservationUpdateRequest;
+import com.parkinglot.feed.ReservationChangeFeed;
+import com.parkinglot.pipeline.BookingPipeline;
+import com.parkinglot.service.BulkCancellationService;
+import com.parkinglot.service.OccupancyService;
 import com.parkinglot.service.ReservationService;
+import com.parkinglot.state.ResourceVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/reservations")
 @RequiredArgsConstructor
 @Tag(name = "Reservation Management", description = "APIs for managing parking reservations")
 public class ReservationController {
     
     private final ReservationService reservationService;
+    private final BookingPipeline bookingPipeline;
+    private final BulkCancellationService bulkCancellationService;
+    private final OccupancyService occupancyService;
+    private final ResourceVersions resourceVersions;
+    private final ReservationChangeFeed reservationChangeFeed;
     
     @Operation(summary = "Reserve a parking slot")
     @ApiResponses(value = {
@@ -31,36 +53,116 @@ public class ReservationController {
         @ApiResponse(responseCode = "409", description = "Slot already reserved for specified time")
     })
     @PostMapping("/reserve")
-    public ResponseEntity<ReservationResponse> createReservation(@Valid @RequestBody ReservationCreateRequest request) {
-        ReservationResponse response = reservationService.createReservation(request);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    public CompletableFuture<ResponseEntity<ReservationResponse>> createReservation(
+            @Valid @RequestBody ReservationCreateRequest request) {
+        // Already complete unless the booking pipeline is enabled; then the request thread is
+        // released while the floor's writer commits the booking
+        return bookingPipeline.submit(request)
+                .thenApply(response -> new ResponseEntity<>(response, HttpStatus.CREATED));
     }
     
     @Operation(summary = "Get reservation details by ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Reservation found"),
+        @ApiResponse(responseCode = "304", description = "Reservation unchanged since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Reservation not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ReservationResponse> getReservationById(@PathVariable Long id) {
+    public ResponseEntity<ReservationResponse> getReservationById(@PathVariable Long id, WebRequest webRequest) {
+        String etag = resourceVersions.reservationsTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         ReservationResponse reservation = reservationService.getReservationById(id);
+        return ResponseEntity.ok().eTag(etag).body(reservation);
+    }
+    
+    @Operation(summary = "Get a reservation accepted through the write-ahead journal by its journal sequence")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reservation persisted, with its ID"),
+        @ApiResponse(responseCode = "202", description = "Reservation accepted but not yet persisted"),
+        @ApiResponse(responseCode = "404", description = "Reservation not found")
+    })
+    @GetMapping("/journal/{sequence}")
+    public ResponseEntity<ReservationResponse> getReservationByJournalSequence(@PathVariable Long sequence) {
+        ReservationResponse reservation = reservationService.getReservationByJournalSequence(sequence);
+        return reservation.getId() == null
+                ? ResponseEntity.accepted().body(reservation)
+                : ResponseEntity.ok(reservation);
+    }
+    
+    @Operation(summary = "Get the current or next active reservation of a vehicle")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reservation found"),
+        @ApiResponse(responseCode = "404", description = "No active reservation for the vehicle")
+    })
+    @GetMapping("/by-vehicle/{vehicleNumber}")
+    public ResponseEntity<ReservationResponse> getReservationByVehicle(@PathVariable String vehicleNumber) {
+        ReservationResponse reservation = reservationService.getReservationByVehicle(vehicleNumber);
         return ResponseEntity.ok(reservation);
     }
     
     @Operation(summary = "Get all reservations")
-    @ApiResponse(responseCode = "200", description = "Reservations retrieved successfully")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reservations retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Reservations unchanged since the given ETag")
+    })
     @GetMapping
-    public ResponseEntity<List<ReservationResponse>> getAllReservations() {
+    public ResponseEntity<List<ReservationResponse>> getAllReservations(WebRequest webRequest) {
+        String etag = resourceVersions.reservationsTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<ReservationResponse> reservations = reservationService.getAllReservations();
-        return ResponseEntity.ok(reservations);
+        return ResponseEntity.ok().eTag(etag).body(reservations);
     }
     
     @Operation(summary = "Get all active reservations")
-    @ApiResponse(responseCode = "200", description = "Active reservations retrieved successfully")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Active reservations retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Active reservations unchanged since the given ETag")
+    })
     @GetMapping("/active")
-    public ResponseEntity<List<ReservationResponse>> getActiveReservations() {
+    public ResponseEntity<List<ReservationResponse>> getActiveReservations(WebRequest webRequest) {
+        String etag = resourceVersions.reservationsTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<ReservationResponse> reservations = reservationService.getActiveReservations();
-        return ResponseEntity.ok(reservations);
+        return ResponseEntity.ok().eTag(etag).body(reservations);
+    }
+    
+    @Operation(summary = "Search reservations by status, slot, floor, vehicle type and time range, a page at a time")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Page of reservations in start time order; pass nextCursor for the next one"),
+        @ApiResponse(responseCode = "400", description = "Invalid range, cursor or page size")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ReservationSearchPage> searchReservations(@ParameterObject ReservationSearchRequest request) {
+        return ResponseEntity.ok(reservationService.searchReservations(request));
+    }
+    
+    @Operation(summary = "Get reservation changes after a sequence number, oldest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Page of changes; resume from nextSince"),
+        @ApiResponse(responseCode = "400", description = "Invalid sequence or page size")
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<ReservationChangePage> getChanges(@RequestParam(defaultValue = "0") long since,
+                                                            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(reservationChangeFeed.getChanges(since, limit));
+    }
+    
+    @Operation(summary = "Change the start and/or end time of an active reservation")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reservation rescheduled, cost recalculated"),
+        @ApiResponse(responseCode = "400", description = "Invalid times or the added time is already reserved"),
+        @ApiResponse(responseCode = "404", description = "Active reservation not found")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<ReservationResponse> updateReservation(@PathVariable Long id,
+                                                                 @RequestBody ReservationUpdateRequest request) {
+        return ResponseEntity.ok(reservationService.updateReservationTimes(id, request));
     }
     
     @Operation(summary = "Cancel a reservation")
@@ -73,4 +175,35 @@ public class ReservationController {
         ReservationResponse reservation = reservationService.cancelReservation(id);
         return ResponseEntity.ok(reservation);
     }
+    
+    @Operation(summary = "Cancel every active reservation on the given slots, floor and/or time range")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "IDs of the cancelled reservations and of checked-in ones left active"),
+        @ApiResponse(responseCode = "400", description = "No scope given or invalid time range")
+    })
+    @PostMapping("/bulk-cancel")
+    public ResponseEntity<BulkCancellationResponse> cancelReservations(@Valid @RequestBody BulkCancellationRequest request) {
+        return ResponseEntity.ok(bulkCancellationService.cancelReservations(request));
+    }
+    
+    @Operation(summary = "Check a vehicle in to its reserved slot")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Vehicle checked in, slot occupied"),
+        @ApiResponse(responseCode = "400", description = "Outside the check-in window, already checked in or slot still occupied"),
+        @ApiResponse(responseCode = "404", description = "Active reservation not found")
+    })
+    @PostMapping("/{id}/check-in")
+    public ResponseEntity<OccupancyResponse> checkIn(@PathVariable Long id) {
+        return ResponseEntity.ok(occupancyService.checkIn(id));
+    }
+    
+    @Operation(summary = "Check a vehicle out, completing its reservation")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Vehicle checked out, reservation completed"),
+        @ApiResponse(responseCode = "400", description = "Reservation is not checked in")
+    })
+    @PostMapping("/{id}/check-out")
+    public ResponseEntity<OccupancyResponse> checkOut(@PathVariable Long id) {
+        return ResponseEntity.ok(occupancyService.checkOut(id));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.parkinglot.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// Scopes combine: every given filter must match. from and to select reservations overlapping
+// that range and must be given together.
+@Data
+public class BulkCancellationRequest {
+    
+    @Size(max = 1000, message = "At most 1000 parking slots can be named")
+    private Set<@Positive Long> parkingSlotIds;
+    
+    @Positive(message = "Floor ID must be positive")
+    private Long floorId;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime from;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime to;
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.parkinglot.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkCancellationResponse {
+    private int cancelledCount;
+    private List<Long> cancelledIds;
+    
+    // Matched but left active because the vehicle is parked; they end with check-out
+    private List<Long> checkedInIds;
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.parkinglot.dto;
+
+import com.parkinglot.model.VehicleType;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+public class DailyRevenueResponse {
+    private LocalDate date;
+    private Long floorId;
+    private VehicleType vehicleType;
+    private long bookingCount;
+    private long cancellationCount;
+    private BigDecimal netAmount;
+}
\ No newline at end of file
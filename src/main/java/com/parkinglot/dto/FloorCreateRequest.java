@@ -8,6 +8,9 @@ import lombok.Data;
 @Data
 public class FloorCreateRequest {
     
+    // Defaults to the main lot
+    private Long lotId;
+    
     @NotNull(message = "Floor number is required")
     @Positive(message = "Floor number must be positive")
     private Integer floorNumber;
@@ -8,6 +8,7 @@ import java.util.List;
 @Data
 public class FloorResponse {
     private Long id;
+    private Long lotId;
     private Integer floorNumber;
     private String floorName;
     private Integer totalSlots;
@@ -0,0 +1,16 @@
+package com.parkinglot.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+@Data
+public class LotCreateRequest {
+    
+    @NotBlank(message = "Lot code is required")
+    @Pattern(regexp = "^[A-Z0-9-]{1,32}$", message = "Lot code must be 1-32 uppercase letters, digits or dashes")
+    private String code;
+    
+    @NotBlank(message = "Lot name is required")
+    private String lotName;
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.parkinglot.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class LotResponse {
+    private Long id;
+    private String code;
+    private String lotName;
+    private Integer shard;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
\ No newline at end of file
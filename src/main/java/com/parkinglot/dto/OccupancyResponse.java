@@ -0,0 +1,23 @@
+package com.parkinglot.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.SlotStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class OccupancyResponse {
+    private Long reservationId;
+    private Long parkingSlotId;
+    private String vehicleNumber;
+    private SlotStatus slotStatus;
+    private ReservationStatus reservationStatus;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime checkedInAt;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime checkedOutAt;
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.parkinglot.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ReservationChangePage {
+    private List<ReservationChangeResponse> changes;
+    
+    // Pass back as since to resume after the last change in this page
+    private long nextSince;
+    
+    private boolean hasMore;
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.parkinglot.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.parkinglot.model.ReservationChangeType;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.VehicleType;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+public class ReservationChangeResponse {
+    private Long sequence;
+    private ReservationChangeType changeType;
+    private Long reservationId;
+    private Long parkingSlotId;
+    private Long floorId;
+    private String vehicleNumber;
+    private VehicleType vehicleType;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startTime;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime endTime;
+    
+    private BigDecimal totalCost;
+    private ReservationStatus status;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime changedAt;
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.parkinglot.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.parkinglot.model.ReservationStatus;
 import com.parkinglot.model.VehicleType;
 import lombok.Data;
@@ -11,6 +12,10 @@ import java.time.LocalDateTime;
 @Data
 public class ReservationResponse {
     private Long id;
+    // Set for bookings accepted through the write-ahead journal, which get their ID only once
+    // persisted; GET /api/reservations/journal/{sequence} resolves it. Left out of other responses.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long journalSequence;
     private Long parkingSlotId;
     private String slotNumber;
     private String floorName;
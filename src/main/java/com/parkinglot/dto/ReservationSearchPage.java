@@ -0,0 +1,15 @@
+package com.parkinglot.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ReservationSearchPage {
+    private List<ReservationResponse> reservations;
+    
+    // Pass back as cursor for the next page; null on the last one
+    private String nextCursor;
+    
+    private boolean hasMore;
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.parkinglot.dto;
+
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.VehicleType;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+// Every filter is optional. from and to select reservations overlapping that range.
+@Data
+public class ReservationSearchRequest {
+    private ReservationStatus status;
+    private Long parkingSlotId;
+    private Long floorId;
+    private VehicleType vehicleType;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+    
+    // nextCursor of the previous page; absent for the first page
+    private String cursor;
+    
+    private Integer limit;
+}
\ No newline at end of file
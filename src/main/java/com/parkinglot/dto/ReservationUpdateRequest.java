@@ -0,0 +1,17 @@
+package com.parkinglot.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// New start and/or end time of a reservation; an absent field keeps its current value
+@Data
+public class ReservationUpdateRequest {
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startTime;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime endTime;
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.parkinglot.dto;
+
+import com.parkinglot.model.VehicleType;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class RevenueReportResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private Long floorId;
+    private VehicleType vehicleType;
+    private long bookingCount;
+    private long cancellationCount;
+    private BigDecimal netAmount;
+    private List<DailyRevenueResponse> days;
+}
\ No newline at end of file
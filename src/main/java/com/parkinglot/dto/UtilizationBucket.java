@@ -0,0 +1,15 @@
+package com.parkinglot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilizationBucket {
+    private String key;
+    private long occupiedMinutes;
+    private long capacityMinutes;
+    private double utilization;
+}
\ No newline at end of file
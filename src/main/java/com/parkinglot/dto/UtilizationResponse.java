@@ -0,0 +1,25 @@
+package com.parkinglot.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.parkinglot.model.UtilizationGrouping;
+import com.parkinglot.model.VehicleType;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class UtilizationResponse {
+    
+    // Range actually answered, widened to whole hours
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime from;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime to;
+    
+    private UtilizationGrouping groupBy;
+    private Long floorId;
+    private VehicleType vehicleType;
+    private List<UtilizationBucket> buckets;
+}
\ No newline at end of file
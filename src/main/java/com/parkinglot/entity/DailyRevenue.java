@@ -0,0 +1,52 @@
+package com.parkinglot.entity;
+
+import com.parkinglot.model.VehicleType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Running totals of the revenue ledger per day, floor and vehicle type
+@Entity
+@Table(name = "daily_revenue", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_daily_revenue_day_floor_type", columnNames = {"revenue_date", "floor_id", "vehicle_type"})
+})
+@Data
+@NoArgsConstructor
+public class DailyRevenue {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "revenue_date", nullable = false)
+    private LocalDate revenueDate;
+    
+    @Column(name = "floor_id", nullable = false)
+    private Long floorId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "vehicle_type", nullable = false)
+    private VehicleType vehicleType;
+    
+    @Column(name = "booking_count", nullable = false)
+    private long bookingCount;
+    
+    @Column(name = "cancellation_count", nullable = false)
+    private long cancellationCount;
+    
+    @Column(name = "net_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal netAmount;
+    
+    public DailyRevenue(LocalDate revenueDate, Long floorId, VehicleType vehicleType,
+                        long bookingCount, long cancellationCount, BigDecimal netAmount) {
+        this.revenueDate = revenueDate;
+        this.floorId = floorId;
+        this.vehicleType = vehicleType;
+        this.bookingCount = bookingCount;
+        this.cancellationCount = cancellationCount;
+        this.netAmount = netAmount;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.parkinglot.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// A single row written the first time the application meets a database. Files derived from
+// the database, such as booking snapshots, carry its value so they are never applied to another.
+@Entity
+@Table(name = "database_identity")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DatabaseIdentity {
+    
+    public static final long ROW_ID = 1L;
+    
+    @Id
+    private Long id;
+    
+    @Column(name = "identity_value", nullable = false, length = 36)
+    private String value;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
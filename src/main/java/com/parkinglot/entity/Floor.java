@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "floors")
+@Table(name = "floors", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"lot_id", "floor_number"})
+})
 @Data
 @EqualsAndHashCode(callSuper = false)
 public class Floor {
@@ -22,16 +24,21 @@ public class Floor {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "lot_id", nullable = false)
+    private Lot lot;
+    
     @NotNull
     @Positive
-    @Column(name = "floor_number", unique = true, nullable = false)
+    @Column(name = "floor_number", nullable = false)
     private Integer floorNumber;
     
     @NotBlank
     @Column(name = "floor_name", nullable = false)
     private String floorName;
     
-    @Column(name = "total_slots")
+    // Maintained only by atomic increments in FloorRepository, never written back from the entity
+    @Column(name = "total_slots", updatable = false)
     private Integer totalSlots = 0;
     
     @OneToMany(mappedBy = "floor", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
@@ -45,10 +52,19 @@ public class Floor {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     public Floor() {}
     
     public Floor(Integer floorNumber, String floorName) {
         this.floorNumber = floorNumber;
         this.floorName = floorName;
     }
+    
+    public Floor(Lot lot, Integer floorNumber, String floorName) {
+        this(floorNumber, floorName);
+        this.lot = lot;
+    }
 }
\ No newline at end of file
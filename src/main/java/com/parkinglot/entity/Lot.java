@@ -0,0 +1,44 @@
+package com.parkinglot.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "lots")
+@Data
+@EqualsAndHashCode(callSuper = false)
+public class Lot {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @NotBlank
+    @Column(name = "code", unique = true, nullable = false)
+    private String code;
+    
+    @NotBlank
+    @Column(name = "lot_name", nullable = false)
+    private String lotName;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    public Lot() {}
+    
+    public Lot(String code, String lotName) {
+        this.code = code;
+        this.lotName = lotName;
+    }
+}
\ No newline at end of file
@@ -16,6 +16,8 @@ import java.util.List;
 @Entity
 @Table(name = "parking_slots", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"floor_id", "slot_number"})
+}, indexes = {
+    @Index(name = "idx_parking_slots_updated_at", columnList = "updated_at")
 })
 @Data
 @EqualsAndHashCode(callSuper = false)
@@ -54,6 +56,10 @@ public class ParkingSlot {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     public ParkingSlot() {}
     
     public ParkingSlot(String slotNumber, Floor floor, VehicleType vehicleType) {
@@ -15,7 +15,12 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+    @Index(name = "idx_reservations_updated_at", columnList = "updated_at"),
+    @Index(name = "idx_reservations_vehicle_number", columnList = "vehicle_number, status, start_time"),
+    // Keyset order of the reservation search
+    @Index(name = "idx_reservations_start_time", columnList = "start_time, id")
+})
 @Data
 @EqualsAndHashCode(callSuper = false)
 public class Reservation {
@@ -57,6 +62,17 @@ public class Reservation {
     @Column(name = "duration_hours")
     private Integer durationHours;
     
+    // Set only for reservations accepted through the write-ahead journal
+    @Column(name = "journal_sequence", unique = true)
+    private Long journalSequence;
+    
+    // Set by the occupancy writer when the vehicle enters and leaves the slot
+    @Column(name = "checked_in_at")
+    private LocalDateTime checkedInAt;
+    
+    @Column(name = "checked_out_at")
+    private LocalDateTime checkedOutAt;
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -65,6 +81,11 @@ public class Reservation {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // Concurrent updates of the same row fail on commit instead of overwriting each other
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     public Reservation() {}
     
     public Reservation(ParkingSlot parkingSlot, String vehicleNumber, VehicleType vehicleType, 
@@ -0,0 +1,62 @@
+package com.parkinglot.entity;
+
+import com.parkinglot.model.ReservationChangeType;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.VehicleType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Append-only log of reservation creates, cancels and completions. The identity column is the
+// feed sequence consumers resume from.
+@Entity
+@Table(name = "reservation_changes")
+@Data
+@NoArgsConstructor
+public class ReservationChange {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private ReservationChangeType changeType;
+    
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+    
+    @Column(name = "parking_slot_id", nullable = false)
+    private Long parkingSlotId;
+    
+    @Column(name = "floor_id", nullable = false)
+    private Long floorId;
+    
+    @Column(name = "vehicle_number", nullable = false)
+    private String vehicleNumber;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "vehicle_type", nullable = false)
+    private VehicleType vehicleType;
+    
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+    
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+    
+    @Column(name = "total_cost", precision = 10, scale = 2)
+    private BigDecimal totalCost;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ReservationStatus status;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
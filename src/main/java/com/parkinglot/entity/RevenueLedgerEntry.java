@@ -0,0 +1,61 @@
+package com.parkinglot.entity;
+
+import com.parkinglot.model.LedgerEntryType;
+import com.parkinglot.model.VehicleType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Append-only record of revenue movements. Bookings carry the reservation cost and cancellations
+// its negation, both dated on the reservation's start day so a cancelled booking nets to zero.
+@Entity
+@Table(name = "revenue_ledger", indexes = {
+    @Index(name = "idx_revenue_ledger_reservation", columnList = "reservation_id")
+})
+@Data
+@NoArgsConstructor
+public class RevenueLedgerEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+    
+    @Column(name = "floor_id", nullable = false)
+    private Long floorId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "vehicle_type", nullable = false)
+    private VehicleType vehicleType;
+    
+    @Column(name = "revenue_date", nullable = false)
+    private LocalDate revenueDate;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false)
+    private LedgerEntryType entryType;
+    
+    @Column(name = "amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal amount;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    public RevenueLedgerEntry(Long reservationId, Long floorId, VehicleType vehicleType, LocalDate revenueDate,
+                              LedgerEntryType entryType, BigDecimal amount) {
+        this.reservationId = reservationId;
+        this.floorId = floorId;
+        this.vehicleType = vehicleType;
+        this.revenueDate = revenueDate;
+        this.entryType = entryType;
+        this.amount = amount;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.parkinglot.entity;
+
+import com.parkinglot.model.VehicleType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Reserved minutes of one slot within one clock hour, or the minutes actually parked once a
+// reservation completes. Floor and vehicle type are copied from the slot so range queries never
+// join back to parking_slots or reservations.
+@Entity
+@Table(name = "utilization_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_utilization_rollups_slot_hour", columnNames = {"parking_slot_id", "hour_start"})
+}, indexes = {
+    @Index(name = "idx_utilization_rollups_hour_floor", columnList = "hour_start, floor_id")
+})
+@Data
+@NoArgsConstructor
+public class UtilizationRollup {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "parking_slot_id", nullable = false)
+    private Long parkingSlotId;
+    
+    @Column(name = "floor_id", nullable = false)
+    private Long floorId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "vehicle_type", nullable = false)
+    private VehicleType vehicleType;
+    
+    @Column(name = "hour_start", nullable = false)
+    private LocalDateTime hourStart;
+    
+    @Column(name = "occupied_minutes", nullable = false)
+    private int occupiedMinutes;
+    
+    public UtilizationRollup(Long parkingSlotId, Long floorId, VehicleType vehicleType,
+                             LocalDateTime hourStart, int occupiedMinutes) {
+        this.parkingSlotId = parkingSlotId;
+        this.floorId = floorId;
+        this.vehicleType = vehicleType;
+        this.hourStart = hourStart;
+        this.occupiedMinutes = occupiedMinutes;
+    }
+}
\ No newline at end of file
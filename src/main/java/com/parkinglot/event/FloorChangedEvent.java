@@ -0,0 +1,15 @@
+package com.parkinglot.event;
+
+import com.parkinglot.entity.Floor;
+import lombok.Value;
+
+@Value
+public class FloorChangedEvent {
+    
+    Long floorId;
+    Integer floorNumber;
+    
+    public static FloorChangedEvent of(Floor floor) {
+        return new FloorChangedEvent(floor.getId(), floor.getFloorNumber());
+    }
+}
\ No newline at end of file
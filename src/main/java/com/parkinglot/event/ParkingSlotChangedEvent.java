@@ -0,0 +1,25 @@
+package com.parkinglot.event;
+
+import com.parkinglot.entity.ParkingSlot;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import lombok.Value;
+
+@Value
+public class ParkingSlotChangedEvent {
+    
+    Long parkingSlotId;
+    Long floorId;
+    String slotNumber;
+    VehicleType vehicleType;
+    SlotStatus status;
+    
+    public static ParkingSlotChangedEvent of(ParkingSlot slot) {
+        return new ParkingSlotChangedEvent(
+            slot.getId(),
+            slot.getFloor().getId(),
+            slot.getSlotNumber(),
+            slot.getVehicleType(),
+            slot.getStatus());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.parkinglot.event;
+
+import com.parkinglot.entity.Reservation;
+import com.parkinglot.model.ReservationChangeType;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.VehicleType;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Carries plain values so listeners running after commit never touch a detached entity
+@Value
+@AllArgsConstructor
+public class ReservationChangedEvent {
+    
+    ReservationChangeType changeType;
+    Long reservationId;
+    Long parkingSlotId;
+    Long floorId;
+    String vehicleNumber;
+    VehicleType vehicleType;
+    LocalDateTime startTime;
+    LocalDateTime endTime;
+    BigDecimal totalCost;
+    ReservationStatus status;
+    
+    // The window and cost a RESCHEDULED reservation had before; null for every other change
+    LocalDateTime previousStartTime;
+    LocalDateTime previousEndTime;
+    BigDecimal previousTotalCost;
+    
+    // When the vehicle of a COMPLETED reservation checked in and out; null for every other change
+    LocalDateTime checkedInAt;
+    LocalDateTime checkedOutAt;
+    
+    public ReservationChangedEvent(ReservationChangeType changeType, Long reservationId, Long parkingSlotId,
+                                   Long floorId, String vehicleNumber, VehicleType vehicleType,
+                                   LocalDateTime startTime, LocalDateTime endTime, BigDecimal totalCost,
+                                   ReservationStatus status) {
+        this(changeType, reservationId, parkingSlotId, floorId, vehicleNumber, vehicleType, startTime, endTime,
+                totalCost, status, null, null, null, null, null);
+    }
+    
+    public static ReservationChangedEvent of(Reservation reservation, ReservationChangeType changeType) {
+        return new ReservationChangedEvent(
+            changeType,
+            reservation.getId(),
+            reservation.getParkingSlot().getId(),
+            reservation.getParkingSlot().getFloor().getId(),
+            reservation.getVehicleNumber(),
+            reservation.getVehicleType(),
+            reservation.getStartTime(),
+            reservation.getEndTime(),
+            reservation.getTotalCost(),
+            reservation.getStatus());
+    }
+    
+    public static ReservationChangedEvent rescheduled(Reservation reservation, LocalDateTime previousStartTime,
+                                                      LocalDateTime previousEndTime, BigDecimal previousTotalCost) {
+        return new ReservationChangedEvent(
+            ReservationChangeType.RESCHEDULED,
+            reservation.getId(),
+            reservation.getParkingSlot().getId(),
+            reservation.getParkingSlot().getFloor().getId(),
+            reservation.getVehicleNumber(),
+            reservation.getVehicleType(),
+            reservation.getStartTime(),
+            reservation.getEndTime(),
+            reservation.getTotalCost(),
+            reservation.getStatus(),
+            previousStartTime,
+            previousEndTime,
+            previousTotalCost,
+            null,
+            null);
+    }
+    
+    public static ReservationChangedEvent completed(Reservation reservation) {
+        return new ReservationChangedEvent(
+            ReservationChangeType.COMPLETED,
+            reservation.getId(),
+            reservation.getParkingSlot().getId(),
+            reservation.getParkingSlot().getFloor().getId(),
+            reservation.getVehicleNumber(),
+            reservation.getVehicleType(),
+            reservation.getStartTime(),
+            reservation.getEndTime(),
+            reservation.getTotalCost(),
+            reservation.getStatus(),
+            null,
+            null,
+            null,
+            reservation.getCheckedInAt(),
+            reservation.getCheckedOutAt());
+    }
+}
\ No newline at end of file
@@ -1,7 +1,8 @@
 package com.parkinglot.exception;
 
+// An expected rejection (conflicts, type mismatches, invalid times), so no stack trace is captured
 public class BusinessRuleViolationException extends RuntimeException {
     public BusinessRuleViolationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
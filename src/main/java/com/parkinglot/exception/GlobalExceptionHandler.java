@@ -1,6 +1,8 @@
 package com.parkinglot.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -13,13 +15,14 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @ControllerAdvice
+@Profile("!reactive")
 @Slf4j
 public class GlobalExceptionHandler {
     
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
             ResourceNotFoundException ex, WebRequest request) {
-        log.error("Resource not found: {}", ex.getMessage());
+        RejectionLog.log(log, RejectionLog.Kind.NOT_FOUND, ex.getMessage());
         
         ErrorResponse error = new ErrorResponse(
             ex.getMessage(),
@@ -49,7 +52,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BusinessRuleViolationException.class)
     public ResponseEntity<ErrorResponse> handleBusinessRuleViolationException(
             BusinessRuleViolationException ex, WebRequest request) {
-        log.error("Business rule violation: {}", ex.getMessage());
+        RejectionLog.log(log, RejectionLog.Kind.BUSINESS_RULE, ex.getMessage());
         
         ErrorResponse error = new ErrorResponse(
             ex.getMessage(),
@@ -61,10 +64,25 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
     
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, WebRequest request) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        
+        ErrorResponse error = new ErrorResponse(
+            "The resource was modified concurrently, please retry",
+            HttpStatus.CONFLICT.value(),
+            "Concurrent Modification",
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+    
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(
             MethodArgumentNotValidException ex, WebRequest request) {
-        log.error("Validation failed: {}", ex.getMessage());
+        RejectionLog.log(log, RejectionLog.Kind.VALIDATION, ex.getMessage());
         
         List<String> validationErrors = ex.getBindingResult()
                 .getAllErrors()
@@ -0,0 +1,43 @@
+package com.parkinglot.exception;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Logging for expected rejections, shared by the REST, reactive and gRPC error mappings. Under
+// load these are routine, so only the first of every SAMPLE_INTERVAL per kind is logged at
+// INFO, with the running count; the rest go to DEBUG.
+public final class RejectionLog {
+    
+    public static final int SAMPLE_INTERVAL = 100;
+    
+    public enum Kind {
+        NOT_FOUND("Resource not found"),
+        BUSINESS_RULE("Business rule violation"),
+        VALIDATION("Validation failed");
+        
+        private final String label;
+        
+        Kind(String label) {
+            this.label = label;
+        }
+    }
+    
+    private static final AtomicLongArray counts = new AtomicLongArray(Kind.values().length);
+    
+    private RejectionLog() {
+    }
+    
+    public static void log(Logger log, Kind kind, String message) {
+        long count = counts.incrementAndGet(kind.ordinal());
+        if (count % SAMPLE_INTERVAL == 1) {
+            log.info("{} ({} so far): {}", kind.label, count, message);
+        } else if (log.isDebugEnabled()) {
+            log.debug("{}: {}", kind.label, message);
+        }
+    }
+    
+    public static long count(Kind kind) {
+        return counts.get(kind.ordinal());
+    }
+}
\ No newline at end of file
@@ -1,7 +1,8 @@
 package com.parkinglot.exception;
 
+// An expected rejection of an unknown id, so no stack trace is captured
 public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
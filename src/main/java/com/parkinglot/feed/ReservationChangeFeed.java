@@ -0,0 +1,241 @@
+package com.parkinglot.feed;
+
+import com.parkinglot.config.ChangeFeedProperties;
+import com.parkinglot.dto.ReservationChangePage;
+import com.parkinglot.dto.ReservationChangeResponse;
+import com.parkinglot.entity.ReservationChange;
+import com.parkinglot.event.ReservationChangedEvent;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.repository.ReservationChangeRepository;
+import com.parkinglot.shard.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+// Sequenced log of reservation changes for consumers that sync incrementally. Every change is
+// written to the table in the transaction that makes it, and the most recent ones are also kept
+// in memory, so a consumer that keeps up is answered without touching the database.
+//
+// Sequences are allocated when a change is inserted but become visible when it commits, which
+// need not be in the same order. Readers therefore only see changes below the oldest sequence
+// still in flight on this node, so a cursor never moves past a change that commits later. With
+// several nodes writing to one database that guarantee holds per node only.
+@Component
+@Slf4j
+public class ReservationChangeFeed {
+    
+    private final ReservationChangeRepository changeRepository;
+    private final ChangeFeedProperties properties;
+    private final ShardRouter shardRouter;
+    
+    // Sequences inserted by transactions that have not completed yet
+    private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    
+    // Held shared from insert until the sequence is registered in flight, and exclusively to
+    // read the watermark, so no sequence is allocated without being accounted for
+    private final ReentrantReadWriteLock registration = new ReentrantReadWriteLock();
+    
+    private final ConcurrentSkipListMap<Long, ReservationChangeResponse> tail = new ConcurrentSkipListMap<>();
+    private final Object tailLock = new Object();
+    private int tailCount;
+    
+    // Every committed change above this sequence is in the tail; until the tail is loaded all
+    // reads go to the table
+    private volatile long tailFloor = Long.MAX_VALUE;
+    
+    public ReservationChangeFeed(ReservationChangeRepository changeRepository, ChangeFeedProperties properties,
+                                 ShardRouter shardRouter) {
+        this.changeRepository = changeRepository;
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+    }
+    
+    // Runs synchronously inside the transaction that changes the reservation, so the change is
+    // logged if and only if the reservation change commits. Each shard would number its changes
+    // on its own, so there is no single sequence to follow when persistence is sharded.
+    @EventListener
+    @Transactional
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (shardRouter.isSharded()) {
+            return;
+        }
+        ReservationChange change = toChange(event);
+        registration.readLock().lock();
+        try {
+            // The identity insert is issued right away, which allocates the sequence
+            changeRepository.save(change);
+            inFlight.add(change.getId());
+        } finally {
+            registration.readLock().unlock();
+        }
+        
+        long sequence = change.getId();
+        ReservationChangeResponse response = convertToResponse(change);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // Appended before the watermark moves past it, so a reader never misses it
+                if (status == STATUS_COMMITTED) {
+                    appendToTail(response);
+                }
+                inFlight.remove(sequence);
+            }
+        });
+    }
+    
+    public ReservationChangePage getChanges(long since, Integer limit) {
+        if (shardRouter.isSharded()) {
+            throw new BusinessRuleViolationException("The reservation change feed is not available when persistence is sharded");
+        }
+        if (since < 0) {
+            throw new BusinessRuleViolationException("Change sequence must not be negative");
+        }
+        int pageSize = pageSize(limit);
+        long until = watermark();
+        
+        List<ReservationChangeResponse> changes = readTail(since, until, pageSize + 1);
+        if (changes == null) {
+            changes = changeRepository.findPage(since, until, PageRequest.of(0, pageSize + 1)).stream()
+                    .map(this::convertToResponse)
+                    .collect(Collectors.toList());
+        }
+        
+        ReservationChangePage page = new ReservationChangePage();
+        page.setHasMore(changes.size() > pageSize);
+        page.setChanges(page.isHasMore() ? new ArrayList<>(changes.subList(0, pageSize)) : changes);
+        page.setNextSince(page.getChanges().isEmpty()
+                ? since
+                : page.getChanges().get(page.getChanges().size() - 1).getSequence());
+        return page;
+    }
+    
+    // Called once at startup. Holding the tail lock makes commits that land during the load wait
+    // and append afterwards; those that committed before it are already visible to the query.
+    public int load() {
+        if (shardRouter.isSharded()) {
+            return 0;
+        }
+        synchronized (tailLock) {
+            int tailSize = properties.getTailSize();
+            List<ReservationChange> latest = changeRepository.findLatest(PageRequest.of(0, tailSize));
+            latest.forEach(change -> putInTail(convertToResponse(change)));
+            tailFloor = latest.size() < tailSize ? 0 : latest.get(latest.size() - 1).getId() - 1;
+            evictOverflow();
+            return latest.size();
+        }
+    }
+    
+    int tailSize() {
+        synchronized (tailLock) {
+            return tailCount;
+        }
+    }
+    
+    long tailFloor() {
+        return tailFloor;
+    }
+    
+    private List<ReservationChangeResponse> readTail(long since, long until, int max) {
+        if (since < tailFloor) {
+            return null;
+        }
+        List<ReservationChangeResponse> changes = new ArrayList<>();
+        if (until <= since) {
+            return changes;
+        }
+        for (ReservationChangeResponse change : tail.subMap(since, false, until, true).values()) {
+            changes.add(change);
+            if (changes.size() == max) {
+                break;
+            }
+        }
+        // Eviction may have dropped changes above since while they were being read
+        return since < tailFloor ? null : changes;
+    }
+    
+    private long watermark() {
+        registration.writeLock().lock();
+        try {
+            Long oldest = inFlight.ceiling(Long.MIN_VALUE);
+            return oldest == null ? Long.MAX_VALUE : oldest - 1;
+        } finally {
+            registration.writeLock().unlock();
+        }
+    }
+    
+    private void appendToTail(ReservationChangeResponse change) {
+        synchronized (tailLock) {
+            // Changes at or below the floor are served from the table
+            if (change.getSequence() > tailFloor) {
+                putInTail(change);
+                evictOverflow();
+            }
+        }
+    }
+    
+    private void putInTail(ReservationChangeResponse change) {
+        if (tail.put(change.getSequence(), change) == null) {
+            tailCount++;
+        }
+    }
+    
+    private void evictOverflow() {
+        while (tailCount > properties.getTailSize()) {
+            tailFloor = tail.pollFirstEntry().getKey();
+            tailCount--;
+        }
+    }
+    
+    private int pageSize(Integer limit) {
+        if (limit == null) {
+            return Math.min(properties.getDefaultPageSize(), properties.getMaxPageSize());
+        }
+        if (limit < 1) {
+            throw new BusinessRuleViolationException("Page size must be at least 1");
+        }
+        return Math.min(limit, properties.getMaxPageSize());
+    }
+    
+    private static ReservationChange toChange(ReservationChangedEvent event) {
+        ReservationChange change = new ReservationChange();
+        change.setChangeType(event.getChangeType());
+        change.setReservationId(event.getReservationId());
+        change.setParkingSlotId(event.getParkingSlotId());
+        change.setFloorId(event.getFloorId());
+        change.setVehicleNumber(event.getVehicleNumber());
+        change.setVehicleType(event.getVehicleType());
+        change.setStartTime(event.getStartTime());
+        change.setEndTime(event.getEndTime());
+        change.setTotalCost(event.getTotalCost());
+        change.setStatus(event.getStatus());
+        return change;
+    }
+    
+    private ReservationChangeResponse convertToResponse(ReservationChange change) {
+        ReservationChangeResponse response = new ReservationChangeResponse();
+        response.setSequence(change.getId());
+        response.setChangeType(change.getChangeType());
+        response.setReservationId(change.getReservationId());
+        response.setParkingSlotId(change.getParkingSlotId());
+        response.setFloorId(change.getFloorId());
+        response.setVehicleNumber(change.getVehicleNumber());
+        response.setVehicleType(change.getVehicleType());
+        response.setStartTime(change.getStartTime());
+        response.setEndTime(change.getEndTime());
+        response.setTotalCost(change.getTotalCost());
+        response.setStatus(change.getStatus());
+        response.setChangedAt(change.getCreatedAt());
+        return response;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.parkinglot.feed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// Until this has run, every change feed page is read from the table
+@Component
+@Order(12)
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationChangeFeedLoader implements ApplicationRunner {
+    
+    private final ReservationChangeFeed reservationChangeFeed;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void run(ApplicationArguments args) {
+        long started = System.currentTimeMillis();
+        int loaded = reservationChangeFeed.load();
+        log.info("Loaded {} recent reservation changes into the change feed tail in {} ms",
+                loaded, System.currentTimeMillis() - started);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,254 @@
+package com.parkinglot.grpc;
+
+import com.parkinglot.config.GrpcProperties;
+import com.parkinglot.dto.ParkingSlotResponse;
+import com.parkinglot.event.ParkingSlotChangedEvent;
+import com.parkinglot.event.ReservationChangedEvent;
+import com.parkinglot.grpc.proto.AvailabilityUpdate;
+import com.parkinglot.grpc.proto.AvailableSlotPage;
+import com.parkinglot.grpc.proto.SlotAvailabilityChange;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.service.ParkingSlotService;
+import com.parkinglot.state.BookingStateIndex;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Open WatchAvailability streams. Each watcher starts from a database snapshot and is then
+// kept current from committed slot and reservation events, re-checking only the affected
+// slot against the in-memory booking index. Updates are queued per watcher and sent only while
+// the stream is ready, so a slow client never buffers without bound on the committing thread.
+@Component
+@Slf4j
+public class AvailabilityWatchers {
+    
+    private final ParkingSlotService parkingSlotService;
+    private final BookingStateIndex bookingStateIndex;
+    private final GrpcProperties properties;
+    private final Set<Watcher> watchers = new CopyOnWriteArraySet<>();
+    
+    public AvailabilityWatchers(ParkingSlotService parkingSlotService, BookingStateIndex bookingStateIndex,
+                                GrpcProperties properties) {
+        this.parkingSlotService = parkingSlotService;
+        this.bookingStateIndex = bookingStateIndex;
+        this.properties = properties;
+    }
+    
+    public void watch(ServerCallStreamObserver<AvailabilityUpdate> observer, LocalDateTime startTime,
+                      LocalDateTime endTime, VehicleType vehicleType) {
+        Watcher watcher = new Watcher(observer, startTime, endTime, vehicleType);
+        observer.setOnCancelHandler(() -> watchers.remove(watcher));
+        observer.setOnReadyHandler(watcher::drain);
+        // Register before the snapshot query so changes committed meanwhile are not missed
+        watchers.add(watcher);
+        try {
+            Page<ParkingSlotResponse> snapshot = parkingSlotService.getAvailableSlots(
+                    startTime, endTime, vehicleType, 0, Integer.MAX_VALUE, "id");
+            watcher.start(snapshot);
+        } catch (RuntimeException e) {
+            watchers.remove(watcher);
+            throw e;
+        }
+    }
+    
+    public int getWatcherCount() {
+        return watchers.size();
+    }
+    
+    // Runs after BookingStateIndex has applied the same event
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        for (Watcher watcher : watchers) {
+            // A rescheduled reservation also frees whatever part of its old window it left
+            if (watcher.overlaps(event.getStartTime(), event.getEndTime())
+                    || event.getPreviousStartTime() != null
+                    && watcher.overlaps(event.getPreviousStartTime(), event.getPreviousEndTime())) {
+                watcher.refresh(event.getParkingSlotId());
+            }
+        }
+    }
+    
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParkingSlotChanged(ParkingSlotChangedEvent event) {
+        for (Watcher watcher : watchers) {
+            watcher.refresh(event.getParkingSlotId());
+        }
+    }
+    
+    private final class Watcher {
+        
+        private final ServerCallStreamObserver<AvailabilityUpdate> observer;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+        private final VehicleType vehicleType;
+        // What the client will know once the queue is drained
+        private Set<Long> available;
+        private final Set<Long> changedBeforeStart = new LinkedHashSet<>();
+        private AvailabilityUpdate queuedSnapshot;
+        // Slot id to availability; a slot that flips back before it is sent drops out again
+        private final LinkedHashMap<Long, Boolean> queuedChanges = new LinkedHashMap<>();
+        private Status failure;
+        private boolean closed;
+        // Drain requests; only the thread that raised it from zero sends, so onNext is never concurrent
+        private final AtomicInteger drainRequests = new AtomicInteger();
+        
+        Watcher(ServerCallStreamObserver<AvailabilityUpdate> observer, LocalDateTime startTime,
+                LocalDateTime endTime, VehicleType vehicleType) {
+            this.observer = observer;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.vehicleType = vehicleType;
+        }
+        
+        boolean overlaps(LocalDateTime otherStart, LocalDateTime otherEnd) {
+            return !startTime.isAfter(otherEnd) && !endTime.isBefore(otherStart);
+        }
+        
+        void start(Page<ParkingSlotResponse> snapshot) {
+            synchronized (this) {
+                AvailableSlotPage.Builder page = AvailableSlotPage.newBuilder()
+                        .setTotalElements(snapshot.getTotalElements())
+                        .setTotalPages(1);
+                available = new HashSet<>();
+                for (ParkingSlotResponse slot : snapshot.getContent()) {
+                    available.add(slot.getId());
+                    page.addSlots(ProtoMapper.toProto(slot));
+                }
+                queuedSnapshot = AvailabilityUpdate.newBuilder().setSnapshot(page).build();
+                changedBeforeStart.forEach(this::recheck);
+                changedBeforeStart.clear();
+            }
+            drain();
+        }
+        
+        void refresh(long slotId) {
+            synchronized (this) {
+                if (available == null) {
+                    changedBeforeStart.add(slotId);
+                    return;
+                }
+                recheck(slotId);
+            }
+            drain();
+        }
+        
+        // Caller holds the monitor
+        private void recheck(long slotId) {
+            if (closed) {
+                return;
+            }
+            boolean isAvailable = bookingStateIndex.getSlot(slotId)
+                    .map(slot -> (vehicleType == null || slot.getVehicleType() == vehicleType)
+                            && bookingStateIndex.isFree(slotId, startTime, endTime))
+                    .orElse(false);
+            boolean changed = isAvailable ? available.add(slotId) : available.remove(slotId);
+            if (!changed) {
+                return;
+            }
+            if (queuedChanges.remove(slotId) != null) {
+                return;
+            }
+            if (queuedChanges.size() >= properties.getWatchQueueSize()) {
+                // Too far behind to catch up change by change
+                close(Status.RESOURCE_EXHAUSTED.withDescription(
+                    "Availability watcher fell behind; subscribe again for a fresh snapshot"));
+                return;
+            }
+            queuedChanges.put(slotId, isAvailable);
+        }
+        
+        // Runs on the committing thread and on the gRPC executor whenever the stream becomes ready
+        void drain() {
+            if (drainRequests.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                try {
+                    sendQueued();
+                } catch (RuntimeException e) {
+                    log.warn("Dropping availability watcher: {}", e.getMessage());
+                    synchronized (this) {
+                        closed = true;
+                        queuedSnapshot = null;
+                        queuedChanges.clear();
+                    }
+                    watchers.remove(this);
+                }
+                missed = drainRequests.addAndGet(-missed);
+            } while (missed != 0);
+        }
+        
+        private void sendQueued() {
+            while (true) {
+                if (observer.isCancelled()) {
+                    watchers.remove(this);
+                    return;
+                }
+                Status closing = takeFailure();
+                if (closing != null) {
+                    observer.onError(closing.asRuntimeException());
+                    return;
+                }
+                if (!observer.isReady()) {
+                    return;
+                }
+                AvailabilityUpdate update = poll();
+                if (update == null) {
+                    return;
+                }
+                observer.onNext(update);
+            }
+        }
+        
+        private synchronized AvailabilityUpdate poll() {
+            if (queuedSnapshot != null) {
+                AvailabilityUpdate snapshot = queuedSnapshot;
+                queuedSnapshot = null;
+                return snapshot;
+            }
+            Iterator<Map.Entry<Long, Boolean>> changes = queuedChanges.entrySet().iterator();
+            if (!changes.hasNext()) {
+                return null;
+            }
+            Map.Entry<Long, Boolean> change = changes.next();
+            changes.remove();
+            return AvailabilityUpdate.newBuilder()
+                    .setChange(SlotAvailabilityChange.newBuilder().setSlotId(change.getKey()).setAvailable(change.getValue()))
+                    .build();
+        }
+        
+        private synchronized Status takeFailure() {
+            Status taken = failure;
+            failure = null;
+            return taken;
+        }
+        
+        // Caller holds the monitor; the error is sent by the next drain
+        private void close(Status status) {
+            closed = true;
+            failure = status;
+            queuedSnapshot = null;
+            queuedChanges.clear();
+            watchers.remove(this);
+            log.warn("Closing availability watcher: {}", status.getDescription());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.parkinglot.grpc;
+
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.exception.DuplicateResourceException;
+import com.parkinglot.exception.RejectionLog;
+import com.parkinglot.exception.ResourceNotFoundException;
+import com.parkinglot.grpc.proto.Error;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// gRPC equivalent of GlobalExceptionHandler
+@Slf4j
+final class GrpcErrors {
+    
+    private GrpcErrors() {
+    }
+    
+    static StatusRuntimeException toStatusException(RuntimeException ex) {
+        Status status = toStatus(ex);
+        List<String> validationErrors = validationErrors(ex);
+        String description = validationErrors.isEmpty()
+                ? status.getDescription()
+                : status.getDescription() + ": " + String.join("; ", validationErrors);
+        return status.withDescription(description).asRuntimeException();
+    }
+    
+    static Error toError(RuntimeException ex) {
+        Status status = toStatus(ex);
+        return Error.newBuilder()
+                .setCode(status.getCode().name())
+                .setMessage(status.getDescription())
+                .addAllValidationErrors(validationErrors(ex))
+                .build();
+    }
+    
+    private static Status toStatus(RuntimeException ex) {
+        if (ex instanceof ResourceNotFoundException) {
+            RejectionLog.log(log, RejectionLog.Kind.NOT_FOUND, ex.getMessage());
+            return Status.NOT_FOUND.withDescription(ex.getMessage());
+        }
+        if (ex instanceof DuplicateResourceException) {
+            log.error("Duplicate resource: {}", ex.getMessage());
+            return Status.ALREADY_EXISTS.withDescription(ex.getMessage());
+        }
+        if (ex instanceof BusinessRuleViolationException) {
+            RejectionLog.log(log, RejectionLog.Kind.BUSINESS_RULE, ex.getMessage());
+            return Status.FAILED_PRECONDITION.withDescription(ex.getMessage());
+        }
+        if (ex instanceof OptimisticLockingFailureException) {
+            log.warn("Concurrent modification: {}", ex.getMessage());
+            return Status.ABORTED.withDescription("The resource was modified concurrently, please retry");
+        }
+        if (ex instanceof ConstraintViolationException) {
+            RejectionLog.log(log, RejectionLog.Kind.VALIDATION, ex.getMessage());
+            return Status.INVALID_ARGUMENT.withDescription("Validation failed");
+        }
+        if (ex instanceof DateTimeParseException || ex instanceof IllegalArgumentException) {
+            log.error("Invalid argument: {}", ex.getMessage());
+            return Status.INVALID_ARGUMENT.withDescription(ex.getMessage());
+        }
+        log.error("Unexpected error: ", ex);
+        return Status.INTERNAL.withDescription("An unexpected error occurred");
+    }
+    
+    private static List<String> validationErrors(RuntimeException ex) {
+        if (!(ex instanceof ConstraintViolationException violation)) {
+            return List.of();
+        }
+        return violation.getConstraintViolations().stream()
+                .map(GrpcErrors::describe)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+    
+    private static String describe(ConstraintViolation<?> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.parkinglot.grpc;
+
+import com.parkinglot.config.GrpcProperties;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class GrpcServer implements SmartLifecycle {
+    
+    private final GrpcProperties properties;
+    private final ParkingLotGrpcService parkingLotGrpcService;
+    private volatile Server server;
+    
+    public GrpcServer(GrpcProperties properties, ParkingLotGrpcService parkingLotGrpcService) {
+        this.properties = properties;
+        this.parkingLotGrpcService = parkingLotGrpcService;
+    }
+    
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            server = NettyServerBuilder.forPort(properties.getPort())
+                    .addService(parkingLotGrpcService)
+                    .build()
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start gRPC server on port " + properties.getPort(), e);
+        }
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+    
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        log.info("gRPC server stopped");
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+    
+    // Stops together with the embedded web server
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 1024;
+    }
+    
+    public int getPort() {
+        Server running = server;
+        return running != null ? running.getPort() : -1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,220 @@
+package com.parkinglot.grpc;
+
+import com.parkinglot.dto.AvailabilityRequest;
+import com.parkinglot.dto.ParkingSlotResponse;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.grpc.proto.AvailabilityUpdate;
+import com.parkinglot.grpc.proto.AvailableSlotPage;
+import com.parkinglot.grpc.proto.CancelReservationRequest;
+import com.parkinglot.grpc.proto.CreateFloorRequest;
+import com.parkinglot.grpc.proto.CreateParkingSlotRequest;
+import com.parkinglot.grpc.proto.Floor;
+import com.parkinglot.grpc.proto.FloorList;
+import com.parkinglot.grpc.proto.GetFloorRequest;
+import com.parkinglot.grpc.proto.GetFloorsRequest;
+import com.parkinglot.grpc.proto.GetParkingSlotRequest;
+import com.parkinglot.grpc.proto.GetParkingSlotsRequest;
+import com.parkinglot.grpc.proto.GetReservationRequest;
+import com.parkinglot.grpc.proto.GetReservationsRequest;
+import com.parkinglot.grpc.proto.ParkingLotGrpc;
+import com.parkinglot.grpc.proto.ParkingSlot;
+import com.parkinglot.grpc.proto.ParkingSlotList;
+import com.parkinglot.grpc.proto.Reservation;
+import com.parkinglot.grpc.proto.ReservationList;
+import com.parkinglot.grpc.proto.ReserveRequest;
+import com.parkinglot.grpc.proto.ReserveResult;
+import com.parkinglot.service.FloorService;
+import com.parkinglot.service.ParkingSlotService;
+import com.parkinglot.service.ReservationService;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// gRPC front end over the same services and validation rules as the REST controllers
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ParkingLotGrpcService extends ParkingLotGrpc.ParkingLotImplBase {
+    
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    
+    private final FloorService floorService;
+    private final ParkingSlotService parkingSlotService;
+    private final ReservationService reservationService;
+    private final AvailabilityWatchers availabilityWatchers;
+    private final Validator validator;
+    
+    @Override
+    public void createFloor(CreateFloorRequest request, StreamObserver<Floor> responseObserver) {
+        respond(responseObserver, () -> ProtoMapper.toProto(floorService.createFloor(valid(ProtoMapper.toDto(request)))));
+    }
+    
+    @Override
+    public void getFloors(GetFloorsRequest request, StreamObserver<FloorList> responseObserver) {
+        respond(responseObserver, () -> {
+            FloorList.Builder floors = FloorList.newBuilder();
+            floorService.getAllFloors().forEach(floor -> floors.addFloors(ProtoMapper.toProto(floor)));
+            return floors.build();
+        });
+    }
+    
+    @Override
+    public void getFloor(GetFloorRequest request, StreamObserver<Floor> responseObserver) {
+        respond(responseObserver, () -> ProtoMapper.toProto(floorService.getFloorById(request.getId())));
+    }
+    
+    @Override
+    public void getFloorWithSlots(GetFloorRequest request, StreamObserver<Floor> responseObserver) {
+        respond(responseObserver, () -> ProtoMapper.toProto(floorService.getFloorWithSlots(request.getId())));
+    }
+    
+    @Override
+    public void createParkingSlot(CreateParkingSlotRequest request, StreamObserver<ParkingSlot> responseObserver) {
+        respond(responseObserver, () -> ProtoMapper.toProto(
+                parkingSlotService.createParkingSlot(valid(ProtoMapper.toDto(request)))));
+    }
+    
+    @Override
+    public void getParkingSlots(GetParkingSlotsRequest request, StreamObserver<ParkingSlotList> responseObserver) {
+        respond(responseObserver, () -> {
+            List<ParkingSlotResponse> slots = request.hasFloorId()
+                    ? parkingSlotService.getParkingSlotsByFloor(request.getFloorId())
+                    : parkingSlotService.getAllParkingSlots();
+            ParkingSlotList.Builder list = ParkingSlotList.newBuilder();
+            slots.forEach(slot -> list.addSlots(ProtoMapper.toProto(slot)));
+            return list.build();
+        });
+    }
+    
+    @Override
+    public void getParkingSlot(GetParkingSlotRequest request, StreamObserver<ParkingSlot> responseObserver) {
+        respond(responseObserver, () -> ProtoMapper.toProto(parkingSlotService.getParkingSlotById(request.getId())));
+    }
+    
+    @Override
+    public void getAvailableSlots(com.parkinglot.grpc.proto.AvailabilityRequest request,
+                                  StreamObserver<AvailableSlotPage> responseObserver) {
+        respond(responseObserver, () -> {
+            AvailabilityRequest availability = valid(toDto(request));
+            int size = request.getSize() > 0 ? request.getSize() : DEFAULT_PAGE_SIZE;
+            Page<ParkingSlotResponse> page = parkingSlotService.getAvailableSlots(availability.getStartTime(),
+                    availability.getEndTime(), availability.getVehicleType(), request.getPage(), size, "id");
+            AvailableSlotPage.Builder result = AvailableSlotPage.newBuilder()
+                    .setTotalElements(page.getTotalElements())
+                    .setTotalPages(page.getTotalPages());
+            page.getContent().forEach(slot -> result.addSlots(ProtoMapper.toProto(slot)));
+            return result.build();
+        });
+    }
+    
+    @Override
+    public void watchAvailability(com.parkinglot.grpc.proto.AvailabilityRequest request,
+                                  StreamObserver<AvailabilityUpdate> responseObserver) {
+        try {
+            AvailabilityRequest availability = valid(toDto(request));
+            availabilityWatchers.watch((ServerCallStreamObserver<AvailabilityUpdate>) responseObserver,
+                    availability.getStartTime(), availability.getEndTime(), availability.getVehicleType());
+        } catch (RuntimeException e) {
+            responseObserver.onError(GrpcErrors.toStatusException(e));
+        }
+    }
+    
+    @Override
+    public void reserve(ReserveRequest request, StreamObserver<Reservation> responseObserver) {
+        respond(responseObserver, () -> ProtoMapper.toProto(reserveOne(request)));
+    }
+    
+    @Override
+    public StreamObserver<ReserveRequest> reserveMany(StreamObserver<ReserveResult> responseObserver) {
+        // gRPC delivers the messages of one call sequentially, so results keep request order
+        return new StreamObserver<>() {
+            
+            @Override
+            public void onNext(ReserveRequest request) {
+                ReserveResult.Builder result = ReserveResult.newBuilder()
+                        .setClientReference(request.getClientReference());
+                try {
+                    result.setReservation(ProtoMapper.toProto(reserveOne(request)));
+                } catch (RuntimeException e) {
+                    result.setError(GrpcErrors.toError(e));
+                }
+                responseObserver.onNext(result.build());
+            }
+            
+            @Override
+            public void onError(Throwable t) {
+                log.debug("ReserveMany stream aborted by client: {}", t.getMessage());
+            }
+            
+            @Override
+            public void onCompleted() {
+                responseObserver.onCompleted();
+            }
+        };
+    }
+    
+    @Override
+    public void getReservation(GetReservationRequest request, StreamObserver<Reservation> responseObserver) {
+        respond(responseObserver, () -> ProtoMapper.toProto(reservationService.getReservationById(request.getId())));
+    }
+    
+    @Override
+    public void getReservations(GetReservationsRequest request, StreamObserver<ReservationList> responseObserver) {
+        respond(responseObserver, () -> {
+            List<ReservationResponse> reservations = request.getActiveOnly()
+                    ? reservationService.getActiveReservations()
+                    : reservationService.getAllReservations();
+            ReservationList.Builder list = ReservationList.newBuilder();
+            reservations.forEach(reservation -> list.addReservations(ProtoMapper.toProto(reservation)));
+            return list.build();
+        });
+    }
+    
+    @Override
+    public void cancelReservation(CancelReservationRequest request, StreamObserver<Reservation> responseObserver) {
+        respond(responseObserver, () -> ProtoMapper.toProto(reservationService.cancelReservation(request.getId())));
+    }
+    
+    private ReservationResponse reserveOne(ReserveRequest request) {
+        return reservationService.createReservation(valid(ProtoMapper.toDto(request)));
+    }
+    
+    private AvailabilityRequest toDto(com.parkinglot.grpc.proto.AvailabilityRequest request) {
+        AvailabilityRequest availability = new AvailabilityRequest();
+        availability.setStartTime(ProtoMapper.parseTime(request.getStartTime()));
+        availability.setEndTime(ProtoMapper.parseTime(request.getEndTime()));
+        availability.setVehicleType(ProtoMapper.toModel(request.getVehicleType()));
+        return availability;
+    }
+    
+    // Same constraints @Valid enforces on the REST request bodies
+    private <T> T valid(T request) {
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return request;
+    }
+    
+    private static <T> void respond(StreamObserver<T> responseObserver, Supplier<T> call) {
+        T response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(GrpcErrors.toStatusException(e));
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+}
\ No newline at end of file
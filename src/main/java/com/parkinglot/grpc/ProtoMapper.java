@@ -0,0 +1,132 @@
+package com.parkinglot.grpc;
+
+import com.parkinglot.dto.FloorCreateRequest;
+import com.parkinglot.dto.FloorResponse;
+import com.parkinglot.dto.ParkingSlotCreateRequest;
+import com.parkinglot.dto.ParkingSlotResponse;
+import com.parkinglot.dto.ReservationCreateRequest;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.grpc.proto.CreateFloorRequest;
+import com.parkinglot.grpc.proto.CreateParkingSlotRequest;
+import com.parkinglot.grpc.proto.Floor;
+import com.parkinglot.grpc.proto.ParkingSlot;
+import com.parkinglot.grpc.proto.Reservation;
+import com.parkinglot.grpc.proto.ReserveRequest;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// Conversions between the protobuf messages and the REST DTOs the services work with
+final class ProtoMapper {
+    
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    
+    private ProtoMapper() {
+    }
+    
+    static FloorCreateRequest toDto(CreateFloorRequest request) {
+        FloorCreateRequest dto = new FloorCreateRequest();
+        dto.setFloorNumber(request.getFloorNumber());
+        dto.setFloorName(request.getFloorName());
+        if (request.hasLotId()) {
+            dto.setLotId(request.getLotId());
+        }
+        return dto;
+    }
+    
+    static ParkingSlotCreateRequest toDto(CreateParkingSlotRequest request) {
+        ParkingSlotCreateRequest dto = new ParkingSlotCreateRequest();
+        dto.setFloorId(request.getFloorId());
+        dto.setSlotNumber(request.getSlotNumber());
+        dto.setVehicleType(toModel(request.getVehicleType()));
+        return dto;
+    }
+    
+    static ReservationCreateRequest toDto(ReserveRequest request) {
+        ReservationCreateRequest dto = new ReservationCreateRequest();
+        dto.setParkingSlotId(request.getParkingSlotId());
+        dto.setVehicleNumber(request.getVehicleNumber());
+        dto.setVehicleType(toModel(request.getVehicleType()));
+        dto.setStartTime(parseTime(request.getStartTime()));
+        dto.setEndTime(parseTime(request.getEndTime()));
+        return dto;
+    }
+    
+    static Floor toProto(FloorResponse floor) {
+        Floor.Builder builder = Floor.newBuilder()
+                .setId(floor.getId())
+                .setLotId(floor.getLotId() != null ? floor.getLotId() : 0)
+                .setFloorNumber(floor.getFloorNumber())
+                .setFloorName(floor.getFloorName())
+                .setTotalSlots(floor.getTotalSlots() != null ? floor.getTotalSlots() : 0)
+                .setCreatedAt(formatTime(floor.getCreatedAt()))
+                .setUpdatedAt(formatTime(floor.getUpdatedAt()));
+        if (floor.getParkingSlots() != null) {
+            floor.getParkingSlots().forEach(slot -> builder.addParkingSlots(toProto(slot)));
+        }
+        return builder.build();
+    }
+    
+    static ParkingSlot toProto(ParkingSlotResponse slot) {
+        return ParkingSlot.newBuilder()
+                .setId(slot.getId())
+                .setSlotNumber(slot.getSlotNumber())
+                .setFloorId(slot.getFloorId())
+                .setFloorName(slot.getFloorName())
+                .setVehicleType(toProto(slot.getVehicleType()))
+                .setStatus(toProto(slot.getStatus()))
+                .setCreatedAt(formatTime(slot.getCreatedAt()))
+                .setUpdatedAt(formatTime(slot.getUpdatedAt()))
+                .build();
+    }
+    
+    static Reservation toProto(ReservationResponse reservation) {
+        return Reservation.newBuilder()
+                .setId(reservation.getId() != null ? reservation.getId() : 0)
+                .setParkingSlotId(reservation.getParkingSlotId())
+                .setSlotNumber(reservation.getSlotNumber())
+                .setFloorName(reservation.getFloorName())
+                .setVehicleNumber(reservation.getVehicleNumber())
+                .setVehicleType(toProto(reservation.getVehicleType()))
+                .setStartTime(formatTime(reservation.getStartTime()))
+                .setEndTime(formatTime(reservation.getEndTime()))
+                .setTotalCost(reservation.getTotalCost() != null ? reservation.getTotalCost().toPlainString() : "")
+                .setDurationHours(reservation.getDurationHours() != null ? reservation.getDurationHours() : 0)
+                .setStatus(toProto(reservation.getStatus()))
+                .setCreatedAt(formatTime(reservation.getCreatedAt()))
+                .setUpdatedAt(formatTime(reservation.getUpdatedAt()))
+                .build();
+    }
+    
+    // Unspecified maps to null, which bean validation reports like a missing JSON field
+    static VehicleType toModel(com.parkinglot.grpc.proto.VehicleType vehicleType) {
+        return switch (vehicleType) {
+            case TWO_WHEELER -> VehicleType.TWO_WHEELER;
+            case FOUR_WHEELER -> VehicleType.FOUR_WHEELER;
+            default -> null;
+        };
+    }
+    
+    static LocalDateTime parseTime(String time) {
+        return time.isEmpty() ? null : LocalDateTime.parse(time);
+    }
+    
+    private static com.parkinglot.grpc.proto.VehicleType toProto(VehicleType vehicleType) {
+        return com.parkinglot.grpc.proto.VehicleType.valueOf(vehicleType.name());
+    }
+    
+    private static com.parkinglot.grpc.proto.SlotStatus toProto(SlotStatus status) {
+        return com.parkinglot.grpc.proto.SlotStatus.valueOf(status.name());
+    }
+    
+    private static com.parkinglot.grpc.proto.ReservationStatus toProto(ReservationStatus status) {
+        return com.parkinglot.grpc.proto.ReservationStatus.valueOf(status.name());
+    }
+    
+    private static String formatTime(LocalDateTime time) {
+        return time != null ? TIME_FORMAT.format(time) : "";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.parkinglot.journal;
+
+import com.parkinglot.entity.Reservation;
+import com.parkinglot.model.VehicleType;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+@Value
+public class JournalEntry {
+    
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+    
+    long sequence;
+    long parkingSlotId;
+    String vehicleNumber;
+    VehicleType vehicleType;
+    LocalDateTime startTime;
+    LocalDateTime endTime;
+    BigDecimal totalCost;
+    int durationHours;
+    long appendedAtMillis;
+    
+    public static JournalEntry of(long sequence, Reservation reservation) {
+        return new JournalEntry(
+            sequence,
+            reservation.getParkingSlot().getId(),
+            reservation.getVehicleNumber(),
+            reservation.getVehicleType(),
+            reservation.getStartTime(),
+            reservation.getEndTime(),
+            reservation.getTotalCost(),
+            reservation.getDurationHours(),
+            System.currentTimeMillis());
+    }
+    
+    public boolean overlaps(long slotId, LocalDateTime start, LocalDateTime end) {
+        // Same inclusive overlap rule as ReservationRepository.hasConflictingReservation
+        return parkingSlotId == slotId && !startTime.isAfter(end) && !endTime.isBefore(start);
+    }
+    
+    int encodedSize() {
+        byte[] cost = totalCost.unscaledValue().toByteArray();
+        return 8 + 8 + 2 + vehicleNumber.getBytes(StandardCharsets.UTF_8).length + 1
+                + 12 + 12 + 4 + 1 + cost.length + 4 + 8;
+    }
+    
+    void encode(ByteBuffer buffer) {
+        byte[] plate = vehicleNumber.getBytes(StandardCharsets.UTF_8);
+        byte[] cost = totalCost.unscaledValue().toByteArray();
+        buffer.putLong(sequence);
+        buffer.putLong(parkingSlotId);
+        buffer.putShort((short) plate.length);
+        buffer.put(plate);
+        buffer.put((byte) vehicleType.ordinal());
+        putTime(buffer, startTime);
+        putTime(buffer, endTime);
+        buffer.putInt(totalCost.scale());
+        buffer.put((byte) cost.length);
+        buffer.put(cost);
+        buffer.putInt(durationHours);
+        buffer.putLong(appendedAtMillis);
+    }
+    
+    static JournalEntry decode(ByteBuffer buffer) {
+        long sequence = buffer.getLong();
+        long slotId = buffer.getLong();
+        byte[] plate = new byte[buffer.getShort()];
+        buffer.get(plate);
+        VehicleType vehicleType = VEHICLE_TYPES[buffer.get()];
+        LocalDateTime start = getTime(buffer);
+        LocalDateTime end = getTime(buffer);
+        int scale = buffer.getInt();
+        byte[] cost = new byte[buffer.get()];
+        buffer.get(cost);
+        int durationHours = buffer.getInt();
+        long appendedAt = buffer.getLong();
+        return new JournalEntry(sequence, slotId, new String(plate, StandardCharsets.UTF_8), vehicleType,
+                start, end, new BigDecimal(new BigInteger(cost), scale), durationHours, appendedAt);
+    }
+    
+    private static void putTime(ByteBuffer buffer, LocalDateTime time) {
+        buffer.putLong(time.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(time.getNano());
+    }
+    
+    private static LocalDateTime getTime(ByteBuffer buffer) {
+        long seconds = buffer.getLong();
+        return LocalDateTime.ofEpochSecond(seconds, buffer.getInt(), ZoneOffset.UTC);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.parkinglot.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+// One memory-mapped journal file. Records are laid out as [length][crc32c][payload] and every
+// append writes a zero length after the record, so a scan stops at the first unwritten slot.
+class JournalSegment implements Closeable {
+    
+    static final String FILE_PREFIX = "reservations-";
+    static final String FILE_SUFFIX = ".journal";
+    
+    private static final int RECORD_HEADER_SIZE = 8;
+    
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int position;
+    private int syncedPosition;
+    private long lastSequence;
+    
+    private JournalSegment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+    
+    static JournalSegment create(Path directory, long firstSequence, int size) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", FILE_PREFIX, firstSequence, FILE_SUFFIX));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return new JournalSegment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+    
+    static JournalSegment open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        JournalSegment segment = new JournalSegment(path, channel,
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        segment.scan(new ArrayList<>());
+        return segment;
+    }
+    
+    static boolean isSegmentFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+    }
+    
+    boolean hasRoom(JournalEntry entry) {
+        return position + RECORD_HEADER_SIZE + entry.encodedSize() + Integer.BYTES <= buffer.capacity();
+    }
+    
+    void append(JournalEntry entry) {
+        int length = entry.encodedSize();
+        ByteBuffer record = buffer.duplicate();
+        record.position(position + RECORD_HEADER_SIZE);
+        entry.encode(record);
+        
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().position(position + RECORD_HEADER_SIZE).limit(record.position()));
+        
+        buffer.putInt(position + RECORD_HEADER_SIZE + length, 0);
+        buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+        // Length goes last so a torn write is never mistaken for a complete record
+        buffer.putInt(position, length);
+        
+        position += RECORD_HEADER_SIZE + length;
+        lastSequence = entry.getSequence();
+    }
+    
+    // Byte range written since the previous call, as {offset, length}
+    int[] takeUnsyncedRange() {
+        int[] range = {syncedPosition, position - syncedPosition};
+        syncedPosition = position;
+        return range;
+    }
+    
+    void force(int offset, int length) {
+        if (length > 0) {
+            buffer.force(offset, length);
+        }
+    }
+    
+    List<JournalEntry> readAll() {
+        List<JournalEntry> entries = new ArrayList<>();
+        scan(entries);
+        return entries;
+    }
+    
+    private void scan(List<JournalEntry> entries) {
+        int offset = 0;
+        long previous = 0;
+        while (offset + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || offset + RECORD_HEADER_SIZE + length > buffer.capacity()) {
+                break;
+            }
+            ByteBuffer payload = buffer.duplicate().position(offset + RECORD_HEADER_SIZE)
+                    .limit(offset + RECORD_HEADER_SIZE + length);
+            CRC32C crc = new CRC32C();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+                break;
+            }
+            JournalEntry entry = JournalEntry.decode(payload);
+            if (entry.getSequence() <= previous) {
+                break;
+            }
+            entries.add(entry);
+            previous = entry.getSequence();
+            offset += RECORD_HEADER_SIZE + length;
+        }
+        position = offset;
+        syncedPosition = offset;
+        lastSequence = previous;
+    }
+    
+    long getLastSequence() {
+        return lastSequence;
+    }
+    
+    Path getPath() {
+        return path;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
\ No newline at end of file
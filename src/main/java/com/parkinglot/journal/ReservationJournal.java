@@ -0,0 +1,433 @@
+package com.parkinglot.journal;
+
+import com.parkinglot.config.JournalProperties;
+import com.parkinglot.entity.Reservation;
+import com.parkinglot.event.ReservationChangedEvent;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.model.ReservationChangeType;
+import com.parkinglot.repository.ParkingSlotRepository;
+import com.parkinglot.repository.ReservationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+@Slf4j
+public class ReservationJournal implements SmartLifecycle {
+    
+    private static final int SLOT_LOCK_STRIPES = 64;
+    
+    private final JournalProperties properties;
+    private final ReservationRepository reservationRepository;
+    private final ParkingSlotRepository parkingSlotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    private final Object[] slotLocks = new Object[SLOT_LOCK_STRIPES];
+    private final Object appendLock = new Object();
+    private final Object durabilityMonitor = new Object();
+    private final ConcurrentSkipListMap<Long, JournalEntry> unpersisted = new ConcurrentSkipListMap<>();
+    // The same entries by slot, so a booking's conflict check only looks at its own slot's
+    private final ConcurrentHashMap<Long, ConcurrentSkipListMap<Long, JournalEntry>> unpersistedBySlot =
+            new ConcurrentHashMap<>();
+    private final ConcurrentLinkedDeque<JournalSegment> segments = new ConcurrentLinkedDeque<>();
+    
+    private JournalSegment activeSegment;
+    private long nextSequence;
+    private volatile long appendedSequence;
+    private volatile long durableSequence;
+    private volatile boolean running;
+    private ScheduledExecutorService executor;
+    private Counter persistFailures;
+    
+    public ReservationJournal(JournalProperties properties,
+                              ReservationRepository reservationRepository,
+                              ParkingSlotRepository parkingSlotRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              ApplicationEventPublisher eventPublisher) {
+        this.properties = properties;
+        this.reservationRepository = reservationRepository;
+        this.parkingSlotRepository = parkingSlotRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        for (int i = 0; i < SLOT_LOCK_STRIPES; i++) {
+            slotLocks[i] = new Object();
+        }
+    }
+    
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+    
+    public Reservation append(Reservation reservation) {
+        Long slotId = reservation.getParkingSlot().getId();
+        JournalEntry entry;
+        
+        synchronized (slotLocks[(int) Math.floorMod(slotId, (long) SLOT_LOCK_STRIPES)]) {
+            // Unpersisted entries are checked first: an entry missing here has already been committed,
+            // so the database check that follows is guaranteed to see it
+            if (hasUnpersistedConflict(slotId, reservation.getStartTime(), reservation.getEndTime())
+                    || reservationRepository.hasConflictingReservation(
+                            slotId, reservation.getStartTime(), reservation.getEndTime())) {
+                throw new BusinessRuleViolationException("Slot is already reserved for the specified time range");
+            }
+            entry = write(reservation);
+        }
+        
+        awaitDurable(entry.getSequence());
+        reservation.setJournalSequence(entry.getSequence());
+        return reservation;
+    }
+    
+    private boolean hasUnpersistedConflict(long slotId, LocalDateTime startTime, LocalDateTime endTime) {
+        ConcurrentSkipListMap<Long, JournalEntry> slotEntries = unpersistedBySlot.get(slotId);
+        if (slotEntries == null) {
+            return false;
+        }
+        for (JournalEntry entry : slotEntries.values()) {
+            if (entry.overlaps(slotId, startTime, endTime)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // The acknowledged booking while it is not yet in the table, without an ID
+    public Optional<Reservation> findUnpersisted(long sequence) {
+        return Optional.ofNullable(unpersisted.get(sequence)).map(this::toReservation);
+    }
+    
+    private JournalEntry write(Reservation reservation) {
+        synchronized (appendLock) {
+            if (!running) {
+                throw new IllegalStateException("Reservation journal is not running");
+            }
+            JournalEntry entry = JournalEntry.of(nextSequence, reservation);
+            try {
+                if (!activeSegment.hasRoom(entry)) {
+                    rollSegment(entry.getSequence());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to roll reservation journal segment", e);
+            }
+            activeSegment.append(entry);
+            addUnpersisted(entry);
+            nextSequence++;
+            appendedSequence = entry.getSequence();
+            return entry;
+        }
+    }
+    
+    private void rollSegment(long firstSequence) throws IOException {
+        int[] range = activeSegment.takeUnsyncedRange();
+        activeSegment.force(range[0], range[1]);
+        activeSegment.close();
+        activeSegment = JournalSegment.create(directory(), firstSequence, properties.getSegmentSize());
+        segments.addLast(activeSegment);
+    }
+    
+    private void awaitDurable(long sequence) {
+        synchronized (durabilityMonitor) {
+            while (durableSequence < sequence) {
+                if (!running) {
+                    throw new IllegalStateException("Reservation journal stopped before entry " + sequence + " was synced");
+                }
+                try {
+                    durabilityMonitor.wait(Math.max(1, properties.getSyncInterval().toMillis()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for journal sync", e);
+                }
+            }
+        }
+    }
+    
+    void sync() {
+        JournalSegment segment;
+        long target;
+        int[] range;
+        synchronized (appendLock) {
+            target = appendedSequence;
+            if (target <= durableSequence) {
+                return;
+            }
+            segment = activeSegment;
+            range = segment.takeUnsyncedRange();
+        }
+        // One fsync covers every entry appended since the previous sync (group commit)
+        segment.force(range[0], range[1]);
+        synchronized (durabilityMonitor) {
+            durableSequence = target;
+            durabilityMonitor.notifyAll();
+        }
+    }
+    
+    void persistPending() {
+        while (true) {
+            List<JournalEntry> batch = unpersisted.headMap(durableSequence, true).values().stream()
+                    .limit(properties.getPersistBatchSize())
+                    .collect(Collectors.toList());
+            if (batch.isEmpty() || !persistBatch(batch)) {
+                break;
+            }
+        }
+        deletePersistedSegments();
+    }
+    
+    private boolean persistBatch(List<JournalEntry> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Reservation> reservations = batch.stream().map(this::toReservation).collect(Collectors.toList());
+                reservationRepository.saveAll(reservations);
+                reservations.forEach(this::publishCreated);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Journal batch of {} entries rejected, persisting individually: {}", batch.size(), e.getMessage());
+            batch.forEach(this::persistSingle);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Journal batch persistence failed, will retry: {}", e.getMessage());
+            return false;
+        }
+        batch.forEach(this::removeUnpersisted);
+        log.debug("Persisted {} journal entries up to sequence {}", batch.size(), batch.get(batch.size() - 1).getSequence());
+        return true;
+    }
+    
+    private void persistSingle(JournalEntry entry) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Reservation reservation = toReservation(entry);
+                reservationRepository.save(reservation);
+                publishCreated(reservation);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.error("Dropping journal entry {} that can no longer be persisted: {}", entry.getSequence(), e.getMessage());
+            persistFailures.increment();
+        }
+        removeUnpersisted(entry);
+    }
+    
+    private void addUnpersisted(JournalEntry entry) {
+        unpersisted.put(entry.getSequence(), entry);
+        // compute is atomic per slot, so a concurrent removal cannot drop the map this entry goes into
+        unpersistedBySlot.compute(entry.getParkingSlotId(), (slotId, entries) -> {
+            if (entries == null) {
+                entries = new ConcurrentSkipListMap<>();
+            }
+            entries.put(entry.getSequence(), entry);
+            return entries;
+        });
+    }
+    
+    private void removeUnpersisted(JournalEntry entry) {
+        unpersistedBySlot.computeIfPresent(entry.getParkingSlotId(), (slotId, entries) -> {
+            entries.remove(entry.getSequence());
+            return entries.isEmpty() ? null : entries;
+        });
+        unpersisted.remove(entry.getSequence());
+    }
+    
+    private void publishCreated(Reservation reservation) {
+        // Only now does the reservation have an ID and become visible to other readers
+        eventPublisher.publishEvent(ReservationChangedEvent.of(reservation, ReservationChangeType.CREATED));
+    }
+    
+    private Reservation toReservation(JournalEntry entry) {
+        Reservation reservation = new Reservation(
+            parkingSlotRepository.getReferenceById(entry.getParkingSlotId()),
+            entry.getVehicleNumber(), entry.getVehicleType(), entry.getStartTime(), entry.getEndTime());
+        reservation.setTotalCost(entry.getTotalCost());
+        reservation.setDurationHours(entry.getDurationHours());
+        reservation.setJournalSequence(entry.getSequence());
+        return reservation;
+    }
+    
+    private void deletePersistedSegments() {
+        long firstUnpersisted = unpersisted.isEmpty() ? Long.MAX_VALUE : unpersisted.firstKey();
+        Iterator<JournalSegment> iterator = segments.iterator();
+        while (iterator.hasNext()) {
+            JournalSegment segment = iterator.next();
+            if (segment == activeSegment || segment.getLastSequence() >= firstUnpersisted) {
+                break;
+            }
+            try {
+                segment.close();
+                Files.deleteIfExists(segment.getPath());
+                iterator.remove();
+            } catch (IOException e) {
+                log.warn("Failed to delete journal segment {}: {}", segment.getPath(), e.getMessage());
+                break;
+            }
+        }
+    }
+    
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover reservation journal", e);
+        }
+        running = true;
+        
+        Gauge.builder("parkinglot.journal.persistence.lag", unpersisted, Map::size)
+                .description("Journal entries acknowledged but not yet persisted")
+                .register(meterRegistry);
+        Gauge.builder("parkinglot.journal.persistence.lag.seconds", this, journal -> journal.oldestUnpersistedAgeSeconds())
+                .description("Age of the oldest unpersisted journal entry")
+                .register(meterRegistry);
+        persistFailures = Counter.builder("parkinglot.journal.persist.failures")
+                .description("Journal entries dropped because they violated database constraints")
+                .register(meterRegistry);
+        
+        if (!unpersisted.isEmpty()) {
+            log.info("Replaying {} unpersisted journal entries", unpersisted.size());
+            persistPending();
+        }
+        
+        executor = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "reservation-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long syncMicros = properties.getSyncInterval().toNanos() / 1000;
+        long persistMillis = properties.getPersistInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::syncSafely, syncMicros, syncMicros, TimeUnit.MICROSECONDS);
+        executor.scheduleWithFixedDelay(this::persistSafely, persistMillis, persistMillis, TimeUnit.MILLISECONDS);
+        log.info("Reservation journal started at {} with next sequence {}", directory().toAbsolutePath(), nextSequence);
+    }
+    
+    private void recover() throws IOException {
+        Path directory = directory();
+        Files.createDirectories(directory);
+        long persistedSequence = reservationRepository.findMaxJournalSequence().orElse(0L);
+        long lastSequence = persistedSequence;
+        
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files.filter(JournalSegment::isSegmentFile).sorted().collect(Collectors.toList());
+        }
+        for (Path path : paths) {
+            JournalSegment segment = JournalSegment.open(path);
+            List<JournalEntry> replay = new ArrayList<>();
+            for (JournalEntry entry : segment.readAll()) {
+                if (entry.getSequence() > persistedSequence) {
+                    replay.add(entry);
+                }
+                lastSequence = Math.max(lastSequence, entry.getSequence());
+            }
+            if (replay.isEmpty()) {
+                segment.close();
+                Files.delete(path);
+            } else {
+                replay.forEach(this::addUnpersisted);
+                segments.addLast(segment);
+            }
+        }
+        
+        nextSequence = lastSequence + 1;
+        appendedSequence = lastSequence;
+        durableSequence = lastSequence;
+        activeSegment = JournalSegment.create(directory, nextSequence, properties.getSegmentSize());
+        segments.addLast(activeSegment);
+    }
+    
+    private double oldestUnpersistedAgeSeconds() {
+        Map.Entry<Long, JournalEntry> oldest = unpersisted.firstEntry();
+        return oldest == null ? 0 : (System.currentTimeMillis() - oldest.getValue().getAppendedAtMillis()) / 1000.0;
+    }
+    
+    private void syncSafely() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.error("Reservation journal sync failed", e);
+        }
+    }
+    
+    private void persistSafely() {
+        try {
+            persistPending();
+        } catch (RuntimeException e) {
+            log.error("Reservation journal persistence failed", e);
+        }
+    }
+    
+    private Path directory() {
+        return Paths.get(properties.getDirectory());
+    }
+    
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sync();
+        persistPending();
+        running = false;
+        synchronized (durabilityMonitor) {
+            durabilityMonitor.notifyAll();
+        }
+        for (JournalSegment segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.warn("Failed to close journal segment {}: {}", segment.getPath(), e.getMessage());
+            }
+        }
+        segments.clear();
+        log.info("Reservation journal stopped with {} unpersisted entries", unpersisted.size());
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    @Override
+    public int getPhase() {
+        // Below the web server's phase (DEFAULT_PHASE - 2048), so the journal starts and replays
+        // before requests are accepted and stops only after the server has drained them
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.parkinglot.model;
+
+public enum LedgerEntryType {
+    BOOKING,
+    CANCELLATION,
+    ADJUSTMENT
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.parkinglot.model;
+
+public enum OccupancyChangeType {
+    CHECK_IN,
+    CHECK_OUT
+}
\ No newline at end of file
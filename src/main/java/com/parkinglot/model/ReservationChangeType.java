@@ -0,0 +1,8 @@
+package com.parkinglot.model;
+
+public enum ReservationChangeType {
+    CREATED,
+    CANCELLED,
+    COMPLETED,
+    RESCHEDULED
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.parkinglot.model;
+
+public enum UtilizationGrouping {
+    FLOOR,
+    SLOT,
+    VEHICLE_TYPE,
+    HOUR,
+    HOUR_OF_DAY
+}
\ No newline at end of file
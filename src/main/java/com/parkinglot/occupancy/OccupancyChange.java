@@ -0,0 +1,13 @@
+package com.parkinglot.occupancy;
+
+import com.parkinglot.model.OccupancyChangeType;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+class OccupancyChange {
+    long reservationId;
+    OccupancyChangeType changeType;
+    LocalDateTime time;
+}
\ No newline at end of file
@@ -0,0 +1,320 @@
+package com.parkinglot.occupancy;
+
+import com.parkinglot.config.OccupancyProperties;
+import com.parkinglot.entity.ParkingSlot;
+import com.parkinglot.entity.Reservation;
+import com.parkinglot.event.ParkingSlotChangedEvent;
+import com.parkinglot.event.ReservationChangedEvent;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.model.OccupancyChangeType;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.repository.ReservationRepository;
+import com.parkinglot.shard.ShardContext;
+import com.parkinglot.shard.ShardIds;
+import com.parkinglot.shard.ShardRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Authoritative occupancy of the lot. Gate requests only touch memory under a per-slot stripe lock;
+// a single writer thread drains the resulting changes in batches, so concurrent check-ins never
+// wait on each other's row locks.
+@Component
+@Slf4j
+public class OccupancyTracker implements SmartLifecycle {
+    
+    private static final int SLOT_LOCK_STRIPES = 64;
+    
+    private final OccupancyProperties properties;
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    private final ConcurrentHashMap<Long, Visit> visitsBySlot = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Visit> visitsByReservation = new ConcurrentHashMap<>();
+    // Checked out, but still ACTIVE in the database until the writer persists the check-out
+    private final Set<Long> checkedOut = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedDeque<OccupancyChange> pending = new ConcurrentLinkedDeque<>();
+    private final Object[] slotLocks = new Object[SLOT_LOCK_STRIPES];
+    private final Object flushLock = new Object();
+    private volatile boolean running;
+    private ScheduledExecutorService executor;
+    private Counter persistFailures;
+    
+    public OccupancyTracker(OccupancyProperties properties,
+                            ReservationRepository reservationRepository,
+                            PlatformTransactionManager transactionManager,
+                            ShardRouter shardRouter,
+                            MeterRegistry meterRegistry,
+                            ApplicationEventPublisher eventPublisher) {
+        this.properties = properties;
+        this.reservationRepository = reservationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardRouter = shardRouter;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        for (int i = 0; i < SLOT_LOCK_STRIPES; i++) {
+            slotLocks[i] = new Object();
+        }
+    }
+    
+    public Visit checkIn(long reservationId, long slotId, String vehicleNumber, LocalDateTime time) {
+        synchronized (lockFor(slotId)) {
+            if (visitsByReservation.containsKey(reservationId)) {
+                throw new BusinessRuleViolationException("Reservation " + reservationId + " is already checked in");
+            }
+            if (checkedOut.contains(reservationId)) {
+                throw new BusinessRuleViolationException("Reservation " + reservationId + " is already checked out");
+            }
+            Visit occupant = visitsBySlot.get(slotId);
+            if (occupant != null) {
+                throw new BusinessRuleViolationException(
+                    "Slot is still occupied by reservation " + occupant.getReservationId());
+            }
+            Visit visit = new Visit(reservationId, slotId, vehicleNumber, time);
+            visitsBySlot.put(slotId, visit);
+            visitsByReservation.put(reservationId, visit);
+            pending.add(new OccupancyChange(reservationId, OccupancyChangeType.CHECK_IN, time));
+            return visit;
+        }
+    }
+    
+    public Visit checkOut(long reservationId, LocalDateTime time) {
+        Visit visit = visitsByReservation.get(reservationId);
+        if (visit != null) {
+            synchronized (lockFor(visit.getParkingSlotId())) {
+                if (visitsByReservation.remove(reservationId, visit)) {
+                    visitsBySlot.remove(visit.getParkingSlotId(), visit);
+                    checkedOut.add(reservationId);
+                    pending.add(new OccupancyChange(reservationId, OccupancyChangeType.CHECK_OUT, time));
+                    return visit;
+                }
+            }
+        }
+        throw new BusinessRuleViolationException("Reservation " + reservationId + " is not checked in");
+    }
+    
+    public boolean isCheckedIn(long reservationId) {
+        return visitsByReservation.containsKey(reservationId);
+    }
+    
+    public boolean isCheckedOut(long reservationId) {
+        return checkedOut.contains(reservationId);
+    }
+    
+    public Optional<Visit> getVisitBySlot(long slotId) {
+        return Optional.ofNullable(visitsBySlot.get(slotId));
+    }
+    
+    public int getOccupiedCount() {
+        return visitsBySlot.size();
+    }
+    
+    public int getPendingCount() {
+        return pending.size();
+    }
+    
+    // Called by the writer thread and on shutdown; the lock keeps batches in queue order
+    public void flushPending() {
+        synchronized (flushLock) {
+            while (!pending.isEmpty()) {
+                List<OccupancyChange> batch = new ArrayList<>(properties.getFlushBatchSize());
+                OccupancyChange change;
+                while (batch.size() < properties.getFlushBatchSize() && (change = pending.poll()) != null) {
+                    batch.add(change);
+                }
+                List<OccupancyChange> failed = persistBatch(batch);
+                if (!failed.isEmpty()) {
+                    // Back to the head of the queue, in order, for the next attempt
+                    for (int i = failed.size() - 1; i >= 0; i--) {
+                        pending.addFirst(failed.get(i));
+                    }
+                    break;
+                }
+            }
+        }
+    }
+    
+    // Each shard commits its share of the batch on its own; only the shares that failed are returned
+    private List<OccupancyChange> persistBatch(List<OccupancyChange> batch) {
+        List<OccupancyChange> failed = new ArrayList<>();
+        ShardIds.groupByShard(batch, OccupancyChange::getReservationId).forEach((shard, changes) -> {
+            if (!ShardContext.callOn(shard, () -> persistShardBatch(changes))) {
+                failed.addAll(changes);
+            }
+        });
+        return failed;
+    }
+    
+    private boolean persistShardBatch(List<OccupancyChange> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(batch));
+            batch.forEach(this::settle);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Occupancy batch of {} changes rejected, persisting individually: {}", batch.size(), e.getMessage());
+            batch.forEach(this::persistSingle);
+        } catch (RuntimeException e) {
+            log.warn("Occupancy batch persistence failed, will retry: {}", e.getMessage());
+            return false;
+        }
+        log.debug("Persisted {} occupancy changes", batch.size());
+        return true;
+    }
+    
+    private void persistSingle(OccupancyChange change) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(List.of(change)));
+        } catch (DataIntegrityViolationException e) {
+            log.error("Dropping {} of reservation {} that can no longer be persisted: {}",
+                    change.getChangeType(), change.getReservationId(), e.getMessage());
+            persistFailures.increment();
+        }
+        settle(change);
+    }
+    
+    // Once its check-out is committed (or dropped), the database answers for the reservation again
+    private void settle(OccupancyChange change) {
+        if (change.getChangeType() == OccupancyChangeType.CHECK_OUT) {
+            checkedOut.remove(change.getReservationId());
+        }
+    }
+    
+    private void apply(List<OccupancyChange> batch) {
+        Map<Long, Reservation> reservations = reservationRepository.findAllWithSlotByIdIn(
+                        batch.stream().map(OccupancyChange::getReservationId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+        Map<Long, ParkingSlot> changedSlots = new LinkedHashMap<>();
+        List<Reservation> completed = new ArrayList<>();
+        
+        for (OccupancyChange change : batch) {
+            Reservation reservation = reservations.get(change.getReservationId());
+            if (reservation == null || reservation.getStatus() != ReservationStatus.ACTIVE) {
+                // Cancelled between the gate and the flush; the vehicle is no longer tracked
+                log.warn("Skipping {} of reservation {} that is no longer active",
+                        change.getChangeType(), change.getReservationId());
+                discard(change.getReservationId());
+                continue;
+            }
+            ParkingSlot slot = reservation.getParkingSlot();
+            if (change.getChangeType() == OccupancyChangeType.CHECK_IN) {
+                reservation.setCheckedInAt(change.getTime());
+                slot.setStatus(SlotStatus.OCCUPIED);
+            } else {
+                reservation.setCheckedOutAt(change.getTime());
+                reservation.setStatus(ReservationStatus.COMPLETED);
+                slot.setStatus(SlotStatus.AVAILABLE);
+                completed.add(reservation);
+            }
+            changedSlots.put(slot.getId(), slot);
+        }
+        
+        changedSlots.values().forEach(slot -> eventPublisher.publishEvent(ParkingSlotChangedEvent.of(slot)));
+        completed.forEach(reservation -> eventPublisher.publishEvent(ReservationChangedEvent.completed(reservation)));
+    }
+    
+    private void discard(long reservationId) {
+        Visit visit = visitsByReservation.remove(reservationId);
+        if (visit != null) {
+            visitsBySlot.remove(visit.getParkingSlotId(), visit);
+        }
+    }
+    
+    private void flushSafely() {
+        try {
+            flushPending();
+        } catch (RuntimeException e) {
+            log.error("Occupancy flush failed", e);
+        }
+    }
+    
+    private Object lockFor(long slotId) {
+        return slotLocks[(int) Math.floorMod(slotId, (long) SLOT_LOCK_STRIPES)];
+    }
+    
+    @Override
+    public void start() {
+        List<Visit> checkedIn = shardRouter.scatterGather(shard -> reservationRepository.findCheckedIn()
+                .stream()
+                .map(reservation -> new Visit(reservation.getId(), reservation.getParkingSlot().getId(),
+                        reservation.getVehicleNumber(), reservation.getCheckedInAt()))
+                .toList());
+        for (Visit visit : checkedIn) {
+            visitsBySlot.put(visit.getParkingSlotId(), visit);
+            visitsByReservation.put(visit.getReservationId(), visit);
+        }
+        
+        Gauge.builder("parkinglot.occupancy.occupied", visitsBySlot, Map::size)
+                .description("Slots with a checked-in vehicle")
+                .register(meterRegistry);
+        Gauge.builder("parkinglot.occupancy.pending", pending, ConcurrentLinkedDeque::size)
+                .description("Check-ins and check-outs not yet persisted")
+                .register(meterRegistry);
+        persistFailures = Counter.builder("parkinglot.occupancy.persist.failures")
+                .description("Occupancy changes dropped because they violated database constraints")
+                .register(meterRegistry);
+        
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "occupancy-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long flushMillis = properties.getFlushInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::flushSafely, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        running = true;
+        log.info("Occupancy tracker started with {} checked-in vehicles", checkedIn.size());
+    }
+    
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushPending();
+        running = false;
+        log.info("Occupancy tracker stopped with {} unpersisted changes", pending.size());
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    @Override
+    public int getPhase() {
+        // Same phase as the reservation journal, below the web server's (DEFAULT_PHASE - 2048): started
+        // before the server takes requests and flushed only after it has stopped
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.parkinglot.occupancy;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+// A vehicle physically parked in its reserved slot
+@Value
+public class Visit {
+    long reservationId;
+    long parkingSlotId;
+    String vehicleNumber;
+    LocalDateTime checkedInAt;
+}
\ No newline at end of file
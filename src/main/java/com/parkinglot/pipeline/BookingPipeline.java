@@ -0,0 +1,295 @@
+package com.parkinglot.pipeline;
+
+import com.parkinglot.config.BookingPipelineProperties;
+import com.parkinglot.dto.ReservationCreateRequest;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.journal.ReservationJournal;
+import com.parkinglot.service.ReservationRules;
+import com.parkinglot.service.ReservationService;
+import com.parkinglot.state.BookingStateIndex;
+import com.parkinglot.state.SlotState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Optional booking path that takes the database off the contended part of a booking. Requests are
+// queued per floor and a single writer thread per floor checks them against the in-memory booking
+// state, then inserts everything it accepted in one transaction. While a batch commits the next
+// one accumulates in the ring, so batches grow with load instead of waiting on a timer.
+@Component
+@Slf4j
+public class BookingPipeline implements SmartLifecycle {
+    
+    private final BookingPipelineProperties properties;
+    private final ReservationService reservationService;
+    private final ReservationJournal reservationJournal;
+    private final BookingStateIndex bookingStateIndex;
+    private final MeterRegistry meterRegistry;
+    
+    private final ConcurrentHashMap<Long, FloorWriter> writers = new ConcurrentHashMap<>();
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private DistributionSummary batchSizes;
+    private Counter overflows;
+    private Counter fallbacks;
+    
+    public BookingPipeline(BookingPipelineProperties properties,
+                           ReservationService reservationService,
+                           ReservationJournal reservationJournal,
+                           BookingStateIndex bookingStateIndex,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.reservationService = reservationService;
+        this.reservationJournal = reservationJournal;
+        this.bookingStateIndex = bookingStateIndex;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+    
+    // Completes once the booking is committed, or with the same exceptions the synchronous path throws
+    public CompletableFuture<ReservationResponse> submit(ReservationCreateRequest request) {
+        PendingBooking booking = new PendingBooking(request);
+        FloorWriter writer = enqueue(booking);
+        if (writer == null) {
+            return createSynchronously(request);
+        }
+        LockSupport.unpark(writer.thread);
+        return booking.result;
+    }
+    
+    // Offers happen under the read lock, so once stop() holds the write lock no booking can enter a
+    // ring that is no longer drained. Returns null when the booking has to be made synchronously.
+    private FloorWriter enqueue(PendingBooking booking) {
+        lifecycleLock.readLock().lock();
+        try {
+            Optional<SlotState> slot = running && bookingStateIndex.isCurrent()
+                    ? bookingStateIndex.getSlot(booking.request.getParkingSlotId())
+                    : Optional.empty();
+            if (slot.isEmpty()) {
+                // Disabled, stopped, still loading, or an unknown slot that the synchronous path reports properly
+                return null;
+            }
+            FloorWriter writer = writers.computeIfAbsent(slot.get().getFloorId(), this::startWriter);
+            if (!writer.ring.offer(booking)) {
+                overflows.increment();
+                return null;
+            }
+            return writer;
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+    }
+    
+    private CompletableFuture<ReservationResponse> createSynchronously(ReservationCreateRequest request) {
+        try {
+            return CompletableFuture.completedFuture(reservationService.createReservation(request));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    private FloorWriter startWriter(long floorId) {
+        FloorWriter writer = new FloorWriter(floorId, new BookingRing<>(properties.getRingSize()));
+        writer.thread = new Thread(writer::run, "booking-writer-floor-" + floorId);
+        writer.thread.setDaemon(true);
+        writer.thread.start();
+        log.debug("Started booking writer for floor {}", floorId);
+        return writer;
+    }
+    
+    // Writer thread only
+    void process(List<PendingBooking> batch) {
+        List<PendingBooking> accepted = new ArrayList<>(batch.size());
+        Map<Long, List<long[]>> claimed = new HashMap<>();
+        for (PendingBooking booking : batch) {
+            try {
+                claim(booking.request, claimed);
+                accepted.add(booking);
+            } catch (RuntimeException e) {
+                booking.result.completeExceptionally(e);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+        
+        batchSizes.record(accepted.size());
+        List<ReservationResponse> responses;
+        try {
+            responses = reservationService.createReservations(
+                    accepted.stream().map(booking -> booking.request).toList());
+        } catch (RuntimeException e) {
+            // Usually a booking made outside the pipeline on one of the slots; each booking is retried
+            // on the synchronous path, which checks the database and retries its own conflicts
+            log.debug("Booking batch of {} failed, booking individually: {}", accepted.size(), e.getMessage());
+            fallbacks.increment();
+            accepted.forEach(booking -> createSynchronously(booking.request).whenComplete((response, failure) -> {
+                if (failure != null) {
+                    booking.result.completeExceptionally(failure);
+                } else {
+                    booking.result.complete(response);
+                }
+            }));
+            return;
+        }
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).result.complete(responses.get(i));
+        }
+    }
+    
+    // Same checks and messages as ReservationService.createReservation, made against the in-memory
+    // state plus the bookings already accepted into this batch
+    private void claim(ReservationCreateRequest request, Map<Long, List<long[]>> claimed) {
+        ReservationRules.validateTimes(request.getStartTime(), request.getEndTime());
+        SlotState slot = bookingStateIndex.getSlot(request.getParkingSlotId()).orElseThrow();
+        long start = BookingStateIndex.toEpochSecond(request.getStartTime());
+        long end = BookingStateIndex.toEpochSecond(request.getEndTime());
+        
+        List<long[]> batchBookings = claimed.computeIfAbsent(slot.getSlotId(), id -> new ArrayList<>());
+        if (!slot.isFree(start, end) || overlapsAny(batchBookings, start, end)) {
+            throw new BusinessRuleViolationException("Slot is already reserved for the specified time range");
+        }
+        if (!slot.getVehicleType().equals(request.getVehicleType())) {
+            throw new BusinessRuleViolationException(
+                "Vehicle type " + request.getVehicleType() + " does not match slot type " + slot.getVehicleType());
+        }
+        batchBookings.add(new long[]{start, end});
+    }
+    
+    private static boolean overlapsAny(List<long[]> bookings, long start, long end) {
+        for (long[] booking : bookings) {
+            // Inclusive, like SlotState.isFree
+            if (booking[0] <= end && booking[1] >= start) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (reservationJournal.isEnabled()) {
+            throw new IllegalStateException("The booking pipeline cannot be combined with the reservation journal");
+        }
+        batchSizes = DistributionSummary.builder("parkinglot.pipeline.batch.size")
+                .description("Bookings inserted by one group commit")
+                .register(meterRegistry);
+        overflows = Counter.builder("parkinglot.pipeline.overflow")
+                .description("Bookings made synchronously because their floor's ring was full")
+                .register(meterRegistry);
+        fallbacks = Counter.builder("parkinglot.pipeline.batch.fallbacks")
+                .description("Batches that failed and were booked one by one")
+                .register(meterRegistry);
+        Gauge.builder("parkinglot.pipeline.queued", writers,
+                        all -> all.values().stream().mapToInt(writer -> writer.ring.size()).sum())
+                .description("Bookings waiting for their floor's writer")
+                .register(meterRegistry);
+        running = true;
+        log.info("Booking pipeline started with rings of {} and batches of up to {}",
+                properties.getRingSize(), properties.getMaxBatchSize());
+    }
+    
+    @Override
+    public void stop() {
+        lifecycleLock.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        for (FloorWriter writer : writers.values()) {
+            LockSupport.unpark(writer.thread);
+            try {
+                writer.thread.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // Left behind if the writer did not exit in time
+            List<PendingBooking> leftovers = new ArrayList<>();
+            writer.ring.drainTo(leftovers, Integer.MAX_VALUE);
+            leftovers.forEach(booking -> booking.result.completeExceptionally(
+                    new IllegalStateException("Booking pipeline stopped before the booking was written")));
+        }
+        // Their threads have exited; a restart starts new ones
+        writers.clear();
+        log.info("Booking pipeline stopped");
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    @Override
+    public int getPhase() {
+        // Below the web server's phase (DEFAULT_PHASE - 2048), so the server has drained the requests
+        // waiting on a writer before the pipeline stops; above the journal and the occupancy tracker
+        return SmartLifecycle.DEFAULT_PHASE - 3072;
+    }
+    
+    static final class PendingBooking {
+        
+        final ReservationCreateRequest request;
+        final CompletableFuture<ReservationResponse> result = new CompletableFuture<>();
+        
+        PendingBooking(ReservationCreateRequest request) {
+            this.request = request;
+        }
+    }
+    
+    private final class FloorWriter {
+        
+        private final long floorId;
+        private final BookingRing<PendingBooking> ring;
+        private Thread thread;
+        
+        FloorWriter(long floorId, BookingRing<PendingBooking> ring) {
+            this.floorId = floorId;
+            this.ring = ring;
+        }
+        
+        void run() {
+            List<PendingBooking> batch = new ArrayList<>(properties.getMaxBatchSize());
+            long idleNanos = properties.getIdleWait().toNanos();
+            // Keeps draining after stop so nothing that was queued is left without an answer
+            while (running || ring.size() > 0) {
+                batch.clear();
+                if (ring.drainTo(batch, properties.getMaxBatchSize()) == 0) {
+                    LockSupport.parkNanos(this, idleNanos);
+                    continue;
+                }
+                try {
+                    process(batch);
+                } catch (RuntimeException e) {
+                    log.error("Booking writer for floor {} failed a batch", floorId, e);
+                    batch.forEach(booking -> booking.result.completeExceptionally(e));
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.parkinglot.reactive;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+// r2dbc-h2 runs every statement synchronously on the subscribing thread. Behind the pool, a released
+// connection is handed to the next waiting request on the releasing thread, so one Netty event loop
+// ends up running a chain of other requests' queries while its own responses wait. Continuing on a
+// separate scheduler after each acquisition keeps the blocking work off the event loops.
+class BlockingDriverConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory> {
+    
+    private final ConnectionFactory delegate;
+    private final Scheduler scheduler;
+    
+    BlockingDriverConnectionFactory(ConnectionFactory delegate, Scheduler scheduler) {
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+    }
+    
+    @Override
+    public Publisher<? extends Connection> create() {
+        return Mono.from(delegate.create()).publishOn(scheduler);
+    }
+    
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+    
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.parkinglot.reactive.controller;
+
+import com.parkinglot.dto.RevenueReportResponse;
+import com.parkinglot.dto.UtilizationResponse;
+import com.parkinglot.model.UtilizationGrouping;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.service.RevenueService;
+import com.parkinglot.service.UtilizationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Rollup and daily revenue queries are a handful of indexed aggregates, so the JPA service is reused off the event loop
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "APIs for parking utilization reporting")
+public class ReactiveAnalyticsController {
+    
+    private final UtilizationService utilizationService;
+    private final RevenueService revenueService;
+    
+    @Operation(summary = "Get slot utilization for a time range, grouped by floor, slot, vehicle type or hour")
+    @GetMapping("/utilization")
+    public Mono<ResponseEntity<UtilizationResponse>> getUtilization(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "FLOOR") UtilizationGrouping groupBy,
+            @RequestParam(required = false) Long floorId,
+            @RequestParam(required = false) VehicleType vehicleType) {
+        
+        return Mono.fromCallable(() -> utilizationService.getUtilization(from, to, groupBy, floorId, vehicleType))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+    
+    @Operation(summary = "Get net revenue per day, floor and vehicle type from the precomputed daily totals")
+    @GetMapping("/revenue")
+    public Mono<ResponseEntity<RevenueReportResponse>> getDailyRevenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long floorId,
+            @RequestParam(required = false) VehicleType vehicleType) {
+        
+        return Mono.fromCallable(() -> revenueService.getDailyRevenue(from, to, floorId, vehicleType))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+}
\ No newline at end of file
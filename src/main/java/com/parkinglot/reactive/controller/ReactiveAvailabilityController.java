@@ -0,0 +1,42 @@
+package com.parkinglot.reactive.controller;
+
+import com.parkinglot.dto.AvailabilityRequest;
+import com.parkinglot.dto.ParkingSlotResponse;
+import com.parkinglot.reactive.service.ReactiveParkingSlotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/availability")
+@RequiredArgsConstructor
+@Tag(name = "Availability Check", description = "APIs for checking parking slot availability")
+public class ReactiveAvailabilityController {
+    
+    private final ReactiveParkingSlotService parkingSlotService;
+    
+    @Operation(summary = "List available slots for a given time range")
+    @PostMapping
+    public Mono<ResponseEntity<Page<ParkingSlotResponse>>> getAvailableSlots(
+            @Valid @RequestBody AvailabilityRequest request,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy) {
+        
+        return parkingSlotService.getAvailableSlots(
+            request.getStartTime(),
+            request.getEndTime(),
+            request.getVehicleType(),
+            page,
+            size,
+            sortBy
+        ).map(ResponseEntity::ok);
+    }
+}
\ No newline at end of file
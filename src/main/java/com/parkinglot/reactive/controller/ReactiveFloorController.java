@@ -0,0 +1,64 @@
+package com.parkinglot.reactive.controller;
+
+import com.parkinglot.dto.FloorCreateRequest;
+import com.parkinglot.dto.FloorResponse;
+import com.parkinglot.reactive.service.ReactiveFloorService;
+import com.parkinglot.state.ResourceVersions;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/floors")
+@RequiredArgsConstructor
+@Tag(name = "Floor Management", description = "APIs for managing parking floors")
+public class ReactiveFloorController {
+    
+    private final ReactiveFloorService floorService;
+    private final ResourceVersions resourceVersions;
+    
+    @Operation(summary = "Create a new parking floor")
+    @PostMapping
+    public Mono<ResponseEntity<FloorResponse>> createFloor(@Valid @RequestBody FloorCreateRequest request) {
+        return floorService.createFloor(request)
+                .map(response -> new ResponseEntity<>(response, HttpStatus.CREATED));
+    }
+    
+    @Operation(summary = "Get all parking floors")
+    @GetMapping
+    public Mono<ResponseEntity<List<FloorResponse>>> getAllFloors(ServerWebExchange exchange) {
+        String etag = resourceVersions.floorsTag();
+        if (exchange.checkNotModified(etag)) {
+            return Mono.empty();
+        }
+        return floorService.getAllFloors().collectList()
+                .map(floors -> ResponseEntity.ok().eTag(etag).body(floors));
+    }
+    
+    @Operation(summary = "Get floor by ID")
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<FloorResponse>> getFloorById(@PathVariable Long id) {
+        return floorService.getFloorById(id).map(ResponseEntity::ok);
+    }
+    
+    @Operation(summary = "Get floor with all its parking slots")
+    @GetMapping("/{id}/slots")
+    public Mono<ResponseEntity<FloorResponse>> getFloorWithSlots(@PathVariable Long id, ServerWebExchange exchange) {
+        String etag = resourceVersions.floorSlotsTag(id);
+        if (exchange.checkNotModified(etag)) {
+            return Mono.empty();
+        }
+        return floorService.getFloorWithSlots(id)
+                .map(floor -> ResponseEntity.ok().eTag(etag).body(floor));
+    }
+}
\ No newline at end of file
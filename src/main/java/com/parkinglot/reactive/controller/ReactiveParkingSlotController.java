@@ -0,0 +1,65 @@
+package com.parkinglot.reactive.controller;
+
+import com.parkinglot.dto.ParkingSlotCreateRequest;
+import com.parkinglot.dto.ParkingSlotResponse;
+import com.parkinglot.reactive.service.ReactiveParkingSlotService;
+import com.parkinglot.state.ResourceVersions;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/slots")
+@RequiredArgsConstructor
+@Tag(name = "Parking Slot Management", description = "APIs for managing parking slots")
+public class ReactiveParkingSlotController {
+    
+    private final ReactiveParkingSlotService parkingSlotService;
+    private final ResourceVersions resourceVersions;
+    
+    @Operation(summary = "Create a new parking slot")
+    @PostMapping
+    public Mono<ResponseEntity<ParkingSlotResponse>> createParkingSlot(@Valid @RequestBody ParkingSlotCreateRequest request) {
+        return parkingSlotService.createParkingSlot(request)
+                .map(response -> new ResponseEntity<>(response, HttpStatus.CREATED));
+    }
+    
+    @Operation(summary = "Get all parking slots")
+    @GetMapping
+    public Mono<ResponseEntity<List<ParkingSlotResponse>>> getAllParkingSlots(ServerWebExchange exchange) {
+        String etag = resourceVersions.slotsTag();
+        if (exchange.checkNotModified(etag)) {
+            return Mono.empty();
+        }
+        return parkingSlotService.getAllParkingSlots().collectList()
+                .map(slots -> ResponseEntity.ok().eTag(etag).body(slots));
+    }
+    
+    @Operation(summary = "Get parking slot by ID")
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ParkingSlotResponse>> getParkingSlotById(@PathVariable Long id) {
+        return parkingSlotService.getParkingSlotById(id).map(ResponseEntity::ok);
+    }
+    
+    @Operation(summary = "Get all parking slots on a specific floor")
+    @GetMapping("/floor/{floorId}")
+    public Mono<ResponseEntity<List<ParkingSlotResponse>>> getParkingSlotsByFloor(@PathVariable Long floorId,
+                                                                                  ServerWebExchange exchange) {
+        String etag = resourceVersions.floorSlotsTag(floorId);
+        if (exchange.checkNotModified(etag)) {
+            return Mono.empty();
+        }
+        return parkingSlotService.getParkingSlotsByFloor(floorId).collectList()
+                .map(slots -> ResponseEntity.ok().eTag(etag).body(slots));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.parkinglot.reactive.controller;
+
+import com.parkinglot.dto.BulkCancellationRequest;
+import com.parkinglot.dto.BulkCancellationResponse;
+import com.parkinglot.dto.OccupancyResponse;
+import com.parkinglot.dto.ReservationChangePage;
+import com.parkinglot.dto.ReservationCreateRequest;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.dto.ReservationSearchPage;
+import com.parkinglot.dto.ReservationSearchRequest;
+import com.parkinglot.dto.ReservationUpdateRequest;
+import com.parkinglot.feed.ReservationChangeFeed;
+import com.parkinglot.reactive.service.ReactiveReservationService;
+import com.parkinglot.service.BulkCancellationService;
+import com.parkinglot.service.OccupancyService;
+import com.parkinglot.service.ReservationService;
+import com.parkinglot.state.ResourceVersions;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/reservations")
+@RequiredArgsConstructor
+@Tag(name = "Reservation Management", description = "APIs for managing parking reservations")
+public class ReactiveReservationController {
+    
+    private final ReactiveReservationService reservationService;
+    // Search and rescheduling run on the JPA service off the event loop
+    private final ReservationService jpaReservationService;
+    private final BulkCancellationService bulkCancellationService;
+    private final OccupancyService occupancyService;
+    private final ResourceVersions resourceVersions;
+    private final ReservationChangeFeed reservationChangeFeed;
+    
+    @Operation(summary = "Reserve a parking slot")
+    @PostMapping("/reserve")
+    public Mono<ResponseEntity<ReservationResponse>> createReservation(@Valid @RequestBody ReservationCreateRequest request) {
+        return reservationService.createReservation(request)
+                .map(response -> new ResponseEntity<>(response, HttpStatus.CREATED));
+    }
+    
+    @Operation(summary = "Get reservation details by ID")
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ReservationResponse>> getReservationById(@PathVariable Long id, ServerWebExchange exchange) {
+        String etag = resourceVersions.reservationsTag();
+        if (exchange.checkNotModified(etag)) {
+            return Mono.empty();
+        }
+        return reservationService.getReservationById(id)
+                .map(reservation -> ResponseEntity.ok().eTag(etag).body(reservation));
+    }
+    
+    @Operation(summary = "Get the current or next active reservation of a vehicle")
+    @GetMapping("/by-vehicle/{vehicleNumber}")
+    public Mono<ResponseEntity<ReservationResponse>> getReservationByVehicle(@PathVariable String vehicleNumber) {
+        return reservationService.getReservationByVehicle(vehicleNumber).map(ResponseEntity::ok);
+    }
+    
+    @Operation(summary = "Get all reservations")
+    @GetMapping
+    public Mono<ResponseEntity<List<ReservationResponse>>> getAllReservations(ServerWebExchange exchange) {
+        String etag = resourceVersions.reservationsTag();
+        if (exchange.checkNotModified(etag)) {
+            return Mono.empty();
+        }
+        return reservationService.getAllReservations().collectList()
+                .map(reservations -> ResponseEntity.ok().eTag(etag).body(reservations));
+    }
+    
+    @Operation(summary = "Get all active reservations")
+    @GetMapping("/active")
+    public Mono<ResponseEntity<List<ReservationResponse>>> getActiveReservations(ServerWebExchange exchange) {
+        String etag = resourceVersions.reservationsTag();
+        if (exchange.checkNotModified(etag)) {
+            return Mono.empty();
+        }
+        return reservationService.getActiveReservations().collectList()
+                .map(reservations -> ResponseEntity.ok().eTag(etag).body(reservations));
+    }
+    
+    // Keyset pages are a bounded index range scan, so the JPA service is reused off the event loop
+    @Operation(summary = "Search reservations by status, slot, floor, vehicle type and time range, a page at a time")
+    @GetMapping("/search")
+    public Mono<ResponseEntity<ReservationSearchPage>> searchReservations(@ParameterObject ReservationSearchRequest request) {
+        return Mono.fromCallable(() -> jpaReservationService.searchReservations(request))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+    
+    // Caught-up consumers are answered from memory; older pages are a primary key range scan
+    @Operation(summary = "Get reservation changes after a sequence number, oldest first")
+    @GetMapping("/changes")
+    public Mono<ResponseEntity<ReservationChangePage>> getChanges(@RequestParam(defaultValue = "0") long since,
+                                                                  @RequestParam(required = false) Integer limit) {
+        return Mono.fromCallable(() -> reservationChangeFeed.getChanges(since, limit))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+    
+    @Operation(summary = "Change the start and/or end time of an active reservation")
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<ReservationResponse>> updateReservation(@PathVariable Long id,
+                                                                       @RequestBody ReservationUpdateRequest request) {
+        return Mono.fromCallable(() -> jpaReservationService.updateReservationTimes(id, request))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+    
+    @Operation(summary = "Cancel a reservation")
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<ReservationResponse>> cancelReservation(@PathVariable Long id) {
+        return reservationService.cancelReservation(id).map(ResponseEntity::ok);
+    }
+    
+    // Chunked set-based updates on JDBC, run off the event loop
+    @Operation(summary = "Cancel every active reservation on the given slots, floor and/or time range")
+    @PostMapping("/bulk-cancel")
+    public Mono<ResponseEntity<BulkCancellationResponse>> cancelReservations(
+            @Valid @RequestBody BulkCancellationRequest request) {
+        return Mono.fromCallable(() -> bulkCancellationService.cancelReservations(request))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+    
+    // Occupancy is tracked in memory; only check-in reads the reservation, off the event loop
+    @Operation(summary = "Check a vehicle in to its reserved slot")
+    @PostMapping("/{id}/check-in")
+    public Mono<ResponseEntity<OccupancyResponse>> checkIn(@PathVariable Long id) {
+        return Mono.fromCallable(() -> occupancyService.checkIn(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+    
+    @Operation(summary = "Check a vehicle out, completing its reservation")
+    @PostMapping("/{id}/check-out")
+    public Mono<ResponseEntity<OccupancyResponse>> checkOut(@PathVariable Long id) {
+        return Mono.fromCallable(() -> occupancyService.checkOut(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.parkinglot.reactive.entity;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+// R2DBC mapping of the floors table created for com.parkinglot.entity.Floor
+@Data
+@Table("floors")
+public class FloorRow {
+    
+    @Id
+    private Long id;
+    private Long lotId;
+    private Integer floorNumber;
+    private String floorName;
+    private Integer totalSlots = 0;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    @Version
+    private Long version;
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.parkinglot.reactive.entity;
+
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+// R2DBC mapping of the parking_slots table created for com.parkinglot.entity.ParkingSlot
+@Data
+@Table("parking_slots")
+public class ParkingSlotRow {
+    
+    @Id
+    private Long id;
+    private String slotNumber;
+    private Long floorId;
+    private VehicleType vehicleType;
+    private SlotStatus status = SlotStatus.AVAILABLE;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    @Version
+    private Long version;
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.parkinglot.reactive.entity;
+
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.VehicleType;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// R2DBC mapping of the reservations table created for com.parkinglot.entity.Reservation
+@Data
+@Table("reservations")
+public class ReservationRow {
+    
+    @Id
+    private Long id;
+    private Long parkingSlotId;
+    private String vehicleNumber;
+    private VehicleType vehicleType;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private BigDecimal totalCost;
+    private ReservationStatus status = ReservationStatus.ACTIVE;
+    private Integer durationHours;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    @Version
+    private Long version;
+}
\ No newline at end of file
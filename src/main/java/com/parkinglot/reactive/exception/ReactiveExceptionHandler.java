@@ -0,0 +1,91 @@
+package com.parkinglot.reactive.exception;
+
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.exception.DuplicateResourceException;
+import com.parkinglot.exception.ErrorResponse;
+import com.parkinglot.exception.RejectionLog;
+import com.parkinglot.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Same error bodies as GlobalExceptionHandler for the reactive controllers
+@RestControllerAdvice
+@Profile("reactive")
+@Slf4j
+public class ReactiveExceptionHandler {
+    
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+            ResourceNotFoundException ex, ServerWebExchange exchange) {
+        RejectionLog.log(log, RejectionLog.Kind.NOT_FOUND, ex.getMessage());
+        return error(ex.getMessage(), HttpStatus.NOT_FOUND, "Resource Not Found", exchange);
+    }
+    
+    @ExceptionHandler(DuplicateResourceException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateResourceException(
+            DuplicateResourceException ex, ServerWebExchange exchange) {
+        log.error("Duplicate resource: {}", ex.getMessage());
+        return error(ex.getMessage(), HttpStatus.CONFLICT, "Duplicate Resource", exchange);
+    }
+    
+    @ExceptionHandler(BusinessRuleViolationException.class)
+    public ResponseEntity<ErrorResponse> handleBusinessRuleViolationException(
+            BusinessRuleViolationException ex, ServerWebExchange exchange) {
+        RejectionLog.log(log, RejectionLog.Kind.BUSINESS_RULE, ex.getMessage());
+        return error(ex.getMessage(), HttpStatus.BAD_REQUEST, "Business Rule Violation", exchange);
+    }
+    
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, ServerWebExchange exchange) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return error("The resource was modified concurrently, please retry", HttpStatus.CONFLICT,
+                "Concurrent Modification", exchange);
+    }
+    
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(
+            WebExchangeBindException ex, ServerWebExchange exchange) {
+        RejectionLog.log(log, RejectionLog.Kind.VALIDATION, ex.getMessage());
+        
+        List<String> validationErrors = ex.getBindingResult()
+                .getAllErrors()
+                .stream()
+                .map(error -> {
+                    if (error instanceof FieldError) {
+                        FieldError fieldError = (FieldError) error;
+                        return fieldError.getField() + ": " + fieldError.getDefaultMessage();
+                    }
+                    return error.getDefaultMessage();
+                })
+                .collect(Collectors.toList());
+        
+        ResponseEntity<ErrorResponse> response = error("Validation failed", HttpStatus.BAD_REQUEST, "Validation Error", exchange);
+        response.getBody().setValidationErrors(validationErrors);
+        return response;
+    }
+    
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, ServerWebExchange exchange) {
+        log.error("Unexpected error: ", ex);
+        return error("An unexpected error occurred", HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", exchange);
+    }
+    
+    private ResponseEntity<ErrorResponse> error(String message, HttpStatus status, String error,
+                                                ServerWebExchange exchange) {
+        ErrorResponse body = new ErrorResponse(message, status.value(), error,
+                exchange.getRequest().getPath().value());
+        return new ResponseEntity<>(body, status);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.parkinglot.reactive.repository;
+
+import com.parkinglot.reactive.entity.FloorRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ReactiveFloorRepository extends R2dbcRepository<FloorRow, Long> {
+    
+    Mono<Boolean> existsByLotIdAndFloorNumber(Long lotId, Integer floorNumber);
+    
+    Flux<FloorRow> findAllByOrderByIdAsc();
+    
+    @Modifying
+    @Query("UPDATE floors SET total_slots = total_slots + 1, updated_at = :updatedAt WHERE id = :id")
+    Mono<Integer> incrementTotalSlots(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+}
\ No newline at end of file
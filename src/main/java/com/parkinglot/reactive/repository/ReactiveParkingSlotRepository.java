@@ -0,0 +1,34 @@
+package com.parkinglot.reactive.repository;
+
+import com.parkinglot.dto.ParkingSlotResponse;
+import com.parkinglot.reactive.entity.ParkingSlotRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveParkingSlotRepository extends R2dbcRepository<ParkingSlotRow, Long> {
+    
+    String RESPONSE_SELECT = "SELECT ps.id, ps.slot_number, ps.floor_id, f.floor_name, ps.vehicle_type, ps.status, " +
+                             "ps.created_at, ps.updated_at FROM parking_slots ps JOIN floors f ON f.id = ps.floor_id";
+    
+    Mono<Boolean> existsByFloorIdAndSlotNumber(Long floorId, String slotNumber);
+    
+    // Same effect as the JPA stack's optimistic force increment when booking a slot
+    @Modifying
+    @Query("UPDATE parking_slots SET version = version + 1 WHERE id = :id AND version = :version")
+    Mono<Integer> incrementVersion(@Param("id") Long id, @Param("version") Long version);
+    
+    @Query(RESPONSE_SELECT + " ORDER BY ps.id")
+    Flux<ParkingSlotResponse> findAllResponses();
+    
+    @Query(RESPONSE_SELECT + " WHERE ps.id = :id")
+    Mono<ParkingSlotResponse> findResponseById(@Param("id") Long id);
+    
+    @Query(RESPONSE_SELECT + " WHERE ps.floor_id = :floorId ORDER BY ps.id")
+    Flux<ParkingSlotResponse> findResponsesByFloorId(@Param("floorId") Long floorId);
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.parkinglot.reactive.repository;
+
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.reactive.entity.ReservationRow;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ReactiveReservationRepository extends R2dbcRepository<ReservationRow, Long> {
+    
+    String RESPONSE_SELECT = "SELECT r.id, r.parking_slot_id, ps.slot_number, f.floor_name, r.vehicle_number, " +
+                             "r.vehicle_type, r.start_time, r.end_time, r.total_cost, r.duration_hours, r.status, " +
+                             "r.created_at, r.updated_at FROM reservations r " +
+                             "JOIN parking_slots ps ON ps.id = r.parking_slot_id JOIN floors f ON f.id = ps.floor_id";
+    
+    Mono<ReservationRow> findByIdAndStatus(Long id, String status);
+    
+    @Query("SELECT COUNT(*) > 0 FROM reservations WHERE parking_slot_id = :slotId AND status = 'ACTIVE' AND " +
+           "start_time <= :endTime AND end_time >= :startTime")
+    Mono<Boolean> hasConflictingReservation(@Param("slotId") Long slotId,
+                                            @Param("startTime") LocalDateTime startTime,
+                                            @Param("endTime") LocalDateTime endTime);
+    
+    @Query(RESPONSE_SELECT + " ORDER BY r.id")
+    Flux<ReservationResponse> findAllResponses();
+    
+    @Query(RESPONSE_SELECT + " WHERE r.status = :status ORDER BY r.id")
+    Flux<ReservationResponse> findResponsesByStatus(@Param("status") String status);
+    
+    @Query(RESPONSE_SELECT + " WHERE r.id = :id")
+    Mono<ReservationResponse> findResponseById(@Param("id") Long id);
+    
+    @Query(RESPONSE_SELECT + " WHERE r.id = :id AND r.status = 'ACTIVE'")
+    Mono<ReservationResponse> findActiveResponseById(@Param("id") Long id);
+    
+    @Query(RESPONSE_SELECT + " WHERE r.vehicle_number = :vehicleNumber AND r.status = 'ACTIVE' " +
+           "AND r.end_time >= :time ORDER BY r.start_time LIMIT 1")
+    Mono<ReservationResponse> findCurrentResponseByVehicle(@Param("vehicleNumber") String vehicleNumber,
+                                                           @Param("time") LocalDateTime time);
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.parkinglot.reactive.service;
+
+import com.parkinglot.dto.FloorCreateRequest;
+import com.parkinglot.dto.FloorResponse;
+import com.parkinglot.event.FloorChangedEvent;
+import com.parkinglot.exception.DuplicateResourceException;
+import com.parkinglot.exception.ResourceNotFoundException;
+import com.parkinglot.reactive.entity.FloorRow;
+import com.parkinglot.reactive.repository.ReactiveFloorRepository;
+import com.parkinglot.reactive.repository.ReactiveParkingSlotRepository;
+import com.parkinglot.service.LotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveFloorService {
+    
+    private final ReactiveFloorRepository floorRepository;
+    private final ReactiveParkingSlotRepository parkingSlotRepository;
+    private final LotService lotService;
+    private final TransactionalOperator transactionalOperator;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public Mono<FloorResponse> createFloor(FloorCreateRequest request) {
+        log.info("Creating floor with number: {} in lot: {}", request.getFloorNumber(), request.getLotId());
+        
+        // Lots are managed by the JPA service, which also creates the main lot on first use
+        Mono<Long> lotId = Mono.fromCallable(() -> request.getLotId() != null
+                        ? lotService.getLotEntity(request.getLotId()).getId()
+                        : lotService.getDefaultLotId())
+                .subscribeOn(Schedulers.boundedElastic());
+        
+        return lotId.flatMap(id -> floorRepository.existsByLotIdAndFloorNumber(id, request.getFloorNumber())
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.error(new DuplicateResourceException(
+                            "Floor with number " + request.getFloorNumber() + " already exists"));
+                    }
+                    LocalDateTime now = LocalDateTime.now();
+                    FloorRow floor = new FloorRow();
+                    floor.setLotId(id);
+                    floor.setFloorNumber(request.getFloorNumber());
+                    floor.setFloorName(request.getFloorName());
+                    floor.setCreatedAt(now);
+                    floor.setUpdatedAt(now);
+                    return floorRepository.save(floor);
+                }))
+                .as(transactionalOperator::transactional)
+                .doOnNext(savedFloor -> {
+                    eventPublisher.publishEvent(new FloorChangedEvent(savedFloor.getId(), savedFloor.getFloorNumber()));
+                    log.info("Floor created successfully with ID: {}", savedFloor.getId());
+                })
+                .map(this::convertToResponse);
+    }
+    
+    public Flux<FloorResponse> getAllFloors() {
+        log.info("Fetching all floors");
+        return floorRepository.findAllByOrderByIdAsc().map(this::convertToResponse);
+    }
+    
+    public Mono<FloorResponse> getFloorById(Long id) {
+        log.info("Fetching floor with ID: {}", id);
+        return findFloor(id).map(this::convertToResponse);
+    }
+    
+    public Mono<FloorResponse> getFloorWithSlots(Long id) {
+        log.info("Fetching floor with slots for ID: {}", id);
+        return findFloor(id)
+                .zipWith(parkingSlotRepository.findResponsesByFloorId(id).collectList(), (floor, slots) -> {
+                    FloorResponse response = convertToResponse(floor);
+                    response.setParkingSlots(slots);
+                    return response;
+                });
+    }
+    
+    Mono<FloorRow> findFloor(Long id) {
+        return floorRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Floor not found with ID: " + id)));
+    }
+    
+    private FloorResponse convertToResponse(FloorRow floor) {
+        FloorResponse response = new FloorResponse();
+        response.setId(floor.getId());
+        response.setLotId(floor.getLotId());
+        response.setFloorNumber(floor.getFloorNumber());
+        response.setFloorName(floor.getFloorName());
+        response.setTotalSlots(floor.getTotalSlots());
+        response.setCreatedAt(floor.getCreatedAt());
+        response.setUpdatedAt(floor.getUpdatedAt());
+        return response;
+    }
+}
\ No newline at end of file
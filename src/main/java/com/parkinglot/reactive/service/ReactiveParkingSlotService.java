@@ -0,0 +1,157 @@
+package com.parkinglot.reactive.service;
+
+import com.parkinglot.dto.ParkingSlotCreateRequest;
+import com.parkinglot.dto.ParkingSlotResponse;
+import com.parkinglot.event.ParkingSlotChangedEvent;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.exception.DuplicateResourceException;
+import com.parkinglot.exception.ResourceNotFoundException;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.reactive.entity.ParkingSlotRow;
+import com.parkinglot.reactive.repository.ReactiveFloorRepository;
+import com.parkinglot.reactive.repository.ReactiveParkingSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveParkingSlotService {
+    
+    // Sortable response properties and the columns backing them
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+        "id", "ps.id",
+        "slotNumber", "ps.slot_number",
+        "vehicleType", "ps.vehicle_type",
+        "status", "ps.status",
+        "createdAt", "ps.created_at",
+        "updatedAt", "ps.updated_at");
+    
+    private static final String AVAILABLE_WHERE = " WHERE NOT EXISTS (" +
+            "SELECT 1 FROM reservations r WHERE r.parking_slot_id = ps.id AND r.status = 'ACTIVE' AND " +
+            "r.start_time <= :endTime AND r.end_time >= :startTime)";
+    
+    private final ReactiveParkingSlotRepository parkingSlotRepository;
+    private final ReactiveFloorRepository floorRepository;
+    private final ReactiveFloorService floorService;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public Mono<ParkingSlotResponse> createParkingSlot(ParkingSlotCreateRequest request) {
+        log.info("Creating parking slot {} on floor {}", request.getSlotNumber(), request.getFloorId());
+        
+        return floorService.findFloor(request.getFloorId())
+                .then(parkingSlotRepository.existsByFloorIdAndSlotNumber(request.getFloorId(), request.getSlotNumber()))
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.error(new DuplicateResourceException(
+                            "Parking slot " + request.getSlotNumber() + " already exists on floor " + request.getFloorId()));
+                    }
+                    LocalDateTime now = LocalDateTime.now();
+                    ParkingSlotRow slot = new ParkingSlotRow();
+                    slot.setSlotNumber(request.getSlotNumber());
+                    slot.setFloorId(request.getFloorId());
+                    slot.setVehicleType(request.getVehicleType());
+                    slot.setCreatedAt(now);
+                    slot.setUpdatedAt(now);
+                    return parkingSlotRepository.save(slot);
+                })
+                // Update floor total slots count
+                .flatMap(savedSlot -> floorRepository.incrementTotalSlots(savedSlot.getFloorId(), savedSlot.getUpdatedAt())
+                        .thenReturn(savedSlot))
+                .as(transactionalOperator::transactional)
+                .doOnNext(savedSlot -> {
+                    eventPublisher.publishEvent(new ParkingSlotChangedEvent(savedSlot.getId(), savedSlot.getFloorId(),
+                            savedSlot.getSlotNumber(), savedSlot.getVehicleType(), savedSlot.getStatus()));
+                    log.info("Parking slot created successfully with ID: {}", savedSlot.getId());
+                })
+                .flatMap(savedSlot -> parkingSlotRepository.findResponseById(savedSlot.getId()));
+    }
+    
+    public Flux<ParkingSlotResponse> getAllParkingSlots() {
+        log.info("Fetching all parking slots");
+        return parkingSlotRepository.findAllResponses();
+    }
+    
+    public Mono<ParkingSlotResponse> getParkingSlotById(Long id) {
+        log.info("Fetching parking slot with ID: {}", id);
+        return parkingSlotRepository.findResponseById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Parking slot not found with ID: " + id)));
+    }
+    
+    public Flux<ParkingSlotResponse> getParkingSlotsByFloor(Long floorId) {
+        log.info("Fetching parking slots for floor ID: {}", floorId);
+        return parkingSlotRepository.findResponsesByFloorId(floorId);
+    }
+    
+    public Mono<Page<ParkingSlotResponse>> getAvailableSlots(LocalDateTime startTime, LocalDateTime endTime,
+                                                             VehicleType vehicleType, int page, int size, String sortBy) {
+        log.info("Fetching available slots from {} to {} for vehicle type: {}", startTime, endTime, vehicleType);
+        
+        String sortColumn = SORT_COLUMNS.get(sortBy);
+        if (sortColumn == null) {
+            return Mono.error(new BusinessRuleViolationException("Cannot sort available slots by " + sortBy));
+        }
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
+        String where = AVAILABLE_WHERE + (vehicleType != null ? " AND ps.vehicle_type = :vehicleType" : "");
+        
+        Mono<Long> total = bindAvailability(databaseClient.sql(
+                "SELECT COUNT(*) FROM parking_slots ps" + where), startTime, endTime, vehicleType)
+                .map(row -> row.get(0, Long.class))
+                .one();
+        Mono<List<ParkingSlotResponse>> content = bindAvailability(databaseClient.sql(
+                ReactiveParkingSlotRepository.RESPONSE_SELECT + where + " ORDER BY " + sortColumn + ", ps.id" +
+                " LIMIT :limit OFFSET :offset"), startTime, endTime, vehicleType)
+                .bind("limit", size)
+                .bind("offset", pageable.getOffset())
+                .map(row -> {
+                    ParkingSlotResponse response = new ParkingSlotResponse();
+                    response.setId(row.get("id", Long.class));
+                    response.setSlotNumber(row.get("slot_number", String.class));
+                    response.setFloorId(row.get("floor_id", Long.class));
+                    response.setFloorName(row.get("floor_name", String.class));
+                    response.setVehicleType(VehicleType.valueOf(row.get("vehicle_type", String.class)));
+                    response.setStatus(SlotStatus.valueOf(row.get("status", String.class)));
+                    response.setCreatedAt(row.get("created_at", LocalDateTime.class));
+                    response.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+                    return response;
+                })
+                .all()
+                .collectList();
+        
+        // Both queries run on the one connection bound by the transaction
+        return content.flatMap(slots -> total.map(count -> (Page<ParkingSlotResponse>) new PageImpl<>(slots, pageable, count)))
+                .as(transactionalOperator::transactional);
+    }
+    
+    Mono<ParkingSlotRow> findSlot(Long id) {
+        return parkingSlotRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Parking slot not found with ID: " + id)));
+    }
+    
+    private DatabaseClient.GenericExecuteSpec bindAvailability(DatabaseClient.GenericExecuteSpec spec,
+                                                               LocalDateTime startTime, LocalDateTime endTime,
+                                                               VehicleType vehicleType) {
+        spec = spec.bind("startTime", startTime).bind("endTime", endTime);
+        return vehicleType != null ? spec.bind("vehicleType", vehicleType.name()) : spec;
+    }
+}
\ No newline at end of file
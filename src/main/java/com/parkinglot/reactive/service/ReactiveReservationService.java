@@ -0,0 +1,201 @@
+package com.parkinglot.reactive.service;
+
+import com.parkinglot.dto.ReservationCreateRequest;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.event.ReservationChangedEvent;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.exception.ResourceNotFoundException;
+import com.parkinglot.model.ReservationChangeType;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.occupancy.OccupancyTracker;
+import com.parkinglot.reactive.entity.ParkingSlotRow;
+import com.parkinglot.reactive.entity.ReservationRow;
+import com.parkinglot.reactive.repository.ReactiveParkingSlotRepository;
+import com.parkinglot.reactive.repository.ReactiveReservationRepository;
+import com.parkinglot.retry.ConflictRetryPolicy;
+import com.parkinglot.service.ReservationRules;
+import com.parkinglot.state.VehicleReservationIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// Reactive counterpart of ReservationService. Bookings always go straight to the database:
+// the write-ahead journal is a servlet-stack feature and is not consulted here.
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveReservationService {
+    
+    private final ReactiveReservationRepository reservationRepository;
+    private final ReactiveParkingSlotService parkingSlotService;
+    private final ReactiveParkingSlotRepository parkingSlotRepository;
+    private final ConflictRetryPolicy conflictRetryPolicy;
+    private final TransactionalOperator transactionalOperator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VehicleReservationIndex vehicleReservationIndex;
+    private final OccupancyTracker occupancyTracker;
+    private final PlatformTransactionManager transactionManager;
+    
+    public Mono<ReservationResponse> createReservation(ReservationCreateRequest request) {
+        log.info("Creating reservation for slot {} from {} to {}",
+                request.getParkingSlotId(), request.getStartTime(), request.getEndTime());
+        
+        // The slot is re-read on every attempt, so a retry claims its current version
+        Mono<ReservationRow> booking = parkingSlotService.findSlot(request.getParkingSlotId())
+                .flatMap(slot -> reservationRepository.hasConflictingReservation(
+                        slot.getId(), request.getStartTime(), request.getEndTime())
+                        .flatMap(conflict -> {
+                            if (conflict) {
+                                return Mono.error(new BusinessRuleViolationException(
+                                    "Slot is already reserved for the specified time range"));
+                            }
+                            if (!slot.getVehicleType().equals(request.getVehicleType())) {
+                                return Mono.error(new BusinessRuleViolationException(
+                                    "Vehicle type " + request.getVehicleType() + " does not match slot type " + slot.getVehicleType()));
+                            }
+                            return claimSlot(slot).then(reservationRepository.save(newReservation(request)));
+                        })
+                        .as(transactionalOperator::transactional));
+        
+        return Mono.fromRunnable(() -> ReservationRules.validateTimes(request.getStartTime(), request.getEndTime()))
+                .then(conflictRetryPolicy.retry("ReactiveReservationService.createReservation", booking))
+                .doOnNext(saved -> log.info("Reservation created successfully with ID: {}", saved.getId()))
+                .flatMap(saved -> publishChange(saved, ReservationChangeType.CREATED))
+                .flatMap(saved -> reservationRepository.findResponseById(saved.getId()));
+    }
+    
+    public Mono<ReservationResponse> getReservationById(Long id) {
+        log.info("Fetching reservation with ID: {}", id);
+        return reservationRepository.findResponseById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Reservation not found with ID: " + id)));
+    }
+    
+    // Same lookup order as ReservationService.getReservationByVehicle
+    public Mono<ReservationResponse> getReservationByVehicle(String vehicleNumber) {
+        log.debug("Fetching current reservation for vehicle: {}", vehicleNumber);
+        LocalDateTime now = LocalDateTime.now();
+        Mono<ReservationResponse> fromDatabase = Mono.defer(() ->
+                reservationRepository.findCurrentResponseByVehicle(vehicleNumber, now));
+        
+        Mono<ReservationResponse> lookup = fromDatabase;
+        if (vehicleReservationIndex.isCurrent()) {
+            if (!vehicleReservationIndex.mightContain(vehicleNumber)) {
+                return Mono.error(vehicleNotFound(vehicleNumber));
+            }
+            Optional<Long> reservationId = vehicleReservationIndex.findCurrentOrNext(vehicleNumber, now);
+            if (reservationId.isEmpty()) {
+                return Mono.error(vehicleNotFound(vehicleNumber));
+            }
+            lookup = reservationRepository.findActiveResponseById(reservationId.get()).switchIfEmpty(fromDatabase);
+        }
+        return lookup.switchIfEmpty(Mono.error(() -> vehicleNotFound(vehicleNumber)));
+    }
+    
+    public Flux<ReservationResponse> getAllReservations() {
+        log.info("Fetching all reservations");
+        return reservationRepository.findAllResponses();
+    }
+    
+    public Flux<ReservationResponse> getActiveReservations() {
+        log.info("Fetching active reservations");
+        return reservationRepository.findResponsesByStatus(ReservationStatus.ACTIVE.name());
+    }
+    
+    public Mono<ReservationResponse> cancelReservation(Long id) {
+        log.info("Cancelling reservation with ID: {}", id);
+        
+        if (occupancyTracker.isCheckedIn(id)) {
+            return Mono.error(new BusinessRuleViolationException(
+                "Reservation " + id + " is checked in and must be checked out instead"));
+        }
+        if (occupancyTracker.isCheckedOut(id)) {
+            return Mono.error(new BusinessRuleViolationException("Reservation " + id + " is already checked out"));
+        }
+        Mono<ReservationRow> cancellation = reservationRepository.findByIdAndStatus(id, ReservationStatus.ACTIVE.name())
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Active reservation not found with ID: " + id)))
+                .flatMap(reservation -> {
+                    reservation.setStatus(ReservationStatus.CANCELLED);
+                    reservation.setUpdatedAt(LocalDateTime.now());
+                    return reservationRepository.save(reservation);
+                })
+                .as(transactionalOperator::transactional);
+        return conflictRetryPolicy.retry("ReactiveReservationService.cancelReservation", cancellation)
+                .doOnNext(saved -> log.info("Reservation cancelled successfully with ID: {}", id))
+                .flatMap(saved -> publishChange(saved, ReservationChangeType.CANCELLED))
+                .flatMap(saved -> reservationRepository.findResponseById(saved.getId()));
+    }
+    
+    private Mono<Integer> claimSlot(ParkingSlotRow slot) {
+        return parkingSlotRepository.incrementVersion(slot.getId(), slot.getVersion())
+                .flatMap(updated -> updated == 0
+                        ? Mono.error(new OptimisticLockingFailureException(
+                            "Parking slot " + slot.getId() + " was booked concurrently"))
+                        : Mono.just(updated));
+    }
+    
+    private ResourceNotFoundException vehicleNotFound(String vehicleNumber) {
+        return new ResourceNotFoundException("No active reservation found for vehicle: " + vehicleNumber);
+    }
+    
+    private ReservationRow newReservation(ReservationCreateRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        ReservationRow reservation = new ReservationRow();
+        reservation.setParkingSlotId(request.getParkingSlotId());
+        reservation.setVehicleNumber(request.getVehicleNumber());
+        reservation.setVehicleType(request.getVehicleType());
+        reservation.setStartTime(request.getStartTime());
+        reservation.setEndTime(request.getEndTime());
+        
+        // Calculate cost and duration
+        int hours = ReservationRules.billableHours(request.getStartTime(), request.getEndTime());
+        reservation.setDurationHours(hours);
+        reservation.setTotalCost(ReservationRules.totalCost(request.getVehicleType(), hours));
+        reservation.setCreatedAt(now);
+        reservation.setUpdatedAt(now);
+        return reservation;
+    }
+    
+    // Runs after the R2DBC commit and outside its retry, so a conflict here never replays a change
+    // that is already committed. The synchronous listeners (ledger, rollups, change feed) share one
+    // JPA transaction that is retried on its own; after-commit listeners run once it commits.
+    private Mono<ReservationRow> publishChange(ReservationRow reservation, ReservationChangeType changeType) {
+        Mono<Void> publication = parkingSlotService.findSlot(reservation.getParkingSlotId())
+                .flatMap(slot -> Mono.fromRunnable(() -> new TransactionTemplate(transactionManager)
+                        .executeWithoutResult(status -> publish(reservation, slot, changeType))))
+                .then();
+        return conflictRetryPolicy.retry("ReactiveReservationService.publishChange", publication)
+                .onErrorResume(e -> {
+                    // The change itself is committed, so the caller still gets its reservation
+                    log.error("Reservation {} was {} but its change event failed: {}",
+                            reservation.getId(), changeType, e.getMessage(), e);
+                    return Mono.empty();
+                })
+                .thenReturn(reservation);
+    }
+    
+    private void publish(ReservationRow reservation, ParkingSlotRow slot, ReservationChangeType changeType) {
+        eventPublisher.publishEvent(new ReservationChangedEvent(
+            changeType,
+            reservation.getId(),
+            reservation.getParkingSlotId(),
+            slot.getFloorId(),
+            reservation.getVehicleNumber(),
+            reservation.getVehicleType(),
+            reservation.getStartTime(),
+            reservation.getEndTime(),
+            reservation.getTotalCost(),
+            reservation.getStatus()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.parkinglot.repository;
+
+import com.parkinglot.entity.DailyRevenue;
+import com.parkinglot.model.VehicleType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyRevenueRepository extends JpaRepository<DailyRevenue, Long> {
+    
+    @Modifying
+    @Query("UPDATE DailyRevenue d SET d.bookingCount = d.bookingCount + :bookings, " +
+           "d.cancellationCount = d.cancellationCount + :cancellations, d.netAmount = d.netAmount + :amount " +
+           "WHERE d.revenueDate = :revenueDate AND d.floorId = :floorId AND d.vehicleType = :vehicleType")
+    int addTotals(@Param("revenueDate") LocalDate revenueDate, @Param("floorId") Long floorId,
+                  @Param("vehicleType") VehicleType vehicleType, @Param("bookings") long bookings,
+                  @Param("cancellations") long cancellations, @Param("amount") BigDecimal amount);
+    
+    @Query("SELECT d FROM DailyRevenue d WHERE d.revenueDate >= :from AND d.revenueDate <= :to " +
+           "AND (:floorId IS NULL OR d.floorId = :floorId) " +
+           "AND (:vehicleType IS NULL OR d.vehicleType = :vehicleType) " +
+           "ORDER BY d.revenueDate, d.floorId, d.vehicleType")
+    List<DailyRevenue> findReport(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                  @Param("floorId") Long floorId, @Param("vehicleType") VehicleType vehicleType);
+}
\ No newline at end of file
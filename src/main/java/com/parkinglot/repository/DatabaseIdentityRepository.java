@@ -0,0 +1,9 @@
+package com.parkinglot.repository;
+
+import com.parkinglot.entity.DatabaseIdentity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DatabaseIdentityRepository extends JpaRepository<DatabaseIdentity, Long> {
+}
\ No newline at end of file
@@ -2,18 +2,30 @@ package com.parkinglot.repository;
 
 import com.parkinglot.entity.Floor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FloorRepository extends JpaRepository<Floor, Long> {
     
-    Optional<Floor> findByFloorNumber(Integer floorNumber);
+    List<Floor> findByLotId(Long lotId);
     
-    boolean existsByFloorNumber(Integer floorNumber);
+    boolean existsByLotId(Long lotId);
+    
+    boolean existsByLotIdAndFloorNumber(Long lotId, Integer floorNumber);
     
     @Query("SELECT f FROM Floor f LEFT JOIN FETCH f.parkingSlots WHERE f.id = :id")
     Optional<Floor> findByIdWithSlots(Long id);
+    
+    // Adds to the count in place, so concurrent slot creation neither loses increments nor
+    // conflicts on the floor's version
+    @Modifying
+    @Query("UPDATE Floor f SET f.totalSlots = f.totalSlots + :delta, f.updatedAt = :updatedAt WHERE f.id = :id")
+    int addTotalSlots(@Param("id") Long id, @Param("delta") int delta, @Param("updatedAt") LocalDateTime updatedAt);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.parkinglot.repository;
+
+import com.parkinglot.entity.Lot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface LotRepository extends JpaRepository<Lot, Long> {
+    
+    Optional<Lot> findByCode(String code);
+    
+    boolean existsByCode(String code);
+}
\ No newline at end of file
@@ -5,12 +5,15 @@ import com.parkinglot.model.SlotStatus;
 import com.parkinglot.model.VehicleType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +30,17 @@ public interface ParkingSlotRepository extends JpaRepository<ParkingSlot, Long>
     
     Page<ParkingSlot> findByStatus(SlotStatus status, Pageable pageable);
     
+    List<ParkingSlot> findByUpdatedAtAfter(LocalDateTime since);
+    
+    // Bumps the slot version when the transaction commits, so of two bookings that passed the
+    // conflict check for the same slot concurrently only one can commit
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT ps FROM ParkingSlot ps WHERE ps.id = :id")
+    Optional<ParkingSlot> findForBookingById(@Param("id") Long id);
+    
+    @Query("SELECT ps FROM ParkingSlot ps JOIN FETCH ps.floor WHERE ps.id IN :ids")
+    List<ParkingSlot> findAllWithFloorByIdIn(@Param("ids") Collection<Long> ids);
+    
     @Query("SELECT ps FROM ParkingSlot ps WHERE ps.id NOT IN " +
            "(SELECT r.parkingSlot.id FROM Reservation r WHERE r.status = 'ACTIVE' AND " +
            "((r.startTime <= :endTime AND r.endTime >= :startTime)))")
@@ -0,0 +1,21 @@
+package com.parkinglot.repository;
+
+import com.parkinglot.entity.ReservationChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReservationChangeRepository extends JpaRepository<ReservationChange, Long> {
+    
+    // Served by the primary key, so a page costs the same however long the log grows
+    @Query("SELECT c FROM ReservationChange c WHERE c.id > :since AND c.id <= :until ORDER BY c.id")
+    List<ReservationChange> findPage(@Param("since") long since, @Param("until") long until, Pageable pageable);
+    
+    @Query("SELECT c FROM ReservationChange c ORDER BY c.id DESC")
+    List<ReservationChange> findLatest(Pageable pageable);
+}
\ No newline at end of file
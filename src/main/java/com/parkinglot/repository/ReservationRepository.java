@@ -3,16 +3,18 @@ package com.parkinglot.repository;
 import com.parkinglot.entity.Reservation;
 import com.parkinglot.model.ReservationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, JpaSpecificationExecutor<Reservation> {
     
     List<Reservation> findByStatus(ReservationStatus status);
     
@@ -20,6 +22,19 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     
     Optional<Reservation> findByIdAndStatus(Long id, ReservationStatus status);
     
+    List<Reservation> findByUpdatedAtAfter(LocalDateTime since);
+    
+    List<Reservation> findByStatusAndEndTimeGreaterThanEqual(ReservationStatus status, LocalDateTime endTime);
+    
+    // Current or next booking of a vehicle, served by idx_reservations_vehicle_number
+    Optional<Reservation> findFirstByVehicleNumberAndStatusAndEndTimeGreaterThanEqualOrderByStartTimeAsc(
+            String vehicleNumber, ReservationStatus status, LocalDateTime endTime);
+    
+    // Rows of [id, vehicleNumber, startTime, endTime] for loading the vehicle index
+    @Query("SELECT r.id, r.vehicleNumber, r.startTime, r.endTime FROM Reservation r " +
+           "WHERE r.status = 'ACTIVE' AND r.endTime >= :time")
+    List<Object[]> findActiveVehicleBookings(@Param("time") LocalDateTime time);
+    
     @Query("SELECT r FROM Reservation r WHERE r.parkingSlot.id = :slotId AND r.status = 'ACTIVE' AND " +
            "((r.startTime <= :endTime AND r.endTime >= :startTime))")
     List<Reservation> findConflictingReservations(@Param("slotId") Long slotId, 
@@ -31,4 +46,30 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     boolean hasConflictingReservation(@Param("slotId") Long slotId, 
                                       @Param("startTime") LocalDateTime startTime, 
                                       @Param("endTime") LocalDateTime endTime);
+    
+    // Same overlap rule, ignoring the reservation whose window is being changed
+    @Query("SELECT COUNT(r) > 0 FROM Reservation r WHERE r.parkingSlot.id = :slotId AND r.status = 'ACTIVE' AND " +
+           "r.id <> :reservationId AND r.startTime <= :endTime AND r.endTime >= :startTime")
+    boolean hasOtherConflictingReservation(@Param("slotId") Long slotId,
+                                           @Param("reservationId") Long reservationId,
+                                           @Param("startTime") LocalDateTime startTime,
+                                           @Param("endTime") LocalDateTime endTime);
+    
+    // Candidates for a whole batch of bookings in one query; exact overlaps are checked by the caller
+    @Query("SELECT r FROM Reservation r WHERE r.parkingSlot.id IN :slotIds AND r.status = 'ACTIVE' AND " +
+           "r.startTime <= :endTime AND r.endTime >= :startTime")
+    List<Reservation> findActiveInWindow(@Param("slotIds") Collection<Long> slotIds,
+                                         @Param("startTime") LocalDateTime startTime,
+                                         @Param("endTime") LocalDateTime endTime);
+    
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.parkingSlot ps JOIN FETCH ps.floor WHERE r.id IN :ids")
+    List<Reservation> findAllWithSlotByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT r FROM Reservation r WHERE r.status = 'ACTIVE' AND r.checkedInAt IS NOT NULL")
+    List<Reservation> findCheckedIn();
+    
+    @Query("SELECT MAX(r.journalSequence) FROM Reservation r")
+    Optional<Long> findMaxJournalSequence();
+    
+    Optional<Reservation> findByJournalSequence(Long journalSequence);
 }
\ No newline at end of file
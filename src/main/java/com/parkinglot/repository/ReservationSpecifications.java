@@ -0,0 +1,64 @@
+package com.parkinglot.repository;
+
+import com.parkinglot.entity.Reservation;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.VehicleType;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+// Filters for the reservation search; a null argument leaves that column unconstrained
+public final class ReservationSpecifications {
+    
+    private ReservationSpecifications() {
+    }
+    
+    public static Specification<Reservation> hasStatus(ReservationStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+    
+    public static Specification<Reservation> forSlot(Long parkingSlotId) {
+        return (root, query, cb) -> parkingSlotId == null
+                ? null
+                : cb.equal(root.get("parkingSlot").get("id"), parkingSlotId);
+    }
+    
+    public static Specification<Reservation> onFloor(Long floorId) {
+        return (root, query, cb) -> floorId == null
+                ? null
+                : cb.equal(root.get("parkingSlot").get("floor").get("id"), floorId);
+    }
+    
+    public static Specification<Reservation> hasVehicleType(VehicleType vehicleType) {
+        return (root, query, cb) -> vehicleType == null ? null : cb.equal(root.get("vehicleType"), vehicleType);
+    }
+    
+    public static Specification<Reservation> startsAtOrAfter(LocalDateTime time) {
+        return (root, query, cb) -> time == null ? null : cb.greaterThanOrEqualTo(root.get("startTime"), time);
+    }
+    
+    public static Specification<Reservation> startsAtOrBefore(LocalDateTime time) {
+        return (root, query, cb) -> time == null ? null : cb.lessThanOrEqualTo(root.get("startTime"), time);
+    }
+    
+    public static Specification<Reservation> endsAtOrAfter(LocalDateTime time) {
+        return (root, query, cb) -> time == null ? null : cb.greaterThanOrEqualTo(root.get("endTime"), time);
+    }
+    
+    // Keyset condition: rows strictly after (startTime, id) in (startTime, id) order
+    public static Specification<Reservation> after(LocalDateTime startTime, Long id) {
+        return (root, query, cb) -> startTime == null ? null : cb.or(
+            cb.greaterThan(root.get("startTime"), startTime),
+            cb.and(cb.equal(root.get("startTime"), startTime), cb.greaterThan(root.get("id"), id)));
+    }
+    
+    // Loads the slot and floor the response needs in the same query. Only for queries without
+    // a count, which cannot carry fetch joins.
+    public static Specification<Reservation> fetchSlotAndFloor() {
+        return (root, query, cb) -> {
+            root.fetch("parkingSlot", JoinType.INNER).fetch("floor", JoinType.INNER);
+            return null;
+        };
+    }
+}
\ No newline at end of file
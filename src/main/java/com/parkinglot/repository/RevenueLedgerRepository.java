@@ -0,0 +1,13 @@
+package com.parkinglot.repository;
+
+import com.parkinglot.entity.RevenueLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RevenueLedgerRepository extends JpaRepository<RevenueLedgerEntry, Long> {
+    
+    List<RevenueLedgerEntry> findByReservationIdOrderByIdAsc(Long reservationId);
+}
\ No newline at end of file
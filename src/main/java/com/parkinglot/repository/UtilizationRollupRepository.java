@@ -0,0 +1,47 @@
+package com.parkinglot.repository;
+
+import com.parkinglot.entity.UtilizationRollup;
+import com.parkinglot.model.VehicleType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Aggregates return rows of [group key, SUM(occupied_minutes)]
+@Repository
+public interface UtilizationRollupRepository extends JpaRepository<UtilizationRollup, Long> {
+    
+    String RANGE_FILTER = "WHERE u.hourStart >= :from AND u.hourStart < :to " +
+                          "AND (:floorId IS NULL OR u.floorId = :floorId) " +
+                          "AND (:vehicleType IS NULL OR u.vehicleType = :vehicleType) ";
+    
+    @Modifying
+    @Query("UPDATE UtilizationRollup u SET u.occupiedMinutes = u.occupiedMinutes + :minutes " +
+           "WHERE u.parkingSlotId = :slotId AND u.hourStart = :hourStart")
+    int addMinutes(@Param("slotId") Long slotId, @Param("hourStart") LocalDateTime hourStart,
+                   @Param("minutes") int minutes);
+    
+    @Query("SELECT u.floorId, SUM(u.occupiedMinutes) FROM UtilizationRollup u " + RANGE_FILTER +
+           "GROUP BY u.floorId")
+    List<Object[]> sumByFloor(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                              @Param("floorId") Long floorId, @Param("vehicleType") VehicleType vehicleType);
+    
+    @Query("SELECT u.parkingSlotId, SUM(u.occupiedMinutes) FROM UtilizationRollup u " + RANGE_FILTER +
+           "GROUP BY u.parkingSlotId")
+    List<Object[]> sumBySlot(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                             @Param("floorId") Long floorId, @Param("vehicleType") VehicleType vehicleType);
+    
+    @Query("SELECT u.vehicleType, SUM(u.occupiedMinutes) FROM UtilizationRollup u " + RANGE_FILTER +
+           "GROUP BY u.vehicleType")
+    List<Object[]> sumByVehicleType(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                    @Param("floorId") Long floorId, @Param("vehicleType") VehicleType vehicleType);
+    
+    @Query("SELECT u.hourStart, SUM(u.occupiedMinutes) FROM UtilizationRollup u " + RANGE_FILTER +
+           "GROUP BY u.hourStart")
+    List<Object[]> sumByHour(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                             @Param("floorId") Long floorId, @Param("vehicleType") VehicleType vehicleType);
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.parkinglot.retry;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+
+// Runs outside the transaction advice, so every attempt gets a transaction and persistence
+// context of its own. A call that joins its caller's transaction is not retried here: the
+// conflict rolls back the caller too, and the outermost annotated method retries the whole unit.
+class ConflictRetryInterceptor implements MethodInterceptor {
+    
+    private final ObjectProvider<ConflictRetryPolicy> policy;
+    
+    ConflictRetryInterceptor(ObjectProvider<ConflictRetryPolicy> policy) {
+        this.policy = policy;
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+        Method method = invocation.getMethod();
+        String operation = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        // An invocation remembers how far down the advice chain it got, so each attempt proceeds
+        // on a fresh copy that passes through the transaction advice again
+        return policy.getObject().execute(operation, () -> invocableClone(invocation).proceed());
+    }
+    
+    private static MethodInvocation invocableClone(MethodInvocation invocation) {
+        return invocation instanceof ProxyMethodInvocation proxyInvocation
+                ? proxyInvocation.invocableClone()
+                : invocation;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.parkinglot.retry;
+
+import com.parkinglot.config.RetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Retries work that failed on an optimistic lock conflict with capped exponential backoff and
+// full jitter. Calls, retries and exhausted calls are counted per operation, so the retry rate
+// shows where rows are actually contended.
+@Component
+@Slf4j
+public class ConflictRetryPolicy {
+    
+    private final RetryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+    
+    public ConflictRetryPolicy(RetryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @FunctionalInterface
+    interface Attempt<T> {
+        T run() throws Throwable;
+    }
+    
+    <T> T execute(String operation, Attempt<T> attempt) throws Throwable {
+        Meters operationMeters = meters(operation);
+        operationMeters.getCalls().increment();
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return attempt.run();
+            } catch (OptimisticLockingFailureException e) {
+                if (attemptNumber >= properties.getMaxAttempts()) {
+                    operationMeters.getExhausted().increment();
+                    log.warn("{} still conflicted after {} attempts: {}", operation, attemptNumber, e.getMessage());
+                    throw e;
+                }
+                operationMeters.getRetries().increment();
+                log.debug("{} lost an optimistic lock race on attempt {}, retrying", operation, attemptNumber);
+                sleep(backoffMillis(attemptNumber), e);
+            }
+        }
+    }
+    
+    // Resubscribes to the whole attempt, so the transaction it opens is rolled back and begun again
+    public <T> Mono<T> retry(String operation, Mono<T> attempt) {
+        Meters operationMeters = meters(operation);
+        Retry retry = Retry.backoff(properties.getMaxAttempts() - 1, properties.getInitialBackoff())
+                .maxBackoff(properties.getMaxBackoff())
+                .jitter(1.0)
+                .filter(OptimisticLockingFailureException.class::isInstance)
+                .doBeforeRetry(signal -> {
+                    operationMeters.getRetries().increment();
+                    log.debug("{} lost an optimistic lock race on attempt {}, retrying",
+                            operation, signal.totalRetries() + 1);
+                })
+                .onRetryExhaustedThrow((spec, signal) -> {
+                    operationMeters.getExhausted().increment();
+                    log.warn("{} still conflicted after {} attempts: {}",
+                            operation, signal.totalRetries() + 1, signal.failure().getMessage());
+                    return signal.failure();
+                });
+        return attempt.retryWhen(retry).doOnSubscribe(subscription -> operationMeters.getCalls().increment());
+    }
+    
+    long backoffMillis(int attemptNumber) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long bound = Math.min(properties.getMaxBackoff().toMillis(), initial << Math.min(attemptNumber - 1, 20));
+        return bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+    
+    private static void sleep(long millis, OptimisticLockingFailureException conflict) {
+        if (millis == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+    
+    private Meters meters(String operation) {
+        return meters.computeIfAbsent(operation, name -> new Meters(
+            Counter.builder("parkinglot.retry.calls")
+                    .description("Calls to operations retried on optimistic lock conflicts")
+                    .tag("operation", name)
+                    .register(meterRegistry),
+            Counter.builder("parkinglot.retry.retries")
+                    .description("Attempts repeated after an optimistic lock conflict")
+                    .tag("operation", name)
+                    .register(meterRegistry),
+            Counter.builder("parkinglot.retry.exhausted")
+                    .description("Calls that still conflicted on their last attempt")
+                    .tag("operation", name)
+                    .register(meterRegistry)));
+    }
+    
+    @Value
+    private static class Meters {
+        Counter calls;
+        Counter retries;
+        Counter exhausted;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.parkinglot.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks a transactional service method that is re-run from the start when it loses an
+// optimistic lock race. The method must be safe to repeat: it re-reads everything it checks.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnConflict {
+}
\ No newline at end of file
@@ -0,0 +1,203 @@
+package com.parkinglot.service;
+
+import com.parkinglot.dto.BulkCancellationRequest;
+import com.parkinglot.dto.BulkCancellationResponse;
+import com.parkinglot.event.ReservationChangedEvent;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.journal.ReservationJournal;
+import com.parkinglot.model.ReservationChangeType;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.occupancy.OccupancyTracker;
+import com.parkinglot.shard.ShardContext;
+import com.parkinglot.shard.ShardIds;
+import com.parkinglot.shard.ShardRouter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Cancels every active reservation in a scope with one locking SELECT and one set-based UPDATE
+// per chunk, instead of loading and saving reservations one by one. A CANCELLED event is still
+// published for each row, so the ledger, rollups, change feed and in-memory indexes see exactly
+// what a single cancellation would have shown them.
+@Service
+@Slf4j
+public class BulkCancellationService {
+    
+    static final int CHUNK_SIZE = 500;
+    
+    private static final String SELECT_SQL =
+        "SELECT r.id, r.parking_slot_id, ps.floor_id, r.vehicle_number, r.vehicle_type, r.start_time, r.end_time, " +
+        "r.total_cost FROM reservations r JOIN parking_slots ps ON ps.id = r.parking_slot_id " +
+        "WHERE r.status = 'ACTIVE' AND r.id > :afterId";
+    
+    private static final String CANCEL_SQL =
+        "UPDATE reservations SET status = 'CANCELLED', updated_at = :now, version = version + 1 " +
+        "WHERE id IN (:ids) AND status = 'ACTIVE'";
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OccupancyTracker occupancyTracker;
+    private final ReservationJournal reservationJournal;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public BulkCancellationService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   OccupancyTracker occupancyTracker, ReservationJournal reservationJournal,
+                                   ShardRouter shardRouter, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.occupancyTracker = occupancyTracker;
+        this.reservationJournal = reservationJournal;
+        this.shardRouter = shardRouter;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    // Each chunk commits on its own, so a failure part-way leaves the earlier chunks cancelled
+    // and the same request can simply be repeated
+    public BulkCancellationResponse cancelReservations(BulkCancellationRequest request) {
+        log.info("Bulk cancelling reservations: {}", request);
+        validate(request);
+        // Journaled bookings are not in the table yet, so the set-based UPDATE would leave them active
+        if (reservationJournal.isEnabled()) {
+            throw new BusinessRuleViolationException("Reservations cannot be bulk cancelled while the journal is enabled");
+        }
+        
+        List<Long> cancelledIds = new ArrayList<>();
+        List<Long> checkedInIds = new ArrayList<>();
+        for (int shard : shardsOf(request)) {
+            ShardContext.runOn(shard, () -> {
+                long afterId = 0;
+                Chunk chunk;
+                do {
+                    long after = afterId;
+                    chunk = transactionTemplate.execute(status -> cancelChunk(request, after));
+                    cancelledIds.addAll(chunk.getCancelledIds());
+                    checkedInIds.addAll(chunk.getCheckedInIds());
+                    afterId = chunk.getLastId();
+                } while (chunk.getMatched() == CHUNK_SIZE);
+            });
+        }
+        
+        log.info("Bulk cancelled {} reservations, left {} checked-in ones active", cancelledIds.size(), checkedInIds.size());
+        BulkCancellationResponse response = new BulkCancellationResponse();
+        response.setCancelledCount(cancelledIds.size());
+        response.setCancelledIds(cancelledIds);
+        response.setCheckedInIds(checkedInIds);
+        return response;
+    }
+    
+    private Chunk cancelChunk(BulkCancellationRequest request, long afterId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("afterId", afterId);
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        if (request.getParkingSlotIds() != null && !request.getParkingSlotIds().isEmpty()) {
+            sql.append(" AND r.parking_slot_id IN (:slotIds)");
+            params.addValue("slotIds", request.getParkingSlotIds());
+        }
+        if (request.getFloorId() != null) {
+            sql.append(" AND ps.floor_id = :floorId");
+            params.addValue("floorId", request.getFloorId());
+        }
+        if (request.getFrom() != null) {
+            // Same inclusive overlap as the booking conflict check
+            sql.append(" AND r.start_time <= :to AND r.end_time >= :from");
+            params.addValue("from", Timestamp.valueOf(request.getFrom()));
+            params.addValue("to", Timestamp.valueOf(request.getTo()));
+        }
+        // Locked until commit, so every selected row is still active when the UPDATE reaches it
+        sql.append(" ORDER BY r.id LIMIT :limit FOR UPDATE");
+        params.addValue("limit", CHUNK_SIZE);
+        
+        List<ReservationChangedEvent> matched = jdbcTemplate.query(sql.toString(), params, this::toCancelledEvent);
+        if (matched.isEmpty()) {
+            return new Chunk(0, afterId, List.of(), List.of());
+        }
+        
+        List<ReservationChangedEvent> cancellable = new ArrayList<>(matched.size());
+        List<Long> checkedInIds = new ArrayList<>();
+        for (ReservationChangedEvent event : matched) {
+            // Checked-in vehicles are in the slot; their reservations end with check-out
+            if (occupancyTracker.isCheckedIn(event.getReservationId())) {
+                checkedInIds.add(event.getReservationId());
+            } else if (occupancyTracker.isCheckedOut(event.getReservationId())) {
+                // Already left; completed by the occupancy writer's next batch
+                log.debug("Skipping reservation {} that is checked out", event.getReservationId());
+            } else {
+                cancellable.add(event);
+            }
+        }
+        
+        List<Long> cancelledIds = cancellable.stream().map(ReservationChangedEvent::getReservationId).toList();
+        if (!cancelledIds.isEmpty()) {
+            int updated = jdbcTemplate.update(CANCEL_SQL, new MapSqlParameterSource("ids", cancelledIds)
+                    .addValue("now", Timestamp.valueOf(LocalDateTime.now())));
+            if (updated != cancelledIds.size()) {
+                throw new OptimisticLockingFailureException(
+                    "Expected to cancel " + cancelledIds.size() + " reservations but cancelled " + updated);
+            }
+            cancellable.forEach(eventPublisher::publishEvent);
+        }
+        long lastId = matched.get(matched.size() - 1).getReservationId();
+        return new Chunk(matched.size(), lastId, cancelledIds, checkedInIds);
+    }
+    
+    private ReservationChangedEvent toCancelledEvent(ResultSet rs, int rowNum) throws SQLException {
+        return new ReservationChangedEvent(
+            ReservationChangeType.CANCELLED,
+            rs.getLong(1),
+            rs.getLong(2),
+            rs.getLong(3),
+            rs.getString(4),
+            VehicleType.valueOf(rs.getString(5)),
+            rs.getTimestamp(6).toLocalDateTime(),
+            rs.getTimestamp(7).toLocalDateTime(),
+            rs.getBigDecimal(8),
+            ReservationStatus.CANCELLED);
+    }
+    
+    private int[] shardsOf(BulkCancellationRequest request) {
+        if (request.getParkingSlotIds() != null && !request.getParkingSlotIds().isEmpty()) {
+            return request.getParkingSlotIds().stream().mapToInt(ShardIds::shardOf).distinct().sorted().toArray();
+        }
+        if (request.getFloorId() != null) {
+            return new int[] {ShardIds.shardOf(request.getFloorId())};
+        }
+        return IntStream.range(0, shardRouter.getShardCount()).toArray();
+    }
+    
+    private static void validate(BulkCancellationRequest request) {
+        boolean hasSlots = request.getParkingSlotIds() != null && !request.getParkingSlotIds().isEmpty();
+        if ((request.getFrom() == null) != (request.getTo() == null)) {
+            throw new BusinessRuleViolationException("A time range needs both from and to");
+        }
+        if (!hasSlots && request.getFloorId() == null && request.getFrom() == null) {
+            throw new BusinessRuleViolationException("Name parking slots, a floor or a time range to cancel");
+        }
+        if (request.getFrom() != null && request.getTo().isBefore(request.getFrom())) {
+            throw new BusinessRuleViolationException("Time range start must not be after its end");
+        }
+    }
+    
+    @Value
+    private static class Chunk {
+        int matched;
+        long lastId;
+        List<Long> cancelledIds;
+        List<Long> checkedInIds;
+    }
+}
\ No newline at end of file
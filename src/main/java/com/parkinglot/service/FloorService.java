@@ -3,14 +3,19 @@ package com.parkinglot.service;
 import com.parkinglot.dto.FloorCreateRequest;
 import com.parkinglot.dto.FloorResponse;
 import com.parkinglot.entity.Floor;
+import com.parkinglot.entity.Lot;
+import com.parkinglot.event.FloorChangedEvent;
 import com.parkinglot.exception.DuplicateResourceException;
 import com.parkinglot.exception.ResourceNotFoundException;
 import com.parkinglot.repository.FloorRepository;
+import com.parkinglot.shard.ShardRouter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -21,16 +26,25 @@ import java.util.stream.Collectors;
 public class FloorService {
     
     private final FloorRepository floorRepository;
+    private final LotService lotService;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
     
     public FloorResponse createFloor(FloorCreateRequest request) {
-        log.info("Creating floor with number: {}", request.getFloorNumber());
+        log.info("Creating floor with number: {} in lot: {}", request.getFloorNumber(), request.getLotId());
         
-        if (floorRepository.existsByFloorNumber(request.getFloorNumber())) {
+        // Resolving the lot first routes the rest of the transaction to the lot's shard
+        Lot lot = request.getLotId() != null
+                ? lotService.getLotEntity(request.getLotId())
+                : lotService.getDefaultLot();
+        
+        if (floorRepository.existsByLotIdAndFloorNumber(lot.getId(), request.getFloorNumber())) {
             throw new DuplicateResourceException("Floor with number " + request.getFloorNumber() + " already exists");
         }
         
-        Floor floor = new Floor(request.getFloorNumber(), request.getFloorName());
+        Floor floor = new Floor(lot, request.getFloorNumber(), request.getFloorName());
         Floor savedFloor = floorRepository.save(floor);
+        eventPublisher.publishEvent(FloorChangedEvent.of(savedFloor));
         
         log.info("Floor created successfully with ID: {}", savedFloor.getId());
         return convertToResponse(savedFloor);
@@ -39,7 +53,17 @@ public class FloorService {
     @Transactional(readOnly = true)
     public List<FloorResponse> getAllFloors() {
         log.info("Fetching all floors");
-        return floorRepository.findAll()
+        return shardRouter.scatterGather(shard -> floorRepository.findAll()
+                .stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList()));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<FloorResponse> getFloorsByLot(Long lotId) {
+        log.info("Fetching floors for lot ID: {}", lotId);
+        Lot lot = lotService.getLotEntity(lotId);
+        return floorRepository.findByLotId(lot.getId())
                 .stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
@@ -66,9 +90,17 @@ public class FloorService {
                 .orElseThrow(() -> new ResourceNotFoundException("Floor not found with ID: " + id));
     }
     
+    // Joins the caller's transaction; the managed Floor keeps its old count until it is reloaded
+    public void addSlots(Long floorId, int count) {
+        if (floorRepository.addTotalSlots(floorId, count, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("Floor not found with ID: " + floorId);
+        }
+    }
+    
     private FloorResponse convertToResponse(Floor floor) {
         FloorResponse response = new FloorResponse();
         response.setId(floor.getId());
+        response.setLotId(floor.getLot().getId());
         response.setFloorNumber(floor.getFloorNumber());
         response.setFloorName(floor.getFloorName());
         response.setTotalSlots(floor.getTotalSlots());
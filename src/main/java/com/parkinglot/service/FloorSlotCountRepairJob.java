@@ -0,0 +1,93 @@
+package com.parkinglot.service;
+
+import com.parkinglot.event.FloorChangedEvent;
+import com.parkinglot.shard.ShardRouter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Reconciles floors.total_slots with COUNT(*) of parking_slots. The counter is only ever moved by
+// atomic increments, so drift means slots were written around the service (imports, manual SQL)
+// or an increment was lost before it was atomic.
+@Component
+@Order(7)
+@Slf4j
+public class FloorSlotCountRepairJob implements ApplicationRunner {
+    
+    private static final String DRIFT_SQL =
+        "SELECT f.id, f.floor_number, f.total_slots, COUNT(ps.id) FROM floors f " +
+        "LEFT JOIN parking_slots ps ON ps.floor_id = f.id " +
+        "GROUP BY f.id, f.floor_number, f.total_slots HAVING f.total_slots IS NULL OR f.total_slots <> COUNT(ps.id)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public FloorSlotCountRepairJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   ShardRouter shardRouter, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardRouter = shardRouter;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        repairAll();
+    }
+    
+    @Scheduled(cron = "${parkinglot.floors.slot-count-repair-cron:-}")
+    public void scheduledRepair() {
+        repairAll();
+    }
+    
+    public int repairAll() {
+        AtomicInteger repaired = new AtomicInteger();
+        shardRouter.forEachShard(shard -> repaired.addAndGet(repair()));
+        return repaired.get();
+    }
+    
+    public int repair() {
+        return transactionTemplate.execute(status -> {
+            // Slot creation increments its floor while holding the floor's row lock until commit.
+            // With every floor locked, each count covers exactly the slots committed so far, and
+            // creators still in flight add their own increment after we release the rows.
+            jdbcTemplate.queryForList("SELECT id FROM floors FOR UPDATE", Long.class);
+            
+            List<Drift> drifts = jdbcTemplate.query(DRIFT_SQL, (rs, rowNum) ->
+                    new Drift(rs.getLong(1), rs.getInt(2), (Integer) rs.getObject(3), rs.getInt(4)));
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (Drift drift : drifts) {
+                log.warn("Floor {} counted {} slots but has {}, repairing", drift.getFloorId(),
+                        drift.getRecorded(), drift.getActual());
+                jdbcTemplate.update("UPDATE floors SET total_slots = ?, updated_at = ?, version = version + 1 " +
+                        "WHERE id = ?", drift.getActual(), now, drift.getFloorId());
+                // Floor responses carry the count, so their ETags move once the repair commits
+                eventPublisher.publishEvent(new FloorChangedEvent(drift.getFloorId(), drift.getFloorNumber()));
+            }
+            return drifts.size();
+        });
+    }
+    
+    @Value
+    private static class Drift {
+        long floorId;
+        int floorNumber;
+        Integer recorded;
+        int actual;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.parkinglot.service;
+
+import com.parkinglot.config.ShardingProperties;
+import com.parkinglot.dto.LotCreateRequest;
+import com.parkinglot.dto.LotResponse;
+import com.parkinglot.entity.Lot;
+import com.parkinglot.exception.DuplicateResourceException;
+import com.parkinglot.exception.ResourceNotFoundException;
+import com.parkinglot.repository.LotRepository;
+import com.parkinglot.shard.ShardIds;
+import com.parkinglot.shard.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class LotService {
+    
+    private final LotRepository lotRepository;
+    private final ShardRouter shardRouter;
+    private final ShardingProperties shardingProperties;
+    
+    private volatile Long defaultLotId;
+    
+    public LotResponse createLot(LotCreateRequest request) {
+        int shard = shardRouter.shardForLot(request.getCode());
+        log.info("Creating lot {} on shard {}", request.getCode(), shard);
+        
+        // The code decides the shard, so a duplicate can only live on the same one
+        shardRouter.bindTransaction(shard);
+        if (lotRepository.existsByCode(request.getCode())) {
+            throw new DuplicateResourceException("Lot with code " + request.getCode() + " already exists");
+        }
+        
+        Lot savedLot = lotRepository.save(new Lot(request.getCode(), request.getLotName()));
+        log.info("Lot created successfully with ID: {}", savedLot.getId());
+        return convertToResponse(savedLot);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<LotResponse> getAllLots() {
+        log.info("Fetching all lots");
+        return shardRouter.scatterGather(shard -> lotRepository.findAll()
+                .stream()
+                .map(this::convertToResponse)
+                .toList());
+    }
+    
+    @Transactional(readOnly = true)
+    public LotResponse getLotById(Long id) {
+        log.info("Fetching lot with ID: {}", id);
+        return convertToResponse(getLotEntity(id));
+    }
+    
+    public Lot getLotEntity(Long id) {
+        return lotRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Lot not found with ID: " + id));
+    }
+    
+    // Floors created without a lot id go to the default lot, which is created on first use
+    public Lot getDefaultLot() {
+        Long id = defaultLotId;
+        if (id != null) {
+            return getLotEntity(id);
+        }
+        shardRouter.bindTransaction(0);
+        String code = shardingProperties.getDefaultLot();
+        Optional<Lot> existing = lotRepository.findByCode(code);
+        if (existing.isPresent()) {
+            defaultLotId = existing.get().getId();
+            return existing.get();
+        }
+        Lot created = lotRepository.save(new Lot(code, "Main Lot"));
+        // Cached only once committed, so a rolled back floor creation leaves no dangling id behind
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                defaultLotId = created.getId();
+            }
+        });
+        return created;
+    }
+    
+    public Long getDefaultLotId() {
+        Long id = defaultLotId;
+        return id != null ? id : getDefaultLot().getId();
+    }
+    
+    private LotResponse convertToResponse(Lot lot) {
+        LotResponse response = new LotResponse();
+        response.setId(lot.getId());
+        response.setCode(lot.getCode());
+        response.setLotName(lot.getLotName());
+        response.setShard(ShardIds.shardOf(lot.getId()));
+        response.setCreatedAt(lot.getCreatedAt());
+        response.setUpdatedAt(lot.getUpdatedAt());
+        return response;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.parkinglot.service;
+
+import com.parkinglot.config.OccupancyProperties;
+import com.parkinglot.dto.OccupancyResponse;
+import com.parkinglot.entity.Reservation;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.exception.ResourceNotFoundException;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.occupancy.OccupancyTracker;
+import com.parkinglot.occupancy.Visit;
+import com.parkinglot.repository.ReservationRepository;
+import com.parkinglot.state.BookingStateIndex;
+import com.parkinglot.state.SlotState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// Gate operations. Both are answered from the in-memory occupancy; the database sees them in the
+// next batch written by OccupancyTracker.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class OccupancyService {
+    
+    private final ReservationRepository reservationRepository;
+    private final OccupancyTracker occupancyTracker;
+    private final BookingStateIndex bookingStateIndex;
+    private final OccupancyProperties properties;
+    
+    public OccupancyResponse checkIn(Long reservationId) {
+        log.info("Checking in reservation with ID: {}", reservationId);
+        
+        Reservation reservation = reservationRepository.findByIdAndStatus(reservationId, ReservationStatus.ACTIVE)
+                .orElseThrow(() -> new ResourceNotFoundException("Active reservation not found with ID: " + reservationId));
+        
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime opensAt = reservation.getStartTime().minus(properties.getEarlyCheckIn());
+        if (now.isBefore(opensAt)) {
+            throw new BusinessRuleViolationException("Check-in opens at " + opensAt);
+        }
+        if (now.isAfter(reservation.getEndTime())) {
+            throw new BusinessRuleViolationException("Reservation ended at " + reservation.getEndTime());
+        }
+        
+        long slotId = reservation.getParkingSlot().getId();
+        SlotStatus slotStatus = bookingStateIndex.getSlot(slotId).map(SlotState::getStatus).orElse(null);
+        if (slotStatus == SlotStatus.MAINTENANCE) {
+            throw new BusinessRuleViolationException("Slot is under maintenance");
+        }
+        
+        Visit visit = occupancyTracker.checkIn(reservationId, slotId, reservation.getVehicleNumber(), now);
+        return convertToResponse(visit, SlotStatus.OCCUPIED, ReservationStatus.ACTIVE, null);
+    }
+    
+    public OccupancyResponse checkOut(Long reservationId) {
+        log.info("Checking out reservation with ID: {}", reservationId);
+        
+        LocalDateTime now = LocalDateTime.now();
+        Visit visit = occupancyTracker.checkOut(reservationId, now);
+        return convertToResponse(visit, SlotStatus.AVAILABLE, ReservationStatus.COMPLETED, now);
+    }
+    
+    private OccupancyResponse convertToResponse(Visit visit, SlotStatus slotStatus, ReservationStatus reservationStatus,
+                                                LocalDateTime checkedOutAt) {
+        OccupancyResponse response = new OccupancyResponse();
+        response.setReservationId(visit.getReservationId());
+        response.setParkingSlotId(visit.getParkingSlotId());
+        response.setVehicleNumber(visit.getVehicleNumber());
+        response.setSlotStatus(slotStatus);
+        response.setReservationStatus(reservationStatus);
+        response.setCheckedInAt(visit.getCheckedInAt());
+        response.setCheckedOutAt(checkedOutAt);
+        return response;
+    }
+}
\ No newline at end of file
@@ -4,13 +4,21 @@ import com.parkinglot.dto.ParkingSlotCreateRequest;
 import com.parkinglot.dto.ParkingSlotResponse;
 import com.parkinglot.entity.Floor;
 import com.parkinglot.entity.ParkingSlot;
+import com.parkinglot.event.ParkingSlotChangedEvent;
 import com.parkinglot.exception.DuplicateResourceException;
 import com.parkinglot.exception.ResourceNotFoundException;
 import com.parkinglot.model.VehicleType;
 import com.parkinglot.repository.ParkingSlotRepository;
+import com.parkinglot.retry.RetryOnConflict;
+import com.parkinglot.shard.ShardIds;
+import com.parkinglot.shard.ShardRouter;
+import com.parkinglot.state.AvailabilityEvaluator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -18,7 +26,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,7 +41,11 @@ public class ParkingSlotService {
     
     private final ParkingSlotRepository parkingSlotRepository;
     private final FloorService floorService;
+    private final ShardRouter shardRouter;
+    private final AvailabilityEvaluator availabilityEvaluator;
+    private final ApplicationEventPublisher eventPublisher;
     
+    @RetryOnConflict
     public ParkingSlotResponse createParkingSlot(ParkingSlotCreateRequest request) {
         log.info("Creating parking slot {} on floor {}", request.getSlotNumber(), request.getFloorId());
         
@@ -43,8 +59,8 @@ public class ParkingSlotService {
         ParkingSlot slot = new ParkingSlot(request.getSlotNumber(), floor, request.getVehicleType());
         ParkingSlot savedSlot = parkingSlotRepository.save(slot);
         
-        // Update floor total slots count
-        floor.setTotalSlots(floor.getTotalSlots() + 1);
+        floorService.addSlots(floor.getId(), 1);
+        eventPublisher.publishEvent(ParkingSlotChangedEvent.of(savedSlot));
         
         log.info("Parking slot created successfully with ID: {}", savedSlot.getId());
         return convertToResponse(savedSlot);
@@ -53,10 +69,10 @@ public class ParkingSlotService {
     @Transactional(readOnly = true)
     public List<ParkingSlotResponse> getAllParkingSlots() {
         log.info("Fetching all parking slots");
-        return parkingSlotRepository.findAll()
+        return shardRouter.scatterGather(shard -> parkingSlotRepository.findAll()
                 .stream()
                 .map(this::convertToResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
     
     @Transactional(readOnly = true)
@@ -83,6 +99,15 @@ public class ParkingSlotService {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
         
+        // The catalog keeps slots in id order, so only the default sort is answered from memory
+        if ("id".equals(sortBy) && availabilityEvaluator.isCurrent()) {
+            return getAvailableSlotsFromMemory(startTime, endTime, vehicleType, pageable);
+        }
+        
+        if (shardRouter.isSharded()) {
+            return getAvailableSlotsAcrossShards(startTime, endTime, vehicleType, pageable);
+        }
+        
         if (vehicleType != null) {
             return parkingSlotRepository.findAvailableSlotsByVehicleType(vehicleType, startTime, endTime, pageable)
                     .map(this::convertToResponse);
@@ -100,11 +125,75 @@ public class ParkingSlotService {
         }
     }
     
+    // Candidates come from the columnar catalog and are checked against the in-memory bookings;
+    // only the slots on the requested page are read from the database
+    private Page<ParkingSlotResponse> getAvailableSlotsFromMemory(LocalDateTime startTime, LocalDateTime endTime,
+                                                                 VehicleType vehicleType, Pageable pageable) {
+        long[] available = availabilityEvaluator.freeSlotIds(vehicleType, startTime, endTime);
+        int start = (int) Math.min(pageable.getOffset(), available.length);
+        int end = Math.min(start + pageable.getPageSize(), available.length);
+        List<Long> pageIds = Arrays.stream(available, start, end).boxed().toList();
+        return new PageImpl<>(findSlotsInIdOrder(pageIds), pageable, available.length);
+    }
+    
+    private List<ParkingSlotResponse> findSlotsInIdOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, List<Long>> idsByShard = ShardIds.groupByShard(ids, Long::longValue);
+        List<ParkingSlotResponse> slots = new ArrayList<>(shardRouter.scatterGather(shard -> {
+            List<Long> shardIds = idsByShard.get(shard);
+            return shardIds == null ? List.of() : parkingSlotRepository.findAllWithFloorByIdIn(shardIds)
+                    .stream()
+                    .map(this::convertToResponse)
+                    .collect(Collectors.toList());
+        }));
+        slots.sort(Comparator.comparing(ParkingSlotResponse::getId));
+        return slots;
+    }
+    
+    // Every shard returns its full, sorted list of free slots and the page is cut from the merge
+    private Page<ParkingSlotResponse> getAvailableSlotsAcrossShards(LocalDateTime startTime, LocalDateTime endTime,
+                                                                  VehicleType vehicleType, Pageable pageable) {
+        List<ParkingSlotResponse> availableSlots = shardRouter.scatterGather(shard -> {
+            List<ParkingSlot> slots = vehicleType != null
+                    ? parkingSlotRepository.findAvailableSlotsByVehicleType(vehicleType, startTime, endTime,
+                            Pageable.unpaged(pageable.getSort())).getContent()
+                    : parkingSlotRepository.findAvailableSlots(startTime, endTime);
+            return slots.stream().map(this::convertToResponse).collect(Collectors.toList());
+        });
+        availableSlots.sort(responseOrder(pageable.getSort()));
+        
+        int start = (int) Math.min(pageable.getOffset(), availableSlots.size());
+        int end = Math.min(start + pageable.getPageSize(), availableSlots.size());
+        return new PageImpl<>(availableSlots.subList(start, end), pageable, availableSlots.size());
+    }
+    
+    // Orders merged responses by the requested property when the response carries it, else by id
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<ParkingSlotResponse> responseOrder(Sort sort) {
+        Comparator<ParkingSlotResponse> byId = Comparator.comparing(ParkingSlotResponse::getId);
+        Sort.Order order = sort.iterator().hasNext() ? sort.iterator().next() : null;
+        if (order == null || !new BeanWrapperImpl(ParkingSlotResponse.class).isReadableProperty(order.getProperty())) {
+            return byId;
+        }
+        Comparator<ParkingSlotResponse> byProperty = Comparator.comparing(
+                response -> (Comparable) new BeanWrapperImpl(response).getPropertyValue(order.getProperty()),
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        return (order.isAscending() ? byProperty : byProperty.reversed()).thenComparing(byId);
+    }
+    
     public ParkingSlot getParkingSlotEntity(Long id) {
         return parkingSlotRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Parking slot not found with ID: " + id));
     }
     
+    // The slot's version is bumped on commit; see ParkingSlotRepository.findForBookingById
+    public ParkingSlot getParkingSlotForBooking(Long id) {
+        return parkingSlotRepository.findForBookingById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Parking slot not found with ID: " + id));
+    }
+    
     private ParkingSlotResponse convertToResponse(ParkingSlot slot) {
         ParkingSlotResponse response = new ParkingSlotResponse();
         response.setId(slot.getId());
@@ -0,0 +1,74 @@
+package com.parkinglot.service;
+
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.model.VehicleType;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Time window and pricing rules shared by the servlet and reactive reservation services
+public final class ReservationRules {
+    
+    // No reservation is longer than this: validateTimes accepts 24 whole hours plus a partial one
+    public static final Duration MAX_DURATION = Duration.ofHours(25);
+    
+    private ReservationRules() {
+    }
+    
+    public static void validateTimes(LocalDateTime startTime, LocalDateTime endTime) {
+        LocalDateTime now = LocalDateTime.now();
+        
+        // Check if start time is before end time
+        if (!startTime.isBefore(endTime)) {
+            throw new BusinessRuleViolationException("Start time must be before end time");
+        }
+        
+        // Check if times are in the future
+        if (startTime.isBefore(now) || endTime.isBefore(now)) {
+            throw new BusinessRuleViolationException("Reservation times must be in the future");
+        }
+        
+        // Check duration doesn't exceed 24 hours
+        Duration duration = Duration.between(startTime, endTime);
+        if (duration.toHours() > 24) {
+            throw new BusinessRuleViolationException("Reservation duration cannot exceed 24 hours");
+        }
+    }
+    
+    // A stay that has begun keeps its start and may only have its end moved
+    public static void validateReschedule(LocalDateTime currentStartTime, LocalDateTime startTime,
+                                          LocalDateTime endTime) {
+        if (!startTime.equals(currentStartTime)) {
+            if (!currentStartTime.isAfter(LocalDateTime.now())) {
+                throw new BusinessRuleViolationException("The start of a reservation that has begun cannot be changed");
+            }
+            validateTimes(startTime, endTime);
+            return;
+        }
+        if (!startTime.isBefore(endTime)) {
+            throw new BusinessRuleViolationException("Start time must be before end time");
+        }
+        if (endTime.isBefore(LocalDateTime.now())) {
+            throw new BusinessRuleViolationException("Reservation times must be in the future");
+        }
+        if (Duration.between(startTime, endTime).toHours() > 24) {
+            throw new BusinessRuleViolationException("Reservation duration cannot exceed 24 hours");
+        }
+    }
+    
+    public static int billableHours(LocalDateTime startTime, LocalDateTime endTime) {
+        Duration duration = Duration.between(startTime, endTime);
+        
+        // Round up partial hours
+        long hours = duration.toHours();
+        if (duration.toMinutes() % 60 > 0) {
+            hours++;
+        }
+        return (int) hours;
+    }
+    
+    public static BigDecimal totalCost(VehicleType vehicleType, int hours) {
+        return BigDecimal.valueOf(vehicleType.getHourlyRate() * hours);
+    }
+}
\ No newline at end of file
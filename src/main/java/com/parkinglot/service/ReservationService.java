@@ -2,21 +2,44 @@ package com.parkinglot.service;
 
 import com.parkinglot.dto.ReservationCreateRequest;
 import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.dto.ReservationSearchPage;
+import com.parkinglot.dto.ReservationSearchRequest;
+import com.parkinglot.dto.ReservationUpdateRequest;
 import com.parkinglot.entity.ParkingSlot;
 import com.parkinglot.entity.Reservation;
+import com.parkinglot.event.ReservationChangedEvent;
 import com.parkinglot.exception.BusinessRuleViolationException;
 import com.parkinglot.exception.ResourceNotFoundException;
+import com.parkinglot.journal.ReservationJournal;
+import com.parkinglot.model.ReservationChangeType;
 import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.occupancy.OccupancyTracker;
 import com.parkinglot.repository.ReservationRepository;
+import com.parkinglot.repository.ReservationSpecifications;
+import com.parkinglot.retry.RetryOnConflict;
+import com.parkinglot.shard.ShardRouter;
+import com.parkinglot.state.VehicleReservationIndex;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,9 +48,22 @@ import java.util.stream.Collectors;
 @Transactional
 public class ReservationService {
     
+    static final int DEFAULT_SEARCH_PAGE_SIZE = 50;
+    static final int MAX_SEARCH_PAGE_SIZE = 200;
+    
+    private static final Sort SEARCH_ORDER = Sort.by("startTime", "id");
+    private static final Comparator<ReservationResponse> SEARCH_COMPARATOR =
+            Comparator.comparing(ReservationResponse::getStartTime).thenComparing(ReservationResponse::getId);
+    
     private final ReservationRepository reservationRepository;
     private final ParkingSlotService parkingSlotService;
+    private final ReservationJournal reservationJournal;
+    private final VehicleReservationIndex vehicleReservationIndex;
+    private final OccupancyTracker occupancyTracker;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
     
+    @RetryOnConflict
     public ReservationResponse createReservation(ReservationCreateRequest request) {
         log.info("Creating reservation for slot {} from {} to {}", 
                 request.getParkingSlotId(), request.getStartTime(), request.getEndTime());
@@ -35,10 +71,13 @@ public class ReservationService {
         // Validate business rules
         validateReservationRequest(request);
         
-        ParkingSlot slot = parkingSlotService.getParkingSlotEntity(request.getParkingSlotId());
+        // Without the journal, concurrent bookings of a slot are serialized by its version
+        ParkingSlot slot = reservationJournal.isEnabled()
+                ? parkingSlotService.getParkingSlotEntity(request.getParkingSlotId())
+                : parkingSlotService.getParkingSlotForBooking(request.getParkingSlotId());
         
-        // Check for conflicts
-        if (reservationRepository.hasConflictingReservation(
+        // Check for conflicts (the journal repeats this check under its slot lock)
+        if (!reservationJournal.isEnabled() && reservationRepository.hasConflictingReservation(
                 request.getParkingSlotId(), request.getStartTime(), request.getEndTime())) {
             throw new BusinessRuleViolationException(
                 "Slot is already reserved for the specified time range");
@@ -57,12 +96,60 @@ public class ReservationService {
         // Calculate cost and duration
         calculateCostAndDuration(reservation);
         
+        if (reservationJournal.isEnabled()) {
+            Reservation journaledReservation = reservationJournal.append(reservation);
+            log.info("Reservation accepted with journal sequence: {}", journaledReservation.getJournalSequence());
+            return convertToResponse(journaledReservation);
+        }
+        
         Reservation savedReservation = reservationRepository.save(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.of(savedReservation, ReservationChangeType.CREATED));
         
         log.info("Reservation created successfully with ID: {}", savedReservation.getId());
         return convertToResponse(savedReservation);
     }
     
+    // Group commit for the booking pipeline. The floor's writer has already checked these requests
+    // against the in-memory booking state, so the batch costs one overlap query and one commit
+    // instead of a transaction per booking. The query catches bookings committed elsewhere that
+    // the in-memory state has not caught up with yet, and the slot version bump catches those that
+    // commit while the batch is running; either fails the whole batch.
+    public List<ReservationResponse> createReservations(List<ReservationCreateRequest> requests) {
+        Map<Long, ParkingSlot> slots = new HashMap<>();
+        for (ReservationCreateRequest request : requests) {
+            slots.computeIfAbsent(request.getParkingSlotId(), parkingSlotService::getParkingSlotForBooking);
+        }
+        LocalDateTime windowStart = requests.stream().map(ReservationCreateRequest::getStartTime)
+                .min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime windowEnd = requests.stream().map(ReservationCreateRequest::getEndTime)
+                .max(Comparator.naturalOrder()).orElseThrow();
+        List<Reservation> existing = reservationRepository.findActiveInWindow(slots.keySet(), windowStart, windowEnd);
+        
+        List<Reservation> reservations = new ArrayList<>(requests.size());
+        for (ReservationCreateRequest request : requests) {
+            for (Reservation other : existing) {
+                if (other.getParkingSlot().getId().equals(request.getParkingSlotId())
+                        && !other.getStartTime().isAfter(request.getEndTime())
+                        && !other.getEndTime().isBefore(request.getStartTime())) {
+                    throw new OptimisticLockingFailureException(
+                        "Slot " + request.getParkingSlotId() + " was booked outside the booking pipeline");
+                }
+            }
+            Reservation reservation = new Reservation(
+                slots.get(request.getParkingSlotId()), request.getVehicleNumber(), request.getVehicleType(),
+                request.getStartTime(), request.getEndTime());
+            calculateCostAndDuration(reservation);
+            reservations.add(reservation);
+        }
+        
+        List<Reservation> savedReservations = reservationRepository.saveAll(reservations);
+        savedReservations.forEach(saved ->
+                eventPublisher.publishEvent(ReservationChangedEvent.of(saved, ReservationChangeType.CREATED)));
+        
+        log.info("Created {} reservations in one batch", savedReservations.size());
+        return savedReservations.stream().map(this::convertToResponse).collect(Collectors.toList());
+    }
+    
     @Transactional(readOnly = true)
     public ReservationResponse getReservationById(Long id) {
         log.info("Fetching reservation with ID: {}", id);
@@ -71,71 +158,233 @@ public class ReservationService {
         return convertToResponse(reservation);
     }
     
+    // Resolves a booking acknowledged by the journal: the booking itself while it waits to be
+    // persisted, its row (with the ID) afterwards. The journal forgets an entry only once its row
+    // has committed, so asking the journal first never misses both.
+    @Transactional(readOnly = true)
+    public ReservationResponse getReservationByJournalSequence(Long sequence) {
+        log.info("Fetching reservation with journal sequence: {}", sequence);
+        Optional<Reservation> unpersisted = reservationJournal.findUnpersisted(sequence);
+        if (unpersisted.isPresent()) {
+            return convertToResponse(unpersisted.get());
+        }
+        Reservation reservation = reservationRepository.findByJournalSequence(sequence)
+                .orElseThrow(() -> new ResourceNotFoundException("Reservation not found with journal sequence: " + sequence));
+        return convertToResponse(reservation);
+    }
+    
+    // Gate lookup: unknown plates are rejected by the index's Bloom filter, known ones resolve to a
+    // reservation id in memory and cost a single primary-key read
+    @Transactional(readOnly = true)
+    public ReservationResponse getReservationByVehicle(String vehicleNumber) {
+        log.debug("Fetching current reservation for vehicle: {}", vehicleNumber);
+        LocalDateTime now = LocalDateTime.now();
+        
+        if (vehicleReservationIndex.isCurrent()) {
+            if (!vehicleReservationIndex.mightContain(vehicleNumber)) {
+                throw vehicleNotFound(vehicleNumber);
+            }
+            Optional<Long> reservationId = vehicleReservationIndex.findCurrentOrNext(vehicleNumber, now);
+            if (reservationId.isEmpty()) {
+                throw vehicleNotFound(vehicleNumber);
+            }
+            Optional<Reservation> reservation =
+                    reservationRepository.findByIdAndStatus(reservationId.get(), ReservationStatus.ACTIVE);
+            if (reservation.isPresent()) {
+                return convertToResponse(reservation.get());
+            }
+            // The index has not seen the latest change yet; the database has the answer
+        }
+        
+        // The vehicle may have bookings in several lots; the earliest one across shards wins
+        return shardRouter.scatterGather(shard ->
+                        reservationRepository.findFirstByVehicleNumberAndStatusAndEndTimeGreaterThanEqualOrderByStartTimeAsc(
+                                        vehicleNumber, ReservationStatus.ACTIVE, now)
+                                .map(this::convertToResponse)
+                                .stream()
+                                .toList())
+                .stream()
+                .min(Comparator.comparing(ReservationResponse::getStartTime))
+                .orElseThrow(() -> vehicleNotFound(vehicleNumber));
+    }
+    
     @Transactional(readOnly = true)
     public List<ReservationResponse> getAllReservations() {
         log.info("Fetching all reservations");
-        return reservationRepository.findAll()
+        return shardRouter.scatterGather(shard -> reservationRepository.findAll()
                 .stream()
                 .map(this::convertToResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
     
     @Transactional(readOnly = true)
     public List<ReservationResponse> getActiveReservations() {
         log.info("Fetching active reservations");
-        return reservationRepository.findByStatus(ReservationStatus.ACTIVE)
+        return shardRouter.scatterGather(shard -> reservationRepository.findByStatus(ReservationStatus.ACTIVE)
                 .stream()
                 .map(this::convertToResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
     
+    // Keyset pagination: each page continues strictly after the (startTime, id) of the last row
+    // of the previous one, so a page costs the same however deep the caller has paged
+    @Transactional(readOnly = true)
+    public ReservationSearchPage searchReservations(ReservationSearchRequest request) {
+        log.info("Searching reservations: {}", request);
+        
+        LocalDateTime from = request.getFrom();
+        LocalDateTime to = request.getTo();
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new BusinessRuleViolationException("Search range start must not be after its end");
+        }
+        int pageSize = searchPageSize(request.getLimit());
+        SearchKey after = decodeCursor(request.getCursor());
+        
+        Specification<Reservation> filter = Specification.allOf(
+            ReservationSpecifications.hasStatus(request.getStatus()),
+            ReservationSpecifications.forSlot(request.getParkingSlotId()),
+            ReservationSpecifications.onFloor(request.getFloorId()),
+            ReservationSpecifications.hasVehicleType(request.getVehicleType()),
+            // Overlap with the range; the lower start bound keeps the scan on the start time index
+            ReservationSpecifications.endsAtOrAfter(from),
+            ReservationSpecifications.startsAtOrAfter(from == null ? null : from.minus(ReservationRules.MAX_DURATION)),
+            ReservationSpecifications.startsAtOrBefore(to),
+            ReservationSpecifications.after(after.getStartTime(), after.getId()),
+            ReservationSpecifications.fetchSlotAndFloor());
+        
+        // One row past the page tells whether there is another. Every shard returns its own first
+        // rows in key order, so the first rows of the merge are the first rows overall.
+        List<ReservationResponse> matches = shardRouter.scatterGather(shard -> reservationRepository
+                .findBy(filter, query -> query.sortBy(SEARCH_ORDER).limit(pageSize + 1).all())
+                .stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList()));
+        if (shardRouter.isSharded()) {
+            matches.sort(SEARCH_COMPARATOR);
+        }
+        
+        ReservationSearchPage page = new ReservationSearchPage();
+        page.setHasMore(matches.size() > pageSize);
+        page.setReservations(page.isHasMore() ? new ArrayList<>(matches.subList(0, pageSize)) : matches);
+        if (page.isHasMore()) {
+            page.setNextCursor(encodeCursor(matches.get(pageSize - 1)));
+        }
+        return page;
+    }
+    
+    @RetryOnConflict
     public ReservationResponse cancelReservation(Long id) {
         log.info("Cancelling reservation with ID: {}", id);
         
+        if (occupancyTracker.isCheckedIn(id)) {
+            throw new BusinessRuleViolationException("Reservation " + id + " is checked in and must be checked out instead");
+        }
+        if (occupancyTracker.isCheckedOut(id)) {
+            throw new BusinessRuleViolationException("Reservation " + id + " is already checked out");
+        }
+        
         Reservation reservation = reservationRepository.findByIdAndStatus(id, ReservationStatus.ACTIVE)
                 .orElseThrow(() -> new ResourceNotFoundException("Active reservation not found with ID: " + id));
         
         reservation.setStatus(ReservationStatus.CANCELLED);
         Reservation savedReservation = reservationRepository.save(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.of(savedReservation, ReservationChangeType.CANCELLED));
         
         log.info("Reservation cancelled successfully with ID: {}", id);
         return convertToResponse(savedReservation);
     }
     
-    private void validateReservationRequest(ReservationCreateRequest request) {
-        LocalDateTime now = LocalDateTime.now();
+    // Moves the start and/or end of an active reservation in place. Only the part of the new window
+    // outside the old one is checked for conflicts, since the reservation already holds the rest;
+    // bumping the slot's version serializes this with bookings of the same slot as on creation.
+    @RetryOnConflict
+    public ReservationResponse updateReservationTimes(Long id, ReservationUpdateRequest request) {
+        log.info("Rescheduling reservation {} to {} - {}", id, request.getStartTime(), request.getEndTime());
         
-        // Check if start time is before end time
-        if (!request.getStartTime().isBefore(request.getEndTime())) {
-            throw new BusinessRuleViolationException("Start time must be before end time");
+        if (request.getStartTime() == null && request.getEndTime() == null) {
+            throw new BusinessRuleViolationException("A new start time, end time or both is required");
+        }
+        // Journaled bookings are not in the table yet, so a conflict check against it could miss them
+        if (reservationJournal.isEnabled()) {
+            throw new BusinessRuleViolationException("Reservations cannot be rescheduled while the journal is enabled");
         }
         
-        // Check if times are in the future
-        if (request.getStartTime().isBefore(now) || request.getEndTime().isBefore(now)) {
-            throw new BusinessRuleViolationException("Reservation times must be in the future");
+        Reservation reservation = reservationRepository.findByIdAndStatus(id, ReservationStatus.ACTIVE)
+                .orElseThrow(() -> new ResourceNotFoundException("Active reservation not found with ID: " + id));
+        Window previous = new Window(reservation.getStartTime(), reservation.getEndTime());
+        Window updated = new Window(
+                request.getStartTime() != null ? request.getStartTime() : previous.getStartTime(),
+                request.getEndTime() != null ? request.getEndTime() : previous.getEndTime());
+        if (updated.equals(previous)) {
+            return convertToResponse(reservation);
+        }
+        if (!updated.getStartTime().equals(previous.getStartTime()) && occupancyTracker.isCheckedIn(id)) {
+            throw new BusinessRuleViolationException("Reservation " + id + " is checked in, only its end time can be changed");
         }
+        ReservationRules.validateReschedule(previous.getStartTime(), updated.getStartTime(), updated.getEndTime());
         
-        // Check duration doesn't exceed 24 hours
-        Duration duration = Duration.between(request.getStartTime(), request.getEndTime());
-        if (duration.toHours() > 24) {
-            throw new BusinessRuleViolationException("Reservation duration cannot exceed 24 hours");
+        Long slotId = reservation.getParkingSlot().getId();
+        parkingSlotService.getParkingSlotForBooking(slotId);
+        for (Window added : updated.minus(previous)) {
+            if (reservationRepository.hasOtherConflictingReservation(
+                    slotId, id, added.getStartTime(), added.getEndTime())) {
+                throw new BusinessRuleViolationException("Slot is already reserved for the specified time range");
+            }
         }
+        
+        BigDecimal previousCost = reservation.getTotalCost();
+        reservation.setStartTime(updated.getStartTime());
+        reservation.setEndTime(updated.getEndTime());
+        calculateCostAndDuration(reservation);
+        Reservation savedReservation = reservationRepository.save(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.rescheduled(
+                savedReservation, previous.getStartTime(), previous.getEndTime(), previousCost));
+        
+        log.info("Reservation {} rescheduled to {} - {}", id, updated.getStartTime(), updated.getEndTime());
+        return convertToResponse(savedReservation);
     }
     
-    private void calculateCostAndDuration(Reservation reservation) {
-        Duration duration = Duration.between(reservation.getStartTime(), reservation.getEndTime());
-        
-        // Round up partial hours
-        long hours = duration.toHours();
-        if (duration.toMinutes() % 60 > 0) {
-            hours++;
+    private ResourceNotFoundException vehicleNotFound(String vehicleNumber) {
+        return new ResourceNotFoundException("No active reservation found for vehicle: " + vehicleNumber);
+    }
+    
+    private static int searchPageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_SEARCH_PAGE_SIZE;
         }
-        
-        reservation.setDurationHours((int) hours);
+        if (limit < 1) {
+            throw new BusinessRuleViolationException("Page size must be at least 1");
+        }
+        return Math.min(limit, MAX_SEARCH_PAGE_SIZE);
+    }
+    
+    private static String encodeCursor(ReservationResponse last) {
+        String key = last.getStartTime() + "," + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static SearchKey decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return SearchKey.FIRST;
+        }
+        try {
+            String[] key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",", 2);
+            return new SearchKey(LocalDateTime.parse(key[0]), Long.parseLong(key[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new BusinessRuleViolationException("Invalid search cursor");
+        }
+    }
+    
+    private void validateReservationRequest(ReservationCreateRequest request) {
+        ReservationRules.validateTimes(request.getStartTime(), request.getEndTime());
+    }
+    
+    private void calculateCostAndDuration(Reservation reservation) {
+        int hours = ReservationRules.billableHours(reservation.getStartTime(), reservation.getEndTime());
+        reservation.setDurationHours(hours);
         
         // Calculate total cost
-        double hourlyRate = reservation.getVehicleType().getHourlyRate();
-        BigDecimal totalCost = BigDecimal.valueOf(hourlyRate * hours);
+        BigDecimal totalCost = ReservationRules.totalCost(reservation.getVehicleType(), hours);
         reservation.setTotalCost(totalCost);
         
         log.info("Calculated duration: {} hours, cost: {}", hours, totalCost);
@@ -144,6 +393,7 @@ public class ReservationService {
     private ReservationResponse convertToResponse(Reservation reservation) {
         ReservationResponse response = new ReservationResponse();
         response.setId(reservation.getId());
+        response.setJournalSequence(reservation.getJournalSequence());
         response.setParkingSlotId(reservation.getParkingSlot().getId());
         response.setSlotNumber(reservation.getParkingSlot().getSlotNumber());
         response.setFloorName(reservation.getParkingSlot().getFloor().getFloorName());
@@ -158,4 +408,36 @@ public class ReservationService {
         response.setUpdatedAt(reservation.getUpdatedAt());
         return response;
     }
+    
+    // Position of the last row of a search page; FIRST starts from the beginning
+    @Value
+    private static class SearchKey {
+        static final SearchKey FIRST = new SearchKey(null, null);
+        
+        LocalDateTime startTime;
+        Long id;
+    }
+    
+    // A reservation's time window
+    @Value
+    private static class Window {
+        LocalDateTime startTime;
+        LocalDateTime endTime;
+        
+        // The parts of this window outside the other one: nothing when shortened, the extension
+        // at either end when lengthened, and the whole window when the two do not overlap
+        List<Window> minus(Window other) {
+            if (!startTime.isBefore(other.endTime) || !endTime.isAfter(other.startTime)) {
+                return List.of(this);
+            }
+            List<Window> parts = new ArrayList<>(2);
+            if (startTime.isBefore(other.startTime)) {
+                parts.add(new Window(startTime, other.startTime));
+            }
+            if (endTime.isAfter(other.endTime)) {
+                parts.add(new Window(other.endTime, endTime));
+            }
+            return parts;
+        }
+    }
 }
\ No newline at end of file
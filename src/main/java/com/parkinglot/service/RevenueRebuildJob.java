@@ -0,0 +1,226 @@
+package com.parkinglot.service;
+
+import com.parkinglot.config.RevenueProperties;
+import com.parkinglot.shard.ShardContext;
+import com.parkinglot.shard.ShardRouter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Recomputes daily_revenue from the revenue ledger. The ledger is aggregated in id-range chunks on
+// a bounded pool without locks; the totals are then swapped in under row locks so bookings that
+// commit during the rebuild are neither lost nor counted twice.
+@Component
+@Order(6)
+@Slf4j
+public class RevenueRebuildJob implements ApplicationRunner {
+    
+    private static final String CHUNK_TOTALS_SQL =
+        "SELECT revenue_date, floor_id, vehicle_type, " +
+        "SUM(CASE WHEN entry_type = 'BOOKING' THEN 1 ELSE 0 END), " +
+        "SUM(CASE WHEN entry_type = 'CANCELLATION' THEN 1 ELSE 0 END), SUM(amount), COUNT(*) " +
+        "FROM revenue_ledger WHERE id > ? AND id <= ? GROUP BY revenue_date, floor_id, vehicle_type";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RevenueProperties properties;
+    private final ShardRouter shardRouter;
+    
+    public RevenueRebuildJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             RevenueProperties properties, ShardRouter shardRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+    }
+    
+    // Reservations written without events (sample data, imports) have no ledger entries yet.
+    // Each shard keeps the ledger of its own lots, so every shard is checked and rebuilt on its own.
+    @Override
+    public void run(ApplicationArguments args) {
+        shardRouter.forEachShard(shard -> {
+            if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM revenue_ledger", Long.class) == 0
+                    && backfillLedger() > 0) {
+                rebuild();
+            }
+        });
+    }
+    
+    @Scheduled(cron = "${parkinglot.revenue.rebuild-cron:-}")
+    public void scheduledRebuild() {
+        shardRouter.forEachShard(shard -> rebuild());
+    }
+    
+    public int backfillLedger() {
+        String select = "SELECT r.id, ps.floor_id, r.vehicle_type, CAST(r.start_time AS DATE), %s, %s, CURRENT_TIMESTAMP " +
+                        "FROM reservations r JOIN parking_slots ps ON ps.id = r.parking_slot_id " +
+                        "WHERE r.total_cost IS NOT NULL %s";
+        String insert = "INSERT INTO revenue_ledger " +
+                        "(reservation_id, floor_id, vehicle_type, revenue_date, entry_type, amount, created_at) ";
+        int bookings = jdbcTemplate.update(insert + String.format(select, "'BOOKING'", "r.total_cost", ""));
+        int cancellations = jdbcTemplate.update(insert + String.format(select, "'CANCELLATION'", "-r.total_cost",
+                "AND r.status = 'CANCELLED'"));
+        log.info("Backfilled revenue ledger with {} bookings and {} cancellations", bookings, cancellations);
+        return bookings + cancellations;
+    }
+    
+    public int rebuild() {
+        long started = System.currentTimeMillis();
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM revenue_ledger", Long.class);
+        Map<RevenueKey, Totals> scanned = aggregateInParallel(maxId);
+        ensureRows(scanned.keySet());
+        
+        int rows = transactionTemplate.execute(status -> {
+            // Locks every aggregate row; writers already holding one commit first, later ones wait for us
+            jdbcTemplate.update("UPDATE daily_revenue SET booking_count = 0, cancellation_count = 0, net_amount = 0");
+            
+            // An entry below maxId that was still uncommitted during the scan shows up as a count mismatch
+            Map<RevenueKey, Totals> totals = scanned;
+            long committed = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM revenue_ledger WHERE id <= ?", Long.class, maxId);
+            if (committed != entryCount(totals)) {
+                log.info("Ledger changed during revenue scan, rescanning under lock");
+                totals = aggregateInParallel(maxId);
+            }
+            merge(totals, aggregate(maxId, Long.MAX_VALUE));
+            
+            totals.forEach((key, value) -> {
+                int updated = jdbcTemplate.update("UPDATE daily_revenue SET booking_count = ?, cancellation_count = ?, " +
+                        "net_amount = ? WHERE revenue_date = ? AND floor_id = ? AND vehicle_type = ?",
+                        value.bookings, value.cancellations, value.amount,
+                        Date.valueOf(key.getRevenueDate()), key.getFloorId(), key.getVehicleType());
+                if (updated == 0) {
+                    insertRow(key, value);
+                }
+            });
+            return totals.size();
+        });
+        
+        log.info("Rebuilt {} daily revenue rows through ledger entry {} in {} ms",
+                rows, maxId, System.currentTimeMillis() - started);
+        return rows;
+    }
+    
+    private Map<RevenueKey, Totals> aggregateInParallel(long maxId) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getRebuildParallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "revenue-rebuild-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Map<RevenueKey, Totals>>> chunks = new ArrayList<>();
+            for (long from = 0; from < maxId; from += properties.getRebuildChunkSize()) {
+                long chunkFrom = from;
+                long chunkTo = Math.min(from + properties.getRebuildChunkSize(), maxId);
+                chunks.add(executor.submit(ShardContext.propagate(() -> aggregate(chunkFrom, chunkTo))));
+            }
+            Map<RevenueKey, Totals> totals = new HashMap<>();
+            for (Future<Map<RevenueKey, Totals>> chunk : chunks) {
+                merge(totals, chunk.get());
+            }
+            return totals;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding daily revenue", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to aggregate revenue ledger", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private Map<RevenueKey, Totals> aggregate(long afterId, long toId) {
+        Map<RevenueKey, Totals> totals = new HashMap<>();
+        jdbcTemplate.query(CHUNK_TOTALS_SQL, rs -> {
+            RevenueKey key = new RevenueKey(rs.getDate(1).toLocalDate(), rs.getLong(2), rs.getString(3));
+            totals.put(key, new Totals(rs.getLong(4), rs.getLong(5), rs.getBigDecimal(6), rs.getLong(7)));
+        }, afterId, toId);
+        return totals;
+    }
+    
+    // Inserts zero rows for days missing from daily_revenue outside the swap, so the swap itself
+    // only updates rows and never races a booking inserting the same day
+    private void ensureRows(Set<RevenueKey> keys) {
+        Set<RevenueKey> existing = new HashSet<>();
+        jdbcTemplate.query("SELECT revenue_date, floor_id, vehicle_type FROM daily_revenue", rs -> {
+            existing.add(new RevenueKey(rs.getDate(1).toLocalDate(), rs.getLong(2), rs.getString(3)));
+        });
+        for (RevenueKey key : keys) {
+            if (!existing.contains(key)) {
+                try {
+                    insertRow(key, new Totals(0, 0, BigDecimal.ZERO, 0));
+                } catch (DataIntegrityViolationException e) {
+                    log.debug("Daily revenue row {} was created concurrently", key);
+                }
+            }
+        }
+    }
+    
+    private void insertRow(RevenueKey key, Totals totals) {
+        jdbcTemplate.update("INSERT INTO daily_revenue " +
+                "(revenue_date, floor_id, vehicle_type, booking_count, cancellation_count, net_amount) " +
+                "VALUES (?, ?, ?, ?, ?, ?)",
+                Date.valueOf(key.getRevenueDate()), key.getFloorId(), key.getVehicleType(),
+                totals.bookings, totals.cancellations, totals.amount);
+    }
+    
+    private static void merge(Map<RevenueKey, Totals> into, Map<RevenueKey, Totals> from) {
+        from.forEach((key, totals) -> into.merge(key, totals, Totals::plus));
+    }
+    
+    private static long entryCount(Map<RevenueKey, Totals> totals) {
+        return totals.values().stream().mapToLong(value -> value.entries).sum();
+    }
+    
+    @Value
+    private static class RevenueKey {
+        LocalDate revenueDate;
+        long floorId;
+        String vehicleType;
+    }
+    
+    private static class Totals {
+        
+        private final long bookings;
+        private final long cancellations;
+        private final BigDecimal amount;
+        // Every ledger entry, including price adjustments that count as neither
+        private final long entries;
+        
+        Totals(long bookings, long cancellations, BigDecimal amount, long entries) {
+            this.bookings = bookings;
+            this.cancellations = cancellations;
+            this.amount = amount;
+            this.entries = entries;
+        }
+        
+        Totals plus(Totals other) {
+            return new Totals(bookings + other.bookings, cancellations + other.cancellations, amount.add(other.amount),
+                    entries + other.entries);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.parkinglot.service;
+
+import com.parkinglot.dto.DailyRevenueResponse;
+import com.parkinglot.dto.RevenueReportResponse;
+import com.parkinglot.entity.DailyRevenue;
+import com.parkinglot.entity.RevenueLedgerEntry;
+import com.parkinglot.event.ReservationChangedEvent;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.model.LedgerEntryType;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.repository.DailyRevenueRepository;
+import com.parkinglot.repository.RevenueLedgerRepository;
+import com.parkinglot.shard.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class RevenueService {
+    
+    static final int MAX_REPORT_DAYS = 366;
+    
+    private final RevenueLedgerRepository ledgerRepository;
+    private final DailyRevenueRepository dailyRevenueRepository;
+    private final ShardRouter shardRouter;
+    
+    // Runs synchronously inside the transaction that changes the reservation, so the ledger
+    // entry and the daily totals commit or roll back with it
+    @EventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.getTotalCost() == null) {
+            return;
+        }
+        switch (event.getChangeType()) {
+            case CREATED -> record(event, event.getStartTime(), LedgerEntryType.BOOKING, event.getTotalCost());
+            case CANCELLED -> record(event, event.getStartTime(), LedgerEntryType.CANCELLATION,
+                    event.getTotalCost().negate());
+            case RESCHEDULED -> reschedule(event);
+            // Completion does not move money
+            case COMPLETED -> { }
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public RevenueReportResponse getDailyRevenue(LocalDate from, LocalDate to, Long floorId, VehicleType vehicleType) {
+        log.info("Fetching daily revenue from {} to {} (floor: {}, vehicle type: {})", from, to, floorId, vehicleType);
+        
+        if (to.isBefore(from)) {
+            throw new BusinessRuleViolationException("Report start date must not be after end date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_REPORT_DAYS) {
+            throw new BusinessRuleViolationException("Revenue reports are limited to " + MAX_REPORT_DAYS + " days");
+        }
+        
+        // A floor's totals live on its lot's shard, so rows from different shards never overlap
+        List<DailyRevenue> rows = shardRouter.scatterGather(shard ->
+                dailyRevenueRepository.findReport(from, to, floorId, vehicleType));
+        if (shardRouter.isSharded()) {
+            rows.sort(Comparator.comparing(DailyRevenue::getRevenueDate)
+                    .thenComparing(DailyRevenue::getFloorId)
+                    .thenComparing(DailyRevenue::getVehicleType));
+        }
+        
+        RevenueReportResponse response = new RevenueReportResponse();
+        response.setFrom(from);
+        response.setTo(to);
+        response.setFloorId(floorId);
+        response.setVehicleType(vehicleType);
+        response.setBookingCount(rows.stream().mapToLong(DailyRevenue::getBookingCount).sum());
+        response.setCancellationCount(rows.stream().mapToLong(DailyRevenue::getCancellationCount).sum());
+        response.setNetAmount(rows.stream().map(DailyRevenue::getNetAmount).reduce(BigDecimal.ZERO, BigDecimal::add));
+        response.setDays(rows.stream().map(this::convertToResponse).collect(Collectors.toList()));
+        return response;
+    }
+    
+    // Revenue is dated by the start of the stay, so a move to another day also moves the amount
+    private void reschedule(ReservationChangedEvent event) {
+        LocalDate previousDate = event.getPreviousStartTime().toLocalDate();
+        if (previousDate.equals(event.getStartTime().toLocalDate())) {
+            BigDecimal delta = event.getTotalCost().subtract(event.getPreviousTotalCost());
+            if (delta.signum() != 0) {
+                record(event, event.getStartTime(), LedgerEntryType.ADJUSTMENT, delta);
+            }
+        } else {
+            record(event, event.getPreviousStartTime(), LedgerEntryType.ADJUSTMENT, event.getPreviousTotalCost().negate());
+            record(event, event.getStartTime(), LedgerEntryType.ADJUSTMENT, event.getTotalCost());
+        }
+    }
+    
+    private void record(ReservationChangedEvent event, LocalDateTime startTime, LedgerEntryType entryType,
+                        BigDecimal amount) {
+        LocalDate revenueDate = startTime.toLocalDate();
+        ledgerRepository.save(new RevenueLedgerEntry(event.getReservationId(), event.getFloorId(),
+                event.getVehicleType(), revenueDate, entryType, amount));
+        
+        long bookings = entryType == LedgerEntryType.BOOKING ? 1 : 0;
+        long cancellations = entryType == LedgerEntryType.CANCELLATION ? 1 : 0;
+        int updated = dailyRevenueRepository.addTotals(revenueDate, event.getFloorId(), event.getVehicleType(),
+                bookings, cancellations, amount);
+        if (updated == 0) {
+            // Flushed here so a concurrent first insert of the same day surfaces as a conflict,
+            // and the retried transaction adds to the row the other caller created
+            try {
+                dailyRevenueRepository.saveAndFlush(new DailyRevenue(revenueDate, event.getFloorId(),
+                        event.getVehicleType(), bookings, cancellations, amount));
+            } catch (DataIntegrityViolationException e) {
+                throw new OptimisticLockingFailureException(
+                    "Daily revenue for floor " + event.getFloorId() + " on " + revenueDate + " was created concurrently", e);
+            }
+        }
+    }
+    
+    private DailyRevenueResponse convertToResponse(DailyRevenue dailyRevenue) {
+        DailyRevenueResponse response = new DailyRevenueResponse();
+        response.setDate(dailyRevenue.getRevenueDate());
+        response.setFloorId(dailyRevenue.getFloorId());
+        response.setVehicleType(dailyRevenue.getVehicleType());
+        response.setBookingCount(dailyRevenue.getBookingCount());
+        response.setCancellationCount(dailyRevenue.getCancellationCount());
+        response.setNetAmount(dailyRevenue.getNetAmount());
+        return response;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.parkinglot.service;
+
+import com.parkinglot.shard.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Runs after DataLoader, whose JDBC inserts bypass the reservation events
+@Component
+@Order(5)
+@RequiredArgsConstructor
+@Slf4j
+public class UtilizationRollupLoader implements ApplicationRunner {
+    
+    private final UtilizationService utilizationService;
+    private final ShardRouter shardRouter;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        shardRouter.forEachShard(shard -> {
+            if (utilizationService.isEmpty()) {
+                log.info("Utilization rollups on shard {} are empty, rebuilding from reservations", shard);
+                utilizationService.rebuild();
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,283 @@
+package com.parkinglot.service;
+
+import com.parkinglot.dto.UtilizationBucket;
+import com.parkinglot.dto.UtilizationResponse;
+import com.parkinglot.entity.UtilizationRollup;
+import com.parkinglot.event.ReservationChangedEvent;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.model.UtilizationGrouping;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.repository.UtilizationRollupRepository;
+import com.parkinglot.shard.ShardRouter;
+import com.parkinglot.state.BookingStateIndex;
+import com.parkinglot.state.SlotState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class UtilizationService {
+    
+    static final int MAX_HOURLY_BUCKETS = 24 * 366;
+    
+    private static final int REBUILD_BATCH_SIZE = 5000;
+    
+    private final UtilizationRollupRepository rollupRepository;
+    private final BookingStateIndex bookingStateIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    
+    // Runs synchronously inside the transaction that changes the reservation, so the
+    // rollup and the reservation commit or roll back together
+    @EventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        switch (event.getChangeType()) {
+            case CREATED -> record(event, event.getStartTime(), event.getEndTime(), 1);
+            case CANCELLED -> record(event, event.getStartTime(), event.getEndTime(), -1);
+            case RESCHEDULED -> {
+                record(event, event.getPreviousStartTime(), event.getPreviousEndTime(), -1);
+                record(event, event.getStartTime(), event.getEndTime(), 1);
+            }
+            // The booked window was counted when the reservation was created; once the vehicle
+            // has left, the slot's rollups hold the minutes it was actually parked instead
+            case COMPLETED -> {
+                if (event.getCheckedInAt() != null && event.getCheckedOutAt() != null) {
+                    record(event, event.getStartTime(), event.getEndTime(), -1);
+                    record(event, event.getCheckedInAt(), event.getCheckedOutAt(), 1);
+                }
+            }
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public UtilizationResponse getUtilization(LocalDateTime from, LocalDateTime to, UtilizationGrouping groupBy,
+                                              Long floorId, VehicleType vehicleType) {
+        log.info("Fetching utilization from {} to {} by {} (floor: {}, vehicle type: {})",
+                from, to, groupBy, floorId, vehicleType);
+        
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = to.truncatedTo(ChronoUnit.HOURS);
+        if (end.isBefore(to)) {
+            end = end.plusHours(1);
+        }
+        if (!start.isBefore(end)) {
+            throw new BusinessRuleViolationException("Range start must be before range end");
+        }
+        long hours = Duration.between(start, end).toHours();
+        if (groupBy == UtilizationGrouping.HOUR && hours > MAX_HOURLY_BUCKETS) {
+            throw new BusinessRuleViolationException(
+                "Hourly utilization is limited to " + MAX_HOURLY_BUCKETS + " hours per request");
+        }
+        
+        // Capacity comes from the in-memory slot catalog, counting every slot that exists now
+        List<SlotState> slots = bookingStateIndex.getSlots().stream()
+                .filter(slot -> floorId == null || slot.getFloorId() == floorId)
+                .filter(slot -> vehicleType == null || slot.getVehicleType() == vehicleType)
+                .collect(Collectors.toList());
+        long rangeMinutes = hours * 60;
+        
+        // Each shard sums its own rollups; keys shared across shards are added up below
+        LocalDateTime rangeEnd = end;
+        List<UtilizationBucket> buckets = switch (groupBy) {
+            case FLOOR -> byKey(slots, SlotState::getFloorId, shardRouter.scatterGather(shard ->
+                    rollupRepository.sumByFloor(start, rangeEnd, floorId, vehicleType)), rangeMinutes);
+            case SLOT -> byKey(slots, SlotState::getSlotId, shardRouter.scatterGather(shard ->
+                    rollupRepository.sumBySlot(start, rangeEnd, floorId, vehicleType)), rangeMinutes);
+            case VEHICLE_TYPE -> byKey(slots, SlotState::getVehicleType, shardRouter.scatterGather(shard ->
+                    rollupRepository.sumByVehicleType(start, rangeEnd, floorId, vehicleType)), rangeMinutes);
+            case HOUR -> byHour(start, end, slots.size(), shardRouter.scatterGather(shard ->
+                    rollupRepository.sumByHour(start, rangeEnd, floorId, vehicleType)));
+            case HOUR_OF_DAY -> byHourOfDay(start, end, slots.size(), shardRouter.scatterGather(shard ->
+                    rollupRepository.sumByHour(start, rangeEnd, floorId, vehicleType)));
+        };
+        
+        UtilizationResponse response = new UtilizationResponse();
+        response.setFrom(start);
+        response.setTo(end);
+        response.setGroupBy(groupBy);
+        response.setFloorId(floorId);
+        response.setVehicleType(vehicleType);
+        response.setBuckets(buckets);
+        return response;
+    }
+    
+    // Recomputes every rollup on the current shard from its reservations; used for data written without
+    // events (sample data, imports) and when the rollup table is introduced on an existing database
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuild() {
+        long started = System.currentTimeMillis();
+        jdbcTemplate.update("DELETE FROM utilization_rollups");
+        
+        // Ordered by slot so only one slot's hours are held in memory at a time
+        // Completed stays count the minutes between check-in and check-out, as onReservationChanged does
+        RollupWriter writer = new RollupWriter();
+        jdbcTemplate.query(
+            "SELECT r.parking_slot_id, ps.floor_id, ps.vehicle_type, " +
+            "CASE WHEN r.status = 'COMPLETED' AND r.checked_out_at IS NOT NULL THEN r.checked_in_at ELSE r.start_time END, " +
+            "CASE WHEN r.status = 'COMPLETED' AND r.checked_out_at IS NOT NULL THEN r.checked_out_at ELSE r.end_time END " +
+            "FROM reservations r JOIN parking_slots ps ON ps.id = r.parking_slot_id " +
+            "WHERE r.status IN ('ACTIVE', 'COMPLETED') ORDER BY r.parking_slot_id",
+            rs -> {
+                writer.add(rs.getLong(1), rs.getLong(2), VehicleType.valueOf(rs.getString(3)),
+                        rs.getTimestamp(4).toLocalDateTime(), rs.getTimestamp(5).toLocalDateTime());
+            });
+        writer.flush();
+        
+        log.info("Rebuilt {} utilization rollups in {} ms", writer.written, System.currentTimeMillis() - started);
+        return writer.written;
+    }
+    
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return rollupRepository.count() == 0;
+    }
+    
+    static Map<LocalDateTime, Integer> minutesPerHour(LocalDateTime startTime, LocalDateTime endTime) {
+        Map<LocalDateTime, Integer> minutes = new LinkedHashMap<>();
+        LocalDateTime hour = startTime.truncatedTo(ChronoUnit.HOURS);
+        while (hour.isBefore(endTime)) {
+            LocalDateTime next = hour.plusHours(1);
+            LocalDateTime from = startTime.isAfter(hour) ? startTime : hour;
+            LocalDateTime to = endTime.isBefore(next) ? endTime : next;
+            int overlap = (int) Duration.between(from, to).toMinutes();
+            if (overlap > 0) {
+                minutes.put(hour, overlap);
+            }
+            hour = next;
+        }
+        return minutes;
+    }
+    
+    private void record(ReservationChangedEvent event, LocalDateTime startTime, LocalDateTime endTime, int sign) {
+        minutesPerHour(startTime, endTime).forEach((hour, minutes) -> {
+            int updated = rollupRepository.addMinutes(event.getParkingSlotId(), hour, sign * minutes);
+            if (updated == 0 && sign > 0) {
+                // Same first-insert race as the revenue totals: reported as a conflict and retried
+                try {
+                    rollupRepository.saveAndFlush(new UtilizationRollup(event.getParkingSlotId(), event.getFloorId(),
+                            event.getVehicleType(), hour, minutes));
+                } catch (DataIntegrityViolationException e) {
+                    throw new OptimisticLockingFailureException(
+                        "Utilization rollup for slot " + event.getParkingSlotId() + " at " + hour + " was created concurrently", e);
+                }
+            }
+        });
+    }
+    
+    private <K extends Comparable<K>> List<UtilizationBucket> byKey(List<SlotState> slots, Function<SlotState, K> key,
+                                                                    List<Object[]> sums, long rangeMinutes) {
+        Map<K, Long> slotCounts = slots.stream().collect(Collectors.groupingBy(key, TreeMap::new, Collectors.counting()));
+        Map<Object, Long> occupied = toMap(sums);
+        List<UtilizationBucket> buckets = new ArrayList<>(slotCounts.size());
+        slotCounts.forEach((k, count) ->
+                buckets.add(bucket(String.valueOf(k), occupied.getOrDefault(k, 0L), count * rangeMinutes)));
+        return buckets;
+    }
+    
+    private List<UtilizationBucket> byHour(LocalDateTime start, LocalDateTime end, int slotCount, List<Object[]> sums) {
+        Map<Object, Long> occupied = toMap(sums);
+        List<UtilizationBucket> buckets = new ArrayList<>();
+        for (LocalDateTime hour = start; hour.isBefore(end); hour = hour.plusHours(1)) {
+            buckets.add(bucket(hour.toString(), occupied.getOrDefault(hour, 0L), slotCount * 60L));
+        }
+        return buckets;
+    }
+    
+    private List<UtilizationBucket> byHourOfDay(LocalDateTime start, LocalDateTime end, int slotCount,
+                                                List<Object[]> sums) {
+        long[] occupied = new long[24];
+        long[] hoursInRange = new long[24];
+        for (LocalDateTime hour = start; hour.isBefore(end); hour = hour.plusHours(1)) {
+            hoursInRange[hour.getHour()]++;
+        }
+        for (Object[] row : sums) {
+            occupied[((LocalDateTime) row[0]).getHour()] += ((Number) row[1]).longValue();
+        }
+        List<UtilizationBucket> buckets = new ArrayList<>(24);
+        for (int hour = 0; hour < 24; hour++) {
+            buckets.add(bucket(String.valueOf(hour), occupied[hour], hoursInRange[hour] * slotCount * 60));
+        }
+        return buckets;
+    }
+    
+    private static Map<Object, Long> toMap(List<Object[]> sums) {
+        Map<Object, Long> map = new HashMap<>();
+        for (Object[] row : sums) {
+            map.merge(row[0], ((Number) row[1]).longValue(), Long::sum);
+        }
+        return map;
+    }
+    
+    private static UtilizationBucket bucket(String key, long occupiedMinutes, long capacityMinutes) {
+        double utilization = capacityMinutes == 0 ? 0.0 : (double) occupiedMinutes / capacityMinutes;
+        return new UtilizationBucket(key, occupiedMinutes, capacityMinutes, Math.round(utilization * 10000) / 10000.0);
+    }
+    
+    private class RollupWriter {
+        
+        private final List<Object[]> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+        private final Map<LocalDateTime, Integer> slotMinutes = new TreeMap<>();
+        private long slotId = -1;
+        private long floorId;
+        private VehicleType vehicleType;
+        private int written;
+        
+        void add(long reservationSlotId, long reservationFloorId, VehicleType reservationVehicleType,
+                 LocalDateTime startTime, LocalDateTime endTime) {
+            if (reservationSlotId != slotId) {
+                flushSlot();
+                slotId = reservationSlotId;
+                floorId = reservationFloorId;
+                vehicleType = reservationVehicleType;
+            }
+            minutesPerHour(startTime, endTime).forEach((hour, minutes) -> slotMinutes.merge(hour, minutes, Integer::sum));
+        }
+        
+        void flush() {
+            flushSlot();
+            writeBatch();
+        }
+        
+        private void flushSlot() {
+            slotMinutes.forEach((hour, minutes) -> {
+                batch.add(new Object[]{slotId, floorId, vehicleType.name(), Timestamp.valueOf(hour), minutes});
+                if (batch.size() == REBUILD_BATCH_SIZE) {
+                    writeBatch();
+                }
+            });
+            slotMinutes.clear();
+        }
+        
+        private void writeBatch() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO utilization_rollups " +
+                    "(parking_slot_id, floor_id, vehicle_type, hour_start, occupied_minutes) VALUES (?, ?, ?, ?, ?)", batch);
+            written += batch.size();
+            batch.clear();
+        }
+    }
+}
\ No newline at end of file
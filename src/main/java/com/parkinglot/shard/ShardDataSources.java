@@ -0,0 +1,33 @@
+package com.parkinglot.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+// One connection pool per shard, indexed by shard number
+public class ShardDataSources implements AutoCloseable {
+    
+    private final List<HikariDataSource> dataSources;
+    
+    ShardDataSources(List<HikariDataSource> dataSources) {
+        this.dataSources = List.copyOf(dataSources);
+    }
+    
+    public int size() {
+        return dataSources.size();
+    }
+    
+    public DataSource get(int shard) {
+        return dataSources.get(shard);
+    }
+    
+    List<HikariDataSource> getAll() {
+        return dataSources;
+    }
+    
+    @Override
+    public void close() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+}
\ No newline at end of file
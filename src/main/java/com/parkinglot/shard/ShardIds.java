@@ -0,0 +1,35 @@
+package com.parkinglot.shard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+// Lots, floors, slots and reservations draw their ids from a range reserved for their shard,
+// so any id routes to its database without a lookup. Shard 0 starts at 1 as an unsharded database does.
+public final class ShardIds {
+    
+    static final int SHARD_SHIFT = 40;
+    
+    private ShardIds() {
+    }
+    
+    public static int shardOf(long id) {
+        return (int) (id >>> SHARD_SHIFT);
+    }
+    
+    public static long firstId(int shard) {
+        return ((long) shard << SHARD_SHIFT) + 1;
+    }
+    
+    // Groups items by the shard of their id in shard order, keeping their order within each shard
+    public static <T> Map<Integer, List<T>> groupByShard(Collection<T> items, ToLongFunction<T> id) {
+        Map<Integer, List<T>> groups = new TreeMap<>();
+        for (T item : items) {
+            groups.computeIfAbsent(shardOf(id.applyAsLong(item)), shard -> new ArrayList<>()).add(item);
+        }
+        return groups;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.parkinglot.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+// Places lots on shards and runs work that is not about a single lot on every shard.
+// With a single database every call runs inline on the caller's thread and transaction.
+@Component
+@Slf4j
+public class ShardRouter implements DisposableBean {
+    
+    private final int shardCount;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService scatterExecutor;
+    
+    @Autowired
+    public ShardRouter(Optional<ShardDataSources> shardDataSources, PlatformTransactionManager transactionManager) {
+        this(shardDataSources.map(ShardDataSources::size).orElse(1), transactionManager);
+    }
+    
+    public ShardRouter(int shardCount, PlatformTransactionManager transactionManager) {
+        this.shardCount = shardCount;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        if (shardCount > 1) {
+            AtomicInteger threadCount = new AtomicInteger();
+            this.scatterExecutor = Executors.newFixedThreadPool(shardCount, runnable -> {
+                Thread thread = new Thread(runnable, "shard-scatter-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            log.info("Routing lots over {} shards", shardCount);
+        } else {
+            this.scatterExecutor = null;
+        }
+    }
+    
+    public int getShardCount() {
+        return shardCount;
+    }
+    
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+    
+    public int shardForLot(String code) {
+        return Math.floorMod(code.hashCode(), shardCount);
+    }
+    
+    // Pins the current transaction to a shard before its first statement
+    public void bindTransaction(int shard) {
+        if (isSharded()) {
+            ShardContext.bindToTransaction(shard);
+        }
+    }
+    
+    // Runs the action once per shard on the calling thread; the action manages its own transactions
+    public void forEachShard(IntConsumer action) {
+        for (int shard = 0; shard < shardCount; shard++) {
+            int current = shard;
+            ShardContext.runOn(current, () -> action.accept(current));
+        }
+    }
+    
+    // Runs the query on every shard in parallel, each inside a read-only transaction of its own,
+    // and concatenates the results in shard order
+    public <T> List<T> scatterGather(IntFunction<List<T>> query) {
+        if (!isSharded()) {
+            return readOnlyTransaction.execute(status -> query.apply(0));
+        }
+        List<Future<List<T>>> parts = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int current = shard;
+            parts.add(scatterExecutor.submit(() ->
+                    ShardContext.callOn(current, () -> readOnlyTransaction.execute(status -> query.apply(current)))));
+        }
+        List<T> results = new ArrayList<>();
+        try {
+            for (Future<List<T>> part : parts) {
+                results.addAll(part.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Shard query failed", e.getCause());
+        }
+        return results;
+    }
+    
+    @Override
+    public void destroy() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdownNow();
+        }
+    }
+}
\ No newline at end of file
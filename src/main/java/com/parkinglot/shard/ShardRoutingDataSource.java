@@ -0,0 +1,37 @@
+package com.parkinglot.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Consulted when a connection is actually opened. It sits behind a LazyConnectionDataSourceProxy,
+// so a transaction can name its shard after it has begun but before its first statement.
+class ShardRoutingDataSource extends AbstractRoutingDataSource {
+    
+    ShardRoutingDataSource(List<? extends DataSource> shards) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targets.put(shard, shards.get(shard));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(0));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        if (shard == null) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                ShardContext.bindToTransaction(0);
+            }
+            return 0;
+        }
+        return shard;
+    }
+}
\ No newline at end of file
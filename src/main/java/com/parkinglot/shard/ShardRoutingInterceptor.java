@@ -0,0 +1,83 @@
+package com.parkinglot.shard;
+
+import com.parkinglot.entity.Floor;
+import com.parkinglot.entity.Lot;
+import com.parkinglot.entity.ParkingSlot;
+import com.parkinglot.entity.Reservation;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+// Routes lot, floor, slot and reservation repository calls by their first id or entity argument.
+// Inside a transaction the shard is bound to it before the query reaches the database; derived
+// queries called without one run on the shard for just that call. Calls without such an
+// argument stay on the transaction's shard.
+class ShardRoutingInterceptor implements MethodInterceptor {
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        for (Object argument : invocation.getArguments()) {
+            Integer shard = shardOf(argument);
+            if (shard != null) {
+                if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                    return proceedOn(shard, invocation);
+                }
+                ShardContext.bindToTransaction(shard);
+                break;
+            }
+        }
+        return invocation.proceed();
+    }
+    
+    private static Object proceedOn(int shard, MethodInvocation invocation) {
+        Integer current = ShardContext.current();
+        if (current != null && current != shard) {
+            throw new IllegalStateException(
+                "Operation targets shard " + shard + " but the caller is bound to shard " + current);
+        }
+        return ShardContext.callOn(shard, () -> {
+            try {
+                return invocation.proceed();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                // Repository methods declare no checked exceptions
+                throw new UndeclaredThrowableException(e);
+            }
+        });
+    }
+    
+    static Integer shardOf(Object argument) {
+        if (argument instanceof Long id) {
+            return ShardIds.shardOf(id);
+        }
+        if (argument instanceof Lot lot) {
+            return lot.getId() == null ? null : ShardIds.shardOf(lot.getId());
+        }
+        if (argument instanceof Floor floor) {
+            return floor.getId() == null ? shardOf(floor.getLot()) : ShardIds.shardOf(floor.getId());
+        }
+        if (argument instanceof ParkingSlot slot) {
+            return slot.getId() == null ? shardOf(slot.getFloor()) : ShardIds.shardOf(slot.getId());
+        }
+        if (argument instanceof Reservation reservation) {
+            return reservation.getId() == null ? shardOf(reservation.getParkingSlot())
+                    : ShardIds.shardOf(reservation.getId());
+        }
+        if (argument instanceof Iterable<?> items) {
+            Integer shard = null;
+            for (Object item : items) {
+                Integer itemShard = shardOf(item);
+                if (shard == null) {
+                    shard = itemShard;
+                } else if (itemShard != null && !shard.equals(itemShard)) {
+                    throw new IllegalStateException("Batch spans shards " + shard + " and " + itemShard);
+                }
+            }
+            return shard;
+        }
+        return null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.parkinglot.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Hibernate creates the schema on shard 0 only. When it does, the same DDL is captured as a
+// script and replayed on every other shard, whose routed identity columns are then moved into
+// the shard's id range. With any other ddl-auto, shards are provisioned like shard 0 is.
+@Slf4j
+class ShardSchemaInitializer implements HibernatePropertiesCustomizer, SmartInitializingSingleton {
+    
+    private static final Set<String> CREATING_DDL_MODES = Set.of("create", "create-drop");
+    private static final List<String> ROUTED_TABLES = List.of("lots", "floors", "parking_slots", "reservations");
+    
+    private final ShardDataSources shardDataSources;
+    private final StringWriter script = new StringWriter();
+    private boolean createShards;
+    
+    ShardSchemaInitializer(ShardDataSources shardDataSources) {
+        this.shardDataSources = shardDataSources;
+    }
+    
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        Object ddlAuto = hibernateProperties.get("hibernate.hbm2ddl.auto");
+        createShards = CREATING_DDL_MODES.contains(String.valueOf(ddlAuto));
+        if (createShards) {
+            // Hibernate ignores hbm2ddl.auto once any JPA schema action is set, so it is restated here
+            hibernateProperties.put("jakarta.persistence.schema-generation.database.action", ddlAuto);
+            hibernateProperties.put("jakarta.persistence.schema-generation.scripts.action", "drop-and-create");
+            hibernateProperties.put("jakarta.persistence.schema-generation.scripts.drop-target", script);
+            hibernateProperties.put("jakarta.persistence.schema-generation.scripts.create-target", script);
+            hibernateProperties.put("hibernate.hbm2ddl.delimiter", ";");
+        }
+    }
+    
+    // Runs once the EntityManagerFactory has written the script and before lifecycle beans
+    // start reading from the shards
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!createShards) {
+            log.info("Schema is not created by Hibernate; shards 1 to {} must be provisioned with it",
+                    shardDataSources.size() - 1);
+            return;
+        }
+        List<String> statements = Arrays.stream(script.toString().split(";"))
+                .map(String::trim)
+                .filter(statement -> !statement.isEmpty())
+                .toList();
+        for (int shard = 1; shard < shardDataSources.size(); shard++) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(shardDataSources.get(shard));
+            statements.forEach(jdbcTemplate::execute);
+            String restartIdentity = restartIdentitySql(jdbcTemplate);
+            for (String table : ROUTED_TABLES) {
+                jdbcTemplate.execute(String.format(restartIdentity, table, ShardIds.firstId(shard)));
+            }
+            log.info("Created schema on shard {} with ids from {}", shard, ShardIds.firstId(shard));
+        }
+    }
+    
+    private static String restartIdentitySql(JdbcTemplate jdbcTemplate) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                JdbcUtils.commonDatabaseName(connection.getMetaData().getDatabaseProductName()));
+        if ("MySQL".equals(product)) {
+            return "ALTER TABLE %s AUTO_INCREMENT = %d";
+        }
+        return "ALTER TABLE %s ALTER COLUMN id RESTART WITH %d";
+    }
+}
\ No newline at end of file
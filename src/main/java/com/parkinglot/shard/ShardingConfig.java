@@ -0,0 +1,95 @@
+package com.parkinglot.shard;
+
+import com.parkinglot.config.JournalProperties;
+import com.parkinglot.config.ShardingProperties;
+import com.parkinglot.entity.Floor;
+import com.parkinglot.entity.Lot;
+import com.parkinglot.entity.ParkingSlot;
+import com.parkinglot.entity.Reservation;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// Active once parkinglot.sharding.shards lists a database; without it the application keeps
+// Boot's single DataSource and none of the routing below is installed
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "parkinglot.sharding", name = "shards[0].url")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ShardingConfig {
+    
+    private static final Set<Class<?>> ROUTED_ENTITIES = Set.of(Lot.class, Floor.class, ParkingSlot.class, Reservation.class);
+    
+    @Bean(destroyMethod = "close")
+    public ShardDataSources shardDataSources(DataSourceProperties properties, ShardingProperties sharding,
+                                             JournalProperties journal, Environment environment) {
+        if (journal.isEnabled()) {
+            throw new IllegalStateException("The reservation journal requires a single shard");
+        }
+        Binder binder = Binder.get(environment);
+        List<HikariDataSource> pools = new ArrayList<>();
+        pools.add(pool(properties.initializeDataSourceBuilder(), binder, 0));
+        for (ShardingProperties.Shard shard : sharding.getShards()) {
+            pools.add(pool(DataSourceBuilder.create()
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword()), binder, pools.size()));
+        }
+        return new ShardDataSources(pools);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        return new LazyConnectionDataSourceProxy(new ShardRoutingDataSource(shardDataSources.getAll()));
+    }
+    
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(ShardDataSources shardDataSources) {
+        return new ShardSchemaInitializer(shardDataSources);
+    }
+    
+    @Bean
+    public static BeanPostProcessor shardRoutingRepositoryPostProcessor() {
+        ShardRoutingInterceptor interceptor = new ShardRoutingInterceptor();
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, information) -> {
+                                if (ROUTED_ENTITIES.contains(information.getDomainType())) {
+                                    proxyFactory.addAdvice(interceptor);
+                                }
+                            }));
+                }
+                return bean;
+            }
+        };
+    }
+    
+    // Every shard gets the spring.datasource.hikari tuning
+    private static HikariDataSource pool(DataSourceBuilder<?> builder, Binder binder, int shard) {
+        HikariDataSource pool = builder.type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName("shard-" + shard);
+        return pool;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.parkinglot.state;
+
+import com.parkinglot.config.AvailabilityProperties;
+import com.parkinglot.model.VehicleType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+
+// Free slot ids for a time window, ascending, from the slot catalog and the in-memory booking
+// state. With parallel evaluation the catalog is split by floor in one scan, floors are checked
+// on a bounded fork-join pool, and the sorted per-floor results are merged pairwise on the way
+// back up, so the order and therefore the pagination is the same as the sequential check.
+@Component
+@Slf4j
+public class AvailabilityEvaluator implements DisposableBean {
+    
+    private final SlotCatalog slotCatalog;
+    private final BookingStateIndex bookingStateIndex;
+    private final int minSlotsPerTask;
+    private final ForkJoinPool pool;
+    
+    public AvailabilityEvaluator(SlotCatalog slotCatalog, BookingStateIndex bookingStateIndex,
+                                 AvailabilityProperties properties) {
+        this.slotCatalog = slotCatalog;
+        this.bookingStateIndex = bookingStateIndex;
+        this.minSlotsPerTask = Math.max(1, properties.getMinSlotsPerTask());
+        if (properties.isParallel()) {
+            int parallelism = properties.getParallelism() > 0
+                    ? properties.getParallelism()
+                    : Runtime.getRuntime().availableProcessors();
+            this.pool = new ForkJoinPool(parallelism, pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("availability-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            }, null, false);
+            log.info("Evaluating availability per floor on {} threads", parallelism);
+        } else {
+            this.pool = null;
+        }
+    }
+    
+    // Usable once both in-memory sources have been loaded
+    public boolean isCurrent() {
+        return slotCatalog.isCurrent() && bookingStateIndex.isCurrent();
+    }
+    
+    public long[] freeSlotIds(VehicleType vehicleType, LocalDateTime startTime, LocalDateTime endTime) {
+        if (pool == null || slotCatalog.size() < minSlotsPerTask) {
+            return bookingStateIndex.retainFree(slotCatalog.filter(null, vehicleType, null), startTime, endTime);
+        }
+        long[][] floors = slotCatalog.partitionByFloor(vehicleType, null);
+        return pool.invoke(new FloorRange(floors, 0, floors.length, startTime, endTime));
+    }
+    
+    // Ids present in either ascending array; floors never share a slot, so there are no duplicates
+    static long[] merge(long[] left, long[] right) {
+        long[] result = new long[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int next = 0;
+        while (i < left.length && j < right.length) {
+            result[next++] = left[i] < right[j] ? left[i++] : right[j++];
+        }
+        System.arraycopy(left, i, result, next, left.length - i);
+        System.arraycopy(right, j, result, next + left.length - i, right.length - j);
+        return result;
+    }
+    
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+    
+    // Floors [from, to): small ranges are checked in place, larger ones split in half
+    private class FloorRange extends RecursiveTask<long[]> {
+        
+        private final long[][] floors;
+        private final int from;
+        private final int to;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+        
+        FloorRange(long[][] floors, int from, int to, LocalDateTime startTime, LocalDateTime endTime) {
+            this.floors = floors;
+            this.from = from;
+            this.to = to;
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+        
+        @Override
+        protected long[] compute() {
+            if (to - from > 1 && slots() >= minSlotsPerTask) {
+                int middle = (from + to) >>> 1;
+                FloorRange left = new FloorRange(floors, from, middle, startTime, endTime);
+                left.fork();
+                long[] right = new FloorRange(floors, middle, to, startTime, endTime).compute();
+                return merge(left.join(), right);
+            }
+            long[] free = new long[0];
+            for (int floor = from; floor < to; floor++) {
+                free = merge(free, bookingStateIndex.retainFree(floors[floor], startTime, endTime));
+            }
+            return free;
+        }
+        
+        private int slots() {
+            int slots = 0;
+            for (int floor = from; floor < to; floor++) {
+                slots += floors[floor].length;
+            }
+            return slots;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+package com.parkinglot.state;
+
+import com.parkinglot.config.SnapshotProperties;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Compact binary snapshots of the booking state:
+// header  [magic][version][takenAt epoch second][database identity][slot count]
+// slot    [slot id][floor id][vehicle type ordinal][status ordinal][booking count]
+// booking [reservation id][start epoch second][end epoch second]
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingSnapshotStore {
+    
+    private static final int MAGIC = 0x504C5353;
+    private static final int FORMAT_VERSION = 2;
+    private static final String FILE_PREFIX = "booking-state-";
+    private static final String FILE_SUFFIX = ".snapshot";
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+    private static final SlotStatus[] SLOT_STATUSES = SlotStatus.values();
+    
+    private final SnapshotProperties properties;
+    
+    public Path write(BookingStateIndex index, LocalDateTime takenAt, String databaseIdentity) throws IOException {
+        Path directory = Paths.get(properties.getDirectory());
+        Files.createDirectories(directory);
+        Path target = directory.resolve(String.format("%s%020d%s", FILE_PREFIX,
+                BookingStateIndex.toEpochSecond(takenAt), FILE_SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        
+        List<SlotState> slots = new ArrayList<>(index.getSlots());
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(BookingStateIndex.toEpochSecond(takenAt));
+            out.writeUTF(databaseIdentity);
+            out.writeInt(slots.size());
+            for (SlotState slot : slots) {
+                long[] bookings = slot.copyBookings();
+                out.writeLong(slot.getSlotId());
+                out.writeLong(slot.getFloorId());
+                out.writeByte(slot.getVehicleType() == null ? -1 : slot.getVehicleType().ordinal());
+                out.writeByte(slot.getStatus() == null ? -1 : slot.getStatus().ordinal());
+                out.writeInt(bookings.length / 3);
+                for (long value : bookings) {
+                    out.writeLong(value);
+                }
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        deleteOldSnapshots(directory);
+        return target;
+    }
+    
+    // Only a snapshot of the same database is loaded; replay from its time cannot undo
+    // bookings and slots that exist in the snapshot but not in another database
+    public Optional<LocalDateTime> loadLatest(BookingStateIndex index, String databaseIdentity) throws IOException {
+        Optional<Path> latest = listSnapshots(Paths.get(properties.getDirectory())).stream()
+                .reduce((first, second) -> second);
+        if (latest.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        try (FileChannel channel = FileChannel.open(latest.get(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                log.warn("Ignoring snapshot {} with unknown format", latest.get());
+                return Optional.empty();
+            }
+            LocalDateTime takenAt = BookingStateIndex.fromEpochSecond(buffer.getLong());
+            byte[] identity = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(identity);
+            if (!databaseIdentity.equals(new String(identity, StandardCharsets.UTF_8))) {
+                log.warn("Ignoring snapshot {} taken against another database", latest.get());
+                return Optional.empty();
+            }
+            int slotCount = buffer.getInt();
+            for (int i = 0; i < slotCount; i++) {
+                long slotId = buffer.getLong();
+                long floorId = buffer.getLong();
+                byte vehicleType = buffer.get();
+                byte status = buffer.get();
+                index.putSlot(slotId, floorId,
+                        vehicleType < 0 ? null : VEHICLE_TYPES[vehicleType],
+                        status < 0 ? null : SLOT_STATUSES[status]);
+                int bookingCount = buffer.getInt();
+                for (int j = 0; j < bookingCount; j++) {
+                    index.putBooking(slotId, buffer.getLong(), buffer.getLong(), buffer.getLong());
+                }
+            }
+            log.info("Loaded booking snapshot {} with {} slots taken at {}", latest.get().getFileName(), slotCount, takenAt);
+            return Optional.of(takenAt);
+        }
+    }
+    
+    private void deleteOldSnapshots(Path directory) throws IOException {
+        List<Path> snapshots = listSnapshots(directory);
+        for (int i = 0; i < snapshots.size() - Math.max(1, properties.getRetained()); i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+    }
+    
+    private List<Path> listSnapshots(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.parkinglot.state;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// Part of the readiness group: the node only takes traffic once the booking state has caught up
+@Component
+@RequiredArgsConstructor
+public class BookingStateHealthIndicator implements HealthIndicator {
+    
+    private final BookingStateIndex bookingStateIndex;
+    
+    @Override
+    public Health health() {
+        if (bookingStateIndex.isCurrent()) {
+            return Health.up().withDetail("slots", bookingStateIndex.getSlots().size()).build();
+        }
+        return Health.outOfService().withDetail("reason", "Booking state is still loading").build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.parkinglot.state;
+
+import com.parkinglot.entity.ParkingSlot;
+import com.parkinglot.entity.Reservation;
+import com.parkinglot.event.ParkingSlotChangedEvent;
+import com.parkinglot.event.ReservationChangedEvent;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class BookingStateIndex {
+    
+    private final ConcurrentHashMap<Long, SlotState> slots = new ConcurrentHashMap<>();
+    private volatile boolean current;
+    
+    public static long toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+    
+    public static LocalDateTime fromEpochSecond(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+    
+    public void putSlot(long slotId, long floorId, VehicleType vehicleType, SlotStatus status) {
+        slots.computeIfAbsent(slotId, SlotState::new).describe(floorId, vehicleType, status);
+    }
+    
+    public void putSlot(ParkingSlot slot) {
+        putSlot(slot.getId(), slot.getFloor().getId(), slot.getVehicleType(), slot.getStatus());
+    }
+    
+    public void putBooking(long slotId, long reservationId, long startEpochSecond, long endEpochSecond) {
+        slots.computeIfAbsent(slotId, SlotState::new).book(reservationId, startEpochSecond, endEpochSecond);
+    }
+    
+    public void applyReservation(Long reservationId, Long slotId, LocalDateTime startTime, LocalDateTime endTime,
+                                 ReservationStatus status) {
+        if (status == ReservationStatus.ACTIVE) {
+            putBooking(slotId, reservationId, toEpochSecond(startTime), toEpochSecond(endTime));
+        } else {
+            SlotState state = slots.get(slotId);
+            if (state != null) {
+                state.release(reservationId);
+            }
+        }
+    }
+    
+    public void applyReservation(Reservation reservation) {
+        applyReservation(reservation.getId(), reservation.getParkingSlot().getId(),
+                reservation.getStartTime(), reservation.getEndTime(), reservation.getStatus());
+    }
+    
+    public boolean isFree(long slotId, LocalDateTime startTime, LocalDateTime endTime) {
+        SlotState state = slots.get(slotId);
+        return state == null || state.isFree(toEpochSecond(startTime), toEpochSecond(endTime));
+    }
+    
+    // The given slots without a booking overlapping the window, in their original order
+    public long[] retainFree(long[] slotIds, LocalDateTime startTime, LocalDateTime endTime) {
+        long start = toEpochSecond(startTime);
+        long end = toEpochSecond(endTime);
+        long[] free = new long[slotIds.length];
+        int count = 0;
+        for (long slotId : slotIds) {
+            SlotState state = slots.get(slotId);
+            if (state == null || state.isFree(start, end)) {
+                free[count++] = slotId;
+            }
+        }
+        return Arrays.copyOf(free, count);
+    }
+    
+    public Optional<SlotState> getSlot(long slotId) {
+        return Optional.ofNullable(slots.get(slotId));
+    }
+    
+    public Collection<SlotState> getSlots() {
+        return Collections.unmodifiableCollection(slots.values());
+    }
+    
+    public int pruneEndedBefore(LocalDateTime time) {
+        long cutoff = toEpochSecond(time);
+        int pruned = 0;
+        for (SlotState state : slots.values()) {
+            pruned += state.pruneEndedBefore(cutoff);
+        }
+        return pruned;
+    }
+    
+    public void clear() {
+        slots.clear();
+        current = false;
+    }
+    
+    public boolean isCurrent() {
+        return current;
+    }
+    
+    void markCurrent() {
+        current = true;
+    }
+    
+    // Ahead of other listeners that read the index
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        applyReservation(event.getReservationId(), event.getParkingSlotId(),
+                event.getStartTime(), event.getEndTime(), event.getStatus());
+    }
+    
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParkingSlotChanged(ParkingSlotChangedEvent event) {
+        putSlot(event.getParkingSlotId(), event.getFloorId(), event.getVehicleType(), event.getStatus());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.parkinglot.state;
+
+import com.parkinglot.config.SnapshotProperties;
+import com.parkinglot.entity.ParkingSlot;
+import com.parkinglot.entity.Reservation;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.repository.ParkingSlotRepository;
+import com.parkinglot.repository.ReservationRepository;
+import com.parkinglot.shard.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// Runs after DataLoader so a freshly seeded database is reflected in the index
+@Component
+@Order(10)
+@RequiredArgsConstructor
+@Slf4j
+public class BookingStateLoader implements ApplicationRunner {
+    
+    private final BookingStateIndex bookingStateIndex;
+    private final SlotCatalog slotCatalog;
+    private final BookingSnapshotStore snapshotStore;
+    private final DatabaseIdentityProvider databaseIdentity;
+    private final SnapshotProperties properties;
+    private final ParkingSlotRepository parkingSlotRepository;
+    private final ReservationRepository reservationRepository;
+    private final ShardRouter shardRouter;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void run(ApplicationArguments args) throws Exception {
+        long started = System.currentTimeMillis();
+        Optional<LocalDateTime> snapshotTime = properties.isEnabled() ? loadSnapshot() : Optional.empty();
+        
+        if (snapshotTime.isPresent()) {
+            LocalDateTime since = snapshotTime.get().minus(properties.getReplayOverlap());
+            List<int[]> applied = shardRouter.scatterGather(shard -> {
+                List<ParkingSlot> changedSlots = parkingSlotRepository.findByUpdatedAtAfter(since);
+                List<Reservation> changedReservations = reservationRepository.findByUpdatedAtAfter(since);
+                changedSlots.forEach(bookingStateIndex::putSlot);
+                changedReservations.forEach(bookingStateIndex::applyReservation);
+                return List.of(new int[]{changedSlots.size(), changedReservations.size()});
+            });
+            log.info("Applied {} slot and {} reservation changes since {}",
+                    applied.stream().mapToInt(counts -> counts[0]).sum(),
+                    applied.stream().mapToInt(counts -> counts[1]).sum(), since);
+        } else {
+            rebuildFromDatabase();
+        }
+        
+        bookingStateIndex.markCurrent();
+        // The columnar catalog is derived from the slots just loaded rather than read again
+        slotCatalog.load(bookingStateIndex.getSlots());
+        log.info("Booking state is current after {} ms ({} slots in the catalog)",
+                System.currentTimeMillis() - started, slotCatalog.size());
+    }
+    
+    private Optional<LocalDateTime> loadSnapshot() {
+        try {
+            return snapshotStore.loadLatest(bookingStateIndex, databaseIdentity.get());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to load booking snapshot, rebuilding from database: {}", e.getMessage());
+            bookingStateIndex.clear();
+            return Optional.empty();
+        }
+    }
+    
+    private void rebuildFromDatabase() {
+        log.info("Rebuilding booking state from database");
+        LocalDateTime now = LocalDateTime.now();
+        shardRouter.scatterGather(shard -> {
+            parkingSlotRepository.findAll().forEach(bookingStateIndex::putSlot);
+            reservationRepository.findByStatusAndEndTimeGreaterThanEqual(ReservationStatus.ACTIVE, now)
+                    .forEach(bookingStateIndex::applyReservation);
+            return List.of();
+        });
+    }
+    
+    @Scheduled(fixedDelayString = "${parkinglot.snapshot.interval:PT5M}",
+               initialDelayString = "${parkinglot.snapshot.interval:PT5M}")
+    public void writeSnapshot() {
+        if (!properties.isEnabled() || !bookingStateIndex.isCurrent()) {
+            return;
+        }
+        LocalDateTime takenAt = LocalDateTime.now();
+        try {
+            int pruned = bookingStateIndex.pruneEndedBefore(takenAt);
+            snapshotStore.write(bookingStateIndex, takenAt, databaseIdentity.get());
+            log.info("Wrote booking snapshot at {} ({} ended bookings pruned)", takenAt, pruned);
+        } catch (IOException e) {
+            log.error("Failed to write booking snapshot", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.parkinglot.state;
+
+import com.parkinglot.entity.DatabaseIdentity;
+import com.parkinglot.repository.DatabaseIdentityRepository;
+import com.parkinglot.shard.ShardRouter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Identity of the databases behind this node, one value per shard. A fresh in-memory database
+// gets a new identity on every start, so a snapshot written before a restart no longer matches.
+@Component
+public class DatabaseIdentityProvider {
+    
+    private final DatabaseIdentityRepository repository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transaction;
+    private volatile String identity;
+    
+    public DatabaseIdentityProvider(DatabaseIdentityRepository repository, ShardRouter shardRouter,
+                                    PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.shardRouter = shardRouter;
+        this.transaction = new TransactionTemplate(transactionManager);
+        // Callers may already hold a read-only transaction on shard 0
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    public String get() {
+        String current = identity;
+        if (current == null) {
+            synchronized (this) {
+                if (identity == null) {
+                    identity = resolve();
+                }
+                current = identity;
+            }
+        }
+        return current;
+    }
+    
+    private String resolve() {
+        List<String> values = new ArrayList<>(shardRouter.getShardCount());
+        shardRouter.forEachShard(shard -> values.add(transaction.execute(status -> repository.findById(DatabaseIdentity.ROW_ID)
+                .orElseGet(() -> repository.save(new DatabaseIdentity(DatabaseIdentity.ROW_ID,
+                        UUID.randomUUID().toString(), LocalDateTime.now())))
+                .getValue())));
+        return String.join(",", values);
+    }
+}
\ No newline at end of file
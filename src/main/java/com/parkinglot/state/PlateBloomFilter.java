@@ -0,0 +1,65 @@
+package com.parkinglot.state;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Fixed-size Bloom filter over vehicle numbers. Ten bits per plate with seven probes keeps false
+// positives near 1% up to the sized capacity; probes come from two hashes (Kirsch-Mitzenmacher).
+final class PlateBloomFilter {
+    
+    private static final int BITS_PER_PLATE = 10;
+    private static final int PROBES = 7;
+    
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int capacity;
+    private final AtomicInteger size = new AtomicInteger();
+    
+    PlateBloomFilter(int capacity) {
+        this.capacity = capacity;
+        int wordCount = (int) (((long) capacity * BITS_PER_PLATE + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+    }
+    
+    void add(String plate) {
+        int h1 = plate.hashCode();
+        int h2 = secondHash(plate);
+        for (int i = 0; i < PROBES; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            long previous = words.get(word);
+            while ((previous & mask) == 0 && !words.compareAndSet(word, previous, previous | mask)) {
+                previous = words.get(word);
+            }
+        }
+        size.incrementAndGet();
+    }
+    
+    boolean mightContain(String plate) {
+        int h1 = plate.hashCode();
+        int h2 = secondHash(plate);
+        for (int i = 0; i < PROBES; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    boolean isSaturated() {
+        return size.get() > capacity;
+    }
+    
+    // FNV-1a, forced odd so successive probes never collapse onto one bit
+    private static int secondHash(String plate) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < plate.length(); i++) {
+            hash ^= plate.charAt(i);
+            hash *= 0x01000193;
+        }
+        return hash | 1;
+    }
+}
\ No newline at end of file
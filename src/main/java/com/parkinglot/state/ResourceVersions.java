@@ -0,0 +1,63 @@
+package com.parkinglot.state;
+
+import com.parkinglot.event.FloorChangedEvent;
+import com.parkinglot.event.ParkingSlotChangedEvent;
+import com.parkinglot.event.ReservationChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Change counters behind the ETags of the catalog and reservation reads. Counters are bumped
+// after commit, so a tag read before the data can only be older than the body, never newer.
+// The process start time is part of every tag because counters restart from zero.
+@Component
+public class ResourceVersions {
+    
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong floors = new AtomicLong();
+    private final AtomicLong slots = new AtomicLong();
+    private final AtomicLong reservations = new AtomicLong();
+    private final ConcurrentHashMap<Long, AtomicLong> floorSlots = new ConcurrentHashMap<>();
+    
+    public String floorsTag() {
+        return tag("floors", floors.get());
+    }
+    
+    public String slotsTag() {
+        return tag("slots", slots.get());
+    }
+    
+    public String floorSlotsTag(Long floorId) {
+        AtomicLong version = floorSlots.get(floorId);
+        return tag("floor" + floorId, version != null ? version.get() : 0);
+    }
+    
+    public String reservationsTag() {
+        return tag("reservations", reservations.get());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFloorChanged(FloorChangedEvent event) {
+        floors.incrementAndGet();
+        floorSlots.computeIfAbsent(event.getFloorId(), id -> new AtomicLong()).incrementAndGet();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParkingSlotChanged(ParkingSlotChangedEvent event) {
+        // Floor responses carry the slot count
+        floors.incrementAndGet();
+        slots.incrementAndGet();
+        floorSlots.computeIfAbsent(event.getFloorId(), id -> new AtomicLong()).incrementAndGet();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        reservations.incrementAndGet();
+    }
+    
+    private String tag(String scope, long version) {
+        return "\"" + epoch + "-" + scope + "-" + version + "\"";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,243 @@
+package com.parkinglot.state;
+
+import com.parkinglot.event.ParkingSlotChangedEvent;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+// Slot attributes as parallel primitive columns with rows in slot id order: the slot id, an index
+// into the floor dictionary, and the vehicle type and status ordinals. Filters are branch-free
+// scans over a few bytes per slot and return sorted slot id arrays, which intersect with other
+// id sets (free slots, occupancy) in one merge pass.
+//
+// Writers are serialized and readers take no lock. A writer changes a row in place or appends
+// one and then republishes the columns through the volatile field every reader starts from.
+// Inserting between existing rows copies the columns instead, so a running scan never sees rows move.
+@Component
+public class SlotCatalog {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int INITIAL_FLOORS = 64;
+    private static final long[] NO_SLOTS = new long[0];
+    
+    private volatile Columns columns = new Columns(INITIAL_CAPACITY, INITIAL_FLOORS);
+    private volatile boolean current;
+    
+    public synchronized void put(long slotId, long floorId, VehicleType vehicleType, SlotStatus status) {
+        Columns target = columns;
+        int floorIndex = target.indexOfFloor(floorId);
+        if (floorIndex < 0) {
+            if (target.floorCount == target.floorIds.length) {
+                target = target.copy(target.slotIds.length, target.floorIds.length * 2, -1);
+            }
+            floorIndex = target.floorCount;
+            target.floorIds[floorIndex] = floorId;
+            target.floorCount = floorIndex + 1;
+        }
+        
+        int size = target.size;
+        int row = Arrays.binarySearch(target.slotIds, 0, size, slotId);
+        if (row < 0) {
+            row = -row - 1;
+            if (row < size || size == target.slotIds.length) {
+                int capacity = size == target.slotIds.length ? size * 2 : target.slotIds.length;
+                target = target.copy(capacity, target.floorIds.length, row);
+            }
+            target.slotIds[row] = slotId;
+        }
+        target.floorIndexes[row] = floorIndex;
+        target.vehicleTypes[row] = (byte) vehicleType.ordinal();
+        target.statuses[row] = (byte) status.ordinal();
+        if (row == target.size) {
+            target.size = row + 1;
+        }
+        columns = target;
+    }
+    
+    // Replaces the whole catalog; runs while holding the writer lock, so changes that arrive
+    // meanwhile are applied on top of it
+    public synchronized void load(Collection<SlotState> slots) {
+        List<SlotState> sorted = new ArrayList<>(slots);
+        sorted.sort(Comparator.comparingLong(SlotState::getSlotId));
+        columns = new Columns(Math.max(INITIAL_CAPACITY, sorted.size()), INITIAL_FLOORS);
+        for (SlotState slot : sorted) {
+            put(slot.getSlotId(), slot.getFloorId(), slot.getVehicleType(), slot.getStatus());
+        }
+        current = true;
+    }
+    
+    public boolean isCurrent() {
+        return current;
+    }
+    
+    public int size() {
+        return columns.size;
+    }
+    
+    // Floors with at least one slot, in the order their first slot was seen
+    public long[] floorIds() {
+        Columns snapshot = columns;
+        return Arrays.copyOf(snapshot.floorIds, snapshot.floorCount);
+    }
+    
+    // Ids of the slots matching every given attribute, ascending; null matches anything
+    public long[] filter(Long floorId, VehicleType vehicleType, SlotStatus status) {
+        Columns snapshot = columns;
+        int size = snapshot.size;
+        int floor = -1;
+        if (floorId != null) {
+            floor = snapshot.indexOfFloor(floorId);
+            if (floor < 0) {
+                return NO_SLOTS;
+            }
+        }
+        int type = vehicleType == null ? -1 : vehicleType.ordinal();
+        int state = status == null ? -1 : status.ordinal();
+        
+        // Counted first so the result is allocated once at its exact size
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count += matches(snapshot, i, floor, type, state) ? 1 : 0;
+        }
+        long[] result = new long[count];
+        int next = 0;
+        for (int i = 0; i < size && next < count; i++) {
+            result[next] = snapshot.slotIds[i];
+            next += matches(snapshot, i, floor, type, state) ? 1 : 0;
+        }
+        return result;
+    }
+    
+    // Matching slot ids split by floor in one scan: one ascending array per floor, in the order
+    // of floorIds() at the time of the call, so floors without matches are empty arrays
+    public long[][] partitionByFloor(VehicleType vehicleType, SlotStatus status) {
+        Columns snapshot = columns;
+        int size = snapshot.size;
+        int floors = snapshot.floorCount;
+        int type = vehicleType == null ? -1 : vehicleType.ordinal();
+        int state = status == null ? -1 : status.ordinal();
+        
+        // A slot moved to a floor added after floorCount was read has no partition
+        int[] counts = new int[floors];
+        for (int i = 0; i < size; i++) {
+            int floor = snapshot.floorIndexes[i];
+            if (floor < floors) {
+                counts[floor] += matches(snapshot, i, -1, type, state) ? 1 : 0;
+            }
+        }
+        long[][] partitions = new long[floors][];
+        for (int floor = 0; floor < floors; floor++) {
+            partitions[floor] = new long[counts[floor]];
+        }
+        int[] next = new int[floors];
+        for (int i = 0; i < size; i++) {
+            int floor = snapshot.floorIndexes[i];
+            if (floor < floors && next[floor] < counts[floor]) {
+                partitions[floor][next[floor]] = snapshot.slotIds[i];
+                next[floor] += matches(snapshot, i, -1, type, state) ? 1 : 0;
+            }
+        }
+        // Rows changed between the passes can leave a partition short
+        for (int floor = 0; floor < floors; floor++) {
+            if (next[floor] < counts[floor]) {
+                partitions[floor] = Arrays.copyOf(partitions[floor], next[floor]);
+            }
+        }
+        return partitions;
+    }
+    
+    public int count(Long floorId, VehicleType vehicleType, SlotStatus status) {
+        return filter(floorId, vehicleType, status).length;
+    }
+    
+    // Ids present in both ascending arrays
+    public static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int next = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[next++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, next);
+    }
+    
+    // Non-short-circuit operators keep the loop free of data-dependent branches
+    private static boolean matches(Columns columns, int row, int floor, int type, int state) {
+        return (floor < 0 | columns.floorIndexes[row] == floor)
+                & (type < 0 | columns.vehicleTypes[row] == type)
+                & (state < 0 | columns.statuses[row] == state);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParkingSlotChanged(ParkingSlotChangedEvent event) {
+        put(event.getParkingSlotId(), event.getFloorId(), event.getVehicleType(), event.getStatus());
+    }
+    
+    private static final class Columns {
+        final long[] slotIds;
+        final int[] floorIndexes;
+        final byte[] vehicleTypes;
+        final byte[] statuses;
+        final long[] floorIds;
+        
+        // Written after the row or floor they expose
+        volatile int size;
+        volatile int floorCount;
+        
+        Columns(int capacity, int floors) {
+            slotIds = new long[capacity];
+            floorIndexes = new int[capacity];
+            vehicleTypes = new byte[capacity];
+            statuses = new byte[capacity];
+            floorIds = new long[floors];
+        }
+        
+        int indexOfFloor(long floorId) {
+            int floors = floorCount;
+            for (int i = 0; i < floors; i++) {
+                if (floorIds[i] == floorId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        
+        // Copies into new columns, leaving an empty row at gap unless gap is negative
+        Columns copy(int capacity, int floors, int gap) {
+            Columns copy = new Columns(capacity, floors);
+            int rows = size;
+            int head = gap < 0 ? rows : gap;
+            copyRows(this, 0, copy, 0, head);
+            if (gap >= 0) {
+                copyRows(this, gap, copy, gap + 1, rows - gap);
+            }
+            System.arraycopy(floorIds, 0, copy.floorIds, 0, floorCount);
+            copy.floorCount = floorCount;
+            copy.size = gap < 0 ? rows : rows + 1;
+            return copy;
+        }
+        
+        private static void copyRows(Columns from, int fromRow, Columns to, int toRow, int rows) {
+            System.arraycopy(from.slotIds, fromRow, to.slotIds, toRow, rows);
+            System.arraycopy(from.floorIndexes, fromRow, to.floorIndexes, toRow, rows);
+            System.arraycopy(from.vehicleTypes, fromRow, to.vehicleTypes, toRow, rows);
+            System.arraycopy(from.statuses, fromRow, to.statuses, toRow, rows);
+        }
+    }
+}
\ No newline at end of file
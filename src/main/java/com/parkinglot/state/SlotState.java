@@ -0,0 +1,98 @@
+package com.parkinglot.state;
+
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+// In-memory view of one slot: catalog attributes plus the ACTIVE bookings held on it
+public final class SlotState {
+    
+    public interface BookingVisitor {
+        void visit(long reservationId, long startEpochSecond, long endEpochSecond);
+    }
+    
+    private final long slotId;
+    private volatile long floorId;
+    private volatile VehicleType vehicleType;
+    private volatile SlotStatus status;
+    private final Map<Long, long[]> bookings = new HashMap<>();
+    
+    SlotState(long slotId) {
+        this.slotId = slotId;
+    }
+    
+    void describe(long floorId, VehicleType vehicleType, SlotStatus status) {
+        this.floorId = floorId;
+        this.vehicleType = vehicleType;
+        this.status = status;
+    }
+    
+    synchronized void book(long reservationId, long startEpochSecond, long endEpochSecond) {
+        bookings.put(reservationId, new long[]{startEpochSecond, endEpochSecond});
+    }
+    
+    synchronized void release(long reservationId) {
+        bookings.remove(reservationId);
+    }
+    
+    // Inclusive overlap, matching ReservationRepository.hasConflictingReservation
+    public synchronized boolean isFree(long startEpochSecond, long endEpochSecond) {
+        for (long[] booking : bookings.values()) {
+            if (booking[0] <= endEpochSecond && booking[1] >= startEpochSecond) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    synchronized int pruneEndedBefore(long epochSecond) {
+        int pruned = 0;
+        Iterator<long[]> iterator = bookings.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next()[1] < epochSecond) {
+                iterator.remove();
+                pruned++;
+            }
+        }
+        return pruned;
+    }
+    
+    public synchronized int getBookingCount() {
+        return bookings.size();
+    }
+    
+    // Flattened {reservationId, start, end} triples, copied under the lock for snapshotting
+    synchronized long[] copyBookings() {
+        long[] copy = new long[bookings.size() * 3];
+        int i = 0;
+        for (Map.Entry<Long, long[]> booking : bookings.entrySet()) {
+            copy[i++] = booking.getKey();
+            copy[i++] = booking.getValue()[0];
+            copy[i++] = booking.getValue()[1];
+        }
+        return copy;
+    }
+    
+    public synchronized void forEachBooking(BookingVisitor visitor) {
+        bookings.forEach((id, interval) -> visitor.visit(id, interval[0], interval[1]));
+    }
+    
+    public long getSlotId() {
+        return slotId;
+    }
+    
+    public long getFloorId() {
+        return floorId;
+    }
+    
+    public VehicleType getVehicleType() {
+        return vehicleType;
+    }
+    
+    public SlotStatus getStatus() {
+        return status;
+    }
+}
\ No newline at end of file
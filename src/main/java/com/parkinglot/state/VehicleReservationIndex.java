@@ -0,0 +1,163 @@
+package com.parkinglot.state;
+
+import com.parkinglot.event.ReservationChangedEvent;
+import com.parkinglot.model.ReservationStatus;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.parkinglot.state.BookingStateIndex.toEpochSecond;
+
+// ACTIVE reservations by vehicle number for gate lookups. A Bloom filter over the indexed plates
+// answers unknown vehicles without touching the map; it only grows between rebuilds, so plates
+// whose bookings ended still pass it until the next prune and simply miss in the map.
+@Component
+public class VehicleReservationIndex {
+    
+    private static final int MIN_FILTER_CAPACITY = 1 << 16;
+    
+    private final ConcurrentHashMap<String, PlateBookings> plates = new ConcurrentHashMap<>();
+    private volatile PlateBloomFilter bloomFilter = new PlateBloomFilter(MIN_FILTER_CAPACITY);
+    private volatile boolean current;
+    
+    public void putBooking(String vehicleNumber, long reservationId, long startEpochSecond, long endEpochSecond) {
+        // Booking inside compute keeps it atomic with the removal of empty plates in prune
+        plates.compute(vehicleNumber, (plate, bookings) -> {
+            PlateBookings target = bookings != null ? bookings : new PlateBookings();
+            target.book(reservationId, startEpochSecond, endEpochSecond);
+            return target;
+        });
+        remember(vehicleNumber);
+    }
+    
+    public void applyReservation(Long reservationId, String vehicleNumber, LocalDateTime startTime,
+                                 LocalDateTime endTime, ReservationStatus status) {
+        if (status == ReservationStatus.ACTIVE) {
+            putBooking(vehicleNumber, reservationId, toEpochSecond(startTime), toEpochSecond(endTime));
+        } else {
+            PlateBookings bookings = plates.get(vehicleNumber);
+            if (bookings != null) {
+                bookings.release(reservationId);
+            }
+        }
+    }
+    
+    public boolean mightContain(String vehicleNumber) {
+        return bloomFilter.mightContain(vehicleNumber);
+    }
+    
+    // The reservation in progress at the given time, otherwise the next one to start
+    public Optional<Long> findCurrentOrNext(String vehicleNumber, LocalDateTime time) {
+        PlateBookings bookings = plates.get(vehicleNumber);
+        return bookings == null ? Optional.empty() : bookings.firstEndingAtOrAfter(toEpochSecond(time));
+    }
+    
+    public int size() {
+        return plates.size();
+    }
+    
+    // Drops ended bookings and their plates, then rebuilds the Bloom filter so they stop passing it
+    public int pruneEndedBefore(LocalDateTime time) {
+        long cutoff = toEpochSecond(time);
+        int pruned = 0;
+        for (PlateBookings bookings : plates.values()) {
+            pruned += bookings.pruneEndedBefore(cutoff);
+        }
+        plates.keySet().forEach(plate ->
+                plates.computeIfPresent(plate, (key, bookings) -> bookings.isEmpty() ? null : bookings));
+        synchronized (this) {
+            rebuildFilter(null);
+        }
+        return pruned;
+    }
+    
+    public void clear() {
+        plates.clear();
+        current = false;
+        synchronized (this) {
+            bloomFilter = new PlateBloomFilter(MIN_FILTER_CAPACITY);
+        }
+    }
+    
+    public boolean isCurrent() {
+        return current;
+    }
+    
+    void markCurrent() {
+        current = true;
+    }
+    
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        applyReservation(event.getReservationId(), event.getVehicleNumber(),
+                event.getStartTime(), event.getEndTime(), event.getStatus());
+    }
+    
+    // Checked under the monitor: a plate booked while the filter is rebuilt waits for the new filter
+    // instead of passing the old one, which the rebuild may have replaced without it
+    private synchronized void remember(String vehicleNumber) {
+        if (bloomFilter.mightContain(vehicleNumber)) {
+            return;
+        }
+        bloomFilter.add(vehicleNumber);
+        if (bloomFilter.isSaturated()) {
+            rebuildFilter(vehicleNumber);
+        }
+    }
+    
+    // Caller holds the monitor, so no plate is added to a filter that is about to be replaced
+    private void rebuildFilter(String pending) {
+        PlateBloomFilter rebuilt = new PlateBloomFilter(Math.max(MIN_FILTER_CAPACITY, plates.size() * 2));
+        plates.keySet().forEach(rebuilt::add);
+        if (pending != null) {
+            rebuilt.add(pending);
+        }
+        bloomFilter = rebuilt;
+    }
+    
+    private static final class PlateBookings {
+        
+        // {reservationId, startEpochSecond, endEpochSecond}, ordered by start
+        private final List<long[]> bookings = new ArrayList<>(2);
+        
+        synchronized void book(long reservationId, long startEpochSecond, long endEpochSecond) {
+            bookings.removeIf(booking -> booking[0] == reservationId);
+            int index = 0;
+            while (index < bookings.size() && bookings.get(index)[1] <= startEpochSecond) {
+                index++;
+            }
+            bookings.add(index, new long[]{reservationId, startEpochSecond, endEpochSecond});
+        }
+        
+        synchronized void release(long reservationId) {
+            bookings.removeIf(booking -> booking[0] == reservationId);
+        }
+        
+        synchronized Optional<Long> firstEndingAtOrAfter(long epochSecond) {
+            for (long[] booking : bookings) {
+                if (booking[2] >= epochSecond) {
+                    return Optional.of(booking[0]);
+                }
+            }
+            return Optional.empty();
+        }
+        
+        synchronized int pruneEndedBefore(long epochSecond) {
+            int before = bookings.size();
+            bookings.removeIf(booking -> booking[2] < epochSecond);
+            return before - bookings.size();
+        }
+        
+        synchronized boolean isEmpty() {
+            return bookings.isEmpty();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.parkinglot.state;
+
+import com.parkinglot.repository.ReservationRepository;
+import com.parkinglot.shard.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Until this has run, vehicle lookups go to the database
+@Component
+@Order(11)
+@RequiredArgsConstructor
+@Slf4j
+public class VehicleReservationIndexLoader implements ApplicationRunner {
+    
+    private final VehicleReservationIndex vehicleReservationIndex;
+    private final ReservationRepository reservationRepository;
+    private final ShardRouter shardRouter;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void run(ApplicationArguments args) {
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> bookings = shardRouter.scatterGather(shard -> reservationRepository.findActiveVehicleBookings(now));
+        for (Object[] booking : bookings) {
+            vehicleReservationIndex.putBooking((String) booking[1], (Long) booking[0],
+                    BookingStateIndex.toEpochSecond((LocalDateTime) booking[2]),
+                    BookingStateIndex.toEpochSecond((LocalDateTime) booking[3]));
+        }
+        vehicleReservationIndex.markCurrent();
+        log.info("Indexed {} active reservations for {} vehicles in {} ms",
+                bookings.size(), vehicleReservationIndex.size(), System.currentTimeMillis() - started);
+    }
+    
+    @Scheduled(fixedDelayString = "${parkinglot.vehicle-index.prune-interval:PT15M}",
+               initialDelayString = "${parkinglot.vehicle-index.prune-interval:PT15M}")
+    public void prune() {
+        if (vehicleReservationIndex.isCurrent()) {
+            int pruned = vehicleReservationIndex.pruneEndedBefore(LocalDateTime.now());
+            log.info("Pruned {} ended bookings from the vehicle index", pruned);
+        }
+    }
+}
\ No newline at end of file
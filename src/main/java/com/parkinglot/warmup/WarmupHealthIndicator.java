@@ -0,0 +1,25 @@
+package com.parkinglot.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// Part of the readiness group: traffic waits for warm-up, but never longer than its timeout
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+    
+    private final WarmupRunner warmupRunner;
+    
+    @Override
+    public Health health() {
+        if (warmupRunner.isFinished()) {
+            return Health.up().build();
+        }
+        if (warmupRunner.isTimedOut()) {
+            return Health.up().withDetail("timedOut", true).build();
+        }
+        return Health.outOfService().withDetail("reason", "Warming up").build();
+    }
+}
\ No newline at end of file
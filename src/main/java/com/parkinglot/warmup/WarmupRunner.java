@@ -0,0 +1,192 @@
+package com.parkinglot.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkinglot.config.WarmupProperties;
+import com.parkinglot.dto.ParkingSlotResponse;
+import com.parkinglot.dto.ReservationCreateRequest;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.dto.ReservationSearchRequest;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.journal.ReservationJournal;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.service.ParkingSlotService;
+import com.parkinglot.service.ReservationService;
+import com.parkinglot.shard.ShardRouter;
+import com.parkinglot.state.BookingStateIndex;
+import com.parkinglot.state.SlotState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.Optional;
+
+// Runs the hot request paths a few hundred times after startup so query plans, serializers and
+// JIT-compiled code are in place before the node takes traffic: availability in both the
+// in-memory and database variants, a booking and a conflicting booking in a transaction that is
+// always rolled back, lookups, and JSON/CBOR conversion of the results. Runs on its own thread;
+// readiness stays down until it finishes or the timeout passes.
+@Component
+@Slf4j
+@Order(20)
+public class WarmupRunner implements CommandLineRunner {
+    
+    private static final String VEHICLE_NUMBER = "WU00WU0000";
+    
+    private final WarmupProperties properties;
+    private final ParkingSlotService parkingSlotService;
+    private final ReservationService reservationService;
+    private final BookingStateIndex bookingStateIndex;
+    private final ReservationJournal reservationJournal;
+    private final ShardRouter shardRouter;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final TransactionTemplate rolledBackTransaction;
+    
+    private volatile boolean finished;
+    private volatile Instant deadline;
+    
+    public WarmupRunner(WarmupProperties properties, ParkingSlotService parkingSlotService,
+                        ReservationService reservationService, BookingStateIndex bookingStateIndex,
+                        ReservationJournal reservationJournal, ShardRouter shardRouter, ObjectMapper objectMapper,
+                        ObjectProvider<MappingJackson2CborHttpMessageConverter> cborConverter,
+                        PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.parkingSlotService = parkingSlotService;
+        this.reservationService = reservationService;
+        this.bookingStateIndex = bookingStateIndex;
+        this.reservationJournal = reservationJournal;
+        this.shardRouter = shardRouter;
+        this.objectMapper = objectMapper;
+        MappingJackson2CborHttpMessageConverter converter = cborConverter.getIfAvailable();
+        this.cborMapper = converter == null ? null : converter.getObjectMapper();
+        this.rolledBackTransaction = new TransactionTemplate(transactionManager);
+    }
+    
+    @Override
+    public void run(String... args) {
+        if (!properties.isEnabled()) {
+            finished = true;
+            return;
+        }
+        deadline = Instant.now().plus(properties.getTimeout());
+        Thread thread = new Thread(() -> {
+            try {
+                warmUp();
+            } catch (RuntimeException e) {
+                log.warn("Warm-up stopped early: {}", e.getMessage());
+            } finally {
+                finished = true;
+            }
+        }, "warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    public boolean isFinished() {
+        return finished;
+    }
+    
+    public boolean isTimedOut() {
+        Instant until = deadline;
+        return !finished && until != null && Instant.now().isAfter(until);
+    }
+    
+    // Returns the number of rounds completed before the iteration count or the deadline was reached
+    public int warmUp() {
+        long started = System.nanoTime();
+        Optional<SlotState> slot = bookingStateIndex.getSlots().stream()
+                .min(Comparator.comparingLong(SlotState::getSlotId));
+        // Journaled bookings are durable on append and cross-shard work does not join one
+        // transaction, so in either case bookings are left out rather than rolled back
+        boolean bookings = slot.isPresent() && !reservationJournal.isEnabled() && !shardRouter.isSharded();
+        
+        int rounds = 0;
+        while (rounds < properties.getIterations() && !pastDeadline()) {
+            LocalDateTime startTime = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.HOURS);
+            LocalDateTime endTime = startTime.plusHours(2);
+            VehicleType vehicleType = slot.map(SlotState::getVehicleType).orElse(VehicleType.FOUR_WHEELER);
+            
+            Page<ParkingSlotResponse> available = parkingSlotService.getAvailableSlots(
+                    startTime, endTime, vehicleType, 0, 20, "id");
+            parkingSlotService.getAvailableSlots(startTime, endTime, null, 0, 20, "slotNumber");
+            serialize(available.getContent());
+            
+            if (bookings) {
+                book(slot.get().getSlotId(), vehicleType, startTime, endTime);
+            }
+            rounds++;
+        }
+        log.info("Warm-up finished {} rounds in {} ms", rounds, (System.nanoTime() - started) / 1_000_000);
+        return rounds;
+    }
+    
+    // A booking, its conflicting twin and the reads that follow, all rolled back
+    private void book(long slotId, VehicleType vehicleType, LocalDateTime startTime, LocalDateTime endTime) {
+        ReservationCreateRequest request = deserialize(request(slotId, vehicleType, startTime, endTime));
+        rolledBackTransaction.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            try {
+                ReservationResponse reservation = reservationService.createReservation(request);
+                serialize(reservationService.getReservationById(reservation.getId()));
+                // Rejected by the conflict check, which is what is being warmed up
+                reservationService.createReservation(request);
+            } catch (BusinessRuleViolationException expected) {
+                // Also the outcome when real bookings already hold the window
+            }
+            
+            ReservationSearchRequest search = new ReservationSearchRequest();
+            search.setParkingSlotId(slotId);
+            search.setFrom(startTime);
+            search.setLimit(10);
+            serialize(reservationService.searchReservations(search));
+        });
+    }
+    
+    private static ReservationCreateRequest request(long slotId, VehicleType vehicleType,
+                                                    LocalDateTime startTime, LocalDateTime endTime) {
+        ReservationCreateRequest request = new ReservationCreateRequest();
+        request.setParkingSlotId(slotId);
+        request.setVehicleNumber(VEHICLE_NUMBER);
+        request.setVehicleType(vehicleType);
+        request.setStartTime(startTime);
+        request.setEndTime(endTime);
+        return request;
+    }
+    
+    private void serialize(Object value) {
+        try {
+            objectMapper.writeValueAsBytes(value);
+            if (cborMapper != null) {
+                cborMapper.writeValueAsBytes(value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    // Request bodies arrive as JSON, so the request takes the same round trip
+    private ReservationCreateRequest deserialize(ReservationCreateRequest request) {
+        try {
+            return objectMapper.readValue(objectMapper.writeValueAsBytes(request), ReservationCreateRequest.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private boolean pastDeadline() {
+        Instant until = deadline;
+        return until != null && Instant.now().isAfter(until);
+    }
+}
\ No newline at end of file
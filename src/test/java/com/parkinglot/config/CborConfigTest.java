@@ -0,0 +1,101 @@
+package com.parkinglot.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkinglot.dto.ParkingSlotResponse;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Payload sizes of the lists SerializationBenchmark times; measured here once instead of per operation
+class CborConfigTest {
+    
+    private static final int SIZE = 500;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 8, 0);
+    
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cbor = new CborConfig()
+            .cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json())
+            .getObjectMapper();
+    
+    @Test
+    void cborHttpMessageConverter_ShouldShrinkSlotListAndRoundTripIt() throws Exception {
+        // Given
+        List<ParkingSlotResponse> slots = slots();
+        
+        // When
+        byte[] jsonPayload = json.writeValueAsBytes(slots);
+        byte[] cborPayload = cbor.writeValueAsBytes(slots);
+        
+        // Then - 500 slots: about 84 KB as JSON, 65 KB as CBOR
+        assertEquals(84_226, jsonPayload.length);
+        assertEquals(65_058, cborPayload.length);
+        assertEquals(slots, cbor.readValue(cborPayload, new TypeReference<List<ParkingSlotResponse>>() {}));
+    }
+    
+    @Test
+    void cborHttpMessageConverter_ShouldShrinkReservationListAndRoundTripIt() throws Exception {
+        // Given
+        List<ReservationResponse> reservations = reservations(slots());
+        
+        // When
+        byte[] jsonPayload = json.writeValueAsBytes(reservations);
+        byte[] cborPayload = cbor.writeValueAsBytes(reservations);
+        
+        // Then - 500 reservations: about 159 KB as JSON, 135 KB as CBOR
+        assertEquals(158_618, jsonPayload.length);
+        assertEquals(135_280, cborPayload.length);
+        assertEquals(reservations, cbor.readValue(cborPayload, new TypeReference<List<ReservationResponse>>() {}));
+    }
+    
+    // Same lists as SerializationBenchmark with size=500
+    private static List<ParkingSlotResponse> slots() {
+        List<ParkingSlotResponse> slots = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            ParkingSlotResponse slot = new ParkingSlotResponse();
+            slot.setId((long) i + 1);
+            slot.setSlotNumber(String.format("A%03d", i + 1));
+            slot.setFloorId((long) i / 100 + 1);
+            slot.setFloorName("Floor " + (i / 100 + 1));
+            slot.setVehicleType(i % 3 == 0 ? VehicleType.TWO_WHEELER : VehicleType.FOUR_WHEELER);
+            slot.setStatus(SlotStatus.AVAILABLE);
+            slot.setCreatedAt(NOW);
+            slot.setUpdatedAt(NOW);
+            slots.add(slot);
+        }
+        return slots;
+    }
+    
+    private static List<ReservationResponse> reservations(List<ParkingSlotResponse> slots) {
+        List<ReservationResponse> reservations = new ArrayList<>(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            ParkingSlotResponse slot = slots.get(i);
+            ReservationResponse reservation = new ReservationResponse();
+            reservation.setId((long) i + 1);
+            reservation.setParkingSlotId(slot.getId());
+            reservation.setSlotNumber(slot.getSlotNumber());
+            reservation.setFloorName(slot.getFloorName());
+            reservation.setVehicleNumber(String.format("KA05MH%04d", i));
+            reservation.setVehicleType(slot.getVehicleType());
+            reservation.setStartTime(NOW.plusHours(i % 24));
+            reservation.setEndTime(NOW.plusHours(i % 24 + 2));
+            reservation.setTotalCost(BigDecimal.valueOf(slot.getVehicleType().getHourlyRate() * 2));
+            reservation.setDurationHours(2);
+            reservation.setStatus(ReservationStatus.ACTIVE);
+            reservation.setCreatedAt(NOW);
+            reservation.setUpdatedAt(NOW);
+            reservations.add(reservation);
+        }
+        return reservations;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.parkinglot.config;
+
+import com.parkinglot.dto.FloorCreateRequest;
+import com.parkinglot.dto.FloorResponse;
+import com.parkinglot.dto.ParkingSlotCreateRequest;
+import com.parkinglot.dto.ParkingSlotResponse;
+import com.parkinglot.dto.ReservationCreateRequest;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.service.FloorService;
+import com.parkinglot.service.ParkingSlotService;
+import com.parkinglot.service.ReservationService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The prod profile against H2 in MySQL compatibility mode: MySQL dialect, pool and Hibernate
+// settings as configured, only the connection itself replaced
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:prodtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.datasource.hikari.maximum-pool-size=4",
+    "spring.datasource.hikari.minimum-idle=4"
+})
+@ActiveProfiles({"test", "prod"})
+@DirtiesContext
+class ProdProfileIntegrationTest {
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private JpaProperties jpaProperties;
+    
+    @Autowired
+    private SeedProperties seedProperties;
+    
+    @Autowired
+    private FloorService floorService;
+    
+    @Autowired
+    private ParkingSlotService parkingSlotService;
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void prodProfile_ShouldConfigurePoolDriverAndHibernate() {
+        HikariDataSource hikari = assertInstanceOf(HikariDataSource.class, dataSource);
+        assertEquals("parking-lot", hikari.getPoolName());
+        assertEquals(hikari.getMaximumPoolSize(), hikari.getMinimumIdle());
+        assertEquals("true", hikari.getDataSourceProperties().getProperty("rewriteBatchedStatements"));
+        assertEquals("true", hikari.getDataSourceProperties().getProperty("cachePrepStmts"));
+        
+        Map<String, Object> hibernate = entityManagerFactory.getProperties();
+        assertEquals("org.hibernate.dialect.MySQLDialect", hibernate.get("hibernate.dialect"));
+        assertEquals("50", hibernate.get("hibernate.jdbc.batch_size"));
+        assertEquals("500", hibernate.get("hibernate.jdbc.fetch_size"));
+        assertFalse(jpaProperties.isShowSql());
+        
+        // No sample data outside development
+        assertFalse(seedProperties.isEnabled());
+    }
+    
+    @Test
+    void booking_ShouldRunOnMySqlSchema() {
+        // Given
+        FloorCreateRequest floorRequest = new FloorCreateRequest();
+        floorRequest.setFloorNumber(1);
+        floorRequest.setFloorName("Ground");
+        FloorResponse floor = floorService.createFloor(floorRequest);
+        
+        ParkingSlotCreateRequest slotRequest = new ParkingSlotCreateRequest();
+        slotRequest.setFloorId(floor.getId());
+        slotRequest.setSlotNumber("A1");
+        slotRequest.setVehicleType(VehicleType.FOUR_WHEELER);
+        ParkingSlotResponse slot = parkingSlotService.createParkingSlot(slotRequest);
+        
+        ReservationCreateRequest request = new ReservationCreateRequest();
+        request.setParkingSlotId(slot.getId());
+        request.setVehicleNumber("KA01AB1234");
+        request.setVehicleType(VehicleType.FOUR_WHEELER);
+        request.setStartTime(LocalDateTime.now().plusDays(1).withNano(0));
+        request.setEndTime(request.getStartTime().plusHours(2));
+        
+        // When
+        ReservationResponse reservation = reservationService.createReservation(request);
+        reservationService.cancelReservation(reservation.getId());
+        
+        // Then
+        assertEquals("CANCELLED", jdbcTemplate.queryForObject(
+                "SELECT status FROM reservations WHERE id = ?", String.class, reservation.getId()));
+        assertEquals(1, floorService.getFloorById(floor.getId()).getTotalSlots().intValue());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.parkinglot.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrongETagCompressionFilterTest {
+    
+    private static final String ETAG = "\"abc-floors-3\"";
+    private static final String BODY = "[" + "{\"id\":1,\"floorName\":\"Floor 1\"},".repeat(200) + "{}]";
+    
+    private final StrongETagCompressionFilter filter = new StrongETagCompressionFilter(1024);
+    
+    @Test
+    void doFilter_ShouldGzipAndSuffixStrongETag_WhenClientAcceptsGzip() throws Exception {
+        // Given
+        MockHttpServletRequest request = gzipRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        // When
+        filter.doFilter(request, response, new MockFilterChain(new VersionedServlet()));
+        
+        // Then
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"abc-floors-3-gzip\"", response.getHeader(HttpHeaders.ETAG));
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertEquals(BODY, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+    
+    @Test
+    void doFilter_ShouldMatchGzipTagAgainstIdentityVersion() throws Exception {
+        // Given
+        MockHttpServletRequest request = gzipRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"abc-floors-3-gzip\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        // When
+        filter.doFilter(request, response, new MockFilterChain(new VersionedServlet()));
+        
+        // Then
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+        assertEquals("\"abc-floors-3-gzip\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+    
+    @Test
+    void doFilter_ShouldPassThrough_WhenClientDoesNotAcceptGzip() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/floors");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        // When
+        filter.doFilter(request, response, new MockFilterChain(new VersionedServlet()));
+        
+        // Then
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(ETAG, response.getHeader(HttpHeaders.ETAG));
+        assertEquals(BODY, response.getContentAsString());
+    }
+    
+    private MockHttpServletRequest gzipRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/floors");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        return request;
+    }
+    
+    // Mimics a controller guarded by WebRequest.checkNotModified
+    private static class VersionedServlet extends HttpServlet {
+        
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            response.setHeader(HttpHeaders.ETAG, ETAG);
+            if (ETAG.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+            response.setContentType("application/json");
+            response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.parkinglot.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyntheticDataGeneratorTest {
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    private JdbcTemplate jdbcTemplate;
+    private SeedProperties settings;
+    private long lotId;
+    
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO lots (code, lot_name, created_at, updated_at) " +
+                "VALUES ('MAIN', 'Main Lot', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        lotId = count("SELECT id FROM lots WHERE code = 'MAIN'");
+        settings = new SeedProperties();
+        settings.setFloors(2);
+        settings.setSlotsPerFloor(10);
+        settings.setTwoWheelerShare(0.3);
+        settings.setReservationsPerSlotPerDay(4);
+        settings.setHistoryDays(5);
+        settings.setFutureDays(2);
+        settings.setBatchSize(50);
+    }
+    
+    @Test
+    void generate_ShouldCreateRequestedShapeWithoutOverlaps() throws Exception {
+        // When
+        SyntheticDataGenerator.Result result = new SyntheticDataGenerator(dataSource).generate(settings, lotId);
+        
+        // Then
+        assertEquals(2, result.getFloors());
+        assertEquals(20, result.getSlots());
+        assertTrue(result.getReservations() > 0);
+        assertEquals(result.getReservations(), count("SELECT COUNT(*) FROM reservations"));
+        assertEquals(6, count("SELECT COUNT(*) FROM parking_slots WHERE vehicle_type = 'TWO_WHEELER'"));
+        assertEquals(20, count("SELECT SUM(total_slots) FROM floors"));
+        assertEquals(0, count("SELECT COUNT(*) FROM reservations a JOIN reservations b " +
+                "ON a.parking_slot_id = b.parking_slot_id AND a.id < b.id " +
+                "AND a.start_time <= b.end_time AND a.end_time >= b.start_time"));
+        assertEquals(0, count("SELECT COUNT(*) FROM reservations WHERE status = 'ACTIVE' AND end_time < CURRENT_TIMESTAMP"));
+    }
+    
+    @Test
+    void generate_ShouldBeDeterministicForSameSeed() throws Exception {
+        // Given
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(dataSource);
+        
+        // When - the second run lands on new floors but reuses the same per-slot random streams
+        long first = generator.generate(settings, lotId).getReservations();
+        long second = generator.generate(settings, lotId).getReservations();
+        
+        // Then
+        assertEquals(first, second);
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT vehicle_number, start_time, end_time, total_cost, status FROM reservations ORDER BY id");
+        assertEquals(rows.subList(0, (int) first), rows.subList((int) first, rows.size()));
+        assertEquals(4, count("SELECT COUNT(*) FROM floors"));
+    }
+    
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
\ No newline at end of file
@@ -4,12 +4,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.parkinglot.dto.FloorCreateRequest;
 import com.parkinglot.dto.FloorResponse;
+import com.parkinglot.event.FloorChangedEvent;
 import com.parkinglot.service.FloorService;
+import com.parkinglot.state.ResourceVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -18,11 +22,12 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(FloorController.class)
+@Import(ResourceVersions.class)
 class FloorControllerTest {
     
     @Autowired
@@ -31,6 +36,9 @@ class FloorControllerTest {
     @MockBean
     private FloorService floorService;
     
+    @Autowired
+    private ResourceVersions resourceVersions;
+    
     private ObjectMapper objectMapper;
     private FloorResponse floorResponse;
     private FloorCreateRequest createRequest;
@@ -95,4 +103,30 @@ class FloorControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[0].floorNumber").value(1));
     }
+    
+    @Test
+    void getAllFloors_ShouldReturn304WithoutQuerying_WhenETagMatches() throws Exception {
+        // Given
+        String etag = resourceVersions.floorsTag();
+        
+        // When & Then
+        mockMvc.perform(get("/api/floors").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        verify(floorService, never()).getAllFloors();
+    }
+    
+    @Test
+    void getAllFloors_ShouldReturnNewETag_WhenFloorCreatedSinceLastRead() throws Exception {
+        // Given
+        String staleEtag = resourceVersions.floorsTag();
+        resourceVersions.onFloorChanged(new FloorChangedEvent(2L, 2));
+        when(floorService.getAllFloors()).thenReturn(Arrays.asList(floorResponse));
+        
+        // When & Then
+        mockMvc.perform(get("/api/floors").header(HttpHeaders.IF_NONE_MATCH, staleEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, resourceVersions.floorsTag()))
+                .andExpect(jsonPath("$[0].id").value(1L));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.parkinglot.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.parkinglot.config.CborConfig;
+import com.parkinglot.dto.ReservationCreateRequest;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.feed.ReservationChangeFeed;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.pipeline.BookingPipeline;
+import com.parkinglot.service.BulkCancellationService;
+import com.parkinglot.service.OccupancyService;
+import com.parkinglot.service.ReservationService;
+import com.parkinglot.state.ResourceVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReservationController.class)
+@Import({ResourceVersions.class, CborConfig.class})
+class ReservationControllerTest {
+    
+    private static final MediaType APPLICATION_CBOR = MediaType.valueOf("application/cbor");
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @MockBean
+    private ReservationService reservationService;
+    
+    @MockBean
+    private OccupancyService occupancyService;
+    
+    @MockBean
+    private BulkCancellationService bulkCancellationService;
+    
+    @MockBean
+    private BookingPipeline bookingPipeline;
+    
+    @MockBean
+    private ReservationChangeFeed reservationChangeFeed;
+    
+    private ObjectMapper cborMapper;
+    private ReservationResponse reservationResponse;
+    private ReservationCreateRequest createRequest;
+    
+    @BeforeEach
+    void setUp() {
+        cborMapper = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+        
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1).withNano(0);
+        reservationResponse = new ReservationResponse();
+        reservationResponse.setId(1L);
+        reservationResponse.setParkingSlotId(1L);
+        reservationResponse.setSlotNumber("A1");
+        reservationResponse.setFloorName("Ground Floor");
+        reservationResponse.setVehicleNumber("KA05MH1234");
+        reservationResponse.setVehicleType(VehicleType.FOUR_WHEELER);
+        reservationResponse.setStartTime(startTime);
+        reservationResponse.setEndTime(startTime.plusHours(2));
+        reservationResponse.setTotalCost(BigDecimal.valueOf(60.0));
+        reservationResponse.setDurationHours(2);
+        reservationResponse.setStatus(ReservationStatus.ACTIVE);
+        
+        createRequest = new ReservationCreateRequest();
+        createRequest.setParkingSlotId(1L);
+        createRequest.setVehicleNumber("KA05MH1234");
+        createRequest.setVehicleType(VehicleType.FOUR_WHEELER);
+        createRequest.setStartTime(startTime);
+        createRequest.setEndTime(startTime.plusHours(2));
+    }
+    
+    @Test
+    void createReservation_ShouldAcceptAndReturnCbor_WhenNegotiated() throws Exception {
+        // Given
+        when(bookingPipeline.submit(any(ReservationCreateRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(reservationResponse));
+        
+        // When
+        MvcResult asyncResult = mockMvc.perform(post("/api/reservations/reserve")
+                .contentType(APPLICATION_CBOR)
+                .accept(APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(createRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(APPLICATION_CBOR))
+                .andReturn();
+        
+        // Then
+        ReservationResponse response = cborMapper.readValue(result.getResponse().getContentAsByteArray(),
+                ReservationResponse.class);
+        assertEquals(reservationResponse, response);
+    }
+    
+    @Test
+    void getAllReservations_ShouldReturnJson_WhenCborNotRequested() throws Exception {
+        // Given
+        when(reservationService.getAllReservations()).thenReturn(List.of(reservationResponse));
+        
+        // When & Then
+        mockMvc.perform(get("/api/reservations"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].vehicleNumber").value("KA05MH1234"));
+    }
+}
\ No newline at end of file
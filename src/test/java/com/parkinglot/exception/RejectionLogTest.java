@@ -0,0 +1,34 @@
+package com.parkinglot.exception;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RejectionLogTest {
+    
+    @Test
+    void expectedRejections_ShouldNotCaptureStackTraces() {
+        assertEquals(0, new BusinessRuleViolationException("Slot is taken").getStackTrace().length);
+        assertEquals(0, new ResourceNotFoundException("No such slot").getStackTrace().length);
+    }
+    
+    @Test
+    void log_ShouldLogOneInEverySampleIntervalAtInfo() {
+        // Given
+        Logger log = mock(Logger.class);
+        long before = RejectionLog.count(RejectionLog.Kind.VALIDATION);
+        
+        // When
+        for (int i = 0; i < 3 * RejectionLog.SAMPLE_INTERVAL; i++) {
+            RejectionLog.log(log, RejectionLog.Kind.VALIDATION, "startTime: must be in the future");
+        }
+        
+        // Then
+        assertEquals(before + 3 * RejectionLog.SAMPLE_INTERVAL, RejectionLog.count(RejectionLog.Kind.VALIDATION));
+        verify(log, times(3)).info(anyString(), any(), any(), any());
+        verify(log, never()).error(anyString(), any(Object.class));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.parkinglot.feed;
+
+import com.parkinglot.dto.ReservationChangePage;
+import com.parkinglot.dto.ReservationChangeResponse;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.event.ReservationChangedEvent;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.model.ReservationChangeType;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.service.ReservationService;
+import com.parkinglot.support.BookingFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:changefeedtest;DB_CLOSE_DELAY=-1",
+    "parkinglot.change-feed.tail-size=3",
+    "parkinglot.change-feed.max-page-size=4"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+@Import(BookingFixtures.class)
+class ReservationChangeFeedIntegrationTest {
+    
+    @Autowired
+    private ReservationChangeFeed reservationChangeFeed;
+    
+    @Autowired
+    private BookingFixtures fixtures;
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void getChanges_ShouldReturnBookingAndCancellationInOrder() {
+        // Given
+        long since = latestSequence();
+        Long slotId = fixtures.createSlot();
+        
+        // When
+        ReservationResponse reservation = fixtures.reserve(slotId, LocalDateTime.now().plusDays(1).withNano(0));
+        reservationService.cancelReservation(reservation.getId());
+        ReservationChangePage page = reservationChangeFeed.getChanges(since, null);
+        
+        // Then
+        assertEquals(2, page.getChanges().size());
+        assertFalse(page.isHasMore());
+        ReservationChangeResponse created = page.getChanges().get(0);
+        ReservationChangeResponse cancelled = page.getChanges().get(1);
+        assertEquals(ReservationChangeType.CREATED, created.getChangeType());
+        assertEquals(ReservationChangeType.CANCELLED, cancelled.getChangeType());
+        assertEquals(reservation.getId(), cancelled.getReservationId());
+        assertEquals(ReservationStatus.CANCELLED, cancelled.getStatus());
+        assertTrue(created.getSequence() < cancelled.getSequence());
+        assertEquals(cancelled.getSequence(), page.getNextSince());
+    }
+    
+    @Test
+    void getChanges_ShouldPageThroughTheTableOnceTheTailHasMovedOn() {
+        // Given - more changes than the tail keeps
+        long since = latestSequence();
+        for (int i = 0; i < 10; i++) {
+            record(1000L + i);
+        }
+        assertTrue(reservationChangeFeed.tailFloor() > since);
+        assertEquals(3, reservationChangeFeed.tailSize());
+        
+        // When - a consumer that fell behind follows nextSince, asking for more than the page cap
+        List<Long> reservationIds = new ArrayList<>();
+        ReservationChangePage page;
+        int pages = 0;
+        do {
+            page = reservationChangeFeed.getChanges(since, 50);
+            page.getChanges().forEach(change -> reservationIds.add(change.getReservationId()));
+            since = page.getNextSince();
+            pages++;
+        } while (page.isHasMore());
+        
+        // Then - every change exactly once, in order, in pages of at most four
+        assertEquals(3, pages);
+        assertEquals(List.of(1000L, 1001L, 1002L, 1003L, 1004L, 1005L, 1006L, 1007L, 1008L, 1009L), reservationIds);
+        assertTrue(reservationChangeFeed.getChanges(since, null).getChanges().isEmpty());
+    }
+    
+    @Test
+    void getChanges_ShouldHoldBackChangesCommittedAfterOneStillInFlight() {
+        // Given
+        long since = latestSequence();
+        
+        // When - a later change commits while an earlier one is still uncommitted
+        ReservationChangePage whileInFlight = transactionTemplate.execute(status -> {
+            reservationChangeFeed.onReservationChanged(event(2000L));
+            return CompletableFuture.supplyAsync(() -> {
+                record(2001L);
+                return reservationChangeFeed.getChanges(since, null);
+            }).join();
+        });
+        ReservationChangePage afterCommit = reservationChangeFeed.getChanges(since, null);
+        
+        // Then - the reader waits for the gap to close instead of skipping over it
+        assertTrue(whileInFlight.getChanges().isEmpty());
+        assertEquals(since, whileInFlight.getNextSince());
+        assertEquals(List.of(2000L, 2001L), afterCommit.getChanges().stream()
+                .map(ReservationChangeResponse::getReservationId)
+                .toList());
+    }
+    
+    @Test
+    void getChanges_ShouldRejectInvalidArguments() {
+        assertThrows(BusinessRuleViolationException.class, () -> reservationChangeFeed.getChanges(-1, null));
+        assertThrows(BusinessRuleViolationException.class, () -> reservationChangeFeed.getChanges(0, 0));
+    }
+    
+    private void record(long reservationId) {
+        transactionTemplate.executeWithoutResult(status -> reservationChangeFeed.onReservationChanged(event(reservationId)));
+    }
+    
+    private static ReservationChangedEvent event(long reservationId) {
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withNano(0);
+        return new ReservationChangedEvent(ReservationChangeType.CREATED, reservationId, 1L, 1L, "KA01AB1234",
+                VehicleType.FOUR_WHEELER, startTime, startTime.plusHours(2), BigDecimal.valueOf(60), ReservationStatus.ACTIVE);
+    }
+    
+    private long latestSequence() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM reservation_changes", Long.class);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.parkinglot.grpc;
+
+import com.parkinglot.config.GrpcProperties;
+import com.parkinglot.event.ParkingSlotChangedEvent;
+import com.parkinglot.grpc.proto.AvailabilityUpdate;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.service.ParkingSlotService;
+import com.parkinglot.state.BookingStateIndex;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityWatchersTest {
+    
+    @Mock
+    private ParkingSlotService parkingSlotService;
+    
+    @Mock
+    private ServerCallStreamObserver<AvailabilityUpdate> observer;
+    
+    private BookingStateIndex bookingStateIndex;
+    private GrpcProperties properties;
+    private AvailabilityWatchers availabilityWatchers;
+    private LocalDateTime startTime;
+    
+    @BeforeEach
+    void setUp() {
+        bookingStateIndex = new BookingStateIndex();
+        properties = new GrpcProperties();
+        availabilityWatchers = new AvailabilityWatchers(parkingSlotService, bookingStateIndex, properties);
+        startTime = LocalDateTime.now().plusDays(1).withNano(0);
+        // Every slot is added after the (empty) snapshot, so each one arrives as a change
+        when(parkingSlotService.getAvailableSlots(any(), any(), any(), anyInt(), anyInt(), eq("id")))
+                .thenReturn(new PageImpl<>(List.of()));
+    }
+    
+    @Test
+    void watch_ShouldHoldUpdatesUntilStreamIsReady() {
+        // Given
+        when(observer.isReady()).thenReturn(false);
+        availabilityWatchers.watch(observer, startTime, startTime.plusHours(2), VehicleType.FOUR_WHEELER);
+        addSlot(1L);
+        verify(observer, never()).onNext(any());
+        
+        // When
+        when(observer.isReady()).thenReturn(true);
+        onReadyHandler().run();
+        
+        // Then
+        ArgumentCaptor<AvailabilityUpdate> updates = ArgumentCaptor.forClass(AvailabilityUpdate.class);
+        verify(observer, times(2)).onNext(updates.capture());
+        assertTrue(updates.getAllValues().get(0).hasSnapshot());
+        assertEquals(1L, updates.getAllValues().get(1).getChange().getSlotId());
+        assertTrue(updates.getAllValues().get(1).getChange().getAvailable());
+    }
+    
+    @Test
+    void watch_ShouldDropChangesUndoneBeforeTheyAreSent() {
+        // Given - the slot appears and is booked while the client is not reading
+        when(observer.isReady()).thenReturn(false);
+        availabilityWatchers.watch(observer, startTime, startTime.plusHours(2), VehicleType.FOUR_WHEELER);
+        addSlot(1L);
+        bookingStateIndex.applyReservation(10L, 1L, startTime, startTime.plusHours(1), ReservationStatus.ACTIVE);
+        availabilityWatchers.onParkingSlotChanged(slotChanged(1L));
+        
+        // When
+        when(observer.isReady()).thenReturn(true);
+        onReadyHandler().run();
+        
+        // Then - only the snapshot
+        verify(observer, times(1)).onNext(any());
+    }
+    
+    @Test
+    void watch_ShouldCloseWatcherThatFallsTooFarBehind() {
+        // Given
+        properties.setWatchQueueSize(2);
+        when(observer.isReady()).thenReturn(false);
+        availabilityWatchers.watch(observer, startTime, startTime.plusHours(2), VehicleType.FOUR_WHEELER);
+        
+        // When
+        addSlot(1L);
+        addSlot(2L);
+        addSlot(3L);
+        
+        // Then
+        ArgumentCaptor<Throwable> error = ArgumentCaptor.forClass(Throwable.class);
+        verify(observer).onError(error.capture());
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, ((StatusRuntimeException) error.getValue()).getStatus().getCode());
+        verify(observer, never()).onNext(any());
+        assertEquals(0, availabilityWatchers.getWatcherCount());
+    }
+    
+    private void addSlot(long slotId) {
+        bookingStateIndex.putSlot(slotId, 1L, VehicleType.FOUR_WHEELER, SlotStatus.AVAILABLE);
+        availabilityWatchers.onParkingSlotChanged(slotChanged(slotId));
+    }
+    
+    private static ParkingSlotChangedEvent slotChanged(long slotId) {
+        return new ParkingSlotChangedEvent(slotId, 1L, "A" + slotId, VehicleType.FOUR_WHEELER, SlotStatus.AVAILABLE);
+    }
+    
+    private Runnable onReadyHandler() {
+        ArgumentCaptor<Runnable> handler = ArgumentCaptor.forClass(Runnable.class);
+        verify(observer).setOnReadyHandler(handler.capture());
+        return handler.getValue();
+    }
+}
\ No newline at end of file
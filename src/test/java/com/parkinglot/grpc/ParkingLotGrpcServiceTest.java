@@ -0,0 +1,177 @@
+package com.parkinglot.grpc;
+
+import com.parkinglot.grpc.proto.AvailabilityRequest;
+import com.parkinglot.grpc.proto.AvailabilityUpdate;
+import com.parkinglot.grpc.proto.CancelReservationRequest;
+import com.parkinglot.grpc.proto.CreateFloorRequest;
+import com.parkinglot.grpc.proto.CreateParkingSlotRequest;
+import com.parkinglot.grpc.proto.Floor;
+import com.parkinglot.grpc.proto.GetReservationRequest;
+import com.parkinglot.grpc.proto.ParkingLotGrpc;
+import com.parkinglot.grpc.proto.ParkingSlot;
+import com.parkinglot.grpc.proto.Reservation;
+import com.parkinglot.grpc.proto.ReserveRequest;
+import com.parkinglot.grpc.proto.ReserveResult;
+import com.parkinglot.grpc.proto.VehicleType;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext
+class ParkingLotGrpcServiceTest {
+    
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final AtomicInteger FLOOR_NUMBERS = new AtomicInteger(100);
+    
+    @Autowired
+    private GrpcServer grpcServer;
+    
+    private ManagedChannel channel;
+    private ParkingLotGrpc.ParkingLotBlockingStub blockingStub;
+    private ParkingLotGrpc.ParkingLotStub asyncStub;
+    private ParkingSlot slot;
+    private LocalDateTime startTime;
+    
+    @BeforeEach
+    void setUp() {
+        channel = NettyChannelBuilder.forAddress("localhost", grpcServer.getPort()).usePlaintext().build();
+        blockingStub = ParkingLotGrpc.newBlockingStub(channel).withDeadlineAfter(10, TimeUnit.SECONDS);
+        asyncStub = ParkingLotGrpc.newStub(channel);
+        
+        int floorNumber = FLOOR_NUMBERS.incrementAndGet();
+        Floor floor = blockingStub.createFloor(CreateFloorRequest.newBuilder()
+                .setFloorNumber(floorNumber)
+                .setFloorName("Floor " + floorNumber)
+                .build());
+        slot = blockingStub.createParkingSlot(CreateParkingSlotRequest.newBuilder()
+                .setFloorId(floor.getId())
+                .setSlotNumber("A1")
+                .setVehicleType(VehicleType.FOUR_WHEELER)
+                .build());
+        startTime = LocalDateTime.now().plusDays(1).withNano(0);
+    }
+    
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+    
+    @Test
+    void reserve_ShouldCreateReservationAndRejectOverlap() {
+        // When
+        Reservation reservation = blockingStub.reserve(reserveRequest("first", "KA05MH1234", 0));
+        
+        // Then
+        assertEquals(slot.getId(), reservation.getParkingSlotId());
+        assertEquals("60.0", reservation.getTotalCost());
+        Reservation fetched = blockingStub.getReservation(
+                GetReservationRequest.newBuilder().setId(reservation.getId()).build());
+        assertEquals("KA05MH1234", fetched.getVehicleNumber());
+        assertEquals(reservation.getStartTime(), fetched.getStartTime());
+        StatusRuntimeException conflict = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub.reserve(reserveRequest("second", "KA05MH9999", 1)));
+        assertEquals(Status.Code.FAILED_PRECONDITION, conflict.getStatus().getCode());
+    }
+    
+    @Test
+    void reserveMany_ShouldReturnOneResultPerRequestInOrder() throws Exception {
+        // Given
+        List<ReserveResult> results = new ArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        StreamObserver<ReserveRequest> requests = asyncStub.reserveMany(new StreamObserver<>() {
+            
+            @Override
+            public void onNext(ReserveResult result) {
+                results.add(result);
+            }
+            
+            @Override
+            public void onError(Throwable t) {
+                completed.countDown();
+            }
+            
+            @Override
+            public void onCompleted() {
+                completed.countDown();
+            }
+        });
+        
+        // When - pipelined without waiting for results
+        requests.onNext(reserveRequest("ok", "KA05MH1234", 0));
+        requests.onNext(reserveRequest("overlap", "KA05MH1235", 1));
+        requests.onNext(reserveRequest("invalid", "not-a-plate", 6));
+        requests.onNext(reserveRequest("later", "KA05MH1236", 6));
+        requests.onCompleted();
+        
+        // Then
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of("ok", "overlap", "invalid", "later"),
+                results.stream().map(ReserveResult::getClientReference).toList());
+        assertTrue(results.get(0).hasReservation());
+        assertEquals("FAILED_PRECONDITION", results.get(1).getError().getCode());
+        assertEquals("INVALID_ARGUMENT", results.get(2).getError().getCode());
+        assertEquals(1, results.get(2).getError().getValidationErrorsCount());
+        assertTrue(results.get(3).hasReservation());
+    }
+    
+    @Test
+    void watchAvailability_ShouldStreamSnapshotThenChanges() {
+        // Given
+        Iterator<AvailabilityUpdate> updates = blockingStub.watchAvailability(AvailabilityRequest.newBuilder()
+                .setStartTime(TIME_FORMAT.format(startTime))
+                .setEndTime(TIME_FORMAT.format(startTime.plusHours(2)))
+                .setVehicleType(VehicleType.FOUR_WHEELER)
+                .build());
+        AvailabilityUpdate snapshot = updates.next();
+        assertTrue(snapshot.getSnapshot().getSlotsList().stream().anyMatch(s -> s.getId() == slot.getId()));
+        
+        // When
+        Reservation reservation = blockingStub.reserve(reserveRequest("watch", "KA05MH1234", 1));
+        
+        // Then
+        AvailabilityUpdate taken = updates.next();
+        assertEquals(slot.getId(), taken.getChange().getSlotId());
+        assertFalse(taken.getChange().getAvailable());
+        
+        blockingStub.cancelReservation(CancelReservationRequest.newBuilder()
+                .setId(reservation.getId())
+                .build());
+        AvailabilityUpdate released = updates.next();
+        assertEquals(slot.getId(), released.getChange().getSlotId());
+        assertTrue(released.getChange().getAvailable());
+    }
+    
+    private ReserveRequest reserveRequest(String reference, String vehicleNumber, int offsetHours) {
+        LocalDateTime start = startTime.plusHours(offsetHours);
+        return ReserveRequest.newBuilder()
+                .setClientReference(reference)
+                .setParkingSlotId(slot.getId())
+                .setVehicleNumber(vehicleNumber)
+                .setVehicleType(VehicleType.FOUR_WHEELER)
+                .setStartTime(TIME_FORMAT.format(start))
+                .setEndTime(TIME_FORMAT.format(start.plusHours(2)))
+                .build();
+    }
+}
\ No newline at end of file
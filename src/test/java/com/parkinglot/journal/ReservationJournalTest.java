@@ -0,0 +1,192 @@
+package com.parkinglot.journal;
+
+import com.parkinglot.config.JournalProperties;
+import com.parkinglot.entity.Floor;
+import com.parkinglot.entity.ParkingSlot;
+import com.parkinglot.entity.Reservation;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.repository.ParkingSlotRepository;
+import com.parkinglot.repository.ReservationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReservationJournalTest {
+    
+    @TempDir
+    Path journalDirectory;
+    
+    @Mock
+    private ReservationRepository reservationRepository;
+    
+    @Mock
+    private ParkingSlotRepository parkingSlotRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private JournalProperties properties;
+    private ParkingSlot testSlot;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new JournalProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(journalDirectory.toString());
+        properties.setSegmentSize(64 * 1024);
+        // Persistence is triggered explicitly by the tests
+        properties.setPersistInterval(Duration.ofHours(1));
+        
+        Floor floor = new Floor(1, "Ground Floor");
+        floor.setId(1L);
+        testSlot = new ParkingSlot("A1", floor, VehicleType.FOUR_WHEELER);
+        testSlot.setId(1L);
+        
+        when(reservationRepository.findMaxJournalSequence()).thenReturn(Optional.empty());
+        when(reservationRepository.hasConflictingReservation(anyLong(), any(), any())).thenReturn(false);
+        when(parkingSlotRepository.getReferenceById(1L)).thenReturn(testSlot);
+    }
+    
+    @Test
+    void append_ShouldAssignSequenceAndPersistInBatch() {
+        // Given
+        ReservationJournal journal = newJournal();
+        journal.start();
+        
+        // When
+        Reservation first = journal.append(newReservation(1));
+        Reservation second = journal.append(newReservation(4));
+        journal.persistPending();
+        
+        // Then
+        assertEquals(1L, first.getJournalSequence());
+        assertEquals(2L, second.getJournalSequence());
+        List<Reservation> persisted = capturePersisted();
+        assertEquals(2, persisted.size());
+        assertEquals(BigDecimal.valueOf(60.0), persisted.get(0).getTotalCost());
+        journal.stop();
+    }
+    
+    @Test
+    void append_ShouldRejectOverlapWithUnpersistedEntry() {
+        // Given
+        ReservationJournal journal = newJournal();
+        journal.start();
+        journal.append(newReservation(1));
+        
+        // When & Then
+        assertThrows(BusinessRuleViolationException.class, () -> journal.append(newReservation(2)));
+        journal.stop();
+    }
+    
+    @Test
+    void append_ShouldCheckOnlyUnpersistedEntriesOfTheSameSlot() {
+        // Given - an unpersisted booking on slot 1
+        ParkingSlot otherSlot = new ParkingSlot("A2", testSlot.getFloor(), VehicleType.FOUR_WHEELER);
+        otherSlot.setId(2L);
+        when(parkingSlotRepository.getReferenceById(2L)).thenReturn(otherSlot);
+        ReservationJournal journal = newJournal();
+        journal.start();
+        journal.append(newReservation(1));
+        
+        // When & Then - the same window is free on slot 2 but taken on slot 1
+        Reservation otherSlotBooking = newReservation(1);
+        otherSlotBooking.setParkingSlot(otherSlot);
+        assertEquals(2L, journal.append(otherSlotBooking).getJournalSequence());
+        assertThrows(BusinessRuleViolationException.class, () -> journal.append(newReservation(2)));
+        
+        // Once persisted, the entries are left to the database check (a mock that sees no conflict here)
+        journal.persistPending();
+        assertEquals(3L, journal.append(newReservation(2)).getJournalSequence());
+        journal.stop();
+    }
+    
+    @Test
+    void findUnpersisted_ShouldResolveSequenceUntilEntryIsPersisted() {
+        // Given
+        ReservationJournal journal = newJournal();
+        journal.start();
+        long sequence = journal.append(newReservation(1)).getJournalSequence();
+        
+        // When
+        Optional<Reservation> pending = journal.findUnpersisted(sequence);
+        journal.persistPending();
+        
+        // Then - the acknowledged booking is visible by sequence, then left to the table
+        assertTrue(pending.isPresent());
+        assertNull(pending.get().getId());
+        assertEquals(sequence, pending.get().getJournalSequence());
+        assertEquals(testSlot, pending.get().getParkingSlot());
+        assertTrue(journal.findUnpersisted(sequence).isEmpty());
+        journal.stop();
+    }
+    
+    @Test
+    void start_ShouldReplayEntriesNotYetInDatabase() {
+        // Given
+        ReservationJournal crashed = newJournal();
+        crashed.start();
+        crashed.append(newReservation(1));
+        crashed.append(newReservation(4));
+        
+        // When - restart without a clean shutdown, with only the first entry persisted
+        when(reservationRepository.findMaxJournalSequence()).thenReturn(Optional.of(1L));
+        ReservationJournal recovered = newJournal();
+        recovered.start();
+        
+        // Then
+        List<Reservation> replayed = capturePersisted();
+        assertEquals(1, replayed.size());
+        assertEquals(2L, replayed.get(0).getJournalSequence());
+        assertEquals(3L, recovered.append(newReservation(8)).getJournalSequence());
+        recovered.stop();
+    }
+    
+    private ReservationJournal newJournal() {
+        return new ReservationJournal(properties, reservationRepository, parkingSlotRepository,
+                transactionManager, new SimpleMeterRegistry(), eventPublisher);
+    }
+    
+    private Reservation newReservation(int startOffsetHours) {
+        LocalDateTime startTime = LocalDateTime.now().plusHours(startOffsetHours).withNano(0);
+        Reservation reservation = new Reservation(testSlot, "KA05MH1234", VehicleType.FOUR_WHEELER,
+                startTime, startTime.plusHours(2));
+        reservation.setTotalCost(BigDecimal.valueOf(60.0));
+        reservation.setDurationHours(2);
+        return reservation;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Reservation> capturePersisted() {
+        ArgumentCaptor<List<Reservation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reservationRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+}
\ No newline at end of file
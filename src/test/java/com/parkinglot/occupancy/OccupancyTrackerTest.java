@@ -0,0 +1,159 @@
+package com.parkinglot.occupancy;
+
+import com.parkinglot.config.OccupancyProperties;
+import com.parkinglot.entity.Floor;
+import com.parkinglot.entity.ParkingSlot;
+import com.parkinglot.entity.Reservation;
+import com.parkinglot.event.ParkingSlotChangedEvent;
+import com.parkinglot.event.ReservationChangedEvent;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.model.ReservationChangeType;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.repository.ReservationRepository;
+import com.parkinglot.shard.ShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OccupancyTrackerTest {
+    
+    @Mock
+    private ReservationRepository reservationRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private OccupancyTracker tracker;
+    private Reservation reservation;
+    private LocalDateTime now;
+    
+    @BeforeEach
+    void setUp() {
+        OccupancyProperties properties = new OccupancyProperties();
+        // Flushing is triggered explicitly by the tests
+        properties.setFlushInterval(Duration.ofHours(1));
+        
+        Floor floor = new Floor(1, "Ground Floor");
+        floor.setId(1L);
+        ParkingSlot slot = new ParkingSlot("A1", floor, VehicleType.FOUR_WHEELER);
+        slot.setId(1L);
+        now = LocalDateTime.now().withNano(0);
+        reservation = new Reservation(slot, "KA05MH1234", VehicleType.FOUR_WHEELER, now, now.plusHours(2));
+        reservation.setId(10L);
+        
+        when(reservationRepository.findCheckedIn()).thenReturn(List.of());
+        when(reservationRepository.findAllWithSlotByIdIn(any())).thenReturn(List.of(reservation));
+        
+        tracker = new OccupancyTracker(properties, reservationRepository, transactionManager,
+                new ShardRouter(1, transactionManager), new SimpleMeterRegistry(), eventPublisher);
+        tracker.start();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        tracker.stop();
+    }
+    
+    @Test
+    void checkIn_ShouldRejectSecondVehicleInOccupiedSlot() {
+        // Given
+        tracker.checkIn(10L, 1L, "KA05MH1234", now);
+        
+        // When & Then
+        assertThrows(BusinessRuleViolationException.class, () -> tracker.checkIn(11L, 1L, "KA05MH5678", now));
+        assertThrows(BusinessRuleViolationException.class, () -> tracker.checkIn(10L, 1L, "KA05MH1234", now));
+        assertTrue(tracker.isCheckedIn(10L));
+        assertEquals(1, tracker.getOccupiedCount());
+    }
+    
+    @Test
+    void checkOut_ShouldRequireCheckIn() {
+        assertThrows(BusinessRuleViolationException.class, () -> tracker.checkOut(10L, now));
+    }
+    
+    @Test
+    void flushPending_ShouldPersistCheckInAndOut_AndPublishCompletion() {
+        // Given
+        tracker.checkIn(10L, 1L, "KA05MH1234", now);
+        tracker.flushPending();
+        assertEquals(SlotStatus.OCCUPIED, reservation.getParkingSlot().getStatus());
+        assertEquals(now, reservation.getCheckedInAt());
+        
+        // When
+        tracker.checkOut(10L, now.plusHours(1));
+        assertFalse(tracker.isCheckedIn(10L));
+        tracker.flushPending();
+        
+        // Then
+        assertEquals(0, tracker.getPendingCount());
+        assertEquals(SlotStatus.AVAILABLE, reservation.getParkingSlot().getStatus());
+        assertEquals(ReservationStatus.COMPLETED, reservation.getStatus());
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        assertInstanceOf(ParkingSlotChangedEvent.class, events.getAllValues().get(0));
+        ReservationChangedEvent completed = (ReservationChangedEvent) events.getAllValues().get(2);
+        assertEquals(ReservationChangeType.COMPLETED, completed.getChangeType());
+    }
+    
+    @Test
+    void flushPending_ShouldReleaseSlot_WhenReservationWasCancelledBeforeFlush() {
+        // Given
+        tracker.checkIn(10L, 1L, "KA05MH1234", now);
+        reservation.setStatus(ReservationStatus.CANCELLED);
+        
+        // When
+        tracker.flushPending();
+        
+        // Then
+        assertFalse(tracker.isCheckedIn(10L));
+        assertTrue(tracker.getVisitBySlot(1L).isEmpty());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+    
+    @Test
+    void checkIn_ShouldRejectReservationCheckedOutUntilCheckOutIsPersisted() {
+        // Given - checked in and out, and the first attempt to persist the check-out fails
+        tracker.checkIn(10L, 1L, "KA05MH1234", now);
+        tracker.flushPending();
+        tracker.checkOut(10L, now.plusHours(1));
+        when(reservationRepository.findAllWithSlotByIdIn(any()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(List.of(reservation));
+        tracker.flushPending();
+        
+        // When & Then - the reservation is still ACTIVE in the database but cannot be checked in again
+        assertEquals(1, tracker.getPendingCount());
+        assertTrue(tracker.isCheckedOut(10L));
+        assertThrows(BusinessRuleViolationException.class, () -> tracker.checkIn(10L, 1L, "KA05MH1234", now.plusHours(1)));
+        assertTrue(tracker.getVisitBySlot(1L).isEmpty());
+        
+        // Once the check-out is persisted the database answers for it
+        tracker.flushPending();
+        assertFalse(tracker.isCheckedOut(10L));
+        assertEquals(ReservationStatus.COMPLETED, reservation.getStatus());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.parkinglot.pipeline;
+
+import com.parkinglot.dto.ReservationCreateRequest;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.support.BookingFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:pipelinetest;DB_CLOSE_DELAY=-1",
+    "parkinglot.pipeline.enabled=true"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+@Import(BookingFixtures.class)
+class BookingPipelineIntegrationTest {
+    
+    @Autowired
+    private BookingPipeline bookingPipeline;
+    
+    @Autowired
+    private BookingFixtures fixtures;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void submit_ShouldCommitEveryNonOverlappingBookingOfAFloor() throws Exception {
+        // Given
+        Long floorId = fixtures.createFloor();
+        List<Long> slotIds = List.of(fixtures.createSlot(floorId, "A1"), fixtures.createSlot(floorId, "A2"));
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withNano(0);
+        
+        // When - bookings an hour apart on both slots, submitted without waiting
+        List<CompletableFuture<ReservationResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(bookingPipeline.submit(request(slotIds.get(i % 2), i, startTime.plusHours(3L * (i / 2)))));
+        }
+        
+        // Then
+        for (CompletableFuture<ReservationResponse> future : futures) {
+            assertNotNull(future.get().getId());
+        }
+        assertEquals(10, fixtures.countReservations(slotIds.get(0)));
+        assertEquals(10, fixtures.countReservations(slotIds.get(1)));
+    }
+    
+    @Test
+    void submit_ShouldAcceptOnlyOneOfOverlappingBookings() throws Exception {
+        // Given
+        Long slotId = fixtures.createSlot(fixtures.createFloor(), "B1");
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withNano(0);
+        
+        // When
+        List<CompletableFuture<ReservationResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(bookingPipeline.submit(request(slotId, i, startTime)));
+        }
+        
+        // Then
+        int accepted = 0;
+        for (CompletableFuture<ReservationResponse> future : futures) {
+            try {
+                future.get();
+                accepted++;
+            } catch (ExecutionException e) {
+                assertInstanceOf(BusinessRuleViolationException.class, e.getCause());
+            }
+        }
+        assertEquals(1, accepted);
+        assertEquals(1, fixtures.countReservations(slotId));
+    }
+    
+    @Test
+    void submit_ShouldRejectOverlapWrittenOutsideThePipeline() {
+        // Given - a booking the in-memory state never heard of
+        Long slotId = fixtures.createSlot(fixtures.createFloor(), "C1");
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withNano(0);
+        jdbcTemplate.update("INSERT INTO reservations (parking_slot_id, vehicle_number, vehicle_type, start_time, " +
+                "end_time, status, created_at, updated_at, version) VALUES (?, 'KA01AB9999', 'FOUR_WHEELER', ?, ?, " +
+                "'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)",
+                slotId, Timestamp.valueOf(startTime), Timestamp.valueOf(startTime.plusHours(2)));
+        
+        // When
+        CompletableFuture<ReservationResponse> future = bookingPipeline.submit(request(slotId, 1, startTime));
+        
+        // Then - the batch's overlap query catches it and the synchronous path reports the conflict
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(BusinessRuleViolationException.class, e.getCause());
+        assertEquals(1, fixtures.countReservations(slotId));
+    }
+    
+    @Test
+    void submit_ShouldAnswerEveryBookingSubmittedAcrossStop() throws Exception {
+        // Given - a slot per booking, so the synchronous path has no version conflicts to retry
+        Long floorId = fixtures.createFloor();
+        List<Long> slotIds = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            slotIds.add(fixtures.createSlot(floorId, "D" + i));
+        }
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withNano(0);
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        List<Future<CompletableFuture<ReservationResponse>>> submissions = new ArrayList<>();
+        try {
+            // When - bookings keep arriving while the pipeline stops
+            for (int i = 0; i < 40; i++) {
+                int caller = i;
+                submissions.add(callers.submit(() ->
+                        bookingPipeline.submit(request(slotIds.get(caller), caller, startTime))));
+            }
+            bookingPipeline.stop();
+            
+            // Then - each one is written by a floor writer or made synchronously, none is left hanging
+            for (Future<CompletableFuture<ReservationResponse>> submission : submissions) {
+                assertNotNull(submission.get().get(10, TimeUnit.SECONDS).getId());
+            }
+        } finally {
+            callers.shutdown();
+            bookingPipeline.start();
+        }
+        for (Long slotId : slotIds) {
+            assertEquals(1, fixtures.countReservations(slotId));
+        }
+    }
+    
+    private static ReservationCreateRequest request(Long slotId, int caller, LocalDateTime startTime) {
+        return BookingFixtures.request(slotId, "KA01AB" + (1000 + caller), startTime);
+    }
+}
\ No newline at end of file
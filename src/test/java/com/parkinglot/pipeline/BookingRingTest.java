@@ -0,0 +1,90 @@
+package com.parkinglot.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingRingTest {
+    
+    @Test
+    void offer_ShouldRefuseWhenFullAndAcceptAgainAfterDrain() {
+        // Given
+        BookingRing<Integer> ring = new BookingRing<>(3);
+        assertEquals(4, ring.capacity());
+        
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i));
+        }
+        
+        // Then
+        assertFalse(ring.offer(4));
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, ring.drainTo(drained, 2));
+        assertEquals(List.of(0, 1), drained);
+        assertTrue(ring.offer(4));
+        assertTrue(ring.offer(5));
+        assertEquals(4, ring.drainTo(drained, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), drained);
+        assertEquals(0, ring.size());
+    }
+    
+    @Test
+    void drainTo_ShouldDeliverEveryElementOnceUnderConcurrentProducers() throws Exception {
+        // Given
+        BookingRing<Long> ring = new BookingRing<>(64);
+        int producers = 4;
+        int perProducer = 5_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    while (!ring.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        
+        // When
+        start.countDown();
+        Set<Long> seen = new HashSet<>();
+        long[] lastByProducer = new long[producers];
+        Arrays.fill(lastByProducer, -1);
+        List<Long> batch = new ArrayList<>();
+        while (seen.size() < producers * perProducer) {
+            batch.clear();
+            ring.drainTo(batch, 32);
+            for (Long value : batch) {
+                assertTrue(seen.add(value), "duplicate " + value);
+                int producer = (int) (value / perProducer);
+                // Each producer's elements arrive in the order it offered them
+                assertTrue(value > lastByProducer[producer]);
+                lastByProducer[producer] = value;
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        // Then
+        assertEquals(producers * perProducer, seen.size());
+        assertEquals(0, ring.size());
+    }
+}
\ No newline at end of file
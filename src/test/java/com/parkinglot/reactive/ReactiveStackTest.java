@@ -0,0 +1,184 @@
+package com.parkinglot.reactive;
+
+import com.parkinglot.dto.FloorResponse;
+import com.parkinglot.dto.ParkingSlotResponse;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.model.ReservationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "reactive"})
+@DirtiesContext
+class ReactiveStackTest {
+    
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final AtomicInteger FLOOR_NUMBERS = new AtomicInteger(200);
+    
+    @Autowired
+    private WebTestClient webTestClient;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private ParkingSlotResponse slot;
+    private LocalDateTime startTime;
+    
+    @BeforeEach
+    void setUp() {
+        FloorResponse floor = webTestClient.post().uri("/api/floors")
+                .bodyValue(Map.of("floorNumber", FLOOR_NUMBERS.incrementAndGet(), "floorName", "Reactive Floor"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(FloorResponse.class)
+                .returnResult().getResponseBody();
+        
+        slot = webTestClient.post().uri("/api/slots")
+                .bodyValue(Map.of("slotNumber", "R1", "floorId", floor.getId(), "vehicleType", "FOUR_WHEELER"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ParkingSlotResponse.class)
+                .returnResult().getResponseBody();
+        
+        startTime = LocalDateTime.now().plusDays(1).withNano(0);
+    }
+    
+    @Test
+    void createSlot_ShouldIncrementFloorTotal() {
+        webTestClient.get().uri("/api/floors/{id}", slot.getFloorId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalSlots").isEqualTo(1)
+                .jsonPath("$.floorName").isEqualTo("Reactive Floor");
+    }
+    
+    @Test
+    void reserve_ShouldRejectOverlapAndFreeSlotOnCancel() {
+        // Given
+        ReservationResponse reservation = reserve(startTime, startTime.plusHours(2))
+                .expectStatus().isCreated()
+                .expectBody(ReservationResponse.class)
+                .returnResult().getResponseBody();
+        assertEquals(0, BigDecimal.valueOf(60).compareTo(reservation.getTotalCost()));
+        assertEquals(slot.getSlotNumber(), reservation.getSlotNumber());
+        
+        // When & Then
+        reserve(startTime.plusHours(1), startTime.plusHours(3))
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Slot is already reserved for the specified time range");
+        
+        ReservationResponse cancelled = webTestClient.delete().uri("/api/reservations/{id}", reservation.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ReservationResponse.class)
+                .returnResult().getResponseBody();
+        assertEquals(ReservationStatus.CANCELLED, cancelled.getStatus());
+        reserve(startTime.plusHours(1), startTime.plusHours(3)).expectStatus().isCreated();
+    }
+    
+    @Test
+    void reserveAndCancel_ShouldRecordOneLedgerEntryEach() {
+        // Given
+        ReservationResponse reservation = reserve(startTime, startTime.plusHours(2))
+                .expectStatus().isCreated()
+                .expectBody(ReservationResponse.class)
+                .returnResult().getResponseBody();
+        
+        // When
+        webTestClient.delete().uri("/api/reservations/{id}", reservation.getId())
+                .exchange()
+                .expectStatus().isOk();
+        
+        // Then - the listeners ran once per committed change, in their own JPA transaction
+        assertEquals(List.of("BOOKING", "CANCELLATION"), jdbcTemplate.queryForList(
+                "SELECT entry_type FROM revenue_ledger WHERE reservation_id = ? ORDER BY id",
+                String.class, reservation.getId()));
+    }
+    
+    @Test
+    void availability_ShouldExcludeReservedSlot() {
+        // Given
+        reserve(startTime, startTime.plusHours(2)).expectStatus().isCreated();
+        
+        // When & Then
+        webTestClient.post().uri("/api/availability?size=1000")
+                .bodyValue(Map.of("startTime", startTime.format(TIME_FORMAT),
+                        "endTime", startTime.plusHours(1).format(TIME_FORMAT),
+                        "vehicleType", "FOUR_WHEELER"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[?(@.id == %d)]".formatted(slot.getId())).doesNotExist()
+                .jsonPath("$.content[0].vehicleType").isEqualTo("FOUR_WHEELER");
+    }
+    
+    @Test
+    void getFloorSlots_ShouldHonourETag() {
+        String etag = webTestClient.get().uri("/api/slots/floor/{id}", slot.getFloorId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].slotNumber").isEqualTo("R1")
+                .returnResult().getResponseHeaders().getETag();
+        assertNotNull(etag);
+        
+        webTestClient.get().uri("/api/slots/floor/{id}", slot.getFloorId())
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+    
+    @Test
+    void getFloors_ShouldNegotiateCborAndDefaultToJson() {
+        webTestClient.get().uri("/api/floors")
+                .accept(MediaType.parseMediaType("application/cbor"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/cbor");
+        
+        webTestClient.get().uri("/api/floors")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON);
+    }
+    
+    @Test
+    void getReservation_ShouldReturnNotFoundBody() {
+        webTestClient.get().uri("/api/reservations/{id}", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Resource Not Found")
+                .jsonPath("$.path").isEqualTo("/api/reservations/" + Long.MAX_VALUE);
+    }
+    
+    private WebTestClient.ResponseSpec reserve(LocalDateTime start, LocalDateTime end) {
+        return webTestClient.post().uri("/api/reservations/reserve")
+                .bodyValue(Map.of("parkingSlotId", slot.getId(),
+                        "vehicleNumber", "KA05MH1234",
+                        "vehicleType", "FOUR_WHEELER",
+                        "startTime", start.format(TIME_FORMAT),
+                        "endTime", end.format(TIME_FORMAT)))
+                .exchange();
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.parkinglot.repository;
 
 import com.parkinglot.entity.Floor;
+import com.parkinglot.entity.Lot;
 import com.parkinglot.entity.ParkingSlot;
 import com.parkinglot.entity.Reservation;
 import com.parkinglot.model.ReservationStatus;
@@ -34,7 +35,8 @@ class ReservationRepositoryTest {
     
     @BeforeEach
     void setUp() {
-        testFloor = new Floor(1, "Ground Floor");
+        Lot lot = entityManager.persistAndFlush(new Lot("MAIN", "Main Lot"));
+        testFloor = new Floor(lot, 1, "Ground Floor");
         entityManager.persistAndFlush(testFloor);
         
         testSlot = new ParkingSlot("A1", testFloor, VehicleType.FOUR_WHEELER);
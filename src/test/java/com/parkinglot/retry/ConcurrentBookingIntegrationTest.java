@@ -0,0 +1,105 @@
+package com.parkinglot.retry;
+
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.support.BookingFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:retrytest;DB_CLOSE_DELAY=-1",
+    "parkinglot.retry.max-attempts=50"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+@Import(BookingFixtures.class)
+class ConcurrentBookingIntegrationTest {
+    
+    private static final int CALLERS = 8;
+    
+    @Autowired
+    private BookingFixtures fixtures;
+    
+    @Test
+    void concurrentBookingsOfOneSlot_ShouldAllCommitWhenTheyDoNotOverlap() throws Exception {
+        // Given
+        Long slotId = fixtures.createSlot();
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withNano(0);
+        
+        // When - every caller books its own two-hour window on the same slot, an hour apart
+        List<Object> outcomes = runConcurrently(i -> reserve(slotId, i, startTime.plusHours(3L * i)));
+        
+        // Then
+        outcomes.forEach(outcome -> assertInstanceOf(ReservationResponse.class, outcome));
+        assertEquals(CALLERS, fixtures.countReservations(slotId));
+    }
+    
+    @Test
+    void concurrentBookingsOfOneSlot_ShouldLetOnlyOneOverlappingBookingThrough() throws Exception {
+        // Given
+        Long slotId = fixtures.createSlot();
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withNano(0);
+        
+        // When - every caller asks for the same window
+        List<Object> outcomes = runConcurrently(i -> reserve(slotId, i, startTime));
+        
+        // Then - the losers re-run their conflict check and see the winner
+        assertEquals(1, outcomes.stream().filter(ReservationResponse.class::isInstance).count());
+        assertEquals(CALLERS - 1, outcomes.stream().filter(BusinessRuleViolationException.class::isInstance).count());
+        assertEquals(1, fixtures.countReservations(slotId));
+    }
+    
+    private List<Object> runConcurrently(Booking booking) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ReservationResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                int caller = i;
+                Callable<ReservationResponse> task = () -> {
+                    start.await();
+                    return booking.book(caller);
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            
+            List<Object> outcomes = new ArrayList<>();
+            for (Future<ReservationResponse> future : futures) {
+                try {
+                    outcomes.add(future.get());
+                } catch (ExecutionException e) {
+                    outcomes.add(e.getCause());
+                }
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private ReservationResponse reserve(Long slotId, int caller, LocalDateTime startTime) {
+        return fixtures.reserve(BookingFixtures.request(slotId, "KA01AB12" + (10 + caller), startTime));
+    }
+    
+    @FunctionalInterface
+    private interface Booking {
+        ReservationResponse book(int caller);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.parkinglot.retry;
+
+import com.parkinglot.config.RetryProperties;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConflictRetryPolicyTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    private ConflictRetryPolicy policy;
+    
+    @BeforeEach
+    void setUp() {
+        RetryProperties properties = new RetryProperties();
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(2));
+        meterRegistry = new SimpleMeterRegistry();
+        policy = new ConflictRetryPolicy(properties, meterRegistry);
+    }
+    
+    @Test
+    void testExecute_RetriesConflictUntilSuccess() throws Throwable {
+        AtomicInteger attempts = new AtomicInteger();
+        
+        String result = policy.execute("op", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "done";
+        });
+        
+        assertEquals("done", result);
+        assertEquals(3, attempts.get());
+        assertEquals(1.0, count("parkinglot.retry.calls"));
+        assertEquals(2.0, count("parkinglot.retry.retries"));
+        assertEquals(0.0, count("parkinglot.retry.exhausted"));
+    }
+    
+    @Test
+    void testExecute_RethrowsConflictAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+        
+        assertThrows(OptimisticLockingFailureException.class, () -> policy.execute("op", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        }));
+        
+        assertEquals(3, attempts.get());
+        assertEquals(1.0, count("parkinglot.retry.exhausted"));
+    }
+    
+    @Test
+    void testExecute_DoesNotRetryOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+        
+        assertThrows(BusinessRuleViolationException.class, () -> policy.execute("op", () -> {
+            attempts.incrementAndGet();
+            throw new BusinessRuleViolationException("rejected");
+        }));
+        
+        assertEquals(1, attempts.get());
+        assertEquals(0.0, count("parkinglot.retry.retries"));
+    }
+    
+    @Test
+    void testRetry_ResubscribesUntilSuccess() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> attempt = Mono.defer(() -> attempts.incrementAndGet() < 2
+                ? Mono.error(new OptimisticLockingFailureException("conflict"))
+                : Mono.just("done"));
+        
+        assertEquals("done", policy.retry("op", attempt).block());
+        assertEquals(2, attempts.get());
+        assertEquals(1.0, count("parkinglot.retry.retries"));
+    }
+    
+    @Test
+    void testRetry_PropagatesOriginalConflictWhenExhausted() {
+        Mono<String> attempt = Mono.error(new OptimisticLockingFailureException("conflict"));
+        
+        OptimisticLockingFailureException ex = assertThrows(OptimisticLockingFailureException.class,
+                () -> policy.retry("op", attempt).block());
+        
+        assertEquals("conflict", ex.getMessage());
+        assertEquals(2.0, count("parkinglot.retry.retries"));
+        assertEquals(1.0, count("parkinglot.retry.exhausted"));
+    }
+    
+    @Test
+    void testBackoffMillis_StaysWithinCappedBound() {
+        for (int attempt = 1; attempt <= 30; attempt++) {
+            long backoff = policy.backoffMillis(attempt);
+            assertTrue(backoff >= 0 && backoff <= 2, "backoff " + backoff + " for attempt " + attempt);
+        }
+    }
+    
+    private double count(String name) {
+        return meterRegistry.get(name).tag("operation", "op").counter().count();
+    }
+}
\ No newline at end of file
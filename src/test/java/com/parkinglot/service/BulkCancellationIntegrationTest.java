@@ -0,0 +1,126 @@
+package com.parkinglot.service;
+
+import com.parkinglot.dto.BulkCancellationRequest;
+import com.parkinglot.dto.BulkCancellationResponse;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.occupancy.OccupancyTracker;
+import com.parkinglot.state.BookingStateIndex;
+import com.parkinglot.support.BookingFixtures;
+import com.parkinglot.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+class BulkCancellationIntegrationTest {
+    
+    @Autowired
+    private BulkCancellationService bulkCancellationService;
+    
+    @Autowired
+    private BookingFixtures fixtures;
+    
+    @Autowired
+    private OccupancyService occupancyService;
+    
+    @Autowired
+    private OccupancyTracker occupancyTracker;
+    
+    @Autowired
+    private BookingStateIndex bookingStateIndex;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void cancelReservations_ShouldCancelAFloorAndKeepDerivedStateInStep() {
+        // Given - two slots on the closing floor, one on another, and a vehicle already parked
+        Long closingFloorId = fixtures.createFloor();
+        Long otherFloorId = fixtures.createFloor();
+        Long firstSlotId = fixtures.createSlot(closingFloorId, "A1");
+        Long secondSlotId = fixtures.createSlot(closingFloorId, "A2");
+        Long otherSlotId = fixtures.createSlot(otherFloorId, "A1");
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withNano(0);
+        ReservationResponse first = fixtures.reserve(firstSlotId, startTime);
+        ReservationResponse second = fixtures.reserve(secondSlotId, startTime.plusHours(3));
+        ReservationResponse other = fixtures.reserve(otherSlotId, startTime);
+        ReservationResponse parked = fixtures.reserve(secondSlotId, LocalDateTime.now().plusMinutes(5).withNano(0));
+        occupancyService.checkIn(parked.getId());
+        
+        BulkCancellationRequest request = new BulkCancellationRequest();
+        request.setFloorId(closingFloorId);
+        
+        // When
+        BulkCancellationResponse response = bulkCancellationService.cancelReservations(request);
+        
+        // Then
+        assertEquals(2, response.getCancelledCount());
+        assertEquals(List.of(first.getId(), second.getId()), response.getCancelledIds());
+        assertEquals(List.of(parked.getId()), response.getCheckedInIds());
+        assertEquals("CANCELLED", statusOf(first.getId()));
+        assertEquals("CANCELLED", statusOf(second.getId()));
+        assertEquals("ACTIVE", statusOf(other.getId()));
+        assertEquals("ACTIVE", statusOf(parked.getId()));
+        assertTrue(occupancyTracker.isCheckedIn(parked.getId()));
+        
+        // The booking index frees the windows and the ledger records the cancellations
+        assertTrue(bookingStateIndex.isFree(firstSlotId, startTime, startTime.plusHours(2)));
+        assertFalse(bookingStateIndex.isFree(otherSlotId, startTime, startTime.plusHours(2)));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM revenue_ledger WHERE entry_type = 'CANCELLATION' AND floor_id = ?",
+                Integer.class, closingFloorId));
+        
+        // The freed window can be booked again
+        assertNotNull(fixtures.reserve(firstSlotId, startTime).getId());
+    }
+    
+    @Test
+    void cancelReservations_ShouldCombineSlotsAndTimeRange() {
+        // Given
+        Long floorId = fixtures.createFloor();
+        Long slotId = fixtures.createSlot(floorId, "A1");
+        Long untouchedSlotId = fixtures.createSlot(floorId, "A2");
+        LocalDateTime startTime = LocalDateTime.now().plusDays(2).withNano(0);
+        ReservationResponse early = fixtures.reserve(slotId, startTime);
+        ReservationResponse late = fixtures.reserve(slotId, startTime.plusHours(6));
+        ReservationResponse otherSlot = fixtures.reserve(untouchedSlotId, startTime);
+        
+        BulkCancellationRequest request = new BulkCancellationRequest();
+        request.setParkingSlotIds(Set.of(slotId));
+        request.setFrom(startTime.plusHours(1));
+        request.setTo(startTime.plusHours(3));
+        
+        // When
+        BulkCancellationResponse response = bulkCancellationService.cancelReservations(request);
+        
+        // Then - only the booking overlapping the range on the named slot
+        assertEquals(List.of(early.getId()), response.getCancelledIds());
+        assertEquals("ACTIVE", statusOf(late.getId()));
+        assertEquals("ACTIVE", statusOf(otherSlot.getId()));
+    }
+    
+    @Test
+    void cancelReservations_ShouldRejectMissingOrInvalidScope() {
+        BulkCancellationRequest empty = new BulkCancellationRequest();
+        BulkCancellationRequest halfRange = new BulkCancellationRequest();
+        halfRange.setFrom(LocalDateTime.now());
+        BulkCancellationRequest invertedRange = new BulkCancellationRequest();
+        invertedRange.setFrom(LocalDateTime.now().plusHours(1));
+        invertedRange.setTo(LocalDateTime.now());
+        
+        assertThrows(BusinessRuleViolationException.class, () -> bulkCancellationService.cancelReservations(empty));
+        assertThrows(BusinessRuleViolationException.class, () -> bulkCancellationService.cancelReservations(halfRange));
+        assertThrows(BusinessRuleViolationException.class, () -> bulkCancellationService.cancelReservations(invertedRange));
+    }
+    
+    private String statusOf(Long reservationId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM reservations WHERE id = ?", String.class, reservationId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.parkinglot.service;
+
+import com.parkinglot.dto.BulkCancellationRequest;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.journal.ReservationJournal;
+import com.parkinglot.occupancy.OccupancyTracker;
+import com.parkinglot.shard.ShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkCancellationServiceTest {
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    @Mock
+    private OccupancyTracker occupancyTracker;
+    
+    @Mock
+    private ReservationJournal reservationJournal;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private BulkCancellationService bulkCancellationService;
+    
+    @BeforeEach
+    void setUp() {
+        bulkCancellationService = new BulkCancellationService(jdbcTemplate, transactionManager, occupancyTracker,
+                reservationJournal, new ShardRouter(1, transactionManager), eventPublisher);
+    }
+    
+    @Test
+    void cancelReservations_ShouldRejectWhileJournalIsEnabled() {
+        // Given
+        when(reservationJournal.isEnabled()).thenReturn(true);
+        BulkCancellationRequest request = new BulkCancellationRequest();
+        request.setParkingSlotIds(Set.of(1L));
+        
+        // When & Then
+        BusinessRuleViolationException e = assertThrows(BusinessRuleViolationException.class,
+                () -> bulkCancellationService.cancelReservations(request));
+        assertEquals("Reservations cannot be bulk cancelled while the journal is enabled", e.getMessage());
+        verifyNoInteractions(jdbcTemplate, transactionManager, eventPublisher);
+    }
+}
\ No newline at end of file
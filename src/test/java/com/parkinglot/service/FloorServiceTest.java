@@ -3,15 +3,20 @@ package com.parkinglot.service;
 import com.parkinglot.dto.FloorCreateRequest;
 import com.parkinglot.dto.FloorResponse;
 import com.parkinglot.entity.Floor;
+import com.parkinglot.entity.Lot;
 import com.parkinglot.exception.DuplicateResourceException;
 import com.parkinglot.exception.ResourceNotFoundException;
 import com.parkinglot.repository.FloorRepository;
+import com.parkinglot.shard.ShardRouter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -29,15 +34,28 @@ class FloorServiceTest {
     @Mock
     private FloorRepository floorRepository;
     
+    @Mock
+    private LotService lotService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(1, mock(PlatformTransactionManager.class));
+    
     @InjectMocks
     private FloorService floorService;
     
+    private Lot testLot;
     private Floor testFloor;
     private FloorCreateRequest createRequest;
     
     @BeforeEach
     void setUp() {
-        testFloor = new Floor(1, "Ground Floor");
+        testLot = new Lot("MAIN", "Main Lot");
+        testLot.setId(1L);
+        
+        testFloor = new Floor(testLot, 1, "Ground Floor");
         testFloor.setId(1L);
         testFloor.setCreatedAt(LocalDateTime.now());
         testFloor.setUpdatedAt(LocalDateTime.now());
@@ -50,7 +68,8 @@ class FloorServiceTest {
     @Test
     void createFloor_ShouldCreateFloor_WhenValidRequest() {
         // Given
-        when(floorRepository.existsByFloorNumber(1)).thenReturn(false);
+        when(lotService.getDefaultLot()).thenReturn(testLot);
+        when(floorRepository.existsByLotIdAndFloorNumber(1L, 1)).thenReturn(false);
         when(floorRepository.save(any(Floor.class))).thenReturn(testFloor);
         
         // When
@@ -59,28 +78,30 @@ class FloorServiceTest {
         // Then
         assertNotNull(response);
         assertEquals(1L, response.getId());
+        assertEquals(1L, response.getLotId());
         assertEquals(1, response.getFloorNumber());
         assertEquals("Ground Floor", response.getFloorName());
-        verify(floorRepository).existsByFloorNumber(1);
+        verify(floorRepository).existsByLotIdAndFloorNumber(1L, 1);
         verify(floorRepository).save(any(Floor.class));
     }
     
     @Test
     void createFloor_ShouldThrowException_WhenFloorNumberExists() {
         // Given
-        when(floorRepository.existsByFloorNumber(1)).thenReturn(true);
+        when(lotService.getDefaultLot()).thenReturn(testLot);
+        when(floorRepository.existsByLotIdAndFloorNumber(1L, 1)).thenReturn(true);
         
         // When & Then
         assertThrows(DuplicateResourceException.class, 
                     () -> floorService.createFloor(createRequest));
-        verify(floorRepository).existsByFloorNumber(1);
+        verify(floorRepository).existsByLotIdAndFloorNumber(1L, 1);
         verify(floorRepository, never()).save(any(Floor.class));
     }
     
     @Test
     void getAllFloors_ShouldReturnAllFloors() {
         // Given
-        Floor floor2 = new Floor(2, "First Floor");
+        Floor floor2 = new Floor(testLot, 2, "First Floor");
         floor2.setId(2L);
         when(floorRepository.findAll()).thenReturn(Arrays.asList(testFloor, floor2));
         
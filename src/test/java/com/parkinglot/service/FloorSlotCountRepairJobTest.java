@@ -0,0 +1,93 @@
+package com.parkinglot.service;
+
+import com.parkinglot.entity.Floor;
+import com.parkinglot.entity.Lot;
+import com.parkinglot.entity.ParkingSlot;
+import com.parkinglot.event.FloorChangedEvent;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.repository.FloorRepository;
+import com.parkinglot.shard.ShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class FloorSlotCountRepairJobTest {
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private FloorRepository floorRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private ApplicationEventPublisher eventPublisher;
+    private FloorSlotCountRepairJob repairJob;
+    private Floor floor;
+    
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        repairJob = new FloorSlotCountRepairJob(jdbcTemplate, transactionManager,
+                new ShardRouter(1, transactionManager), eventPublisher);
+        Lot lot = entityManager.persistAndFlush(new Lot("MAIN", "Main Lot"));
+        floor = entityManager.persistAndFlush(new Floor(lot, 1, "Ground Floor"));
+        entityManager.persistAndFlush(new ParkingSlot("A1", floor, VehicleType.FOUR_WHEELER));
+        entityManager.persistAndFlush(new ParkingSlot("A2", floor, VehicleType.TWO_WHEELER));
+    }
+    
+    @Test
+    void addTotalSlots_ShouldIncrementInPlaceAndIgnoreEntityWrites() {
+        // When
+        floorRepository.addTotalSlots(floor.getId(), 2, LocalDateTime.now());
+        floor.setTotalSlots(99);
+        floor.setFloorName("Renamed");
+        entityManager.flush();
+        
+        // Then - the stale entity value is not written back
+        assertEquals(2, totalSlots(floor.getId()));
+    }
+    
+    @Test
+    void repair_ShouldResetDriftedCountsToSlotCount() {
+        // Given - slots were inserted without moving the counter
+        assertEquals(0, totalSlots(floor.getId()));
+        long version = version(floor.getId());
+        
+        // When
+        int repaired = repairJob.repairAll();
+        
+        // Then - the floor changed like any other floor update
+        assertEquals(1, repaired);
+        assertEquals(2, totalSlots(floor.getId()));
+        assertEquals(version + 1, version(floor.getId()));
+        verify(eventPublisher).publishEvent(new FloorChangedEvent(floor.getId(), 1));
+        assertEquals(0, repairJob.repairAll());
+        verifyNoMoreInteractions(eventPublisher);
+    }
+    
+    private long version(Long floorId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM floors WHERE id = ?", Long.class, floorId);
+    }
+    
+    private int totalSlots(Long floorId) {
+        return jdbcTemplate.queryForObject("SELECT total_slots FROM floors WHERE id = ?", Integer.class, floorId);
+    }
+}
\ No newline at end of file
@@ -9,15 +9,20 @@ import com.parkinglot.exception.ResourceNotFoundException;
 import com.parkinglot.model.SlotStatus;
 import com.parkinglot.model.VehicleType;
 import com.parkinglot.repository.ParkingSlotRepository;
+import com.parkinglot.shard.ShardRouter;
+import com.parkinglot.state.AvailabilityEvaluator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -37,6 +42,15 @@ class ParkingSlotServiceTest {
     @Mock
     private FloorService floorService;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private AvailabilityEvaluator availabilityEvaluator;
+    
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(1, mock(PlatformTransactionManager.class));
+    
     @InjectMocks
     private ParkingSlotService parkingSlotService;
     
@@ -81,6 +95,7 @@ class ParkingSlotServiceTest {
         verify(floorService).getFloorEntity(1L);
         verify(parkingSlotRepository).existsByFloorIdAndSlotNumber(1L, "A1");
         verify(parkingSlotRepository).save(any(ParkingSlot.class));
+        verify(floorService).addSlots(1L, 1);
     }
     
     @Test
@@ -176,4 +191,25 @@ class ParkingSlotServiceTest {
         assertEquals(1L, responses.getContent().get(0).getId());
         verify(parkingSlotRepository).findAvailableSlots(startTime, endTime);
     }
+    
+    @Test
+    void getAvailableSlots_ShouldAnswerFromMemory_WhenEvaluatorIsCurrent() {
+        // Given - three two-wheeler slots, one of them booked in the window
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        LocalDateTime endTime = startTime.plusHours(2);
+        ParkingSlot secondSlot = new ParkingSlot("A3", testFloor, VehicleType.TWO_WHEELER);
+        secondSlot.setId(3L);
+        when(availabilityEvaluator.isCurrent()).thenReturn(true);
+        when(availabilityEvaluator.freeSlotIds(VehicleType.TWO_WHEELER, startTime, endTime)).thenReturn(new long[]{1L, 3L});
+        when(parkingSlotRepository.findAllWithFloorByIdIn(List.of(3L))).thenReturn(List.of(secondSlot));
+        
+        // When - the second page of one
+        Page<ParkingSlotResponse> responses = parkingSlotService.getAvailableSlots(
+                startTime, endTime, VehicleType.TWO_WHEELER, 1, 1, "id");
+        
+        // Then - only that page's slot is read from the database
+        assertEquals(2, responses.getTotalElements());
+        assertEquals(List.of(3L), responses.getContent().stream().map(ParkingSlotResponse::getId).toList());
+        verify(parkingSlotRepository, never()).findAvailableSlotsByVehicleType(any(), any(), any(), any());
+    }
 }
\ No newline at end of file
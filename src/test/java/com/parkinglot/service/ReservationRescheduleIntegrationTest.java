@@ -0,0 +1,102 @@
+package com.parkinglot.service;
+
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.dto.ReservationUpdateRequest;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.exception.ResourceNotFoundException;
+import com.parkinglot.state.BookingStateIndex;
+import com.parkinglot.support.BookingFixtures;
+import com.parkinglot.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+class ReservationRescheduleIntegrationTest {
+    
+    @Autowired
+    private BookingFixtures fixtures;
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    @Autowired
+    private BookingStateIndex bookingStateIndex;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void updateReservationTimes_ShouldExtendInPlaceAndKeepDerivedStateInStep() {
+        // Given
+        Long slotId = fixtures.createSlot();
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withSecond(0).withNano(0);
+        ReservationResponse reservation = fixtures.reserve(slotId, startTime, startTime.plusHours(2));
+        
+        // When - one more hour at the end
+        ReservationResponse extended = reservationService.updateReservationTimes(reservation.getId(),
+                update(null, startTime.plusHours(3)));
+        
+        // Then - same reservation, repriced, and the extra hour is taken in every view
+        assertEquals(reservation.getId(), extended.getId());
+        assertEquals(startTime.plusHours(3), extended.getEndTime());
+        assertEquals(3, extended.getDurationHours());
+        assertEquals(0, BigDecimal.valueOf(90).compareTo(extended.getTotalCost()));
+        assertFalse(bookingStateIndex.isFree(slotId, startTime.plusHours(2).plusMinutes(30), startTime.plusHours(3)));
+        assertEquals(0, BigDecimal.valueOf(90).compareTo(jdbcTemplate.queryForObject(
+                "SELECT SUM(amount) FROM revenue_ledger WHERE reservation_id = ?", BigDecimal.class, reservation.getId())));
+        assertEquals(180, jdbcTemplate.queryForObject(
+                "SELECT SUM(occupied_minutes) FROM utilization_rollups WHERE parking_slot_id = ?", Integer.class, slotId));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservation_changes WHERE reservation_id = ? AND change_type = 'RESCHEDULED'",
+                Integer.class, reservation.getId()));
+    }
+    
+    @Test
+    void updateReservationTimes_ShouldRejectExtensionIntoAnotherBookingOnly() {
+        // Given - a later booking three hours after the first one starts
+        Long slotId = fixtures.createSlot();
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withNano(0);
+        ReservationResponse reservation = fixtures.reserve(slotId, startTime, startTime.plusHours(2));
+        fixtures.reserve(slotId, startTime.plusHours(4), startTime.plusHours(6));
+        
+        // When / Then - running into it is rejected, shortening and moving the start earlier are not
+        assertThrows(BusinessRuleViolationException.class, () -> reservationService.updateReservationTimes(
+                reservation.getId(), update(null, startTime.plusHours(5))));
+        ReservationResponse shortened = reservationService.updateReservationTimes(reservation.getId(),
+                update(startTime.minusHours(1), startTime.plusHours(1)));
+        assertEquals(2, shortened.getDurationHours());
+        assertTrue(bookingStateIndex.isFree(slotId, startTime.plusHours(1).plusMinutes(30), startTime.plusHours(2)));
+        
+        // The released hour is bookable by someone else
+        assertNotNull(fixtures.reserve(slotId, startTime.plusHours(2), startTime.plusHours(3)).getId());
+    }
+    
+    @Test
+    void updateReservationTimes_ShouldRejectMissingTimesAndInactiveReservations() {
+        Long slotId = fixtures.createSlot();
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withNano(0);
+        ReservationResponse reservation = fixtures.reserve(slotId, startTime, startTime.plusHours(2));
+        
+        assertThrows(BusinessRuleViolationException.class,
+                () -> reservationService.updateReservationTimes(reservation.getId(), update(null, null)));
+        assertThrows(BusinessRuleViolationException.class, () -> reservationService.updateReservationTimes(
+                reservation.getId(), update(null, startTime.plusHours(26))));
+        
+        reservationService.cancelReservation(reservation.getId());
+        assertThrows(ResourceNotFoundException.class, () -> reservationService
+                .updateReservationTimes(reservation.getId(), update(null, startTime.plusHours(3))));
+    }
+    
+    private static ReservationUpdateRequest update(LocalDateTime startTime, LocalDateTime endTime) {
+        ReservationUpdateRequest request = new ReservationUpdateRequest();
+        request.setStartTime(startTime);
+        request.setEndTime(endTime);
+        return request;
+    }
+}
\ No newline at end of file
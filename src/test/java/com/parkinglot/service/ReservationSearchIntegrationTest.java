@@ -0,0 +1,147 @@
+package com.parkinglot.service;
+
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.dto.ReservationSearchPage;
+import com.parkinglot.dto.ReservationSearchRequest;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.support.BookingFixtures;
+import com.parkinglot.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReservationSearchIntegrationTest {
+    
+    @Autowired
+    private BookingFixtures fixtures;
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    private Long firstFloorId;
+    private Long bikeSlotId;
+    private LocalDateTime firstStart;
+    private final List<ReservationResponse> created = new ArrayList<>();
+    
+    @BeforeAll
+    void createReservations() {
+        firstFloorId = fixtures.createFloor();
+        Long secondFloorId = fixtures.createFloor();
+        Long carSlotId = fixtures.createSlot(firstFloorId, "A1", VehicleType.FOUR_WHEELER);
+        bikeSlotId = fixtures.createSlot(firstFloorId, "B1", VehicleType.TWO_WHEELER);
+        Long otherCarSlotId = fixtures.createSlot(secondFloorId, "A1", VehicleType.FOUR_WHEELER);
+        
+        // Slots booked at the same times, so pages have to break ties on the ID. The window is weeks away
+        // from the other tests sharing the database, and searches that span it stay inside it.
+        firstStart = LocalDateTime.now().plusDays(30).withNano(0);
+        for (int i = 0; i < 4; i++) {
+            LocalDateTime startTime = firstStart.plusHours(3L * i);
+            created.add(reserve(carSlotId, VehicleType.FOUR_WHEELER, startTime));
+            created.add(reserve(bikeSlotId, VehicleType.TWO_WHEELER, startTime));
+            created.add(reserve(otherCarSlotId, VehicleType.FOUR_WHEELER, startTime));
+        }
+        reservationService.cancelReservation(created.get(0).getId());
+        created.sort(Comparator.comparing(ReservationResponse::getStartTime).thenComparing(ReservationResponse::getId));
+    }
+    
+    @Test
+    void searchReservations_ShouldPageThroughEveryMatchInKeyOrder() {
+        // Given
+        ReservationSearchRequest request = ownWindow();
+        request.setLimit(5);
+        
+        // When
+        List<Long> ids = new ArrayList<>();
+        int pages = 0;
+        ReservationSearchPage page;
+        do {
+            page = reservationService.searchReservations(request);
+            page.getReservations().forEach(reservation -> ids.add(reservation.getId()));
+            request.setCursor(page.getNextCursor());
+            pages++;
+        } while (page.isHasMore());
+        
+        // Then
+        assertEquals(3, pages);
+        assertNull(page.getNextCursor());
+        assertEquals(created.stream().map(ReservationResponse::getId).toList(), ids);
+    }
+    
+    @Test
+    void searchReservations_ShouldApplyEveryFilter() {
+        // Given - active bookings on the first floor's bike slot overlapping the second and third windows
+        ReservationSearchRequest request = new ReservationSearchRequest();
+        request.setStatus(ReservationStatus.ACTIVE);
+        request.setFloorId(firstFloorId);
+        request.setVehicleType(VehicleType.TWO_WHEELER);
+        request.setFrom(firstStart.plusHours(4));
+        request.setTo(firstStart.plusHours(6));
+        
+        // When
+        ReservationSearchPage page = reservationService.searchReservations(request);
+        
+        // Then
+        assertFalse(page.isHasMore());
+        assertEquals(List.of(firstStart.plusHours(3), firstStart.plusHours(6)), page.getReservations().stream()
+                .map(ReservationResponse::getStartTime)
+                .toList());
+        page.getReservations().forEach(reservation -> assertEquals(bikeSlotId, reservation.getParkingSlotId()));
+    }
+    
+    @Test
+    void searchReservations_ShouldFilterByStatusAndSlot() {
+        // Given
+        ReservationSearchRequest request = ownWindow();
+        request.setStatus(ReservationStatus.CANCELLED);
+        
+        // When
+        ReservationSearchPage cancelled = reservationService.searchReservations(request);
+        request.setStatus(null);
+        request.setParkingSlotId(bikeSlotId);
+        ReservationSearchPage bikeSlot = reservationService.searchReservations(request);
+        
+        // Then
+        assertEquals(1, cancelled.getReservations().size());
+        assertEquals(ReservationStatus.CANCELLED, cancelled.getReservations().get(0).getStatus());
+        assertEquals(4, bikeSlot.getReservations().size());
+    }
+    
+    @Test
+    void searchReservations_ShouldRejectInvalidArguments() {
+        ReservationSearchRequest badCursor = new ReservationSearchRequest();
+        badCursor.setCursor("not-a-cursor");
+        ReservationSearchRequest badRange = new ReservationSearchRequest();
+        badRange.setFrom(firstStart.plusHours(1));
+        badRange.setTo(firstStart);
+        ReservationSearchRequest badLimit = new ReservationSearchRequest();
+        badLimit.setLimit(0);
+        
+        assertThrows(BusinessRuleViolationException.class, () -> reservationService.searchReservations(badCursor));
+        assertThrows(BusinessRuleViolationException.class, () -> reservationService.searchReservations(badRange));
+        assertThrows(BusinessRuleViolationException.class, () -> reservationService.searchReservations(badLimit));
+    }
+    
+    private ReservationSearchRequest ownWindow() {
+        ReservationSearchRequest request = new ReservationSearchRequest();
+        request.setFrom(firstStart);
+        request.setTo(firstStart.plusHours(11));
+        return request;
+    }
+    
+    private ReservationResponse reserve(Long slotId, VehicleType vehicleType, LocalDateTime startTime) {
+        return fixtures.reserve(BookingFixtures.request(slotId, BookingFixtures.VEHICLE_NUMBER, vehicleType,
+                startTime, startTime.plusHours(2)));
+    }
+}
\ No newline at end of file
@@ -7,16 +7,23 @@ import com.parkinglot.entity.ParkingSlot;
 import com.parkinglot.entity.Reservation;
 import com.parkinglot.exception.BusinessRuleViolationException;
 import com.parkinglot.exception.ResourceNotFoundException;
+import com.parkinglot.journal.ReservationJournal;
 import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.occupancy.OccupancyTracker;
 import com.parkinglot.model.SlotStatus;
 import com.parkinglot.model.VehicleType;
 import com.parkinglot.repository.ReservationRepository;
+import com.parkinglot.state.VehicleReservationIndex;
+import com.parkinglot.shard.ShardRouter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -27,6 +34,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +46,21 @@ class ReservationServiceTest {
     @Mock
     private ParkingSlotService parkingSlotService;
     
+    @Mock
+    private ReservationJournal reservationJournal;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private VehicleReservationIndex vehicleReservationIndex;
+    
+    @Mock
+    private OccupancyTracker occupancyTracker;
+    
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(1, mock(PlatformTransactionManager.class));
+    
     @InjectMocks
     private ReservationService reservationService;
     
@@ -74,7 +97,7 @@ class ReservationServiceTest {
     @Test
     void createReservation_ShouldCreateReservation_WhenValidRequest() {
         // Given
-        when(parkingSlotService.getParkingSlotEntity(1L)).thenReturn(testSlot);
+        when(parkingSlotService.getParkingSlotForBooking(1L)).thenReturn(testSlot);
         when(reservationRepository.hasConflictingReservation(anyLong(), any(), any())).thenReturn(false);
         when(reservationRepository.save(any(Reservation.class))).thenReturn(testReservation);
         
@@ -86,7 +109,7 @@ class ReservationServiceTest {
         assertEquals(1L, response.getId());
         assertEquals("KA05MH1234", response.getVehicleNumber());
         assertEquals(VehicleType.FOUR_WHEELER, response.getVehicleType());
-        verify(parkingSlotService).getParkingSlotEntity(1L);
+        verify(parkingSlotService).getParkingSlotForBooking(1L);
         verify(reservationRepository).hasConflictingReservation(anyLong(), any(), any());
         verify(reservationRepository).save(any(Reservation.class));
     }
@@ -94,7 +117,7 @@ class ReservationServiceTest {
     @Test
     void createReservation_ShouldThrowException_WhenSlotHasConflict() {
         // Given
-        when(parkingSlotService.getParkingSlotEntity(1L)).thenReturn(testSlot);
+        when(parkingSlotService.getParkingSlotForBooking(1L)).thenReturn(testSlot);
         when(reservationRepository.hasConflictingReservation(anyLong(), any(), any())).thenReturn(true);
         
         // When & Then
@@ -107,7 +130,7 @@ class ReservationServiceTest {
     void createReservation_ShouldThrowException_WhenVehicleTypeMismatch() {
         // Given
         ParkingSlot twoWheelerSlot = new ParkingSlot("B1", testFloor, VehicleType.TWO_WHEELER);
-        when(parkingSlotService.getParkingSlotEntity(1L)).thenReturn(twoWheelerSlot);
+        when(parkingSlotService.getParkingSlotForBooking(1L)).thenReturn(twoWheelerSlot);
         when(reservationRepository.hasConflictingReservation(anyLong(), any(), any())).thenReturn(false);
         
         // When & Then
@@ -225,4 +248,75 @@ class ReservationServiceTest {
         verify(reservationRepository).findByIdAndStatus(1L, ReservationStatus.ACTIVE);
         verify(reservationRepository, never()).save(any(Reservation.class));
     }
+    
+    @Test
+    void getReservationByVehicle_ShouldRejectUnknownPlateWithoutQuery() {
+        // Given
+        when(vehicleReservationIndex.isCurrent()).thenReturn(true);
+        when(vehicleReservationIndex.mightContain("KA05MH9999")).thenReturn(false);
+        
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> reservationService.getReservationByVehicle("KA05MH9999"));
+        verifyNoInteractions(reservationRepository);
+    }
+    
+    @Test
+    void getReservationByVehicle_ShouldFallBackToDatabase_WhenIndexedReservationIsNoLongerActive() {
+        // Given
+        when(vehicleReservationIndex.isCurrent()).thenReturn(true);
+        when(vehicleReservationIndex.mightContain("KA05MH1234")).thenReturn(true);
+        when(vehicleReservationIndex.findCurrentOrNext(eq("KA05MH1234"), any())).thenReturn(Optional.of(7L));
+        when(reservationRepository.findByIdAndStatus(7L, ReservationStatus.ACTIVE)).thenReturn(Optional.empty());
+        when(reservationRepository.findFirstByVehicleNumberAndStatusAndEndTimeGreaterThanEqualOrderByStartTimeAsc(
+                eq("KA05MH1234"), eq(ReservationStatus.ACTIVE), any())).thenReturn(Optional.of(testReservation));
+        
+        // When
+        ReservationResponse response = reservationService.getReservationByVehicle("KA05MH1234");
+        
+        // Then
+        assertEquals(1L, response.getId());
+    }
+    
+    @Test
+    void cancelReservation_ShouldReject_WhenVehicleIsCheckedIn() {
+        // Given
+        when(occupancyTracker.isCheckedIn(1L)).thenReturn(true);
+        
+        // When & Then
+        assertThrows(BusinessRuleViolationException.class, () -> reservationService.cancelReservation(1L));
+        verify(reservationRepository, never()).save(any());
+    }
+    
+    @Test
+    void cancelReservation_ShouldReject_WhenVehicleIsCheckedOutButNotYetCompleted() {
+        // Given
+        when(occupancyTracker.isCheckedOut(1L)).thenReturn(true);
+        
+        // When & Then
+        assertThrows(BusinessRuleViolationException.class, () -> reservationService.cancelReservation(1L));
+        verify(reservationRepository, never()).save(any());
+    }
+    
+    @Test
+    void getReservationByJournalSequence_ShouldPreferJournalAndFallBackToPersistedRow() {
+        // Given - sequence 7 is still in the journal, sequence 3 has been persisted
+        Reservation pending = new Reservation(testSlot, "KA05MH1234", VehicleType.FOUR_WHEELER,
+                testReservation.getStartTime(), testReservation.getEndTime());
+        pending.setJournalSequence(7L);
+        testReservation.setJournalSequence(3L);
+        when(reservationJournal.findUnpersisted(7L)).thenReturn(Optional.of(pending));
+        when(reservationJournal.findUnpersisted(3L)).thenReturn(Optional.empty());
+        when(reservationRepository.findByJournalSequence(3L)).thenReturn(Optional.of(testReservation));
+        
+        // When
+        ReservationResponse accepted = reservationService.getReservationByJournalSequence(7L);
+        ReservationResponse persisted = reservationService.getReservationByJournalSequence(3L);
+        
+        // Then
+        assertNull(accepted.getId());
+        assertEquals(7L, accepted.getJournalSequence());
+        assertEquals(1L, persisted.getId());
+        assertEquals(3L, persisted.getJournalSequence());
+        assertThrows(ResourceNotFoundException.class, () -> reservationService.getReservationByJournalSequence(9L));
+    }
 }
\ No newline at end of file
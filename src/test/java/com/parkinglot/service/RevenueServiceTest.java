@@ -0,0 +1,135 @@
+package com.parkinglot.service;
+
+import com.parkinglot.dto.RevenueReportResponse;
+import com.parkinglot.entity.DailyRevenue;
+import com.parkinglot.entity.RevenueLedgerEntry;
+import com.parkinglot.event.ReservationChangedEvent;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.model.LedgerEntryType;
+import com.parkinglot.model.ReservationChangeType;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.repository.DailyRevenueRepository;
+import com.parkinglot.repository.RevenueLedgerRepository;
+import com.parkinglot.shard.ShardRouter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevenueServiceTest {
+    
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+    
+    @Mock
+    private RevenueLedgerRepository ledgerRepository;
+    
+    @Mock
+    private DailyRevenueRepository dailyRevenueRepository;
+    
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(1, mock(PlatformTransactionManager.class));
+    
+    @InjectMocks
+    private RevenueService revenueService;
+    
+    @Test
+    void onReservationChanged_ShouldAppendBookingAndCreateDailyTotals() {
+        // Given
+        when(dailyRevenueRepository.addTotals(DAY, 1L, VehicleType.FOUR_WHEELER, 1, 0, BigDecimal.valueOf(60.0)))
+                .thenReturn(0);
+        
+        // When
+        revenueService.onReservationChanged(event(ReservationChangeType.CREATED));
+        
+        // Then
+        ArgumentCaptor<RevenueLedgerEntry> entry = ArgumentCaptor.forClass(RevenueLedgerEntry.class);
+        verify(ledgerRepository).save(entry.capture());
+        assertEquals(LedgerEntryType.BOOKING, entry.getValue().getEntryType());
+        assertEquals(DAY, entry.getValue().getRevenueDate());
+        verify(dailyRevenueRepository).saveAndFlush(any(DailyRevenue.class));
+    }
+    
+    @Test
+    void onReservationChanged_ShouldAppendNegatedCostOnCancel() {
+        // Given
+        when(dailyRevenueRepository.addTotals(DAY, 1L, VehicleType.FOUR_WHEELER, 0, 1, BigDecimal.valueOf(-60.0)))
+                .thenReturn(1);
+        
+        // When
+        revenueService.onReservationChanged(event(ReservationChangeType.CANCELLED));
+        
+        // Then
+        ArgumentCaptor<RevenueLedgerEntry> entry = ArgumentCaptor.forClass(RevenueLedgerEntry.class);
+        verify(ledgerRepository).save(entry.capture());
+        assertEquals(LedgerEntryType.CANCELLATION, entry.getValue().getEntryType());
+        assertEquals(BigDecimal.valueOf(-60.0), entry.getValue().getAmount());
+        verify(dailyRevenueRepository, never()).saveAndFlush(any());
+    }
+    
+    @Test
+    void onReservationChanged_ShouldAppendCostDifferenceOnReschedule() {
+        // Given - a two-hour stay extended to three hours on the same day
+        LocalDateTime startTime = DAY.atTime(9, 0);
+        ReservationChangedEvent event = new ReservationChangedEvent(ReservationChangeType.RESCHEDULED, 10L, 1L, 1L,
+                "KA05MH1234", VehicleType.FOUR_WHEELER, startTime, startTime.plusHours(3), BigDecimal.valueOf(90.0),
+                ReservationStatus.ACTIVE, startTime, startTime.plusHours(2), BigDecimal.valueOf(60.0), null, null);
+        when(dailyRevenueRepository.addTotals(DAY, 1L, VehicleType.FOUR_WHEELER, 0, 0, BigDecimal.valueOf(30.0)))
+                .thenReturn(1);
+        
+        // When
+        revenueService.onReservationChanged(event);
+        
+        // Then - neither a booking nor a cancellation is counted
+        ArgumentCaptor<RevenueLedgerEntry> entry = ArgumentCaptor.forClass(RevenueLedgerEntry.class);
+        verify(ledgerRepository).save(entry.capture());
+        assertEquals(LedgerEntryType.ADJUSTMENT, entry.getValue().getEntryType());
+        assertEquals(BigDecimal.valueOf(30.0), entry.getValue().getAmount());
+    }
+    
+    @Test
+    void getDailyRevenue_ShouldSumDailyTotals() {
+        // Given
+        when(dailyRevenueRepository.findReport(DAY, DAY.plusDays(1), null, null)).thenReturn(List.of(
+                new DailyRevenue(DAY, 1L, VehicleType.FOUR_WHEELER, 3, 1, BigDecimal.valueOf(120.0)),
+                new DailyRevenue(DAY.plusDays(1), 2L, VehicleType.TWO_WHEELER, 2, 0, BigDecimal.valueOf(80.0))));
+        
+        // When
+        RevenueReportResponse report = revenueService.getDailyRevenue(DAY, DAY.plusDays(1), null, null);
+        
+        // Then
+        assertEquals(5, report.getBookingCount());
+        assertEquals(1, report.getCancellationCount());
+        assertEquals(BigDecimal.valueOf(200.0), report.getNetAmount());
+        assertEquals(2, report.getDays().size());
+        assertEquals(VehicleType.TWO_WHEELER, report.getDays().get(1).getVehicleType());
+    }
+    
+    @Test
+    void getDailyRevenue_ShouldRejectReversedRange() {
+        assertThrows(BusinessRuleViolationException.class,
+                () -> revenueService.getDailyRevenue(DAY, DAY.minusDays(1), null, null));
+        verifyNoInteractions(dailyRevenueRepository);
+    }
+    
+    private ReservationChangedEvent event(ReservationChangeType changeType) {
+        LocalDateTime startTime = DAY.atTime(9, 0);
+        return new ReservationChangedEvent(changeType, 10L, 1L, 1L, "KA05MH1234", VehicleType.FOUR_WHEELER,
+                startTime, startTime.plusHours(2), BigDecimal.valueOf(60.0),
+                changeType == ReservationChangeType.CANCELLED ? ReservationStatus.CANCELLED : ReservationStatus.ACTIVE);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+package com.parkinglot.service;
+
+import com.parkinglot.dto.UtilizationBucket;
+import com.parkinglot.dto.UtilizationResponse;
+import com.parkinglot.entity.UtilizationRollup;
+import com.parkinglot.event.ReservationChangedEvent;
+import com.parkinglot.exception.BusinessRuleViolationException;
+import com.parkinglot.model.ReservationChangeType;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.UtilizationGrouping;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.repository.UtilizationRollupRepository;
+import com.parkinglot.shard.ShardRouter;
+import com.parkinglot.state.BookingStateIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UtilizationServiceTest {
+    
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 2, 0, 0);
+    
+    @Mock
+    private UtilizationRollupRepository rollupRepository;
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private UtilizationService utilizationService;
+    
+    @BeforeEach
+    void setUp() {
+        BookingStateIndex bookingStateIndex = new BookingStateIndex();
+        bookingStateIndex.putSlot(1L, 1L, VehicleType.FOUR_WHEELER, SlotStatus.AVAILABLE);
+        bookingStateIndex.putSlot(2L, 1L, VehicleType.TWO_WHEELER, SlotStatus.AVAILABLE);
+        bookingStateIndex.putSlot(3L, 2L, VehicleType.FOUR_WHEELER, SlotStatus.AVAILABLE);
+        utilizationService = new UtilizationService(rollupRepository, bookingStateIndex, jdbcTemplate,
+                new ShardRouter(1, transactionManager));
+    }
+    
+    @Test
+    void minutesPerHour_ShouldSplitWindowAtHourBoundaries() {
+        // When
+        Map<LocalDateTime, Integer> minutes = UtilizationService.minutesPerHour(
+                DAY.withHour(9).withMinute(40), DAY.withHour(11).withMinute(15));
+        
+        // Then
+        assertEquals(Map.of(DAY.withHour(9), 20, DAY.withHour(10), 60, DAY.withHour(11), 15), minutes);
+    }
+    
+    @Test
+    void onReservationChanged_ShouldInsertMissingHoursAndSubtractOnCancel() {
+        // Given
+        when(rollupRepository.addMinutes(anyLong(), any(), anyInt())).thenReturn(0);
+        
+        // When
+        utilizationService.onReservationChanged(event(ReservationChangeType.CREATED));
+        
+        // Then
+        ArgumentCaptor<UtilizationRollup> captor = ArgumentCaptor.forClass(UtilizationRollup.class);
+        verify(rollupRepository, times(2)).saveAndFlush(captor.capture());
+        assertEquals(30, captor.getAllValues().get(0).getOccupiedMinutes());
+        assertEquals(60, captor.getAllValues().get(1).getOccupiedMinutes());
+        
+        // When
+        utilizationService.onReservationChanged(event(ReservationChangeType.CANCELLED));
+        
+        // Then
+        verify(rollupRepository).addMinutes(1L, DAY.withHour(9), -30);
+        verify(rollupRepository).addMinutes(1L, DAY.withHour(10), -60);
+        verify(rollupRepository, times(2)).saveAndFlush(any());
+    }
+    
+    @Test
+    void onReservationChanged_ShouldReplaceBookedWindowWithStayOnCompletion() {
+        // Given - booked 9:30 to 11:00, parked 9:45 to 10:20
+        when(rollupRepository.addMinutes(anyLong(), any(), anyInt())).thenReturn(1);
+        ReservationChangedEvent completed = new ReservationChangedEvent(ReservationChangeType.COMPLETED, 10L, 1L, 1L,
+                "KA05MH1234", VehicleType.FOUR_WHEELER, DAY.withHour(9).withMinute(30), DAY.withHour(11),
+                BigDecimal.valueOf(30.0), ReservationStatus.COMPLETED, null, null, null,
+                DAY.withHour(9).withMinute(45), DAY.withHour(10).withMinute(20));
+        
+        // When
+        utilizationService.onReservationChanged(completed);
+        
+        // Then
+        verify(rollupRepository).addMinutes(1L, DAY.withHour(9), -30);
+        verify(rollupRepository).addMinutes(1L, DAY.withHour(10), -60);
+        verify(rollupRepository).addMinutes(1L, DAY.withHour(9), 15);
+        verify(rollupRepository).addMinutes(1L, DAY.withHour(10), 20);
+        verify(rollupRepository, never()).saveAndFlush(any());
+    }
+    
+    @Test
+    void getUtilization_ShouldReportEveryFloorAgainstItsCapacity() {
+        // Given
+        when(rollupRepository.sumByFloor(DAY.withHour(8), DAY.withHour(12), null, null))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 120L}));
+        
+        // When - the end is rounded up to the next hour
+        UtilizationResponse response = utilizationService.getUtilization(
+                DAY.withHour(8).withMinute(10), DAY.withHour(11).withMinute(5), UtilizationGrouping.FLOOR, null, null);
+        
+        // Then
+        assertEquals(DAY.withHour(12), response.getTo());
+        List<UtilizationBucket> buckets = response.getBuckets();
+        assertEquals(2, buckets.size());
+        assertEquals("1", buckets.get(0).getKey());
+        assertEquals(480, buckets.get(0).getCapacityMinutes());
+        assertEquals(0.25, buckets.get(0).getUtilization());
+        assertEquals(0, buckets.get(1).getOccupiedMinutes());
+    }
+    
+    @Test
+    void getUtilization_ShouldFoldHoursOfDay() {
+        // Given
+        when(rollupRepository.sumByHour(DAY, DAY.plusDays(2), null, VehicleType.FOUR_WHEELER))
+                .thenReturn(List.<Object[]>of(new Object[]{DAY.withHour(9), 60L},
+                        new Object[]{DAY.plusDays(1).withHour(9), 30L}));
+        
+        // When
+        UtilizationResponse response = utilizationService.getUtilization(
+                DAY, DAY.plusDays(2), UtilizationGrouping.HOUR_OF_DAY, null, VehicleType.FOUR_WHEELER);
+        
+        // Then - two four-wheeler slots over two days
+        UtilizationBucket nineAm = response.getBuckets().get(9);
+        assertEquals(24, response.getBuckets().size());
+        assertEquals(90, nineAm.getOccupiedMinutes());
+        assertEquals(240, nineAm.getCapacityMinutes());
+    }
+    
+    @Test
+    void getUtilization_ShouldRejectEmptyRange() {
+        assertThrows(BusinessRuleViolationException.class, () -> utilizationService.getUtilization(
+                DAY.withHour(9), DAY.withHour(9), UtilizationGrouping.SLOT, null, null));
+        verifyNoInteractions(rollupRepository);
+    }
+    
+    private ReservationChangedEvent event(ReservationChangeType changeType) {
+        return new ReservationChangedEvent(changeType, 10L, 1L, 1L, "KA05MH1234", VehicleType.FOUR_WHEELER,
+                DAY.withHour(9).withMinute(30), DAY.withHour(11), BigDecimal.valueOf(30.0),
+                changeType == ReservationChangeType.CANCELLED ? ReservationStatus.CANCELLED : ReservationStatus.ACTIVE);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+package com.parkinglot.shard;
+
+import com.parkinglot.dto.FloorCreateRequest;
+import com.parkinglot.dto.FloorResponse;
+import com.parkinglot.dto.LotCreateRequest;
+import com.parkinglot.dto.LotResponse;
+import com.parkinglot.dto.ParkingSlotCreateRequest;
+import com.parkinglot.dto.ParkingSlotResponse;
+import com.parkinglot.dto.ReservationCreateRequest;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.service.FloorService;
+import com.parkinglot.service.LotService;
+import com.parkinglot.service.ParkingSlotService;
+import com.parkinglot.service.ReservationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:shard0test;DB_CLOSE_DELAY=-1",
+    "parkinglot.sharding.shards[0].url=jdbc:h2:mem:shard1test;DB_CLOSE_DELAY=-1",
+    "parkinglot.sharding.shards[0].username=sa"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+class ShardingIntegrationTest {
+    
+    @Autowired
+    private ShardRouter shardRouter;
+    
+    @Autowired
+    private ShardDataSources shardDataSources;
+    
+    @Autowired
+    private LotService lotService;
+    
+    @Autowired
+    private FloorService floorService;
+    
+    @Autowired
+    private ParkingSlotService parkingSlotService;
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    @Test
+    void lots_ShouldKeepTheirFloorsSlotsAndReservationsOnTheirOwnShard() {
+        // Given - one lot per shard
+        assertEquals(2, shardRouter.getShardCount());
+        LotResponse first = createLot(codeOnShard(0));
+        LotResponse second = createLot(codeOnShard(1));
+        
+        // When
+        ParkingSlotResponse firstSlot = createSlot(first.getId());
+        ParkingSlotResponse secondSlot = createSlot(second.getId());
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withNano(0);
+        ReservationResponse firstReservation = reserve(firstSlot.getId(), "KA01AB1234", startTime);
+        ReservationResponse secondReservation = reserve(secondSlot.getId(), "KA02CD5678", startTime);
+        
+        // Then - ids carry the shard and the rows exist only there
+        assertEquals(0, (int) first.getShard());
+        assertEquals(1, (int) second.getShard());
+        assertEquals(1, ShardIds.shardOf(secondSlot.getFloorId()));
+        assertEquals(1, ShardIds.shardOf(secondReservation.getId()));
+        assertEquals(0, ShardIds.shardOf(firstReservation.getId()));
+        assertEquals(1, countOnShard(1, "reservations", secondReservation.getId()));
+        assertEquals(0, countOnShard(0, "reservations", secondReservation.getId()));
+        assertEquals(1, countOnShard(0, "parking_slots", firstSlot.getId()));
+        assertEquals(0, countOnShard(1, "parking_slots", firstSlot.getId()));
+        
+        // Reads by id are routed, listings gather every shard
+        assertEquals("KA02CD5678", reservationService.getReservationById(secondReservation.getId()).getVehicleNumber());
+        assertEquals(second.getId(), floorService.getFloorById(secondSlot.getFloorId()).getLotId());
+        List<Long> lotIds = lotService.getAllLots().stream().map(LotResponse::getId).collect(Collectors.toList());
+        assertTrue(lotIds.containsAll(List.of(first.getId(), second.getId())));
+        List<Long> reservationIds = reservationService.getAllReservations().stream()
+                .map(ReservationResponse::getId)
+                .collect(Collectors.toList());
+        assertTrue(reservationIds.containsAll(List.of(firstReservation.getId(), secondReservation.getId())));
+        assertEquals(1, floorService.getFloorsByLot(second.getId()).size());
+        
+        // Availability spans both shards and keeps the requested order
+        Page<ParkingSlotResponse> available = parkingSlotService.getAvailableSlots(
+                startTime.plusDays(1), startTime.plusDays(1).plusHours(2), VehicleType.FOUR_WHEELER, 0, 100, "id");
+        List<Long> availableIds = available.getContent().stream()
+                .map(ParkingSlotResponse::getId)
+                .collect(Collectors.toList());
+        assertTrue(availableIds.containsAll(List.of(firstSlot.getId(), secondSlot.getId())));
+        assertEquals(availableIds.stream().sorted().collect(Collectors.toList()), availableIds);
+    }
+    
+    private String codeOnShard(int shard) {
+        for (int i = 0; ; i++) {
+            String code = "LOT-" + shard + "-" + i;
+            if (shardRouter.shardForLot(code) == shard) {
+                return code;
+            }
+        }
+    }
+    
+    private LotResponse createLot(String code) {
+        LotCreateRequest request = new LotCreateRequest();
+        request.setCode(code);
+        request.setLotName("Lot " + code);
+        return lotService.createLot(request);
+    }
+    
+    private ParkingSlotResponse createSlot(Long lotId) {
+        FloorCreateRequest floorRequest = new FloorCreateRequest();
+        floorRequest.setLotId(lotId);
+        floorRequest.setFloorNumber(1);
+        floorRequest.setFloorName("Ground Floor");
+        FloorResponse floor = floorService.createFloor(floorRequest);
+        
+        ParkingSlotCreateRequest slotRequest = new ParkingSlotCreateRequest();
+        slotRequest.setFloorId(floor.getId());
+        slotRequest.setSlotNumber("A1");
+        slotRequest.setVehicleType(VehicleType.FOUR_WHEELER);
+        return parkingSlotService.createParkingSlot(slotRequest);
+    }
+    
+    private ReservationResponse reserve(Long slotId, String vehicleNumber, LocalDateTime startTime) {
+        ReservationCreateRequest request = new ReservationCreateRequest();
+        request.setParkingSlotId(slotId);
+        request.setVehicleNumber(vehicleNumber);
+        request.setVehicleType(VehicleType.FOUR_WHEELER);
+        request.setStartTime(startTime);
+        request.setEndTime(startTime.plusHours(2));
+        return reservationService.createReservation(request);
+    }
+    
+    private long countOnShard(int shard, String table, Long id) {
+        return new JdbcTemplate(shardDataSources.get(shard))
+                .queryForObject("SELECT COUNT(*) FROM " + table + " WHERE id = ?", Long.class, id);
+    }
+}
\ No newline at end of file
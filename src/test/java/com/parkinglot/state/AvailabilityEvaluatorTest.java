@@ -0,0 +1,73 @@
+package com.parkinglot.state;
+
+import com.parkinglot.config.AvailabilityProperties;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvailabilityEvaluatorTest {
+    
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 10, 0);
+    
+    private SlotCatalog catalog;
+    private BookingStateIndex index;
+    private AvailabilityEvaluator sequential;
+    private AvailabilityEvaluator parallel;
+    
+    @BeforeEach
+    void setUp() {
+        catalog = new SlotCatalog();
+        index = new BookingStateIndex();
+        // Slot ids interleave across floors, and every third slot is booked in the window
+        for (long slotId = 1; slotId <= 3000; slotId++) {
+            long floorId = slotId % 7;
+            VehicleType type = slotId % 2 == 0 ? VehicleType.FOUR_WHEELER : VehicleType.TWO_WHEELER;
+            catalog.put(slotId, floorId, type, SlotStatus.AVAILABLE);
+            index.putSlot(slotId, floorId, type, SlotStatus.AVAILABLE);
+            if (slotId % 3 == 0) {
+                index.putBooking(slotId, slotId, BookingStateIndex.toEpochSecond(START),
+                        BookingStateIndex.toEpochSecond(START.plusHours(2)));
+            }
+        }
+        
+        sequential = new AvailabilityEvaluator(catalog, index, new AvailabilityProperties());
+        AvailabilityProperties parallelProperties = new AvailabilityProperties();
+        parallelProperties.setParallel(true);
+        parallelProperties.setParallelism(3);
+        parallelProperties.setMinSlotsPerTask(100);
+        parallel = new AvailabilityEvaluator(catalog, index, parallelProperties);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        parallel.destroy();
+    }
+    
+    @Test
+    void freeSlotIds_ShouldMatchSequentialResultInSlotOrder() {
+        for (VehicleType type : new VehicleType[]{null, VehicleType.TWO_WHEELER, VehicleType.FOUR_WHEELER}) {
+            long[] expected = sequential.freeSlotIds(type, START.plusHours(1), START.plusHours(3));
+            assertArrayEquals(expected, parallel.freeSlotIds(type, START.plusHours(1), START.plusHours(3)));
+        }
+        
+        long[] free = parallel.freeSlotIds(null, START.plusHours(1), START.plusHours(3));
+        assertEquals(2000, free.length);
+        for (int i = 1; i < free.length; i++) {
+            assertTrue(free[i - 1] < free[i]);
+        }
+        assertEquals(3000, parallel.freeSlotIds(null, START.plusHours(3), START.plusHours(5)).length);
+    }
+    
+    @Test
+    void merge_ShouldInterleaveSortedArrays() {
+        assertArrayEquals(new long[]{1L, 2L, 3L, 5L, 8L},
+                AvailabilityEvaluator.merge(new long[]{2L, 5L}, new long[]{1L, 3L, 8L}));
+        assertArrayEquals(new long[]{4L}, AvailabilityEvaluator.merge(new long[0], new long[]{4L}));
+    }
+}
\ No newline at end of file
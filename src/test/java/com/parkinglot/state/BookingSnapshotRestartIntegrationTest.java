@@ -0,0 +1,65 @@
+package com.parkinglot.state;
+
+import com.parkinglot.config.SnapshotProperties;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Restarts on an empty in-memory database while a snapshot of the previous one is still on disk
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:snapshotrestarttest;DB_CLOSE_DELAY=-1",
+    "parkinglot.snapshot.enabled=true"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+class BookingSnapshotRestartIntegrationTest {
+    
+    private static final long STALE_SLOT_ID = 4242L;
+    
+    @Autowired
+    private BookingStateIndex bookingStateIndex;
+    
+    @Autowired
+    private SlotCatalog slotCatalog;
+    
+    @Autowired
+    private DatabaseIdentityProvider databaseIdentity;
+    
+    @DynamicPropertySource
+    static void staleSnapshot(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("stale-snapshots");
+        SnapshotProperties properties = new SnapshotProperties();
+        properties.setDirectory(directory.toString());
+        
+        BookingStateIndex previous = new BookingStateIndex();
+        previous.putSlot(STALE_SLOT_ID, 1L, VehicleType.FOUR_WHEELER, SlotStatus.AVAILABLE);
+        LocalDateTime start = LocalDateTime.now().plusHours(1);
+        previous.applyReservation(7L, STALE_SLOT_ID, start, start.plusHours(2), ReservationStatus.ACTIVE);
+        new BookingSnapshotStore(properties).write(previous, LocalDateTime.now(), "previous-database");
+        
+        registry.add("parkinglot.snapshot.directory", directory::toString);
+    }
+    
+    @Test
+    void startup_ShouldIgnoreSnapshotOfPreviousDatabase() {
+        assertTrue(bookingStateIndex.isCurrent());
+        assertTrue(bookingStateIndex.getSlot(STALE_SLOT_ID).isEmpty());
+        assertTrue(bookingStateIndex.getSlots().isEmpty());
+        assertEquals(0, slotCatalog.size());
+        assertNotEquals("previous-database", databaseIdentity.get());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.parkinglot.state;
+
+import com.parkinglot.config.SnapshotProperties;
+import com.parkinglot.model.ReservationStatus;
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingSnapshotStoreTest {
+    
+    private static final String DATABASE = "5f0c7a52-3d8e-4c1a-9b7e-2a6d1f0e4c11";
+    
+    @TempDir
+    Path snapshotDirectory;
+    
+    private BookingSnapshotStore snapshotStore;
+    private BookingStateIndex index;
+    private LocalDateTime startTime;
+    
+    @BeforeEach
+    void setUp() {
+        SnapshotProperties properties = new SnapshotProperties();
+        properties.setDirectory(snapshotDirectory.toString());
+        properties.setRetained(1);
+        snapshotStore = new BookingSnapshotStore(properties);
+        
+        index = new BookingStateIndex();
+        index.putSlot(1L, 10L, VehicleType.FOUR_WHEELER, SlotStatus.AVAILABLE);
+        index.putSlot(2L, 10L, VehicleType.TWO_WHEELER, SlotStatus.MAINTENANCE);
+        
+        startTime = LocalDateTime.now().plusHours(1).withNano(0);
+        index.applyReservation(100L, 1L, startTime, startTime.plusHours(2), ReservationStatus.ACTIVE);
+    }
+    
+    @Test
+    void loadLatest_ShouldRestoreCatalogAndBookings() throws Exception {
+        // Given
+        LocalDateTime takenAt = LocalDateTime.now().withNano(0);
+        snapshotStore.write(index, takenAt, DATABASE);
+        
+        // When
+        BookingStateIndex restored = new BookingStateIndex();
+        Optional<LocalDateTime> loadedAt = snapshotStore.loadLatest(restored, DATABASE);
+        
+        // Then
+        assertEquals(Optional.of(takenAt), loadedAt);
+        assertEquals(2, restored.getSlots().size());
+        assertEquals(VehicleType.TWO_WHEELER, restored.getSlot(2L).orElseThrow().getVehicleType());
+        assertEquals(SlotStatus.MAINTENANCE, restored.getSlot(2L).orElseThrow().getStatus());
+        assertFalse(restored.isFree(1L, startTime.plusHours(1), startTime.plusHours(3)));
+        assertTrue(restored.isFree(1L, startTime.plusHours(3), startTime.plusHours(4)));
+    }
+    
+    @Test
+    void write_ShouldKeepOnlyRetainedSnapshots() throws Exception {
+        // Given
+        LocalDateTime takenAt = LocalDateTime.now().withNano(0);
+        snapshotStore.write(index, takenAt.minusMinutes(5), DATABASE);
+        
+        // When
+        index.applyReservation(100L, 1L, startTime, startTime.plusHours(2), ReservationStatus.CANCELLED);
+        snapshotStore.write(index, takenAt, DATABASE);
+        
+        // Then
+        try (Stream<Path> files = Files.list(snapshotDirectory)) {
+            assertEquals(1, files.count());
+        }
+        BookingStateIndex restored = new BookingStateIndex();
+        assertEquals(Optional.of(takenAt), snapshotStore.loadLatest(restored, DATABASE));
+        assertTrue(restored.isFree(1L, startTime, startTime.plusHours(2)));
+    }
+    
+    @Test
+    void loadLatest_ShouldReturnEmpty_WhenNoSnapshotExists() throws Exception {
+        assertTrue(snapshotStore.loadLatest(new BookingStateIndex(), DATABASE).isEmpty());
+    }
+    
+    @Test
+    void loadLatest_ShouldIgnoreSnapshotOfAnotherDatabase() throws Exception {
+        // Given
+        snapshotStore.write(index, LocalDateTime.now().withNano(0), DATABASE);
+        
+        // When
+        BookingStateIndex restored = new BookingStateIndex();
+        Optional<LocalDateTime> loadedAt = snapshotStore.loadLatest(restored, "another-database");
+        
+        // Then
+        assertTrue(loadedAt.isEmpty());
+        assertTrue(restored.getSlots().isEmpty());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.parkinglot.state;
+
+import com.parkinglot.model.SlotStatus;
+import com.parkinglot.model.VehicleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotCatalogTest {
+    
+    private SlotCatalog catalog;
+    
+    @BeforeEach
+    void setUp() {
+        catalog = new SlotCatalog();
+        // Out of id order, as slots on different shards arrive
+        catalog.put(30L, 2L, VehicleType.FOUR_WHEELER, SlotStatus.AVAILABLE);
+        catalog.put(10L, 1L, VehicleType.TWO_WHEELER, SlotStatus.AVAILABLE);
+        catalog.put(20L, 1L, VehicleType.FOUR_WHEELER, SlotStatus.OCCUPIED);
+        catalog.put(40L, 2L, VehicleType.TWO_WHEELER, SlotStatus.MAINTENANCE);
+    }
+    
+    @Test
+    void filter_ShouldReturnMatchingSlotsInIdOrder() {
+        assertArrayEquals(new long[]{10L, 20L, 30L, 40L}, catalog.filter(null, null, null));
+        assertArrayEquals(new long[]{10L, 20L}, catalog.filter(1L, null, null));
+        assertArrayEquals(new long[]{20L, 30L}, catalog.filter(null, VehicleType.FOUR_WHEELER, null));
+        assertArrayEquals(new long[]{30L}, catalog.filter(2L, VehicleType.FOUR_WHEELER, SlotStatus.AVAILABLE));
+        assertArrayEquals(new long[0], catalog.filter(9L, null, null));
+        assertEquals(1, catalog.count(null, null, SlotStatus.MAINTENANCE));
+    }
+    
+    @Test
+    void put_ShouldUpdateExistingSlotInPlace() {
+        // When
+        catalog.put(20L, 1L, VehicleType.FOUR_WHEELER, SlotStatus.AVAILABLE);
+        
+        // Then
+        assertEquals(4, catalog.size());
+        assertArrayEquals(new long[]{10L, 20L, 30L}, catalog.filter(null, null, SlotStatus.AVAILABLE));
+    }
+    
+    @Test
+    void put_ShouldGrowBeyondInitialCapacityAndFloorDictionary() {
+        // When - more slots and floors than the columns start with
+        for (long id = 5000; id > 100; id--) {
+            catalog.put(id, id % 100, VehicleType.TWO_WHEELER, SlotStatus.AVAILABLE);
+        }
+        
+        // Then
+        long[] all = catalog.filter(null, null, null);
+        assertEquals(4904, all.length);
+        for (int i = 1; i < all.length; i++) {
+            assertTrue(all[i - 1] < all[i]);
+        }
+        assertEquals(49, catalog.filter(7L, null, null).length);
+        assertEquals(100, catalog.floorIds().length);
+    }
+    
+    @Test
+    void load_ShouldReplaceCatalogWithIndexedSlots() {
+        // Given
+        BookingStateIndex index = new BookingStateIndex();
+        index.putSlot(2L, 1L, VehicleType.TWO_WHEELER, SlotStatus.AVAILABLE);
+        index.putSlot(1L, 1L, VehicleType.FOUR_WHEELER, SlotStatus.AVAILABLE);
+        
+        // When
+        catalog.load(index.getSlots());
+        
+        // Then
+        assertTrue(catalog.isCurrent());
+        assertArrayEquals(new long[]{1L, 2L}, catalog.filter(1L, null, null));
+    }
+    
+    @Test
+    void intersect_ShouldKeepIdsPresentInBoth() {
+        long[] twoWheelers = catalog.filter(null, VehicleType.TWO_WHEELER, null);
+        List<Long> expected = new ArrayList<>(List.of(40L));
+        
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(),
+                SlotCatalog.intersect(twoWheelers, new long[]{5L, 30L, 40L, 50L}));
+        assertArrayEquals(new long[0], SlotCatalog.intersect(twoWheelers, new long[0]));
+    }
+    
+    @Test
+    void partitionByFloor_ShouldSplitMatchesInFloorDictionaryOrder() {
+        long[][] partitions = catalog.partitionByFloor(null, SlotStatus.AVAILABLE);
+        
+        assertArrayEquals(new long[]{2L, 1L}, catalog.floorIds());
+        assertArrayEquals(new long[]{30L}, partitions[0]);
+        assertArrayEquals(new long[]{10L}, partitions[1]);
+    }
+}
\ No newline at end of file
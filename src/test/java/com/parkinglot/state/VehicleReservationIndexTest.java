@@ -0,0 +1,98 @@
+package com.parkinglot.state;
+
+import com.parkinglot.model.ReservationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehicleReservationIndexTest {
+    
+    private VehicleReservationIndex index;
+    private LocalDateTime now;
+    
+    @BeforeEach
+    void setUp() {
+        index = new VehicleReservationIndex();
+        now = LocalDateTime.now().withNano(0);
+        index.applyReservation(2L, "KA05MH1234", now.plusHours(4), now.plusHours(6), ReservationStatus.ACTIVE);
+        index.applyReservation(1L, "KA05MH1234", now.minusHours(1), now.plusHours(1), ReservationStatus.ACTIVE);
+    }
+    
+    @Test
+    void findCurrentOrNext_ShouldPreferReservationInProgress() {
+        assertEquals(Optional.of(1L), index.findCurrentOrNext("KA05MH1234", now));
+        assertEquals(Optional.of(2L), index.findCurrentOrNext("KA05MH1234", now.plusHours(2)));
+        assertEquals(Optional.empty(), index.findCurrentOrNext("KA05MH1234", now.plusHours(7)));
+    }
+    
+    @Test
+    void applyReservation_ShouldDropCancelledBooking() {
+        // When
+        index.applyReservation(1L, "KA05MH1234", now.minusHours(1), now.plusHours(1), ReservationStatus.CANCELLED);
+        
+        // Then
+        assertEquals(Optional.of(2L), index.findCurrentOrNext("KA05MH1234", now));
+    }
+    
+    @Test
+    void mightContain_ShouldRejectUnknownPlatesAndSurviveFilterGrowth() {
+        // Given - enough plates to force at least one filter rebuild
+        for (int i = 0; i < 200_000; i++) {
+            index.putBooking(String.format("MH%02dAB%04d", i / 10_000, i % 10_000), 100L + i, 0, Long.MAX_VALUE);
+        }
+        
+        // Then - no false negatives, and false positives stay rare
+        assertTrue(index.mightContain("KA05MH1234"));
+        assertTrue(index.mightContain("MH19AB9999"));
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (index.mightContain(String.format("DL%02dCD%04d", i / 1000, i % 1000))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+    
+    @Test
+    void pruneEndedBefore_ShouldForgetPlatesWithoutBookings() {
+        // When
+        int pruned = index.pruneEndedBefore(now.plusHours(7));
+        
+        // Then
+        assertEquals(2, pruned);
+        assertEquals(0, index.size());
+        assertFalse(index.mightContain("KA05MH1234"));
+    }
+    
+    @Test
+    void pruneEndedBefore_ShouldKeepPlatesBookedDuringRebuild() throws Exception {
+        for (int round = 0; round < 10; round++) {
+            // Given - plates the current filter knows whose bookings have all ended
+            VehicleReservationIndex rebuilt = new VehicleReservationIndex();
+            for (int i = 0; i < 20_000; i++) {
+                rebuilt.applyReservation((long) i, "KA01" + i, now.minusHours(3), now.minusHours(2),
+                        ReservationStatus.ACTIVE);
+            }
+            
+            // When - the same plates are booked again while the prune rebuilds the filter
+            Thread booker = new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    rebuilt.applyReservation(100_000L + i, "KA01" + i, now.plusHours(1), now.plusHours(2),
+                            ReservationStatus.ACTIVE);
+                }
+            });
+            booker.start();
+            rebuilt.pruneEndedBefore(now);
+            booker.join();
+            
+            // Then
+            for (int i = 0; i < 20_000; i++) {
+                assertTrue(rebuilt.mightContain("KA01" + i), "KA01" + i);
+            }
+        }
+    }
+}
\ No newline at end of file
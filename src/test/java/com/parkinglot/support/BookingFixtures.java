@@ -0,0 +1,90 @@
+package com.parkinglot.support;
+
+import com.parkinglot.dto.FloorCreateRequest;
+import com.parkinglot.dto.ParkingSlotCreateRequest;
+import com.parkinglot.dto.ReservationCreateRequest;
+import com.parkinglot.dto.ReservationResponse;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.service.FloorService;
+import com.parkinglot.service.ParkingSlotService;
+import com.parkinglot.service.ReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Floors, slots and bookings for integration tests. Floor numbers come from one counter, so test
+// classes sharing a context and its database never collide on them.
+@TestComponent
+@RequiredArgsConstructor
+public class BookingFixtures {
+    
+    public static final String VEHICLE_NUMBER = "KA01AB1234";
+    
+    private static final AtomicInteger FLOOR_NUMBERS = new AtomicInteger();
+    
+    private final FloorService floorService;
+    private final ParkingSlotService parkingSlotService;
+    private final ReservationService reservationService;
+    private final JdbcTemplate jdbcTemplate;
+    
+    public Long createFloor() {
+        int floorNumber = FLOOR_NUMBERS.incrementAndGet();
+        FloorCreateRequest request = new FloorCreateRequest();
+        request.setFloorNumber(floorNumber);
+        request.setFloorName("Floor " + floorNumber);
+        return floorService.createFloor(request).getId();
+    }
+    
+    // A four-wheeler slot on a floor of its own
+    public Long createSlot() {
+        return createSlot(createFloor(), "A1");
+    }
+    
+    public Long createSlot(Long floorId, String slotNumber) {
+        return createSlot(floorId, slotNumber, VehicleType.FOUR_WHEELER);
+    }
+    
+    public Long createSlot(Long floorId, String slotNumber, VehicleType vehicleType) {
+        ParkingSlotCreateRequest request = new ParkingSlotCreateRequest();
+        request.setFloorId(floorId);
+        request.setSlotNumber(slotNumber);
+        request.setVehicleType(vehicleType);
+        return parkingSlotService.createParkingSlot(request).getId();
+    }
+    
+    // A two-hour four-wheeler booking
+    public static ReservationCreateRequest request(Long slotId, String vehicleNumber, LocalDateTime startTime) {
+        return request(slotId, vehicleNumber, VehicleType.FOUR_WHEELER, startTime, startTime.plusHours(2));
+    }
+    
+    public static ReservationCreateRequest request(Long slotId, String vehicleNumber, VehicleType vehicleType,
+                                                   LocalDateTime startTime, LocalDateTime endTime) {
+        ReservationCreateRequest request = new ReservationCreateRequest();
+        request.setParkingSlotId(slotId);
+        request.setVehicleNumber(vehicleNumber);
+        request.setVehicleType(vehicleType);
+        request.setStartTime(startTime);
+        request.setEndTime(endTime);
+        return request;
+    }
+    
+    public ReservationResponse reserve(ReservationCreateRequest request) {
+        return reservationService.createReservation(request);
+    }
+    
+    public ReservationResponse reserve(Long slotId, LocalDateTime startTime) {
+        return reserve(request(slotId, VEHICLE_NUMBER, startTime));
+    }
+    
+    public ReservationResponse reserve(Long slotId, LocalDateTime startTime, LocalDateTime endTime) {
+        return reserve(request(slotId, VEHICLE_NUMBER, VehicleType.FOUR_WHEELER, startTime, endTime));
+    }
+    
+    public int countReservations(Long slotId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservations WHERE parking_slot_id = ?", Integer.class, slotId);
+    }
+}
\ No newline at end of file
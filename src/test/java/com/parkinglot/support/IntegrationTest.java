@@ -0,0 +1,20 @@
+package com.parkinglot.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Integration tests that need no properties of their own: they all get the same cached context, on a
+// database no other context uses. Tests must scope their assertions to the data they create.
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:integrationtest;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@Import(BookingFixtures.class)
+public @interface IntegrationTest {
+}
\ No newline at end of file
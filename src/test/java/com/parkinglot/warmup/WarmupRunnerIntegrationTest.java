@@ -0,0 +1,75 @@
+package com.parkinglot.warmup;
+
+import com.parkinglot.dto.FloorCreateRequest;
+import com.parkinglot.dto.FloorResponse;
+import com.parkinglot.dto.ParkingSlotCreateRequest;
+import com.parkinglot.model.VehicleType;
+import com.parkinglot.service.FloorService;
+import com.parkinglot.service.ParkingSlotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:warmuptest;DB_CLOSE_DELAY=-1",
+    "parkinglot.warmup.iterations=5"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+class WarmupRunnerIntegrationTest {
+    
+    @Autowired
+    private WarmupRunner warmupRunner;
+    
+    @Autowired
+    private WarmupHealthIndicator warmupHealthIndicator;
+    
+    @Autowired
+    private FloorService floorService;
+    
+    @Autowired
+    private ParkingSlotService parkingSlotService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void warmUp_ShouldRunEveryRoundAndLeaveNoData() {
+        // Given
+        FloorCreateRequest floorRequest = new FloorCreateRequest();
+        floorRequest.setFloorNumber(1);
+        floorRequest.setFloorName("Ground");
+        FloorResponse floor = floorService.createFloor(floorRequest);
+        ParkingSlotCreateRequest slotRequest = new ParkingSlotCreateRequest();
+        slotRequest.setFloorId(floor.getId());
+        slotRequest.setSlotNumber("A1");
+        slotRequest.setVehicleType(VehicleType.TWO_WHEELER);
+        parkingSlotService.createParkingSlot(slotRequest);
+        
+        // When
+        int rounds = warmupRunner.warmUp();
+        
+        // Then - every booking was rolled back, along with its ledger, rollup and feed rows
+        assertEquals(5, rounds);
+        assertEquals(0, count("reservations"));
+        assertEquals(0, count("revenue_ledger"));
+        assertEquals(0, count("utilization_rollups"));
+        assertEquals(0, count("reservation_changes"));
+    }
+    
+    @Test
+    void health_ShouldBeUp_WhenWarmupIsDisabled() {
+        assertTrue(warmupRunner.isFinished());
+        assertEquals(Status.UP, warmupHealthIndicator.health().getStatus());
+    }
+    
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
\ No newline at end of file